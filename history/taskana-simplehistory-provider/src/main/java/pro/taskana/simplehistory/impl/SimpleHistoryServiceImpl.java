@@ -2,10 +2,12 @@ package pro.taskana.simplehistory.impl;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
 import pro.taskana.simplehistory.query.HistoryQuery;
@@ -56,6 +58,29 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  @Override
+  public void create(List<TaskanaHistoryEvent> events) {
+    LOGGER.debug("entry to create(events.size() = {})", events.size());
+    try {
+      taskanaHistoryEngine.openBatchConnection();
+      Instant now = Instant.now();
+      for (TaskanaHistoryEvent event : events) {
+        if (event.getCreated() == null) {
+          event.setCreated(now);
+        }
+        historyEventMapper.insert(event);
+      }
+      taskanaHistoryEngine.flushAndCommit();
+    } catch (SQLException | RuntimeException e) {
+      LOGGER.error("Error while inserting history events into historyEventMapper", e);
+      throw new SystemException(
+          String.format("Could not insert %d history events.", events.size()), e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug("Exit from create(List<TaskanaHistoryEvent> events).");
+    }
+  }
+
   public TaskanaHistoryEvent getHistoryEvent(String historyEventId)
       throws TaskanaHistoryEventNotFoundException {
     LOGGER.debug("entry to getHistoryEvent (id = {})", historyEventId);
@@ -5,6 +5,7 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -118,6 +119,26 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     this.sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
   }
 
+  /**
+   * Open the connection to the database with a batch executor. The statements are collected and
+   * sent to the database in one round trip by {@link #flushAndCommit()}.
+   *
+   * @throws SQLException thrown if the connection could not be opened.
+   */
+  void openBatchConnection() throws SQLException {
+    this.sessionManager.startManagedSession(ExecutorType.BATCH);
+    this.sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
+  }
+
+  /**
+   * Sends the statements collected by the batch executor to the database and commits them. Unlike
+   * {@link #returnConnection()}, this does not ignore a failure but throws it to the caller.
+   */
+  void flushAndCommit() {
+    this.sessionManager.flushStatements();
+    this.sessionManager.commit();
+  }
+
   /**
    * Returns the database connection into the pool. In the case of nested calls, simply pops the
    * latest session from the session stack. Closes the connection if the session stack is empty. In
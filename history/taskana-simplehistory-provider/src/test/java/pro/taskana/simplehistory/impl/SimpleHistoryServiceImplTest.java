@@ -1,8 +1,10 @@
 package pro.taskana.simplehistory.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,7 +13,9 @@ import acceptance.AbstractAccTest;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.SqlSessionManager;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,8 +24,10 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.simplehistory.impl.mappings.HistoryEventMapper;
 import pro.taskana.simplehistory.impl.mappings.HistoryQueryMapper;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
 /** Unit Test for SimpleHistoryServiceImplTest. */
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +72,41 @@ public class SimpleHistoryServiceImplTest {
     assertThat(expectedWb.getCreated()).isNotNull();
   }
 
+  @Test
+  public void testCreateEvents() throws SQLException {
+    List<TaskanaHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      events.add(
+          AbstractAccTest.createHistoryEvent(
+              "wbKey1", "taskId" + i, "type1", "wbKey2", "someUserId", "someDetails"));
+    }
+
+    cutSpy.create(events);
+    verify(taskanaHistoryEngineMock, times(1)).openBatchConnection();
+    verify(historyEventMapperMock, times(3)).insert(any());
+    verify(taskanaHistoryEngineMock, times(1)).flushAndCommit();
+    verify(taskanaHistoryEngineMock, times(1)).returnConnection();
+    assertThat(events).allMatch(event -> event.getCreated() != null);
+  }
+
+  @Test
+  public void testCreateEventsThrowsWhenBatchFails() throws SQLException {
+    List<TaskanaHistoryEvent> events = new ArrayList<>();
+    events.add(
+        AbstractAccTest.createHistoryEvent(
+            "wbKey1", "taskId1", "type1", "wbKey2", "someUserId", "someDetails"));
+    doThrow(new PersistenceException("batch failed"))
+        .when(taskanaHistoryEngineMock)
+        .flushAndCommit();
+
+    ThrowingCallable call = () -> cutSpy.create(events);
+
+    assertThatThrownBy(call)
+        .isInstanceOf(SystemException.class)
+        .hasCauseInstanceOf(PersistenceException.class);
+    verify(taskanaHistoryEngineMock, times(1)).returnConnection();
+  }
+
   @Test
   public void testQueryEvent() throws SQLException {
     List<HistoryEventImpl> returnList = new ArrayList<>();
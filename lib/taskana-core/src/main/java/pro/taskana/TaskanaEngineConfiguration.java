@@ -47,7 +47,7 @@ import pro.taskana.common.internal.configuration.SecurityVerifier;
 public class TaskanaEngineConfiguration {
 
   protected static final String TASKANA_SCHEMA_VERSION =
-      "3.0.0"; // must match the VERSION value in table
+      "3.0.1"; // must match the VERSION value in table
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineConfiguration.class);
   private static final String USER_NAME = "sa";
   private static final String USER_PASSWORD = "sa";
@@ -60,11 +60,56 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_PROPERTY_SEPARATOR = "|";
   private static final String TASKANA_JOB_BATCHSIZE = "taskana.jobs.batchSize";
   private static final String TASKANA_JOB_RETRIES = "taskana.jobs.maxRetries";
+  private static final String TASKANA_JOB_RETRY_BACKOFF = "taskana.jobs.retryBackoff";
+  private static final String TASKANA_JOB_RUNNER_WORKER_POOL_SIZE =
+      "taskana.jobs.runner.workerPoolSize";
+  private static final String TASKANA_JOB_RUNNER_CLAIM_SIZE = "taskana.jobs.runner.claimSize";
   private static final String TASKANA_JOB_CLEANUP_RUN_EVERY = "taskana.jobs.cleanup.runEvery";
   private static final String TASKANA_JOB_CLEANUP_FIRST_RUN = "taskana.jobs.cleanup.firstRunAt";
   private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
   private static final String TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENTE_BUSINESS =
       "taskana.jobs.cleanup.allCompletedSameParentBusiness";
+  private static final String TASKANA_HISTORY_ASYNC_ENABLED = "taskana.history.async.enabled";
+  private static final String TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY =
+      "taskana.history.async.queueCapacity";
+  private static final String TASKANA_HISTORY_ASYNC_BATCH_SIZE = "taskana.history.async.batchSize";
+  private static final String TASKANA_HISTORY_ASYNC_FLUSH_INTERVAL =
+      "taskana.history.async.flushInterval";
+  private static final String TASKANA_HISTORY_ASYNC_BLOCK_WHEN_FULL =
+      "taskana.history.async.blockWhenFull";
+  private static final String TASKANA_HISTORY_OUTBOX_ENABLED = "taskana.history.outbox.enabled";
+  private static final String TASKANA_HISTORY_OUTBOX_BATCH_SIZE =
+      "taskana.history.outbox.batchSize";
+  private static final String TASKANA_HISTORY_OUTBOX_DISPATCH_INTERVAL =
+      "taskana.history.outbox.dispatchInterval";
+  private static final String TASKANA_WORKBASKET_ACL_INDEX_ENABLED =
+      "taskana.workbasket.aclIndex.enabled";
+  private static final String TASKANA_WORKBASKET_ACL_INDEX_MAX_WORKBASKETS =
+      "taskana.workbasket.aclIndex.maxWorkbaskets";
+  private static final String TASKANA_CLASSIFICATION_CACHE_ENABLED =
+      "taskana.classification.cache.enabled";
+  private static final String TASKANA_CLASSIFICATION_CACHE_MAX_SIZE =
+      "taskana.classification.cache.maxSize";
+  private static final String TASKANA_CLASSIFICATION_CACHE_TIME_TO_LIVE =
+      "taskana.classification.cache.timeToLive";
+  private static final String TASKANA_WORKBASKET_SUMMARY_CACHE_ENABLED =
+      "taskana.workbasket.summaryCache.enabled";
+  private static final String TASKANA_WORKBASKET_SUMMARY_CACHE_MAX_SIZE =
+      "taskana.workbasket.summaryCache.maxSize";
+  private static final String TASKANA_WORKBASKET_SUMMARY_CACHE_TIME_TO_LIVE =
+      "taskana.workbasket.summaryCache.timeToLive";
+  private static final String TASKANA_MONITOR_TASK_STATISTICS_ENABLED =
+      "taskana.monitor.taskStatistics.enabled";
+  private static final String TASKANA_MONITOR_TASK_STATISTICS_REBUILD_INTERVAL =
+      "taskana.monitor.taskStatistics.rebuildInterval";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_ENABLED =
+      "taskana.monitor.reportCache.enabled";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_MAX_SIZE =
+      "taskana.monitor.reportCache.maxSize";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_TIME_TO_LIVE =
+      "taskana.monitor.reportCache.timeToLive";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_COMPUTATION_TIMEOUT =
+      "taskana.monitor.reportCache.computationTimeout";
   private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
   private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY =
       "taskana.classification.types";
@@ -104,11 +149,46 @@ public class TaskanaEngineConfiguration {
   // Properties for general job execution
   private int jobBatchSize = 100;
   private int maxNumberOfJobRetries = 3;
+  private Duration jobRetryBackoff = Duration.parse("PT1M");
+  private int jobRunnerWorkerPoolSize = 1;
+  private int jobRunnerClaimSize = 10;
   // Properties for the cleanup job
   private Instant cleanupJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
   private Duration cleanupJobRunEvery = Duration.parse("P1D");
   private Duration cleanupJobMinimumAge = Duration.parse("P14D");
   private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
+  // Properties for the asynchronous history
+  private boolean historyAsyncEnabled = false;
+  private int historyAsyncQueueCapacity = 10000;
+  private int historyAsyncBatchSize = 100;
+  private Duration historyAsyncFlushInterval = Duration.parse("PT1S");
+  private boolean historyAsyncBlockWhenFull = true;
+  // Properties for the history outbox
+  private boolean historyOutboxEnabled = false;
+  private int historyOutboxBatchSize = 500;
+  private Duration historyOutboxDispatchInterval = Duration.parse("PT10S");
+  // Properties for the index of readable workbaskets
+  private boolean workbasketAclIndexEnabled = true;
+  private int workbasketAclIndexMaxWorkbaskets = 1000;
+  // Properties for the classification cache
+  private boolean classificationCacheEnabled = false;
+  private int classificationCacheMaxSize = 1000;
+  private Duration classificationCacheTimeToLive = Duration.parse("PT5M");
+
+  // Properties for the workbasket summary cache
+  private boolean workbasketSummaryCacheEnabled = false;
+  private int workbasketSummaryCacheMaxSize = 1000;
+  private Duration workbasketSummaryCacheTimeToLive = Duration.parse("PT5M");
+
+  // Properties for the task statistics of the monitor reports
+  private boolean taskStatisticsEnabled = false;
+  private Duration taskStatisticsRebuildInterval = Duration.parse("P1D");
+
+  // Properties for the report cache of the monitor
+  private boolean reportCacheEnabled = false;
+  private int reportCacheMaxSize = 100;
+  private Duration reportCacheTimeToLive = Duration.parse("PT30S");
+  private Duration reportCacheComputationTimeout = Duration.parse("PT1M");
 
   public TaskanaEngineConfiguration(
       DataSource dataSource, boolean useManagedTransactions, String schemaName)
@@ -175,6 +255,12 @@ public class TaskanaEngineConfiguration {
     Properties props = readPropertiesFromFile(propertiesFile);
     initTaskanaRoles(props, rolesSeparator);
     initJobParameters(props);
+    initHistoryParameters(props);
+    initWorkbasketAclIndexParameters(props);
+    initClassificationCacheParameters(props);
+    initWorkbasketSummaryCacheParameters(props);
+    initTaskStatisticsParameters(props);
+    initReportCacheParameters(props);
     initDomains(props);
     initClassificationTypes(props);
     initClassificationCategories(props);
@@ -239,10 +325,244 @@ public class TaskanaEngineConfiguration {
     return jobBatchSize;
   }
 
+  public void setMaxNumberOfUpdatesPerTransaction(int jobBatchSize) {
+    this.jobBatchSize = jobBatchSize;
+  }
+
   public int getMaxNumberOfJobRetries() {
     return maxNumberOfJobRetries;
   }
 
+  public Duration getJobRetryBackoff() {
+    return jobRetryBackoff;
+  }
+
+  public void setJobRetryBackoff(Duration jobRetryBackoff) {
+    this.jobRetryBackoff = jobRetryBackoff;
+  }
+
+  public int getJobRunnerWorkerPoolSize() {
+    return jobRunnerWorkerPoolSize;
+  }
+
+  public void setJobRunnerWorkerPoolSize(int jobRunnerWorkerPoolSize) {
+    this.jobRunnerWorkerPoolSize = jobRunnerWorkerPoolSize;
+  }
+
+  public int getJobRunnerClaimSize() {
+    return jobRunnerClaimSize;
+  }
+
+  public void setJobRunnerClaimSize(int jobRunnerClaimSize) {
+    this.jobRunnerClaimSize = jobRunnerClaimSize;
+  }
+
+  public boolean isHistoryAsyncEnabled() {
+    return historyAsyncEnabled;
+  }
+
+  public void setHistoryAsyncEnabled(boolean historyAsyncEnabled) {
+    this.historyAsyncEnabled = historyAsyncEnabled;
+  }
+
+  public int getHistoryAsyncQueueCapacity() {
+    return historyAsyncQueueCapacity;
+  }
+
+  public void setHistoryAsyncQueueCapacity(int historyAsyncQueueCapacity) {
+    this.historyAsyncQueueCapacity = historyAsyncQueueCapacity;
+  }
+
+  public int getHistoryAsyncBatchSize() {
+    return historyAsyncBatchSize;
+  }
+
+  public void setHistoryAsyncBatchSize(int historyAsyncBatchSize) {
+    this.historyAsyncBatchSize = historyAsyncBatchSize;
+  }
+
+  public Duration getHistoryAsyncFlushInterval() {
+    return historyAsyncFlushInterval;
+  }
+
+  public void setHistoryAsyncFlushInterval(Duration historyAsyncFlushInterval) {
+    this.historyAsyncFlushInterval = historyAsyncFlushInterval;
+  }
+
+  public boolean isHistoryAsyncBlockWhenFull() {
+    return historyAsyncBlockWhenFull;
+  }
+
+  public void setHistoryAsyncBlockWhenFull(boolean historyAsyncBlockWhenFull) {
+    this.historyAsyncBlockWhenFull = historyAsyncBlockWhenFull;
+  }
+
+  public boolean isHistoryOutboxEnabled() {
+    return historyOutboxEnabled;
+  }
+
+  public void setHistoryOutboxEnabled(boolean historyOutboxEnabled) {
+    this.historyOutboxEnabled = historyOutboxEnabled;
+  }
+
+  public int getHistoryOutboxBatchSize() {
+    return historyOutboxBatchSize;
+  }
+
+  public void setHistoryOutboxBatchSize(int historyOutboxBatchSize) {
+    this.historyOutboxBatchSize = historyOutboxBatchSize;
+  }
+
+  public Duration getHistoryOutboxDispatchInterval() {
+    return historyOutboxDispatchInterval;
+  }
+
+  public void setHistoryOutboxDispatchInterval(Duration historyOutboxDispatchInterval) {
+    this.historyOutboxDispatchInterval = historyOutboxDispatchInterval;
+  }
+
+  public boolean isWorkbasketAclIndexEnabled() {
+    return workbasketAclIndexEnabled;
+  }
+
+  public void setWorkbasketAclIndexEnabled(boolean workbasketAclIndexEnabled) {
+    this.workbasketAclIndexEnabled = workbasketAclIndexEnabled;
+  }
+
+  public int getWorkbasketAclIndexMaxWorkbaskets() {
+    return workbasketAclIndexMaxWorkbaskets;
+  }
+
+  public void setWorkbasketAclIndexMaxWorkbaskets(int workbasketAclIndexMaxWorkbaskets) {
+    this.workbasketAclIndexMaxWorkbaskets = workbasketAclIndexMaxWorkbaskets;
+  }
+
+  public boolean isClassificationCacheEnabled() {
+    return classificationCacheEnabled;
+  }
+
+  public void setClassificationCacheEnabled(boolean classificationCacheEnabled) {
+    this.classificationCacheEnabled = classificationCacheEnabled;
+  }
+
+  public int getClassificationCacheMaxSize() {
+    return classificationCacheMaxSize;
+  }
+
+  public void setClassificationCacheMaxSize(int classificationCacheMaxSize) {
+    this.classificationCacheMaxSize = classificationCacheMaxSize;
+  }
+
+  /**
+   * Returns the time after which cached classifications are read from the database again. This is
+   * the longest time in which modifications by other TASKANA instances are not seen. The default
+   * is five minutes.
+   *
+   * @return the time to live or null if cached classifications do not expire
+   */
+  public Duration getClassificationCacheTimeToLive() {
+    return classificationCacheTimeToLive;
+  }
+
+  public void setClassificationCacheTimeToLive(Duration classificationCacheTimeToLive) {
+    this.classificationCacheTimeToLive = classificationCacheTimeToLive;
+  }
+
+  public boolean isWorkbasketSummaryCacheEnabled() {
+    return workbasketSummaryCacheEnabled;
+  }
+
+  public void setWorkbasketSummaryCacheEnabled(boolean workbasketSummaryCacheEnabled) {
+    this.workbasketSummaryCacheEnabled = workbasketSummaryCacheEnabled;
+  }
+
+  public int getWorkbasketSummaryCacheMaxSize() {
+    return workbasketSummaryCacheMaxSize;
+  }
+
+  public void setWorkbasketSummaryCacheMaxSize(int workbasketSummaryCacheMaxSize) {
+    this.workbasketSummaryCacheMaxSize = workbasketSummaryCacheMaxSize;
+  }
+
+  /**
+   * Returns the time after which cached workbasket summaries are read from the database again. This
+   * is the longest time in which modifications by other TASKANA instances are not seen. The
+   * default is five minutes.
+   *
+   * @return the time to live or null if cached workbasket summaries do not expire
+   */
+  public Duration getWorkbasketSummaryCacheTimeToLive() {
+    return workbasketSummaryCacheTimeToLive;
+  }
+
+  public void setWorkbasketSummaryCacheTimeToLive(Duration workbasketSummaryCacheTimeToLive) {
+    this.workbasketSummaryCacheTimeToLive = workbasketSummaryCacheTimeToLive;
+  }
+
+  public boolean isTaskStatisticsEnabled() {
+    return taskStatisticsEnabled;
+  }
+
+  public void setTaskStatisticsEnabled(boolean taskStatisticsEnabled) {
+    this.taskStatisticsEnabled = taskStatisticsEnabled;
+  }
+
+  /**
+   * Returns the interval in which the task statistics are rebuilt from the TASK table.
+   *
+   * @return the rebuild interval
+   */
+  public Duration getTaskStatisticsRebuildInterval() {
+    return taskStatisticsRebuildInterval;
+  }
+
+  public void setTaskStatisticsRebuildInterval(Duration taskStatisticsRebuildInterval) {
+    this.taskStatisticsRebuildInterval = taskStatisticsRebuildInterval;
+  }
+
+  public boolean isReportCacheEnabled() {
+    return reportCacheEnabled;
+  }
+
+  public void setReportCacheEnabled(boolean reportCacheEnabled) {
+    this.reportCacheEnabled = reportCacheEnabled;
+  }
+
+  public int getReportCacheMaxSize() {
+    return reportCacheMaxSize;
+  }
+
+  public void setReportCacheMaxSize(int reportCacheMaxSize) {
+    this.reportCacheMaxSize = reportCacheMaxSize;
+  }
+
+  /**
+   * Returns how long a report is served from the report cache before it is computed again. This is
+   * the maximum staleness of the reports.
+   *
+   * @return the time to live of the cached reports or null if they never expire
+   */
+  public Duration getReportCacheTimeToLive() {
+    return reportCacheTimeToLive;
+  }
+
+  public void setReportCacheTimeToLive(Duration reportCacheTimeToLive) {
+    this.reportCacheTimeToLive = reportCacheTimeToLive;
+  }
+
+  /**
+   * Returns how long a request waits for the computation of the same report by another request.
+   *
+   * @return the maximum time to wait for a report which is computed concurrently
+   */
+  public Duration getReportCacheComputationTimeout() {
+    return reportCacheComputationTimeout;
+  }
+
+  public void setReportCacheComputationTimeout(Duration reportCacheComputationTimeout) {
+    this.reportCacheComputationTimeout = reportCacheComputationTimeout;
+  }
+
   public String getPropertiesSeparator() {
     return this.propertiesSeparator;
   }
@@ -406,6 +726,42 @@ public class TaskanaEngineConfiguration {
       }
     }
 
+    String jobRetryBackoffProperty = props.getProperty(TASKANA_JOB_RETRY_BACKOFF);
+    if (jobRetryBackoffProperty != null && !jobRetryBackoffProperty.isEmpty()) {
+      try {
+        jobRetryBackoff = Duration.parse(jobRetryBackoffProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse jobRetryBackoffProperty ({}). Using default. Exception: {} ",
+            jobRetryBackoffProperty,
+            e.getMessage());
+      }
+    }
+
+    String jobRunnerWorkerPoolSizeProperty = props.getProperty(TASKANA_JOB_RUNNER_WORKER_POOL_SIZE);
+    if (jobRunnerWorkerPoolSizeProperty != null && !jobRunnerWorkerPoolSizeProperty.isEmpty()) {
+      try {
+        jobRunnerWorkerPoolSize = Integer.parseInt(jobRunnerWorkerPoolSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse jobRunnerWorkerPoolSizeProperty ({}). Using default. Exception: {} ",
+            jobRunnerWorkerPoolSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String jobRunnerClaimSizeProperty = props.getProperty(TASKANA_JOB_RUNNER_CLAIM_SIZE);
+    if (jobRunnerClaimSizeProperty != null && !jobRunnerClaimSizeProperty.isEmpty()) {
+      try {
+        jobRunnerClaimSize = Integer.parseInt(jobRunnerClaimSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse jobRunnerClaimSizeProperty ({}). Using default. Exception: {} ",
+            jobRunnerClaimSizeProperty,
+            e.getMessage());
+      }
+    }
+
     String taskCleanupJobFirstRunProperty = props.getProperty(TASKANA_JOB_CLEANUP_FIRST_RUN);
     if (taskCleanupJobFirstRunProperty != null && !taskCleanupJobFirstRunProperty.isEmpty()) {
       try {
@@ -461,6 +817,9 @@ public class TaskanaEngineConfiguration {
     LOGGER.debug(
         "Configured number of task and workbasket updates per transaction: {}", jobBatchSize);
     LOGGER.debug("Number of retries of failed task updates: {}", maxNumberOfJobRetries);
+    LOGGER.debug("Initial backoff before a failed job is retried: {}", jobRetryBackoff);
+    LOGGER.debug("JobRunner configuration: worker pool size is {}", jobRunnerWorkerPoolSize);
+    LOGGER.debug("JobRunner configuration: jobs claimed at once are {}", jobRunnerClaimSize);
     LOGGER.debug("CleanupJob configuration: first run at {}", cleanupJobFirstRun);
     LOGGER.debug("CleanupJob configuration: runs every {}", cleanupJobRunEvery);
     LOGGER.debug(
@@ -472,6 +831,287 @@ public class TaskanaEngineConfiguration {
         taskCleanupJobAllCompletedSameParentBusiness);
   }
 
+  private void initHistoryParameters(Properties props) {
+    String historyAsyncEnabledProperty = props.getProperty(TASKANA_HISTORY_ASYNC_ENABLED);
+    if (historyAsyncEnabledProperty != null && !historyAsyncEnabledProperty.isEmpty()) {
+      historyAsyncEnabled = Boolean.parseBoolean(historyAsyncEnabledProperty);
+    }
+
+    String queueCapacityProperty = props.getProperty(TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY);
+    if (queueCapacityProperty != null && !queueCapacityProperty.isEmpty()) {
+      try {
+        historyAsyncQueueCapacity = Integer.parseInt(queueCapacityProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncQueueCapacityProperty ({}). Using default. Exception: {} ",
+            queueCapacityProperty,
+            e.getMessage());
+      }
+    }
+
+    String batchSizeProperty = props.getProperty(TASKANA_HISTORY_ASYNC_BATCH_SIZE);
+    if (batchSizeProperty != null && !batchSizeProperty.isEmpty()) {
+      try {
+        historyAsyncBatchSize = Integer.parseInt(batchSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncBatchSizeProperty ({}). Using default. Exception: {} ",
+            batchSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String flushIntervalProperty = props.getProperty(TASKANA_HISTORY_ASYNC_FLUSH_INTERVAL);
+    if (flushIntervalProperty != null && !flushIntervalProperty.isEmpty()) {
+      try {
+        historyAsyncFlushInterval = Duration.parse(flushIntervalProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyAsyncFlushIntervalProperty ({}). Using default. Exception: {} ",
+            flushIntervalProperty,
+            e.getMessage());
+      }
+    }
+
+    String blockWhenFullProperty = props.getProperty(TASKANA_HISTORY_ASYNC_BLOCK_WHEN_FULL);
+    if (blockWhenFullProperty != null && !blockWhenFullProperty.isEmpty()) {
+      historyAsyncBlockWhenFull = Boolean.parseBoolean(blockWhenFullProperty);
+    }
+
+    String outboxEnabledProperty = props.getProperty(TASKANA_HISTORY_OUTBOX_ENABLED);
+    if (outboxEnabledProperty != null && !outboxEnabledProperty.isEmpty()) {
+      historyOutboxEnabled = Boolean.parseBoolean(outboxEnabledProperty);
+    }
+
+    String outboxBatchSizeProperty = props.getProperty(TASKANA_HISTORY_OUTBOX_BATCH_SIZE);
+    if (outboxBatchSizeProperty != null && !outboxBatchSizeProperty.isEmpty()) {
+      try {
+        historyOutboxBatchSize = Integer.parseInt(outboxBatchSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyOutboxBatchSizeProperty ({}). Using default. Exception: {} ",
+            outboxBatchSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String dispatchIntervalProperty = props.getProperty(TASKANA_HISTORY_OUTBOX_DISPATCH_INTERVAL);
+    if (dispatchIntervalProperty != null && !dispatchIntervalProperty.isEmpty()) {
+      try {
+        historyOutboxDispatchInterval = Duration.parse(dispatchIntervalProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse historyOutboxDispatchIntervalProperty ({}). Using default. "
+                + "Exception: {} ",
+            dispatchIntervalProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug("History configuration: asynchronous history enabled is {}", historyAsyncEnabled);
+    LOGGER.debug("History configuration: queue capacity is {}", historyAsyncQueueCapacity);
+    LOGGER.debug("History configuration: batch size is {}", historyAsyncBatchSize);
+    LOGGER.debug("History configuration: flush interval is {}", historyAsyncFlushInterval);
+    LOGGER.debug(
+        "History configuration: block producers when queue is full is {}",
+        historyAsyncBlockWhenFull);
+    LOGGER.debug("History configuration: history outbox enabled is {}", historyOutboxEnabled);
+    LOGGER.debug("History configuration: outbox batch size is {}", historyOutboxBatchSize);
+    LOGGER.debug(
+        "History configuration: outbox dispatch interval is {}", historyOutboxDispatchInterval);
+  }
+
+  private void initWorkbasketAclIndexParameters(Properties props) {
+    String aclIndexEnabledProperty = props.getProperty(TASKANA_WORKBASKET_ACL_INDEX_ENABLED);
+    if (aclIndexEnabledProperty != null && !aclIndexEnabledProperty.isEmpty()) {
+      workbasketAclIndexEnabled = Boolean.parseBoolean(aclIndexEnabledProperty);
+    }
+
+    String maxWorkbasketsProperty = props.getProperty(TASKANA_WORKBASKET_ACL_INDEX_MAX_WORKBASKETS);
+    if (maxWorkbasketsProperty != null && !maxWorkbasketsProperty.isEmpty()) {
+      try {
+        workbasketAclIndexMaxWorkbaskets = Integer.parseInt(maxWorkbasketsProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse workbasketAclIndexMaxWorkbasketsProperty ({}). Using default. "
+                + "Exception: {} ",
+            maxWorkbasketsProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "Workbasket configuration: index of readable workbaskets enabled is {}",
+        workbasketAclIndexEnabled);
+    LOGGER.debug(
+        "Workbasket configuration: maximum number of indexed workbaskets is {}",
+        workbasketAclIndexMaxWorkbaskets);
+  }
+
+  private void initClassificationCacheParameters(Properties props) {
+    String cacheEnabledProperty = props.getProperty(TASKANA_CLASSIFICATION_CACHE_ENABLED);
+    if (cacheEnabledProperty != null && !cacheEnabledProperty.isEmpty()) {
+      classificationCacheEnabled = Boolean.parseBoolean(cacheEnabledProperty);
+    }
+
+    String maxSizeProperty = props.getProperty(TASKANA_CLASSIFICATION_CACHE_MAX_SIZE);
+    if (maxSizeProperty != null && !maxSizeProperty.isEmpty()) {
+      try {
+        classificationCacheMaxSize = Integer.parseInt(maxSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse classificationCacheMaxSizeProperty ({}). Using default. "
+                + "Exception: {} ",
+            maxSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String timeToLiveProperty = props.getProperty(TASKANA_CLASSIFICATION_CACHE_TIME_TO_LIVE);
+    if (timeToLiveProperty != null && !timeToLiveProperty.isEmpty()) {
+      try {
+        classificationCacheTimeToLive = Duration.parse(timeToLiveProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse classificationCacheTimeToLiveProperty ({}). Using default. "
+                + "Exception: {} ",
+            timeToLiveProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "Classification configuration: classification cache enabled is {}",
+        classificationCacheEnabled);
+    LOGGER.debug(
+        "Classification configuration: classification cache max size is {}",
+        classificationCacheMaxSize);
+    LOGGER.debug(
+        "Classification configuration: classification cache time to live is {}",
+        classificationCacheTimeToLive);
+  }
+
+  private void initWorkbasketSummaryCacheParameters(Properties props) {
+    String cacheEnabledProperty = props.getProperty(TASKANA_WORKBASKET_SUMMARY_CACHE_ENABLED);
+    if (cacheEnabledProperty != null && !cacheEnabledProperty.isEmpty()) {
+      workbasketSummaryCacheEnabled = Boolean.parseBoolean(cacheEnabledProperty);
+    }
+
+    String maxSizeProperty = props.getProperty(TASKANA_WORKBASKET_SUMMARY_CACHE_MAX_SIZE);
+    if (maxSizeProperty != null && !maxSizeProperty.isEmpty()) {
+      try {
+        workbasketSummaryCacheMaxSize = Integer.parseInt(maxSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse workbasketSummaryCacheMaxSizeProperty ({}). Using default. "
+                + "Exception: {} ",
+            maxSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String timeToLiveProperty = props.getProperty(TASKANA_WORKBASKET_SUMMARY_CACHE_TIME_TO_LIVE);
+    if (timeToLiveProperty != null && !timeToLiveProperty.isEmpty()) {
+      try {
+        workbasketSummaryCacheTimeToLive = Duration.parse(timeToLiveProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse workbasketSummaryCacheTimeToLiveProperty ({}). Using default. "
+                + "Exception: {} ",
+            timeToLiveProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug(
+        "Workbasket configuration: workbasket summary cache enabled is {}",
+        workbasketSummaryCacheEnabled);
+    LOGGER.debug(
+        "Workbasket configuration: workbasket summary cache max size is {}",
+        workbasketSummaryCacheMaxSize);
+    LOGGER.debug(
+        "Workbasket configuration: workbasket summary cache time to live is {}",
+        workbasketSummaryCacheTimeToLive);
+  }
+
+  private void initTaskStatisticsParameters(Properties props) {
+    String enabledProperty = props.getProperty(TASKANA_MONITOR_TASK_STATISTICS_ENABLED);
+    if (enabledProperty != null && !enabledProperty.isEmpty()) {
+      taskStatisticsEnabled = Boolean.parseBoolean(enabledProperty);
+    }
+
+    String rebuildIntervalProperty =
+        props.getProperty(TASKANA_MONITOR_TASK_STATISTICS_REBUILD_INTERVAL);
+    if (rebuildIntervalProperty != null && !rebuildIntervalProperty.isEmpty()) {
+      try {
+        taskStatisticsRebuildInterval = Duration.parse(rebuildIntervalProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse taskStatisticsRebuildIntervalProperty ({}). Using default. "
+                + "Exception: {} ",
+            rebuildIntervalProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug("Monitor configuration: task statistics enabled is {}", taskStatisticsEnabled);
+    LOGGER.debug(
+        "Monitor configuration: task statistics rebuild interval is {}",
+        taskStatisticsRebuildInterval);
+  }
+
+  private void initReportCacheParameters(Properties props) {
+    String cacheEnabledProperty = props.getProperty(TASKANA_MONITOR_REPORT_CACHE_ENABLED);
+    if (cacheEnabledProperty != null && !cacheEnabledProperty.isEmpty()) {
+      reportCacheEnabled = Boolean.parseBoolean(cacheEnabledProperty);
+    }
+
+    String maxSizeProperty = props.getProperty(TASKANA_MONITOR_REPORT_CACHE_MAX_SIZE);
+    if (maxSizeProperty != null && !maxSizeProperty.isEmpty()) {
+      try {
+        reportCacheMaxSize = Integer.parseInt(maxSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse reportCacheMaxSizeProperty ({}). Using default. Exception: {} ",
+            maxSizeProperty,
+            e.getMessage());
+      }
+    }
+
+    String timeToLiveProperty = props.getProperty(TASKANA_MONITOR_REPORT_CACHE_TIME_TO_LIVE);
+    if (timeToLiveProperty != null && !timeToLiveProperty.isEmpty()) {
+      try {
+        reportCacheTimeToLive = Duration.parse(timeToLiveProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse reportCacheTimeToLiveProperty ({}). Using default. Exception: {} ",
+            timeToLiveProperty,
+            e.getMessage());
+      }
+    }
+
+    String computationTimeoutProperty =
+        props.getProperty(TASKANA_MONITOR_REPORT_CACHE_COMPUTATION_TIMEOUT);
+    if (computationTimeoutProperty != null && !computationTimeoutProperty.isEmpty()) {
+      try {
+        reportCacheComputationTimeout = Duration.parse(computationTimeoutProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse reportCacheComputationTimeoutProperty ({}). Using default. "
+                + "Exception: {} ",
+            computationTimeoutProperty,
+            e.getMessage());
+      }
+    }
+
+    LOGGER.debug("Monitor configuration: report cache enabled is {}", reportCacheEnabled);
+    LOGGER.debug("Monitor configuration: report cache max size is {}", reportCacheMaxSize);
+    LOGGER.debug("Monitor configuration: report cache time to live is {}", reportCacheTimeToLive);
+    LOGGER.debug(
+        "Monitor configuration: report cache computation timeout is {}",
+        reportCacheComputationTimeout);
+  }
+
   private void initDomains(Properties props) {
     String domainNames = props.getProperty(TASKANA_DOMAINS_PROPERTY);
     if (domainNames != null && !domainNames.isEmpty()) {
@@ -1,5 +1,7 @@
 package pro.taskana.classification.api;
 
+import java.util.List;
+
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.classification.api.exceptions.ClassificationInUseException;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
@@ -34,6 +36,15 @@ public interface ClassificationService {
    */
   Classification getClassification(String id) throws ClassificationNotFoundException;
 
+  /**
+   * Get the Classifications with the given ids. They are loaded with a single query, so that large
+   * exports can be done in chunks of ids. Ids of non existing classifications are ignored.
+   *
+   * @param ids the ids of the searched-for classifications
+   * @return the existing classifications in the order of the given ids
+   */
+  List<Classification> getClassifications(List<String> ids);
+
   /**
    * Delete a classification with all child classifications.
    *
@@ -0,0 +1,114 @@
+package pro.taskana.classification.internal;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
+import pro.taskana.common.internal.util.LruCache;
+import pro.taskana.common.internal.util.Pair;
+
+/**
+ * Read-through cache for classifications. Classifications are cached by id and by key and domain,
+ * classification summaries by id. Lookups of classifications which do not exist are cached, too,
+ * so that the fallback to the master domain does not hit the database twice.
+ *
+ * <p>The cache holds at most the configured number of entries and evicts the least recently used
+ * ones. It is cleared completely whenever a classification is created, updated or deleted through
+ * this TASKANA instance. Modifications by other instances are only seen after the configured time
+ * to live. Callers always get copies of the cached classifications.
+ */
+public class ClassificationCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationCache.class);
+
+  private final LruCache<Pair<EntryType, Object>, Object> cache;
+
+  public ClassificationCache(int maxSize, Duration timeToLive) {
+    this.cache = new LruCache<>(maxSize, timeToLive);
+  }
+
+  public long getHitCount() {
+    return cache.getHitCount();
+  }
+
+  public long getMissCount() {
+    return cache.getMissCount();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  /** Removes all entries. Entries which are loaded concurrently are not added afterwards. */
+  public void clear() {
+    LOGGER.debug("Clearing classification cache with {} entries", cache.size());
+    cache.clear();
+  }
+
+  Classification getClassification(String id, Supplier<ClassificationImpl> loader) {
+    return copyOf((ClassificationImpl) cache.get(Pair.of(EntryType.ID, id), loader::get));
+  }
+
+  Classification getClassification(
+      String key, String domain, Supplier<ClassificationImpl> loader) {
+    return copyOf(
+        (ClassificationImpl)
+            cache.get(Pair.of(EntryType.KEY_AND_DOMAIN, Pair.of(key, domain)), loader::get));
+  }
+
+  /**
+   * Returns the classification summaries with the given ids. Only the summaries which are not
+   * cached are loaded.
+   *
+   * @param ids the ids of the classifications
+   * @param loader loads the classification summaries for the given ids
+   * @return the summaries of the existing classifications
+   */
+  public List<ClassificationSummary> getClassificationSummaries(
+      Collection<String> ids, Function<String[], List<ClassificationSummary>> loader) {
+    List<Pair<EntryType, Object>> keys =
+        ids.stream()
+            .map(id -> Pair.of(EntryType.SUMMARY, (Object) id))
+            .collect(Collectors.toList());
+    return cache
+        .getAll(
+            keys,
+            missingKeys ->
+                loader.apply(missingKeys.stream().map(Pair::getRight).toArray(String[]::new)),
+            summary -> Pair.of(EntryType.SUMMARY, ((ClassificationSummary) summary).getId()))
+        .stream()
+        .map(summary -> copyOf((ClassificationSummaryImpl) summary))
+        .collect(Collectors.toList());
+  }
+
+  private static ClassificationImpl copyOf(ClassificationImpl classification) {
+    if (classification == null) {
+      return null;
+    }
+    ClassificationImpl copy = classification.copy(classification.getKey());
+    copy.setId(classification.getId());
+    return copy;
+  }
+
+  private static ClassificationSummary copyOf(ClassificationSummaryImpl summary) {
+    ClassificationSummaryImpl copy = summary.copy();
+    copy.setId(summary.getId());
+    copy.setKey(summary.getKey());
+    return copy;
+  }
+
+  private enum EntryType {
+    ID,
+    KEY_AND_DOMAIN,
+    SUMMARY
+  }
+}
@@ -1,5 +1,6 @@
 package pro.taskana.classification.internal;
 
+import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
@@ -81,6 +82,39 @@ public interface ClassificationMapper {
   })
   ClassificationImpl findById(@Param("id") String id);
 
+  @Select(
+      "<script>SELECT ID, KEY, PARENT_ID, PARENT_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, MODIFIED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8 "
+          + "FROM CLASSIFICATION "
+          + "WHERE ID IN(<foreach item='item' collection='ids' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results({
+    @Result(property = "id", column = "ID"),
+    @Result(property = "key", column = "KEY"),
+    @Result(property = "parentId", column = "PARENT_ID"),
+    @Result(property = "parentKey", column = "PARENT_KEY"),
+    @Result(property = "category", column = "CATEGORY"),
+    @Result(property = "type", column = "TYPE"),
+    @Result(property = "domain", column = "DOMAIN"),
+    @Result(property = "isValidInDomain", column = "VALID_IN_DOMAIN"),
+    @Result(property = "created", column = "CREATED"),
+    @Result(property = "modified", column = "MODIFIED"),
+    @Result(property = "name", column = "NAME"),
+    @Result(property = "description", column = "DESCRIPTION"),
+    @Result(property = "priority", column = "PRIORITY"),
+    @Result(property = "serviceLevel", column = "SERVICE_LEVEL"),
+    @Result(property = "applicationEntryPoint", column = "APPLICATION_ENTRY_POINT"),
+    @Result(property = "custom1", column = "CUSTOM_1"),
+    @Result(property = "custom2", column = "CUSTOM_2"),
+    @Result(property = "custom3", column = "CUSTOM_3"),
+    @Result(property = "custom4", column = "CUSTOM_4"),
+    @Result(property = "custom5", column = "CUSTOM_5"),
+    @Result(property = "custom6", column = "CUSTOM_6"),
+    @Result(property = "custom7", column = "CUSTOM_7"),
+    @Result(property = "custom8", column = "CUSTOM_8")
+  })
+  List<ClassificationImpl> findByIds(@Param("ids") List<String> ids);
+
   @Insert(
       "INSERT INTO CLASSIFICATION (ID, KEY, PARENT_ID, PARENT_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, MODIFIED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8) VALUES (#{classification.id}, #{classification.key}, #{classification.parentId}, #{classification.parentKey}, #{classification.category}, #{classification.type}, #{classification.domain}, #{classification.isValidInDomain}, #{classification.created}, #{classification.modified}, #{classification.name}, #{classification.description}, #{classification.priority}, #{classification.serviceLevel}, #{classification.applicationEntryPoint}, #{classification.custom1}, #{classification.custom2}, #{classification.custom3}, #{classification.custom4}, #{classification.custom5}, #{classification.custom6}, #{classification.custom7}, #{classification.custom8})")
   void insert(@Param("classification") ClassificationImpl classification);
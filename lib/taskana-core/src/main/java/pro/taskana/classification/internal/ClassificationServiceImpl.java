@@ -31,6 +31,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
+import pro.taskana.monitor.internal.TaskStatistics;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.TaskMapper;
 
@@ -64,9 +65,9 @@ public class ClassificationServiceImpl implements ClassificationService {
     Classification result = null;
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findByKeyAndDomain(key, domain);
+      result = findByKeyAndDomain(key, domain);
       if (result == null) {
-        result = classificationMapper.findByKeyAndDomain(key, "");
+        result = findByKeyAndDomain(key, "");
         if (result == null) {
           throw new ClassificationNotFoundException(
               key, domain, "Classification for key = " + key + " and master domain was not found");
@@ -88,7 +89,7 @@ public class ClassificationServiceImpl implements ClassificationService {
     Classification result = null;
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findById(id);
+      result = findById(id);
       if (result == null) {
         throw new ClassificationNotFoundException(
             id, "Classification for id " + id + " was not found");
@@ -100,6 +101,32 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  @Override
+  public List<Classification> getClassifications(List<String> ids) {
+    LOGGER.debug("entry to getClassifications(ids = {})", ids);
+    List<Classification> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      if (ids == null || ids.isEmpty()) {
+        return result;
+      }
+      Map<String, ClassificationImpl> classifications = new HashMap<>();
+      for (ClassificationImpl classification : classificationMapper.findByIds(ids)) {
+        classifications.put(classification.getId(), classification);
+      }
+      for (String id : ids) {
+        ClassificationImpl classification = classifications.get(id);
+        if (classification != null) {
+          result.add(classification);
+        }
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from getClassifications(). Returning {} classifications.", result.size());
+    }
+  }
+
   @Override
   public void deleteClassification(String classificationId)
       throws ClassificationInUseException, ClassificationNotFoundException, NotAuthorizedException {
@@ -144,6 +171,7 @@ public class ClassificationServiceImpl implements ClassificationService {
         }
       }
     } finally {
+      clearClassificationCache();
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from deleteClassification()");
     }
@@ -210,6 +238,7 @@ public class ClassificationServiceImpl implements ClassificationService {
         addClassificationToMasterDomain(classificationImpl);
       }
     } finally {
+      clearClassificationCache();
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from createClassification()");
     }
@@ -248,6 +277,7 @@ public class ClassificationServiceImpl implements ClassificationService {
           "Method updateClassification() updated the classification {}.", classificationImpl);
       return classification;
     } finally {
+      clearClassificationCache();
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from updateClassification().");
     }
@@ -442,6 +472,35 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  private Classification findById(String id) {
+    ClassificationCache cache = taskanaEngine.getClassificationCache();
+    if (cache == null) {
+      return classificationMapper.findById(id);
+    }
+    return cache.getClassification(id, () -> classificationMapper.findById(id));
+  }
+
+  private Classification findByKeyAndDomain(String key, String domain) {
+    ClassificationCache cache = taskanaEngine.getClassificationCache();
+    if (cache == null) {
+      return classificationMapper.findByKeyAndDomain(key, domain);
+    }
+    return cache.getClassification(
+        key, domain, () -> classificationMapper.findByKeyAndDomain(key, domain));
+  }
+
+  /**
+   * Clears the classification cache now and again after the transaction has completed. Otherwise a
+   * concurrent reader could cache the old classification before the modification is committed.
+   */
+  private void clearClassificationCache() {
+    ClassificationCache cache = taskanaEngine.getClassificationCache();
+    if (cache != null) {
+      cache.clear();
+      taskanaEngine.runAfterCompletion(cache::clear);
+    }
+  }
+
   private boolean doesClassificationExist(String key, String domain) {
     boolean isExisting = false;
     try {
@@ -483,8 +542,21 @@ public class ClassificationServiceImpl implements ClassificationService {
   private Classification getExistingClassificationAndVerifyTimestampHasNotChanged(
       ClassificationImpl classificationImpl)
       throws ConcurrencyException, ClassificationNotFoundException {
+    // read the classification from the database because a cached one may be outdated
     Classification oldClassification =
-        this.getClassification(classificationImpl.getKey(), classificationImpl.getDomain());
+        classificationMapper.findByKeyAndDomain(
+            classificationImpl.getKey(), classificationImpl.getDomain());
+    if (oldClassification == null) {
+      oldClassification = classificationMapper.findByKeyAndDomain(classificationImpl.getKey(), "");
+      if (oldClassification == null) {
+        throw new ClassificationNotFoundException(
+            classificationImpl.getKey(),
+            classificationImpl.getDomain(),
+            "Classification for key = "
+                + classificationImpl.getKey()
+                + " and master domain was not found");
+      }
+    }
     if (!oldClassification.getModified().equals(classificationImpl.getModified())) {
       throw new ConcurrencyException(
           "The current Classification has been modified while editing. "
@@ -513,7 +585,14 @@ public class ClassificationServiceImpl implements ClassificationService {
     if (!taskSummaries.isEmpty()) {
       List<String> taskIds = new ArrayList<>();
       taskSummaries.forEach(ts -> taskIds.add(ts.getId()));
+      TaskStatistics taskStatistics = taskanaEngine.getTaskStatistics();
+      if (taskStatistics != null) {
+        taskStatistics.removeTasks(taskIds);
+      }
       taskMapper.updateClassificationCategoryOnChange(taskIds, classificationImpl.getCategory());
+      if (taskStatistics != null) {
+        taskStatistics.addTasks(taskIds);
+      }
     }
   }
 
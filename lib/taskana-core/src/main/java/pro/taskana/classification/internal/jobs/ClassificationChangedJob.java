@@ -43,10 +43,18 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      List<String> affectedTaskIds =
-          taskService.findTasksIdsAffectedByClassificationChange(classificationId);
-      if (!affectedTaskIds.isEmpty()) {
-        scheduleTaskRefreshJobs(affectedTaskIds);
+      if (priorityChanged) {
+        long updatedTasks =
+            taskService.refreshPriorityOfTasksOnClassificationUpdate(classificationId);
+        LOGGER.info("Refreshed the priority of {} tasks.", updatedTasks);
+      }
+      // due dates depend on the working day calendar and are calculated by TaskRefreshJobs
+      if (serviceLevelChanged) {
+        List<String> affectedTaskIds =
+            taskService.findTasksIdsAffectedByClassificationChange(classificationId);
+        if (!affectedTaskIds.isEmpty()) {
+          scheduleTaskRefreshJobs(affectedTaskIds);
+        }
       }
       LOGGER.info("ClassificationChangedJob ended successfully.");
     } catch (Exception e) {
@@ -66,10 +74,10 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     for (List<String> taskIdBatch : affectedTaskBatches) {
       Map<String, String> args = new HashMap<>();
       if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
+        String taskIds = String.join(",", taskIdBatch);
         args.put(TASK_IDS, taskIds);
-        args.put(PRIORITY_CHANGED, Boolean.valueOf(priorityChanged).toString());
-        args.put(SERVICE_LEVEL_CHANGED, Boolean.valueOf(serviceLevelChanged).toString());
+        args.put(PRIORITY_CHANGED, Boolean.FALSE.toString());
+        args.put(SERVICE_LEVEL_CHANGED, Boolean.TRUE.toString());
         ScheduledJob job = new ScheduledJob();
         job.setType(ScheduledJob.Type.UPDATETASKSJOB);
         job.setArguments(args);
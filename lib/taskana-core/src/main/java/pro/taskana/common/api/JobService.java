@@ -1,5 +1,7 @@
 package pro.taskana.common.api;
 
+import java.util.List;
+
 /** Service to manage the TASKANA jobs. */
 public interface JobService {
 
@@ -10,4 +12,12 @@ public interface JobService {
    * @return {@link ScheduledJob} The created job.
    */
   ScheduledJob createJob(ScheduledJob job);
+
+  /**
+   * Returns all jobs which are in state {@link ScheduledJob.State#FAILED}. A job enters this state
+   * after all retries of its execution have failed; it is not executed anymore.
+   *
+   * @return the failed jobs
+   */
+  List<ScheduledJob> findFailedJobs();
 }
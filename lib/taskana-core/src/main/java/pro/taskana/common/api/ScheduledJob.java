@@ -175,6 +175,9 @@ public class ScheduledJob {
     CLASSIFICATIONCHANGEDJOB,
     UPDATETASKSJOB,
     TASKCLEANUPJOB,
-    WORKBASKETCLEANUPJOB;
+    WORKBASKETCLEANUPJOB,
+    HISTORYOUTBOXJOB,
+    TASKSTATISTICSREBUILDJOB,
+    REPORTCOMPUTATIONJOB;
   }
 }
@@ -3,9 +3,13 @@ package pro.taskana.common.internal;
 import java.util.function.Supplier;
 import org.apache.ibatis.session.SqlSession;
 
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.internal.TaskRoutingManager;
+import pro.taskana.workbasket.internal.WorkbasketAclIndex;
+import pro.taskana.monitor.internal.TaskStatistics;
+import pro.taskana.workbasket.internal.WorkbasketSummaryCache;
 
 /**
  * FOR INTERNAL USE ONLY.
@@ -28,6 +32,17 @@ public interface InternalTaskanaEngine {
    */
   void returnConnection();
 
+  /**
+   * Registers an action which is executed once the transaction of the current thread has
+   * completed, e.g. to clear a cache only when a modification is visible to other transactions. In
+   * mode AUTOCOMMIT the action is executed after the commit or rollback of the outermost {@link
+   * #returnConnection()}. If TASKANA cannot observe the end of the transaction, the action is
+   * executed immediately.
+   *
+   * @param action the action to execute
+   */
+  void runAfterCompletion(Runnable action);
+
   /**
    * Executes the supplier after openConnection is called and then returns the connection.
    *
@@ -76,6 +91,34 @@ public interface InternalTaskanaEngine {
    */
   TaskRoutingManager getTaskRoutingManager();
 
+  /**
+   * Retrieve the index of readable workbaskets.
+   *
+   * @return the WorkbasketAclIndex instance or null if the index is disabled.
+   */
+  WorkbasketAclIndex getWorkbasketAclIndex();
+
+  /**
+   * Retrieve the classification cache.
+   *
+   * @return the ClassificationCache instance or null if the cache is disabled.
+   */
+  ClassificationCache getClassificationCache();
+
+  /**
+   * Retrieve the workbasket summary cache.
+   *
+   * @return the WorkbasketSummaryCache instance or null if the cache is disabled.
+   */
+  WorkbasketSummaryCache getWorkbasketSummaryCache();
+
+  /**
+   * Retrieve the task statistics.
+   *
+   * @return the TaskStatistics instance or null if the task statistics are disabled.
+   */
+  TaskStatistics getTaskStatistics();
+
   /**
    * This method is supposed to skip further permission checks if we are already in a secured
    * environment. With great power comes great responsibility.
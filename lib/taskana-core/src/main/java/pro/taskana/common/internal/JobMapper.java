@@ -1,5 +1,6 @@
 package pro.taskana.common.internal;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Delete;
@@ -60,6 +61,100 @@ public interface JobMapper {
       })
   List<ScheduledJob> findJobsToRun();
 
+  @Select(
+      "<script> SELECT   JOB_ID, PRIORITY, CREATED, DUE, STATE, LOCKED_BY, LOCK_EXPIRES, TYPE, RETRY_COUNT, ARGUMENTS "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND (DUE is null OR DUE &lt; CURRENT_TIMESTAMP) AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; CURRENT_TIMESTAMP) AND RETRY_COUNT > 0 "
+          + "ORDER BY PRIORITY DESC "
+          + "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "FETCH FIRST ${limit} ROWS ONLY WITH RS USE AND KEEP UPDATE LOCKS SKIP LOCKED DATA "
+          + "</when>"
+          + "<when test=\"_databaseId == 'postgres'\">"
+          + "LIMIT ${limit} FOR UPDATE SKIP LOCKED "
+          + "</when>"
+          + "<otherwise>"
+          + "FETCH FIRST ${limit} ROWS ONLY FOR UPDATE "
+          + "</otherwise>"
+          + "</choose>"
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "jobId", column = "JOB_ID"),
+        @Result(property = "priority", column = "PRIORITY"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "due", column = "DUE"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "lockedBy", column = "LOCKED_BY"),
+        @Result(property = "lockExpires", column = "LOCK_EXPIRES"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "retryCount", column = "RETRY_COUNT"),
+        @Result(
+            property = "arguments",
+            column = "ARGUMENTS",
+            javaType = Map.class,
+            typeHandler = MapTypeHandler.class)
+      })
+  List<ScheduledJob> findJobsToClaim(@Param("limit") int limit);
+
+  @Select(
+      "<script> SELECT   JOB_ID, PRIORITY, CREATED, DUE, STATE, LOCKED_BY, LOCK_EXPIRES, TYPE, RETRY_COUNT, ARGUMENTS "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE = 'FAILED' "
+          + "ORDER BY JOB_ID "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "jobId", column = "JOB_ID"),
+        @Result(property = "priority", column = "PRIORITY"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "due", column = "DUE"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "lockedBy", column = "LOCKED_BY"),
+        @Result(property = "lockExpires", column = "LOCK_EXPIRES"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "retryCount", column = "RETRY_COUNT"),
+        @Result(
+            property = "arguments",
+            column = "ARGUMENTS",
+            javaType = Map.class,
+            typeHandler = MapTypeHandler.class)
+      })
+  List<ScheduledJob> findFailedJobs();
+
+  @Select(
+      "SELECT COUNT(*) FROM SCHEDULED_JOB WHERE STATE = 'READY' AND TYPE = #{type}")
+  int countReadyJobs(@Param("type") ScheduledJob.Type type);
+
+  @Update(
+      "<script>UPDATE SCHEDULED_JOB SET LOCKED_BY = #{owner}, LOCK_EXPIRES = #{lockExpires}, RETRY_COUNT = RETRY_COUNT - 1 "
+          + "WHERE JOB_ID IN(<foreach item='item' collection='jobIds' separator=',' >#{item}</foreach>) "
+          + "AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; CURRENT_TIMESTAMP) "
+          + "</script>")
+  int claimJobs(
+      @Param("jobIds") List<Integer> jobIds,
+      @Param("owner") String owner,
+      @Param("lockExpires") Instant lockExpires);
+
+  @Select(
+      "<script>SELECT JOB_ID FROM SCHEDULED_JOB "
+          + "WHERE JOB_ID IN(<foreach item='item' collection='jobIds' separator=',' >#{item}</foreach>) "
+          + "AND LOCKED_BY = #{owner} AND LOCK_EXPIRES = #{lockExpires} "
+          + "</script>")
+  List<Integer> findJobIdsLockedBy(
+      @Param("jobIds") List<Integer> jobIds,
+      @Param("owner") String owner,
+      @Param("lockExpires") Instant lockExpires);
+
+  @Update(
+      "UPDATE SCHEDULED_JOB SET LOCK_EXPIRES = #{lockExpires} "
+          + "WHERE JOB_ID = #{jobId} AND LOCKED_BY = #{owner}")
+  int extendLock(
+      @Param("jobId") Integer jobId,
+      @Param("owner") String owner,
+      @Param("lockExpires") Instant lockExpires);
+
   @Update(
       value =
           "UPDATE SCHEDULED_JOB SET CREATED = #{created}, PRIORITY = #{priority}, DUE = #{due}, STATE = #{state}, "
@@ -1,7 +1,13 @@
 package pro.taskana.common.internal;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +19,7 @@ public class JobServiceImpl implements JobService {
 
   public static final Integer JOB_DEFAULT_PRIORITY = 50;
   public static final long DEFAULT_LOCK_EXPIRATION_PERIOD = 60000;
+  public static final Duration MAX_RETRY_BACKOFF = Duration.ofDays(1);
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobServiceImpl.class);
   private JobMapper jobMapper;
@@ -39,6 +46,53 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  @Override
+  public List<ScheduledJob> findFailedJobs() {
+    LOGGER.debug("entry to findFailedJobs()");
+    List<ScheduledJob> failedJobs = new ArrayList<>();
+    try {
+      taskanaEngineImpl.openConnection();
+      failedJobs = jobMapper.findFailedJobs();
+      return failedJobs;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from findFailedJobs(), returning {} jobs", failedJobs.size());
+    }
+  }
+
+  /**
+   * Records a failed execution of a claimed job and releases its lock. The retry count has already
+   * been decremented when the job was claimed. If retries are left, the job is rescheduled after an
+   * exponentially growing backoff, otherwise it enters the terminal state FAILED.
+   *
+   * @param job the job whose execution failed
+   */
+  public void handleFailedJob(ScheduledJob job) {
+    LOGGER.debug("entry to handleFailedJob(job = {})", job);
+    try {
+      taskanaEngineImpl.openConnection();
+      job.setLockedBy(null);
+      job.setLockExpires(null);
+      if (job.getRetryCount() > 0) {
+        int maxRetries =
+            taskanaEngineImpl.getEngine().getConfiguration().getMaxNumberOfJobRetries();
+        job.setDue(Instant.now().plus(getRetryBackoff(maxRetries - job.getRetryCount())));
+        LOGGER.info(
+            "Job {} failed. Next attempt at {}, remaining retries: {}",
+            job.getJobId(),
+            job.getDue(),
+            job.getRetryCount());
+      } else {
+        job.setState(ScheduledJob.State.FAILED);
+        LOGGER.warn("Job {} failed and has no retries left. It is marked as FAILED.", job);
+      }
+      jobMapper.update(job);
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from handleFailedJob()");
+    }
+  }
+
   public ScheduledJob lockJob(ScheduledJob job, String owner) {
     LOGGER.debug("entry to lockJob(jobId = {}, owner = {})", job.getJobId(), owner);
     try {
@@ -55,6 +109,76 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  /**
+   * Claims up to limit jobs which are ready to run for the given owner. The candidates are selected
+   * with a row lock that skips rows already locked by other nodes and are then locked in a single
+   * update, which only succeeds for jobs whose lock is not held by anyone else. Thus several nodes
+   * and threads can claim jobs concurrently without running a job twice.
+   *
+   * @param owner the owner which is written into the lock of the claimed jobs
+   * @param limit the maximal number of jobs to be claimed
+   * @return the claimed jobs
+   */
+  public List<ScheduledJob> claimJobs(String owner, int limit) {
+    LOGGER.debug("entry to claimJobs(owner = {}, limit = {})", owner, limit);
+    List<ScheduledJob> claimedJobs = new ArrayList<>();
+    try {
+      taskanaEngineImpl.openConnection();
+      List<ScheduledJob> candidates = jobMapper.findJobsToClaim(limit);
+      if (candidates.isEmpty()) {
+        return claimedJobs;
+      }
+      Instant lockExpires =
+          Instant.now().plusMillis(DEFAULT_LOCK_EXPIRATION_PERIOD).truncatedTo(ChronoUnit.MILLIS);
+      List<Integer> jobIds =
+          candidates.stream().map(ScheduledJob::getJobId).collect(Collectors.toList());
+      int claimedCount = jobMapper.claimJobs(jobIds, owner, lockExpires);
+      if (claimedCount == candidates.size()) {
+        claimedJobs = candidates;
+      } else {
+        // another node claimed some of the candidates in the meantime
+        Set<Integer> claimedJobIds =
+            new HashSet<>(jobMapper.findJobIdsLockedBy(jobIds, owner, lockExpires));
+        claimedJobs =
+            candidates.stream()
+                .filter(job -> claimedJobIds.contains(job.getJobId()))
+                .collect(Collectors.toList());
+      }
+      for (ScheduledJob job : claimedJobs) {
+        job.setLockedBy(owner);
+        job.setLockExpires(lockExpires);
+        job.setRetryCount(job.getRetryCount() - 1);
+      }
+      LOGGER.debug("Claimed jobs: {}", claimedJobs);
+      return claimedJobs;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from claimJobs(), claimed {} jobs", claimedJobs.size());
+    }
+  }
+
+  /**
+   * Extends the lock of a claimed job as long as it is still held by the given owner.
+   *
+   * @param jobId the id of the claimed job
+   * @param owner the owner of the lock
+   * @return true if the lock has been extended, false if the job is no longer locked by the owner
+   */
+  public boolean extendLock(Integer jobId, String owner) {
+    LOGGER.debug("entry to extendLock(jobId = {}, owner = {})", jobId, owner);
+    boolean extended = false;
+    try {
+      taskanaEngineImpl.openConnection();
+      Instant lockExpires =
+          Instant.now().plusMillis(DEFAULT_LOCK_EXPIRATION_PERIOD).truncatedTo(ChronoUnit.MILLIS);
+      extended = jobMapper.extendLock(jobId, owner, lockExpires) > 0;
+      return extended;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from extendLock(), returning {}", extended);
+    }
+  }
+
   public List<ScheduledJob> findJobsToRun() {
     LOGGER.debug("entry to findJobsToRun");
     List<ScheduledJob> availableJobs;
@@ -69,6 +193,26 @@ public class JobServiceImpl implements JobService {
     return availableJobs;
   }
 
+  /**
+   * Checks whether a job of the given type is waiting to be run. Jobs which reschedule themselves
+   * use this to avoid starting a second chain of jobs.
+   *
+   * @param type the type of the job
+   * @return true if a job of the type is in state {@link ScheduledJob.State#READY}
+   */
+  public boolean hasReadyJob(ScheduledJob.Type type) {
+    LOGGER.debug("entry to hasReadyJob(type = {})", type);
+    boolean hasReadyJob = false;
+    try {
+      taskanaEngineImpl.openConnection();
+      hasReadyJob = jobMapper.countReadyJobs(type) > 0;
+      return hasReadyJob;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from hasReadyJob(), returning {}", hasReadyJob);
+    }
+  }
+
   public void deleteJob(ScheduledJob job) {
     LOGGER.debug("entry to deleteJob(jobId = {})", job.getJobId());
     try {
@@ -81,6 +225,13 @@ public class JobServiceImpl implements JobService {
     }
   }
 
+  private Duration getRetryBackoff(int failedAttempts) {
+    Duration initialBackoff = taskanaEngineImpl.getEngine().getConfiguration().getJobRetryBackoff();
+    int exponent = Math.min(Math.max(failedAttempts - 1, 0), 20);
+    Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+    return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+  }
+
   private ScheduledJob initializeJobDefault(ScheduledJob job) {
     LOGGER.debug("entry to initializeJobDefault(job = {})", job);
     job.setCreated(Instant.now());
@@ -7,6 +7,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
@@ -29,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.classification.internal.ClassificationMapper;
 import pro.taskana.classification.internal.ClassificationQueryMapper;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
@@ -49,7 +51,13 @@ import pro.taskana.common.internal.security.GroupPrincipal;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.monitor.internal.StoredReportMapper;
+import pro.taskana.monitor.internal.TaskStatistics;
+import pro.taskana.monitor.internal.TaskStatisticsMapper;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
+import pro.taskana.spi.history.internal.HistoryOutbox;
+import pro.taskana.spi.history.internal.HistoryOutboxMapper;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.task.internal.ObjectReferenceMapper;
@@ -61,9 +69,12 @@ import pro.taskana.task.internal.TaskServiceImpl;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
+import pro.taskana.workbasket.internal.WorkbasketAclIndex;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
+import pro.taskana.workbasket.internal.WorkbasketSummaryCache;
 
 /** This is the implementation of TaskanaEngine. */
 public class TaskanaEngineImpl implements TaskanaEngine {
@@ -78,7 +89,14 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   protected java.sql.Connection connection = null;
   private HistoryEventProducer historyEventProducer;
   private TaskRoutingManager taskRoutingManager;
+  private WorkbasketAclIndex workbasketAclIndex;
+  private ClassificationCache classificationCache;
+  private WorkbasketSummaryCache workbasketSummaryCache;
+  private TaskStatistics taskStatistics;
+  private ReportCache reportCache;
   private InternalTaskanaEngineImpl internalTaskanaEngineImpl;
+  private final ThreadLocal<List<Runnable>> afterCompletionActions =
+      ThreadLocal.withInitial(ArrayList::new);
 
   protected TaskanaEngineImpl(TaskanaEngineConfiguration taskanaEngineConfiguration) {
     this.taskanaEngineConfiguration = taskanaEngineConfiguration;
@@ -87,6 +105,44 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     historyEventProducer = HistoryEventProducer.getInstance(taskanaEngineConfiguration);
     taskRoutingManager = TaskRoutingManager.getInstance(this);
     this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
+    if (taskanaEngineConfiguration.isWorkbasketAclIndexEnabled()) {
+      workbasketAclIndex =
+          new WorkbasketAclIndex(
+              internalTaskanaEngineImpl,
+              sessionManager.getMapper(WorkbasketAccessMapper.class),
+              taskanaEngineConfiguration.getWorkbasketAclIndexMaxWorkbaskets());
+    }
+    if (taskanaEngineConfiguration.isClassificationCacheEnabled()) {
+      classificationCache =
+          new ClassificationCache(
+              taskanaEngineConfiguration.getClassificationCacheMaxSize(),
+              taskanaEngineConfiguration.getClassificationCacheTimeToLive());
+    }
+    if (taskanaEngineConfiguration.isWorkbasketSummaryCacheEnabled()) {
+      workbasketSummaryCache =
+          new WorkbasketSummaryCache(
+              internalTaskanaEngineImpl,
+              sessionManager.getMapper(WorkbasketMapper.class),
+              taskanaEngineConfiguration.getWorkbasketSummaryCacheMaxSize(),
+              taskanaEngineConfiguration.getWorkbasketSummaryCacheTimeToLive());
+    }
+    if (taskanaEngineConfiguration.isTaskStatisticsEnabled()) {
+      taskStatistics =
+          new TaskStatistics(
+              internalTaskanaEngineImpl, sessionManager.getMapper(TaskStatisticsMapper.class));
+    }
+    if (taskanaEngineConfiguration.isReportCacheEnabled()) {
+      reportCache =
+          new ReportCache(
+              taskanaEngineConfiguration.getReportCacheMaxSize(),
+              taskanaEngineConfiguration.getReportCacheTimeToLive(),
+              taskanaEngineConfiguration.getReportCacheComputationTimeout());
+    }
+    if (taskanaEngineConfiguration.isHistoryOutboxEnabled()
+        && HistoryEventProducer.isHistoryEnabled()) {
+      historyEventProducer = historyEventProducer.withOutbox(getHistoryOutbox());
+      LOGGER.info("History events are stored in the history outbox.");
+    }
   }
 
   public static TaskanaEngine createTaskanaEngine(
@@ -108,7 +164,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   public MonitorService getMonitorService() {
     SqlSession session = this.sessionManager;
     return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, session.getMapper(MonitorMapper.class));
+        internalTaskanaEngineImpl,
+        session.getMapper(MonitorMapper.class),
+        reportCache,
+        session.getMapper(StoredReportMapper.class));
   }
 
   @Override
@@ -136,6 +195,48 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return new JobServiceImpl(internalTaskanaEngineImpl, session.getMapper(JobMapper.class));
   }
 
+  public HistoryOutbox getHistoryOutbox() {
+    SqlSession session = this.sessionManager;
+    return new HistoryOutbox(
+        internalTaskanaEngineImpl, session.getMapper(HistoryOutboxMapper.class));
+  }
+
+  /**
+   * Returns the classification cache, e.g. to read its hit and miss counters.
+   *
+   * @return the classification cache or null if it is disabled
+   */
+  public ClassificationCache getClassificationCache() {
+    return classificationCache;
+  }
+
+  /**
+   * Returns the workbasket summary cache, e.g. to read its hit and miss counters.
+   *
+   * @return the workbasket summary cache or null if it is disabled
+   */
+  public WorkbasketSummaryCache getWorkbasketSummaryCache() {
+    return workbasketSummaryCache;
+  }
+
+  /**
+   * Returns the task statistics, e.g. to rebuild them.
+   *
+   * @return the task statistics or null if they are disabled
+   */
+  public TaskStatistics getTaskStatistics() {
+    return taskStatistics;
+  }
+
+  /**
+   * Returns the report cache, e.g. to read its hit and miss counters.
+   *
+   * @return the report cache or null if it is disabled
+   */
+  public ReportCache getReportCache() {
+    return reportCache;
+  }
+
   @Override
   public TaskanaEngineConfiguration getConfiguration() {
     return this.taskanaEngineConfiguration;
@@ -222,6 +323,30 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     }
   }
 
+  /**
+   * Registers an action which is executed once the transaction of the current thread has
+   * completed. In mode AUTOCOMMIT TASKANA commits itself and executes the action after the
+   * outermost connection is returned. Otherwise the transaction is controlled by the caller and the
+   * action is executed immediately. Subclasses which can observe the end of the caller's
+   * transaction override this.
+   *
+   * @param action the action to execute
+   */
+  protected void registerAfterCompletion(Runnable action) {
+    if (mode == ConnectionManagementMode.AUTOCOMMIT
+        && !sessionStack.getSessionStack().isEmpty()) {
+      afterCompletionActions.get().add(action);
+    } else {
+      action.run();
+    }
+  }
+
+  private void runAfterCompletionActions() {
+    List<Runnable> actions = afterCompletionActions.get();
+    afterCompletionActions.remove();
+    actions.forEach(Runnable::run);
+  }
+
   /**
    * This method creates the sqlSessionManager of myBatis. It integrates all the SQL mappers and
    * sets the databaseId attribute.
@@ -255,6 +380,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
+    configuration.addMapper(TaskStatisticsMapper.class);
+    configuration.addMapper(StoredReportMapper.class);
     configuration.addMapper(WorkbasketMapper.class);
     configuration.addMapper(DistributionTargetMapper.class);
     configuration.addMapper(ClassificationMapper.class);
@@ -266,6 +393,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.addMapper(ClassificationQueryMapper.class);
     configuration.addMapper(AttachmentMapper.class);
     configuration.addMapper(JobMapper.class);
+    configuration.addMapper(HistoryOutboxMapper.class);
     SqlSessionFactory localSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
     return SqlSessionManager.newInstance(localSessionFactory);
   }
@@ -330,6 +458,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     @Override
     public void openConnection() {
+      WorkbasketPermissionCache.enterScope();
       initSqlSession();
       try {
         sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
@@ -346,23 +475,36 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     @Override
     public void returnConnection() {
-      if (mode != ConnectionManagementMode.EXPLICIT) {
-        sessionStack.popSessionFromStack();
-        if (sessionStack.getSessionStack().isEmpty()
-            && sessionManager != null
-            && sessionManager.isManagedSessionStarted()) {
-          if (mode == ConnectionManagementMode.AUTOCOMMIT) {
+      try {
+        if (mode != ConnectionManagementMode.EXPLICIT) {
+          sessionStack.popSessionFromStack();
+          if (sessionStack.getSessionStack().isEmpty()
+              && sessionManager != null
+              && sessionManager.isManagedSessionStarted()) {
             try {
-              sessionManager.commit();
-            } catch (Exception e) {
-              throw new AutocommitFailedException(e.getCause());
+              if (mode == ConnectionManagementMode.AUTOCOMMIT) {
+                try {
+                  sessionManager.commit();
+                } catch (Exception e) {
+                  throw new AutocommitFailedException(e.getCause());
+                }
+              }
+              sessionManager.close();
+            } finally {
+              runAfterCompletionActions();
             }
           }
-          sessionManager.close();
         }
+      } finally {
+        WorkbasketPermissionCache.leaveScope();
       }
     }
 
+    @Override
+    public void runAfterCompletion(Runnable action) {
+      registerAfterCompletion(action);
+    }
+
     @Override
     public <T> T openAndReturnConnection(Supplier<T> supplier) {
       try {
@@ -409,6 +551,26 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return taskRoutingManager;
     }
 
+    @Override
+    public WorkbasketAclIndex getWorkbasketAclIndex() {
+      return workbasketAclIndex;
+    }
+
+    @Override
+    public ClassificationCache getClassificationCache() {
+      return classificationCache;
+    }
+
+    @Override
+    public WorkbasketSummaryCache getWorkbasketSummaryCache() {
+      return workbasketSummaryCache;
+    }
+
+    @Override
+    public TaskStatistics getTaskStatistics() {
+      return taskStatistics;
+    }
+
     @Override
     public <T> T runAsAdmin(Supplier<T> supplier) {
 
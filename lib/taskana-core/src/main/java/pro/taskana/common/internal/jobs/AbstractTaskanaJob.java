@@ -10,6 +10,9 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.internal.jobs.ReportComputationJob;
+import pro.taskana.monitor.internal.jobs.TaskStatisticsRebuildJob;
+import pro.taskana.spi.history.internal.jobs.HistoryOutboxJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
@@ -42,6 +45,12 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
         return new TaskCleanupJob(engine, txProvider, job);
       case WORKBASKETCLEANUPJOB:
         return new WorkbasketCleanupJob(engine, txProvider, job);
+      case HISTORYOUTBOXJOB:
+        return new HistoryOutboxJob(engine, txProvider, job);
+      case TASKSTATISTICSREBUILDJOB:
+        return new TaskStatisticsRebuildJob(engine, txProvider, job);
+      case REPORTCOMPUTATIONJOB:
+        return new ReportComputationJob(engine, txProvider, job);
       default:
         throw new TaskanaException(
             "No matching job found for "
@@ -52,6 +61,16 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     }
   }
 
+  @Override
+  public boolean isRetryable() {
+    return true;
+  }
+
+  @Override
+  public void onFinalFailure(Exception failure) {
+    // most jobs have nothing to clean up, the failed job is kept in state FAILED
+  }
+
   protected <T> List<List<T>> partition(Collection<T> members, int maxSize) {
     List<List<T>> result = new ArrayList<>();
     List<T> internal = new ArrayList<>();
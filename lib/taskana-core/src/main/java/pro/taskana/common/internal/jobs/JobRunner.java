@@ -6,7 +6,17 @@ import java.security.Principal;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,11 +30,16 @@ import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.security.UserPrincipal;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.task.internal.TaskServiceImpl;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
 
 /** This is the runner for Tasks jobs. */
 public class JobRunner {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  private static final long HEARTBEAT_INTERVAL =
+      JobServiceImpl.DEFAULT_LOCK_EXPIRATION_PERIOD / 3;
+  private static final int MAX_OWNER_LENGTH = 32;
+  private final Map<Integer, ScheduledJob> jobsWithLock = new ConcurrentHashMap<>();
   private TaskanaEngineImpl taskanaEngine;
   private JobServiceImpl jobService;
   private TaskanaTransactionProvider<Object> txProvider;
@@ -38,51 +53,130 @@ public class JobRunner {
     this.txProvider = txProvider;
   }
 
+  /**
+   * Runs all jobs which are ready to run. The jobs are claimed in chunks of the configured claim
+   * size and executed by the configured number of workers until no further job is ready. While a
+   * worker holds claimed jobs, their locks are extended periodically, so that other nodes don't
+   * take them over.
+   */
   public void runJobs() {
     LOGGER.info("entry to runJobs()");
+    ScheduledExecutorService heartbeat =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> createDaemonThread(runnable, "job-heartbeat"));
     try {
-      List<ScheduledJob> jobsToRun = findAndLockJobsToRun();
-      for (ScheduledJob scheduledJob : jobsToRun) {
-        runJobTransactionally(scheduledJob);
+      heartbeat.scheduleAtFixedRate(
+          this::extendLocksOfClaimedJobs,
+          HEARTBEAT_INTERVAL,
+          HEARTBEAT_INTERVAL,
+          TimeUnit.MILLISECONDS);
+      int workerPoolSize = taskanaEngine.getConfiguration().getJobRunnerWorkerPoolSize();
+      if (workerPoolSize > 1) {
+        runJobsConcurrently(workerPoolSize);
+      } else {
+        runClaimedJobs();
       }
     } catch (Exception e) {
       LOGGER.error("Error occurred while running jobs: ", e);
     } finally {
+      heartbeat.shutdownNow();
       LOGGER.info("exit from runJobs().");
     }
   }
 
-  private List<ScheduledJob> findAndLockJobsToRun() {
-    List<ScheduledJob> availableJobs = jobService.findJobsToRun();
-    List<ScheduledJob> lockedJobs = new ArrayList<ScheduledJob>();
-    for (ScheduledJob job : availableJobs) {
-      lockedJobs.add(lockJobTransactionally(job));
+  private void runJobsConcurrently(int workerPoolSize)
+      throws InterruptedException, ExecutionException {
+    AtomicInteger workerNumber = new AtomicInteger();
+    ExecutorService workers =
+        Executors.newFixedThreadPool(
+            workerPoolSize,
+            runnable ->
+                createDaemonThread(runnable, "job-worker-" + workerNumber.incrementAndGet()));
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < workerPoolSize; i++) {
+        results.add(workers.submit(this::runClaimedJobs));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      workers.shutdownNow();
     }
-    return lockedJobs;
   }
 
-  private ScheduledJob lockJobTransactionally(ScheduledJob job) {
-    ScheduledJob lockedJob;
+  private void runClaimedJobs() {
+    String owner = getLockOwner();
+    int claimSize = Math.max(1, taskanaEngine.getConfiguration().getJobRunnerClaimSize());
+    List<ScheduledJob> claimedJobs = claimJobsTransactionally(owner, claimSize);
+    while (!claimedJobs.isEmpty()) {
+      claimedJobs.forEach(job -> jobsWithLock.put(job.getJobId(), job));
+      for (ScheduledJob scheduledJob : claimedJobs) {
+        try {
+          runJobTransactionally(scheduledJob);
+        } finally {
+          jobsWithLock.remove(scheduledJob.getJobId());
+        }
+      }
+      claimedJobs = claimJobsTransactionally(owner, claimSize);
+    }
+  }
+
+  private List<ScheduledJob> claimJobsTransactionally(String owner, int claimSize) {
+    List<ScheduledJob> claimedJobs;
     if (txProvider != null) {
-      lockedJob = (ScheduledJob) txProvider.executeInTransaction(() -> lockJob(job));
+      @SuppressWarnings("unchecked")
+      List<ScheduledJob> jobs =
+          (List<ScheduledJob>)
+              txProvider.executeInTransaction(() -> jobService.claimJobs(owner, claimSize));
+      claimedJobs = jobs;
     } else {
-      lockedJob = lockJob(job);
+      claimedJobs = jobService.claimJobs(owner, claimSize);
     }
-    LOGGER.debug("Locked job: {}", lockedJob);
-    return lockedJob;
+    LOGGER.debug("Claimed jobs: {}", claimedJobs);
+    return claimedJobs;
   }
 
-  private ScheduledJob lockJob(ScheduledJob job) {
+  private void extendLocksOfClaimedJobs() {
+    for (ScheduledJob job : jobsWithLock.values()) {
+      try {
+        boolean extended;
+        if (txProvider != null) {
+          extended =
+              (Boolean)
+                  txProvider.executeInTransaction(
+                      () -> jobService.extendLock(job.getJobId(), job.getLockedBy()));
+        } else {
+          extended = jobService.extendLock(job.getJobId(), job.getLockedBy());
+        }
+        if (!extended) {
+          LOGGER.warn("Lock of job {} has been lost.", job.getJobId());
+          jobsWithLock.remove(job.getJobId());
+        }
+      } catch (Exception e) {
+        LOGGER.warn("Could not extend the lock of job {}.", job.getJobId(), e);
+      }
+    }
+  }
+
+  private String getLockOwner() {
     String hostAddress = "UNKNOWN_ADDRESS";
     try {
       hostAddress = InetAddress.getLocalHost().getHostAddress();
     } catch (UnknownHostException e) {
       // ignore
     }
-    job.setLockedBy(hostAddress + " - " + Thread.currentThread().getName());
     String owner = hostAddress + " - " + Thread.currentThread().getName();
-    ScheduledJob lockedJob = jobService.lockJob(job, owner);
-    return lockedJob;
+    // the LOCKED_BY column holds 32 characters, the thread name distinguishes the workers
+    return owner.length() > MAX_OWNER_LENGTH
+        ? owner.substring(owner.length() - MAX_OWNER_LENGTH)
+        : owner;
+  }
+
+  private static Thread createDaemonThread(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
   }
 
   private void runJobTransactionally(ScheduledJob scheduledJob) {
@@ -98,10 +192,56 @@ public class JobRunner {
       }
       jobService.deleteJob(scheduledJob);
     } catch (Exception e) {
-      LOGGER.error(
-          "Processing of job {} failed. Trying to split it up into two pieces...",
-          scheduledJob.getJobId(),
-          e);
+      LOGGER.error("Processing of job {} failed.", scheduledJob.getJobId(), e);
+      handleFailedJobTransactionally(scheduledJob, e);
+    }
+  }
+
+  private void handleFailedJobTransactionally(ScheduledJob scheduledJob, Exception failure) {
+    try {
+      if (txProvider != null) {
+        txProvider.executeInTransaction(
+            () -> {
+              handleFailedJob(scheduledJob, failure);
+              return null;
+            });
+      } else {
+        handleFailedJob(scheduledJob, failure);
+      }
+    } catch (Exception e) {
+      LOGGER.error("Could not record the failure of job {}.", scheduledJob.getJobId(), e);
+    }
+  }
+
+  private void handleFailedJob(ScheduledJob scheduledJob, Exception failure) {
+    TaskanaJob job = createJobForFailureHandling(scheduledJob);
+    if (job != null && !job.isRetryable()) {
+      job.onFinalFailure(failure);
+      jobService.deleteJob(scheduledJob);
+      return;
+    }
+    List<ScheduledJob> splitJobs =
+        ScheduledJob.Type.UPDATETASKSJOB.equals(scheduledJob.getType())
+            ? TaskRefreshJob.bisect(scheduledJob)
+            : Collections.emptyList();
+    if (splitJobs.isEmpty()) {
+      jobService.handleFailedJob(scheduledJob);
+      if (job != null && ScheduledJob.State.FAILED.equals(scheduledJob.getState())) {
+        job.onFinalFailure(failure);
+      }
+    } else {
+      LOGGER.info("Splitting failed job {} up into two pieces.", scheduledJob.getJobId());
+      splitJobs.forEach(jobService::createJob);
+      jobService.deleteJob(scheduledJob);
+    }
+  }
+
+  private TaskanaJob createJobForFailureHandling(ScheduledJob scheduledJob) {
+    try {
+      return AbstractTaskanaJob.createFromScheduledJob(taskanaEngine, txProvider, scheduledJob);
+    } catch (Exception e) {
+      LOGGER.warn("Could not create job {} to handle its failure.", scheduledJob.getJobId(), e);
+      return null;
     }
   }
 
@@ -129,7 +269,8 @@ public class JobRunner {
               }
             });
       } catch (PrivilegedActionException e) {
-        LOGGER.warn("Attempt to run job {} failed.", scheduledJob, e);
+        throw new SystemException(
+            String.format("Attempt to run job %s failed.", scheduledJob), e.getException());
       }
     }
     LOGGER.debug("exit from runScheduledJob");
@@ -11,4 +11,20 @@ public interface TaskanaJob {
    * @throws TaskanaException if an exception occured during the run.
    */
   void run() throws TaskanaException;
+
+  /**
+   * Returns whether a failed run of the job is retried by the JobRunner.
+   *
+   * @return false if the job handles its failure in {@link #onFinalFailure} at the first failed run
+   */
+  boolean isRetryable();
+
+  /**
+   * Is called by the JobRunner within a new transaction when a run of the job failed and the job is
+   * not run again, either because it is not retryable or because no retries are left. The
+   * transaction of the failed run has been rolled back at this point.
+   *
+   * @param failure the failure of the last run
+   */
+  void onFinalFailure(Exception failure);
 }
@@ -0,0 +1,49 @@
+package pro.taskana.common.internal.persistence;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+/** This Typehandler will transfer an array of ints into a comma separated String and back. */
+public class IntArrayTypeHandler extends BaseTypeHandler<int[]> {
+
+  private static final String SEPARATOR = ",";
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, int[] parameter, JdbcType jdbcType)
+      throws SQLException {
+    String cells =
+        Arrays.stream(parameter).mapToObj(String::valueOf).collect(Collectors.joining(SEPARATOR));
+    ps.setString(i, cells);
+  }
+
+  @Override
+  public int[] getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return convertToArray(rs.getString(columnName));
+  }
+
+  @Override
+  public int[] getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return convertToArray(rs.getString(columnIndex));
+  }
+
+  @Override
+  public int[] getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return convertToArray(cs.getString(columnIndex));
+  }
+
+  private int[] convertToArray(String fieldValue) {
+    if (fieldValue == null) {
+      return null;
+    }
+    if (fieldValue.isEmpty()) {
+      return new int[0];
+    }
+    return Arrays.stream(fieldValue.split(SEPARATOR)).mapToInt(Integer::parseInt).toArray();
+  }
+}
@@ -0,0 +1,46 @@
+package pro.taskana.common.internal.persistence;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.json.JSONArray;
+
+/** This Typehandler will transfer a List of Strings into a JSON array and back. */
+public class StringListTypeHandler extends BaseTypeHandler<List<String>> {
+
+  @Override
+  public void setNonNullParameter(
+      PreparedStatement ps, int i, List<String> parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setString(i, new JSONArray(parameter).toString());
+  }
+
+  @Override
+  public List<String> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return convertToList(rs.getString(columnName));
+  }
+
+  @Override
+  public List<String> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return convertToList(rs.getString(columnIndex));
+  }
+
+  @Override
+  public List<String> getNullableResult(CallableStatement cs, int columnIndex)
+      throws SQLException {
+    return convertToList(cs.getString(columnIndex));
+  }
+
+  private List<String> convertToList(String fieldValue) {
+    if (fieldValue == null) {
+      return null;
+    }
+    return new JSONArray(fieldValue)
+        .toList().stream().map(String::valueOf).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,150 @@
+package pro.taskana.common.internal.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache which holds at most the given number of entries and evicts the least recently
+ * used ones. Entries expire after the given time to live. Values which are loaded while the cache
+ * is cleared are not added afterwards, so that a concurrent load cannot bring back an outdated
+ * value. Null values are cached, too.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LruCache<K, V> {
+
+  private final Map<K, Entry<V>> entries;
+  private final long timeToLiveNanos;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private long generation;
+
+  public LruCache(int maxSize, Duration timeToLive) {
+    this.entries =
+        new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > maxSize;
+          }
+        };
+    this.timeToLiveNanos = timeToLive == null ? -1 : timeToLive.toNanos();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** Removes all entries. Entries which are loaded concurrently are not added afterwards. */
+  public synchronized void clear() {
+    entries.clear();
+    generation++;
+  }
+
+  /**
+   * Returns the cached value of the key. If there is none, the value is loaded and cached.
+   *
+   * @param key the key of the value
+   * @param loader loads the value if it is not cached
+   * @return the cached or loaded value
+   */
+  public V get(K key, Supplier<V> loader) {
+    Entry<V> entry = lookup(key);
+    if (entry != null) {
+      return entry.value;
+    }
+    long generationBeforeLoad = getGeneration();
+    V value = loader.get();
+    put(key, value, generationBeforeLoad);
+    return value;
+  }
+
+  /**
+   * Returns the values of the given keys. Only the values which are not cached are loaded, with
+   * one call of the loader. Keys for which the loader returns no value are not part of the result.
+   *
+   * @param keys the keys of the values
+   * @param loader loads the values of the given keys which are not cached
+   * @param keyOf returns the key of a loaded value
+   * @return the cached and loaded values
+   */
+  public List<V> getAll(
+      Collection<K> keys, Function<List<K>, List<? extends V>> loader, Function<V, K> keyOf) {
+    List<V> result = new ArrayList<>();
+    List<K> missingKeys = new ArrayList<>();
+    for (K key : keys) {
+      Entry<V> entry = lookup(key);
+      if (entry == null) {
+        missingKeys.add(key);
+      } else {
+        result.add(entry.value);
+      }
+    }
+    if (!missingKeys.isEmpty()) {
+      long generationBeforeLoad = getGeneration();
+      for (V value : loader.apply(missingKeys)) {
+        put(keyOf.apply(value), value, generationBeforeLoad);
+        result.add(value);
+      }
+    }
+    return result;
+  }
+
+  private Entry<V> lookup(K key) {
+    Entry<V> entry;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry != null && entry.isExpired()) {
+        entries.remove(key);
+        entry = null;
+      }
+    }
+    if (entry == null) {
+      missCount.incrementAndGet();
+    } else {
+      hitCount.incrementAndGet();
+    }
+    return entry;
+  }
+
+  private synchronized void put(K key, V value, long generationBeforeLoad) {
+    if (generation == generationBeforeLoad) {
+      long expiresAt = timeToLiveNanos < 0 ? Long.MAX_VALUE : System.nanoTime() + timeToLiveNanos;
+      entries.put(key, new Entry<>(value, expiresAt));
+    }
+  }
+
+  private synchronized long getGeneration() {
+    return generation;
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return expiresAt != Long.MAX_VALUE && System.nanoTime() - expiresAt >= 0;
+    }
+  }
+}
@@ -13,8 +13,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.LongStream;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import pro.taskana.common.api.CustomHoliday;
@@ -34,15 +35,11 @@ public final class WorkingDaysToDaysConverter {
   private static final long OFFSET_WHIT_MONDAY = 50; // Pfingstmontag
   private static final long OFFSET_CORPUS_CHRISTI = 60; // Fronleichnam
 
-  private static boolean germanHolidaysEnabled;
-  private static boolean corpusChristiEnabled; // Fronleichnam
-  private static Set<CustomHoliday> customHolidays = new HashSet<>();
+  private static volatile WorkingDayCalendar calendar =
+      new WorkingDayCalendar(false, false, Collections.emptySet());
   private Instant referenceDate;
-  private LocalDate easterSunday;
 
   private WorkingDaysToDaysConverter(Instant referenceDate) {
-    easterSunday =
-        getEasterSunday(LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).getYear());
     this.referenceDate = referenceDate;
   }
 
@@ -84,16 +81,34 @@ public final class WorkingDaysToDaysConverter {
     return new WorkingDaysToDaysConverter(referenceDate);
   }
 
-  public static void setGermanPublicHolidaysEnabled(boolean germanPublicHolidaysEnabled) {
-    germanHolidaysEnabled = germanPublicHolidaysEnabled;
+  public static synchronized void setGermanPublicHolidaysEnabled(
+      boolean germanPublicHolidaysEnabled) {
+    WorkingDayCalendar current = calendar;
+    if (current.germanHolidaysEnabled != germanPublicHolidaysEnabled) {
+      calendar =
+          new WorkingDayCalendar(
+              germanPublicHolidaysEnabled, current.corpusChristiEnabled, current.customHolidays);
+    }
   }
 
-  public static void setCorpusChristiEnabled(boolean corpusChristiEnabled) {
-    WorkingDaysToDaysConverter.corpusChristiEnabled = corpusChristiEnabled;
+  public static synchronized void setCorpusChristiEnabled(boolean corpusChristiEnabled) {
+    WorkingDayCalendar current = calendar;
+    if (current.corpusChristiEnabled != corpusChristiEnabled) {
+      calendar =
+          new WorkingDayCalendar(
+              current.germanHolidaysEnabled, corpusChristiEnabled, current.customHolidays);
+    }
   }
 
-  public static void setCustomHolidays(List<CustomHoliday> holidays) {
-    customHolidays = new HashSet<>(holidays == null ? Collections.emptyList() : holidays);
+  public static synchronized void setCustomHolidays(List<CustomHoliday> holidays) {
+    WorkingDayCalendar current = calendar;
+    Set<CustomHoliday> customHolidays =
+        new HashSet<>(holidays == null ? Collections.emptyList() : holidays);
+    if (!current.customHolidays.equals(customHolidays)) {
+      calendar =
+          new WorkingDayCalendar(
+              current.germanHolidaysEnabled, current.corpusChristiEnabled, customHolidays);
+    }
   }
 
   public long convertWorkingDaysToDays(Instant startTime, long numberOfDays) {
@@ -110,11 +125,13 @@ public final class WorkingDaysToDaysConverter {
     }
     int direction = calculateDirection(numberOfDays, zeroDirection);
     long limit = Math.abs(numberOfDays);
-    return LongStream.iterate(0, i -> i + direction)
-        .filter(day -> isWorkingDay(day, startTime))
-        .skip(limit)
-        .findFirst()
-        .orElse(0);
+    LocalDate startDate = LocalDateTime.ofInstant(startTime, ZoneId.systemDefault()).toLocalDate();
+    WorkingDayCalendar currentCalendar = calendar;
+    LocalDate workingDay =
+        direction > 0
+            ? currentCalendar.findWorkingDayAfter(startDate, limit)
+            : currentCalendar.findWorkingDayBefore(startDate, limit);
+    return DAYS.between(startDate, workingDay);
   }
 
   public Instant addWorkingDaysToInstant(Instant instant, Duration workingDays) {
@@ -130,53 +147,32 @@ public final class WorkingDaysToDaysConverter {
   /** counts working days between two dates, inclusive for both margins. */
   public boolean hasWorkingDaysInBetween(Instant left, Instant right) {
     long days = Duration.between(left, right).abs().toDays();
+    if (days < 2) {
+      return false;
+    }
     Instant firstInstant = left.isBefore(right) ? left : right;
-    return LongStream.range(1, days).anyMatch(day -> isWorkingDay(day, firstInstant));
+    LocalDate firstDate =
+        LocalDateTime.ofInstant(firstInstant, ZoneId.systemDefault()).toLocalDate();
+    LocalDate nextWorkingDay = calendar.findWorkingDayAfter(firstDate.plusDays(1), 0);
+    return DAYS.between(firstDate, nextWorkingDay) < days;
   }
 
   public boolean isWorkingDay(long day, Instant referenceDate) {
-    LocalDateTime dateToCheck =
-        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).plusDays(day);
-
-    return !isWeekend(dateToCheck) && !isHoliday(dateToCheck.toLocalDate());
+    LocalDate dateToCheck =
+        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).plusDays(day).toLocalDate();
+    return calendar.isWorkingDay(dateToCheck);
   }
 
   public boolean isWeekend(LocalDateTime dateToCheck) {
-    return dateToCheck.getDayOfWeek().equals(DayOfWeek.SATURDAY)
-        || dateToCheck.getDayOfWeek().equals(DayOfWeek.SUNDAY);
+    return isWeekend(dateToCheck.toLocalDate());
   }
 
   public boolean isHoliday(LocalDate date) {
-    if (germanHolidaysEnabled && isGermanHoliday(date)) {
-      return true;
-    }
-    // Custom holidays that can be configured in the TaskanaEngineConfiguration
-    return customHolidays.contains(CustomHoliday.of(date.getDayOfMonth(), date.getMonthValue()));
+    return calendar.isHoliday(date, getEasterSunday(date.getYear()));
   }
 
   public boolean isGermanHoliday(LocalDate date) {
-    // Fix and movable holidays that are valid throughout Germany: New years day, Labour Day, Day of
-    // German
-    // Unity, Christmas,
-    if (Stream.of(GermanFixHolidays.values()).anyMatch(day -> day.matches(date))) {
-      return true;
-    }
-
-    // Easter holidays Good Friday, Easter Monday, Ascension Day, Whit Monday.
-    long diffFromEasterSunday = DAYS.between(easterSunday, date);
-
-    List<Long> offSets =
-        new ArrayList<>(
-            Arrays.asList(
-                OFFSET_GOOD_FRIDAY,
-                OFFSET_EASTER_MONDAY,
-                OFFSET_ASCENSION_DAY,
-                OFFSET_WHIT_MONDAY));
-
-    if (corpusChristiEnabled) {
-      offSets.add(OFFSET_CORPUS_CHRISTI);
-    }
-    return offSets.contains(diffFromEasterSunday);
+    return calendar.isGermanHoliday(date, getEasterSunday(date.getYear()));
   }
 
   /**
@@ -217,24 +213,17 @@ public final class WorkingDaysToDaysConverter {
   }
 
   void refreshReferenceDate(Instant newReferenceDate) {
-    int yearOfReferenceDate =
-        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).getYear();
-    int yearOfNewReferenceDate =
-        LocalDateTime.ofInstant(newReferenceDate, ZoneId.systemDefault()).getYear();
-    if (yearOfReferenceDate != yearOfNewReferenceDate) {
-      easterSunday = getEasterSunday(yearOfNewReferenceDate);
-    }
     this.referenceDate = newReferenceDate;
   }
 
   @Override
   public String toString() {
-    return "WorkingDaysToDaysConverter{"
-        + "dateCreated="
-        + referenceDate
-        + ", easterSunday="
-        + easterSunday
-        + '}';
+    return "WorkingDaysToDaysConverter{" + "dateCreated=" + referenceDate + '}';
+  }
+
+  private static boolean isWeekend(LocalDate dateToCheck) {
+    return dateToCheck.getDayOfWeek().equals(DayOfWeek.SATURDAY)
+        || dateToCheck.getDayOfWeek().equals(DayOfWeek.SUNDAY);
   }
 
   private enum ZeroDirection {
@@ -272,4 +261,152 @@ public final class WorkingDaysToDaysConverter {
       return date.getDayOfMonth() == day && date.getMonthValue() == month;
     }
   }
+
+  /**
+   * Immutable calendar for one holiday configuration. For every year it precomputes the number of
+   * working days before each day of the year, so that the n-th working day before or after a date
+   * can be found with a binary search instead of checking every single day.
+   */
+  private static final class WorkingDayCalendar {
+
+    private final boolean germanHolidaysEnabled;
+    private final boolean corpusChristiEnabled;
+    private final Set<CustomHoliday> customHolidays;
+    private final Map<Integer, WorkingDaysOfYear> years = new ConcurrentHashMap<>();
+
+    private WorkingDayCalendar(
+        boolean germanHolidaysEnabled,
+        boolean corpusChristiEnabled,
+        Set<CustomHoliday> customHolidays) {
+      this.germanHolidaysEnabled = germanHolidaysEnabled;
+      this.corpusChristiEnabled = corpusChristiEnabled;
+      this.customHolidays = Collections.unmodifiableSet(new HashSet<>(customHolidays));
+    }
+
+    private boolean isWorkingDay(LocalDate date) {
+      return getYear(date.getYear()).isWorkingDay(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Returns the working day that is preceded by the given number of working days, counting from
+     * the start date inclusively.
+     */
+    private LocalDate findWorkingDayAfter(LocalDate startDate, long numberOfWorkingDays) {
+      int year = startDate.getYear();
+      WorkingDaysOfYear workingDays = getYear(year);
+      long target = workingDays.countBefore(startDate.getDayOfYear() - 1) + numberOfWorkingDays;
+      while (target >= workingDays.count()) {
+        target -= workingDays.count();
+        workingDays = getYear(++year);
+      }
+      return LocalDate.ofYearDay(year, workingDays.indexOfWorkingDay((int) target) + 1);
+    }
+
+    /**
+     * Returns the working day that is followed by the given number of working days, counting up to
+     * the start date inclusively.
+     */
+    private LocalDate findWorkingDayBefore(LocalDate startDate, long numberOfWorkingDays) {
+      int year = startDate.getYear();
+      WorkingDaysOfYear workingDays = getYear(year);
+      long target = workingDays.countBefore(startDate.getDayOfYear()) - 1 - numberOfWorkingDays;
+      while (target < 0) {
+        workingDays = getYear(--year);
+        target += workingDays.count();
+      }
+      return LocalDate.ofYearDay(year, workingDays.indexOfWorkingDay((int) target) + 1);
+    }
+
+    private boolean isHoliday(LocalDate date, LocalDate easterSunday) {
+      if (germanHolidaysEnabled && isGermanHoliday(date, easterSunday)) {
+        return true;
+      }
+      // Custom holidays that can be configured in the TaskanaEngineConfiguration
+      return customHolidays.contains(CustomHoliday.of(date.getDayOfMonth(), date.getMonthValue()));
+    }
+
+    private boolean isGermanHoliday(LocalDate date, LocalDate easterSunday) {
+      // Fix and movable holidays that are valid throughout Germany: New years day, Labour Day, Day
+      // of German Unity, Christmas,
+      if (Stream.of(GermanFixHolidays.values()).anyMatch(day -> day.matches(date))) {
+        return true;
+      }
+
+      // Easter holidays Good Friday, Easter Monday, Ascension Day, Whit Monday.
+      long diffFromEasterSunday = DAYS.between(easterSunday, date);
+
+      List<Long> offSets =
+          new ArrayList<>(
+              Arrays.asList(
+                  OFFSET_GOOD_FRIDAY,
+                  OFFSET_EASTER_MONDAY,
+                  OFFSET_ASCENSION_DAY,
+                  OFFSET_WHIT_MONDAY));
+
+      if (corpusChristiEnabled) {
+        offSets.add(OFFSET_CORPUS_CHRISTI);
+      }
+      return offSets.contains(diffFromEasterSunday);
+    }
+
+    private WorkingDaysOfYear getYear(int year) {
+      return years.computeIfAbsent(year, this::computeYear);
+    }
+
+    private WorkingDaysOfYear computeYear(int year) {
+      LocalDate easterSunday = getEasterSunday(year);
+      LocalDate firstDay = LocalDate.ofYearDay(year, 1);
+      int[] countBefore = new int[firstDay.lengthOfYear() + 1];
+      for (int i = 0; i < firstDay.lengthOfYear(); i++) {
+        LocalDate date = firstDay.plusDays(i);
+        boolean workingDay = !isWeekend(date) && !isHoliday(date, easterSunday);
+        countBefore[i + 1] = countBefore[i] + (workingDay ? 1 : 0);
+      }
+      if (countBefore[firstDay.lengthOfYear()] == 0) {
+        throw new SystemException(
+            String.format("Internal Error: the year %d does not contain any working day", year));
+      }
+      return new WorkingDaysOfYear(countBefore);
+    }
+  }
+
+  /**
+   * Prefix counts of the working days of one year. countBefore[i] is the number of working days
+   * before the i-th (zero based) day of the year.
+   */
+  private static final class WorkingDaysOfYear {
+
+    private final int[] countBefore;
+
+    private WorkingDaysOfYear(int[] countBefore) {
+      this.countBefore = countBefore;
+    }
+
+    private int count() {
+      return countBefore[countBefore.length - 1];
+    }
+
+    private int countBefore(int dayIndex) {
+      return countBefore[dayIndex];
+    }
+
+    private boolean isWorkingDay(int dayIndex) {
+      return countBefore[dayIndex + 1] > countBefore[dayIndex];
+    }
+
+    /** Returns the day index of the n-th (zero based) working day of the year. */
+    private int indexOfWorkingDay(int n) {
+      int low = 0;
+      int high = countBefore.length - 2;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (countBefore[mid + 1] > n) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+      return low;
+    }
+  }
 }
@@ -1,5 +1,10 @@
 package pro.taskana.monitor.api;
 
+import java.util.List;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.monitor.api.exceptions.StoredReportNotFoundException;
 import pro.taskana.monitor.api.reports.CategoryReport;
 import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.CustomFieldValueReport;
@@ -58,4 +63,46 @@ public interface MonitorService {
    * @return a {@link TimestampReport.Builder}
    */
   TimestampReport.Builder createTimestampReportBuilder();
+
+  /**
+   * Returns a report which has been scheduled with {@link
+   * CustomFieldValueReport.Builder#scheduleReport()} or {@link
+   * ClassificationReport.Builder#scheduleDetailedReport()}. It can be polled until its state is
+   * COMPLETED or FAILED.
+   *
+   * @param storedReportId the id of the stored report
+   * @return the stored report
+   * @throws StoredReportNotFoundException if the stored report does not exist
+   * @throws NotAuthorizedException if the user has no rights to access the monitor
+   */
+  StoredReport getStoredReport(String storedReportId)
+      throws StoredReportNotFoundException, NotAuthorizedException;
+
+  /**
+   * Returns the rows of a completed stored report which start at the given row index. Large
+   * reports can be read in chunks by requesting the rows after the last row of the previous chunk.
+   *
+   * @param storedReportId the id of the stored report
+   * @param fromRowIndex the index of the first row
+   * @param maxRows the maximum number of returned rows
+   * @return the rows of the stored report ordered by their index
+   * @throws StoredReportNotFoundException if the stored report does not exist
+   * @throws InvalidArgumentException if the stored report is not completed or maxRows is not
+   *     positive
+   * @throws NotAuthorizedException if the user has no rights to access the monitor
+   */
+  List<StoredReportRow> getStoredReportRows(String storedReportId, int fromRowIndex, int maxRows)
+      throws StoredReportNotFoundException, InvalidArgumentException, NotAuthorizedException;
+
+  /**
+   * Deletes a stored report and its rows. Reports which are still {@link
+   * StoredReport.State#PENDING} cannot be deleted.
+   *
+   * @param storedReportId the id of the stored report
+   * @throws StoredReportNotFoundException if the stored report does not exist
+   * @throws InvalidArgumentException if the stored report is still being computed
+   * @throws NotAuthorizedException if the user has no rights to access the monitor
+   */
+  void deleteStoredReport(String storedReportId)
+      throws StoredReportNotFoundException, InvalidArgumentException, NotAuthorizedException;
 }
@@ -0,0 +1,146 @@
+package pro.taskana.monitor.api;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A report which is computed in the background and stored in the database. Very large reports,
+ * e.g. CustomFieldValueReports of custom fields with many different values, can be scheduled with
+ * their builder and read row by row with {@link MonitorService#getStoredReportRows} once they are
+ * completed.
+ */
+public class StoredReport {
+
+  private String id;
+  private String name;
+  private State state;
+  private Instant created;
+  private String createdBy;
+  private Instant completed;
+  private List<String> columnHeaders;
+  private Integer rowCount;
+  private String errorMessage;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  /**
+   * Returns the name of the stored report, e.g. CustomFieldValueReport.
+   *
+   * @return the name of the report
+   */
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public void setState(State state) {
+    this.state = state;
+  }
+
+  public Instant getCreated() {
+    return created;
+  }
+
+  public void setCreated(Instant created) {
+    this.created = created;
+  }
+
+  public String getCreatedBy() {
+    return createdBy;
+  }
+
+  public void setCreatedBy(String createdBy) {
+    this.createdBy = createdBy;
+  }
+
+  /**
+   * Returns the point in time at which the computation of the report ended. It is the snapshot
+   * time of the report.
+   *
+   * @return the completion time or null if the report is still pending
+   */
+  public Instant getCompleted() {
+    return completed;
+  }
+
+  public void setCompleted(Instant completed) {
+    this.completed = completed;
+  }
+
+  /**
+   * Returns the display names of the column headers of the report.
+   *
+   * @return the display names of the column headers
+   */
+  public List<String> getColumnHeaders() {
+    return columnHeaders;
+  }
+
+  public void setColumnHeaders(List<String> columnHeaders) {
+    this.columnHeaders = columnHeaders;
+  }
+
+  /**
+   * Returns the number of stored rows including the sub rows and the sum row.
+   *
+   * @return the number of rows or null if the report is not completed
+   */
+  public Integer getRowCount() {
+    return rowCount;
+  }
+
+  public void setRowCount(Integer rowCount) {
+    this.rowCount = rowCount;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  @Override
+  public String toString() {
+    return "StoredReport [id="
+        + id
+        + ", name="
+        + name
+        + ", state="
+        + state
+        + ", created="
+        + created
+        + ", createdBy="
+        + createdBy
+        + ", completed="
+        + completed
+        + ", columnHeaders="
+        + columnHeaders
+        + ", rowCount="
+        + rowCount
+        + ", errorMessage="
+        + errorMessage
+        + "]";
+  }
+
+  /** This enum tracks the state of a stored report. */
+  public enum State {
+    PENDING,
+    COMPLETED,
+    FAILED
+  }
+}
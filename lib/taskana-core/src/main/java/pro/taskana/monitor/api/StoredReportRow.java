@@ -0,0 +1,73 @@
+package pro.taskana.monitor.api;
+
+import java.util.Arrays;
+
+/**
+ * A row of a {@link StoredReport}. The rows are stored in the order of the report. Every row is
+ * followed by its sub rows, e.g. the rows of the attachment classifications of a
+ * DetailedClassificationReport, which have the key of their parent row and a sub key. The last row
+ * is the sum row of the report.
+ */
+public class StoredReportRow {
+
+  private int rowIndex;
+  private String key;
+  private String subKey;
+  private int total;
+  private int[] cells;
+
+  public int getRowIndex() {
+    return rowIndex;
+  }
+
+  public void setRowIndex(int rowIndex) {
+    this.rowIndex = rowIndex;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public String getSubKey() {
+    return subKey;
+  }
+
+  public void setSubKey(String subKey) {
+    this.subKey = subKey;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public void setTotal(int total) {
+    this.total = total;
+  }
+
+  public int[] getCells() {
+    return cells;
+  }
+
+  public void setCells(int[] cells) {
+    this.cells = cells;
+  }
+
+  @Override
+  public String toString() {
+    return "StoredReportRow [rowIndex="
+        + rowIndex
+        + ", key="
+        + key
+        + ", subKey="
+        + subKey
+        + ", total="
+        + total
+        + ", cells="
+        + Arrays.toString(cells)
+        + "]";
+  }
+}
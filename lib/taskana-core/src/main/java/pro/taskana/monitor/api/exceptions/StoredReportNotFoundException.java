@@ -0,0 +1,13 @@
+package pro.taskana.monitor.api.exceptions;
+
+import pro.taskana.common.api.exceptions.NotFoundException;
+
+/** This exception will be thrown if a specific stored report is not in the database. */
+public class StoredReportNotFoundException extends NotFoundException {
+
+  private static final long serialVersionUID = 1L;
+
+  public StoredReportNotFoundException(String id, String msg) {
+    super(id, msg);
+  }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.monitor.api.StoredReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.DetailedMonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
@@ -40,6 +41,17 @@ public class ClassificationReport extends Report<MonitorQueryItem, TimeIntervalC
      */
     DetailedClassificationReport buildDetailedReport()
         throws InvalidArgumentException, NotAuthorizedException;
+
+    /**
+     * Schedules the computation of a {@link DetailedClassificationReport} in the background. The
+     * report is stored row by row, every row is followed by the rows of the classifications of the
+     * attachments of its tasks. See {@link CustomFieldValueReport.Builder#scheduleReport()}.
+     *
+     * @return the pending stored report
+     * @throws InvalidArgumentException if the column headers are not initialized
+     * @throws NotAuthorizedException if the user has no rights to access the monitor
+     */
+    StoredReport scheduleDetailedReport() throws InvalidArgumentException, NotAuthorizedException;
   }
 
   /**
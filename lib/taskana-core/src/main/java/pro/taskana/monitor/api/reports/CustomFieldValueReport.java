@@ -4,6 +4,8 @@ import java.util.List;
 
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.StoredReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 
@@ -27,5 +29,19 @@ public class CustomFieldValueReport extends Report<MonitorQueryItem, TimeInterva
 
     @Override
     CustomFieldValueReport buildReport() throws NotAuthorizedException, InvalidArgumentException;
+
+    /**
+     * Schedules the computation of the report in the background instead of computing it within
+     * the request. This is meant for custom fields with very many different values, whose report is
+     * too large to be computed and transferred at once. The job which computes the report reads
+     * the tasks with a cursor and stores the rows one after another. The report can be polled with
+     * {@link MonitorService#getStoredReport(String)} and its rows can be read in chunks with {@link
+     * MonitorService#getStoredReportRows(String, int, int)} once it is completed.
+     *
+     * @return the pending stored report
+     * @throws InvalidArgumentException if the column headers are not initialized
+     * @throws NotAuthorizedException if the user has no rights to access the monitor
+     */
+    StoredReport scheduleReport() throws NotAuthorizedException, InvalidArgumentException;
   }
 }
@@ -1,6 +1,9 @@
 package pro.taskana.monitor.api.reports;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +12,8 @@ import java.util.Set;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.monitor.api.reports.header.ColumnHeader;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.Row;
@@ -31,11 +36,16 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   private Map<String, Row<I>> reportRows = new LinkedHashMap<>();
   private Row<I> sumRow;
   private String[] rowDesc;
+  private final int[] upperAgeLimits;
+  private final Instant snapshotTime;
+  private boolean modifiable = true;
 
   protected Report(List<H> columnHeaders, String[] rowDesc) {
+    this.snapshotTime = Instant.now();
     this.rowDesc = rowDesc;
     sumRow = createRow(columnHeaders.size());
     this.columnHeaders = new ArrayList<>(columnHeaders);
+    this.upperAgeLimits = getUpperAgeLimitsOfSortedColumnHeaders(this.columnHeaders);
   }
 
   public final Map<String, Row<I>> getRows() {
@@ -54,6 +64,16 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
     return rowDesc;
   }
 
+  /**
+   * Returns the point in time at which the data of this report was read. Reports which are served
+   * from the report cache keep the time at which they were computed.
+   *
+   * @return the snapshot time of this report
+   */
+  public final Instant getSnapshotTime() {
+    return snapshotTime;
+  }
+
   public Row<I> getRow(String key) {
     return reportRows.get(key);
   }
@@ -67,11 +87,21 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   }
 
   public final void addItem(I item) {
+    if (!modifiable) {
+      throw new UnsupportedOperationException("The report is unmodifiable.");
+    }
     Row<I> row = null;
     if (columnHeaders.isEmpty()) {
       row = reportRows.computeIfAbsent(item.getKey(), (s) -> createRow(columnHeaders.size()));
       row.updateTotalValue(item);
       sumRow.updateTotalValue(item);
+    } else if (upperAgeLimits != null && item instanceof AgeQueryItem) {
+      int i = findColumnHeader(((AgeQueryItem) item).getAgeInDays());
+      if (i < columnHeaders.size() && columnHeaders.get(i).fits(item)) {
+        row = reportRows.computeIfAbsent(item.getKey(), (s) -> createRow(columnHeaders.size()));
+        row.addItem(item, i);
+        sumRow.addItem(item, i);
+      }
     } else {
       for (int i = 0; i < columnHeaders.size(); i++) {
         if (columnHeaders.get(i).fits(item)) {
@@ -97,10 +127,65 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
     items.forEach(this::addItem);
   }
 
+  /**
+   * Makes this report and all of its rows unmodifiable. Afterwards no items can be added to it
+   * anymore and its rows and column headers can not be changed. The report cache shares its reports
+   * between all callers, therefore it makes them unmodifiable.
+   */
+  public final void makeUnmodifiable() {
+    modifiable = false;
+    for (Row<I> row : reportRows.values()) {
+      makeRowUnmodifiable(row);
+    }
+    makeRowUnmodifiable(sumRow);
+    reportRows = Collections.unmodifiableMap(reportRows);
+    columnHeaders = Collections.unmodifiableList(columnHeaders);
+  }
+
+  public final boolean isModifiable() {
+    return modifiable;
+  }
+
   protected Row<I> createRow(int columnSize) {
     return new SingleRow<>(columnSize);
   }
 
+  /**
+   * Returns the upper age limits of the column headers if they are {@link
+   * TimeIntervalColumnHeader}s which are sorted and do not overlap. The column header of an item
+   * can then be found by a binary search instead of checking every column header.
+   *
+   * @param columnHeaders the column headers of the report
+   * @return the upper age limits of the column headers or null if they can not be searched
+   */
+  private static int[] getUpperAgeLimitsOfSortedColumnHeaders(List<?> columnHeaders) {
+    List<TimeIntervalColumnHeader> timeIntervalColumnHeaders = new ArrayList<>();
+    for (Object columnHeader : columnHeaders) {
+      if (!(columnHeader instanceof TimeIntervalColumnHeader)) {
+        return null;
+      }
+      timeIntervalColumnHeaders.add((TimeIntervalColumnHeader) columnHeader);
+    }
+    if (!TimeIntervalColumnHeader.isSortedAndDisjoint(timeIntervalColumnHeaders)) {
+      return null;
+    }
+    return timeIntervalColumnHeaders.stream()
+        .mapToInt(TimeIntervalColumnHeader::getUpperAgeLimit)
+        .toArray();
+  }
+
+  private static void makeRowUnmodifiable(Row<?> row) {
+    if (row instanceof SingleRow) {
+      ((SingleRow<?>) row).makeUnmodifiable();
+    }
+  }
+
+  private int findColumnHeader(int ageInDays) {
+    int i = Arrays.binarySearch(upperAgeLimits, ageInDays);
+    // the first column header whose upper age limit is not lower than the age
+    return i >= 0 ? i : -i - 1;
+  }
+
   /**
    * Builder for {@link Report}.
    *
@@ -45,6 +45,28 @@ public class TimeIntervalColumnHeader implements ColumnHeader<AgeQueryItem> {
         .orElse(0);
   }
 
+  /**
+   * Checks whether the column headers are sorted by their age limits and do not overlap. Every age
+   * then fits into at most one column header, which can be found by a binary search.
+   *
+   * @param columnHeaders the column headers to check
+   * @return true if the column headers are sorted and do not overlap
+   */
+  public static boolean isSortedAndDisjoint(
+      List<? extends TimeIntervalColumnHeader> columnHeaders) {
+    for (int i = 0; i < columnHeaders.size(); i++) {
+      TimeIntervalColumnHeader columnHeader = columnHeaders.get(i);
+      if (columnHeader.getLowerAgeLimit() > columnHeader.getUpperAgeLimit()) {
+        return false;
+      }
+      if (i > 0
+          && columnHeader.getLowerAgeLimit() <= columnHeaders.get(i - 1).getUpperAgeLimit()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public int getLowerAgeLimit() {
     return lowerAgeLimit;
   }
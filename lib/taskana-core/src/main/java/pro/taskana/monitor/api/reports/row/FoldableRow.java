@@ -1,5 +1,6 @@
 package pro.taskana.monitor.api.reports.row;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -56,6 +57,17 @@ public abstract class FoldableRow<I extends QueryItem> extends SingleRow<I> {
     return foldableRows.get(key);
   }
 
+  @Override
+  public void makeUnmodifiable() {
+    super.makeUnmodifiable();
+    for (Row<I> foldableRow : foldableRows.values()) {
+      if (foldableRow instanceof SingleRow) {
+        ((SingleRow<I>) foldableRow).makeUnmodifiable();
+      }
+    }
+    foldableRows = Collections.unmodifiableMap(foldableRows);
+  }
+
   abstract Row<I> buildRow(int columnSize);
 
   @Override
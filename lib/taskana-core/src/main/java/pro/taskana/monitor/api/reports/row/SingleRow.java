@@ -14,6 +14,7 @@ public class SingleRow<I extends QueryItem> implements Row<I> {
 
   private final int[] cells;
   private int total = 0;
+  private boolean modifiable = true;
 
   public SingleRow(int columnCount) {
     cells = new int[columnCount];
@@ -21,12 +22,14 @@ public class SingleRow<I extends QueryItem> implements Row<I> {
 
   @Override
   public void addItem(I item, int index) throws IndexOutOfBoundsException {
+    checkModifiable();
     total += item.getValue();
     cells[index] += item.getValue();
   }
 
   @Override
   public void updateTotalValue(I item) {
+    checkModifiable();
     total += item.getValue();
   }
 
@@ -39,4 +42,18 @@ public class SingleRow<I extends QueryItem> implements Row<I> {
   public final int[] getCells() {
     return cells.clone();
   }
+
+  /**
+   * Makes this row unmodifiable. Afterwards no items can be added to it anymore. Rows of reports
+   * which are shared by the report cache are unmodifiable.
+   */
+  public void makeUnmodifiable() {
+    modifiable = false;
+  }
+
+  private void checkModifiable() {
+    if (!modifiable) {
+      throw new UnsupportedOperationException("The row is unmodifiable.");
+    }
+  }
 }
@@ -0,0 +1,63 @@
+package pro.taskana.monitor.internal;
+
+import java.util.Objects;
+
+/**
+ * An AgeBucket is the range of ages in days which the database counts into one column of a report.
+ * The tasks of the range are reported with the representative age of the column, so that the
+ * database returns at most one row per key and column instead of one row per key and day.
+ */
+public class AgeBucket {
+
+  private final int lowerAgeLimit;
+  private final int upperAgeLimit;
+  private final int ageInDays;
+
+  public AgeBucket(int lowerAgeLimit, int upperAgeLimit, int ageInDays) {
+    this.lowerAgeLimit = lowerAgeLimit;
+    this.upperAgeLimit = upperAgeLimit;
+    this.ageInDays = ageInDays;
+  }
+
+  public int getLowerAgeLimit() {
+    return lowerAgeLimit;
+  }
+
+  public int getUpperAgeLimit() {
+    return upperAgeLimit;
+  }
+
+  public int getAgeInDays() {
+    return ageInDays;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lowerAgeLimit, upperAgeLimit, ageInDays);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof AgeBucket)) {
+      return false;
+    }
+    AgeBucket other = (AgeBucket) obj;
+    return lowerAgeLimit == other.lowerAgeLimit
+        && upperAgeLimit == other.upperAgeLimit
+        && ageInDays == other.ageInDays;
+  }
+
+  @Override
+  public String toString() {
+    return "AgeBucket [lowerAgeLimit="
+        + lowerAgeLimit
+        + ", upperAgeLimit="
+        + upperAgeLimit
+        + ", ageInDays="
+        + ageInDays
+        + "]";
+  }
+}
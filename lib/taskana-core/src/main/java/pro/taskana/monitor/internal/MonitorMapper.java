@@ -2,10 +2,12 @@ package pro.taskana.monitor.internal;
 
 import java.util.List;
 import java.util.Map;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
 
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
@@ -21,9 +23,118 @@ import pro.taskana.task.api.Timestamp;
 @SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
 public interface MonitorMapper {
 
+  /**
+   * Counts the tasks into the age buckets, if they are given, instead of the days until they are
+   * due. It has to be used as AGE_IN_DAYS and in the GROUP BY clause together with {@link
+   * #AGE_BUCKET_FILTER}.
+   */
+  String AGE_BUCKET =
+      "<choose>"
+          + "<when test='ageBuckets != null'>"
+          + "CASE <foreach collection='ageBuckets' item='bucket'>WHEN B.AGE_IN_DAYS BETWEEN ${bucket.lowerAgeLimit} AND ${bucket.upperAgeLimit} THEN ${bucket.ageInDays} </foreach>END"
+          + "</when>"
+          + "<otherwise>B.AGE_IN_DAYS</otherwise>"
+          + "</choose>";
+
+  /** Excludes the tasks which do not fit into any of the age buckets, if they are given. */
+  String AGE_BUCKET_FILTER =
+      "<if test='ageBuckets != null'>"
+          + "WHERE <foreach collection='ageBuckets' item='bucket' separator=' OR '>B.AGE_IN_DAYS BETWEEN ${bucket.lowerAgeLimit} AND ${bucket.upperAgeLimit}</foreach> "
+          + "</if>";
+
+  /** The timestamp of the task T which belongs to the status S of the TimestampReport. */
+  String TIMESTAMP_OF_STATUS =
+      "CASE S.STATUS <foreach collection='statuses' item='status'>WHEN '${status}' THEN T.${status} </foreach>END";
+
+  /**
+   * Counts the tasks per task classification key, attachment classification key and age. The
+   * statement has to be completed with an optional ORDER BY clause and the end of the script.
+   */
+  String TASK_COUNT_OF_DETAILED_CLASSIFICATIONS =
+      "<script>"
+          + "SELECT B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "<if test=\"_databaseId == 'db2'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, (DAYS(DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'h2'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, DATE_PART('DAY', DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
+          + "FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID "
+          + "<where>"
+          + "<if test=\"workbasketIds != null\">"
+          + "T.WORKBASKET_ID IN (<foreach collection='workbasketIds' item='workbasketId' separator=','>#{workbasketId}</foreach>) "
+          + "</if>"
+          + "<if test=\"states != null\">"
+          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
+          + "</if>"
+          + "<if test=\"categories != null\">"
+          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
+          + "</if>"
+          + "<if test=\"domains != null\">"
+          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
+          + "</if>"
+          + "<if test='classificationIds != null'>"
+          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
+          + "</if>"
+          + "<if test='excludedClassificationIds != null'>"
+          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
+          + "</if>"
+          + "<if test='customAttributeFilter != null'>"
+          + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(${key} = '${customAttributeFilter.get(key)}')</foreach>) "
+          + "</if>"
+          + "AND DUE IS NOT NULL "
+          + "</where>"
+          + ") AS B "
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, "
+          + AGE_BUCKET;
+
+  /**
+   * Counts the tasks per value of a custom field and age. The statement has to be completed with
+   * an optional ORDER BY clause and the end of the script.
+   */
+  String TASK_COUNT_OF_CUSTOM_FIELD_VALUES =
+      "<script>"
+          + "SELECT B.CUSTOM_FIELD, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "<if test=\"_databaseId == 'db2'\">SELECT ${customField} as CUSTOM_FIELD, (DAYS(DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'h2'\">SELECT ${customField} as CUSTOM_FIELD, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT ${customField} as CUSTOM_FIELD, DATE_PART('DAY', DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
+          + "FROM TASK "
+          + "<where>"
+          + "<if test=\"workbasketIds != null\">"
+          + "WORKBASKET_ID IN (<foreach collection='workbasketIds' item='workbasketId' separator=','>#{workbasketId}</foreach>) "
+          + "</if>"
+          + "<if test=\"states != null\">"
+          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
+          + "</if>"
+          + "<if test=\"categories != null\">"
+          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
+          + "</if>"
+          + "<if test=\"domains != null\">"
+          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
+          + "</if>"
+          + "<if test='classificationIds != null'>"
+          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
+          + "</if>"
+          + "<if test='excludedClassificationIds != null'>"
+          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
+          + "</if>"
+          + "<if test='customAttributeFilter != null'>"
+          + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(${key} = '${customAttributeFilter.get(key)}')</foreach>) "
+          + "</if>"
+          + "AND DUE IS NOT NULL "
+          + "</where>"
+          + ") AS B "
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.CUSTOM_FIELD, "
+          + AGE_BUCKET;
+
   @Select(
       "<script>"
-          + "SELECT B.WORKBASKET_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.WORKBASKET_KEY, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT T.WORKBASKET_KEY, (DAYS(T.DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT T.WORKBASKET_KEY, DATEDIFF('DAY', CURRENT_TIMESTAMP, T.DUE) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'postgres'\">SELECT T.WORKBASKET_KEY, DATE_PART('DAY', T.DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
@@ -61,7 +172,9 @@ public interface MonitorMapper {
           + "AND T.DUE IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.WORKBASKET_KEY, B.AGE_IN_DAYS"
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.WORKBASKET_KEY, "
+          + AGE_BUCKET
           + "</script>")
   @Result(column = "WORKBASKET_KEY", property = "key")
   @Result(column = "AGE_IN_DAYS", property = "ageInDays")
@@ -75,11 +188,14 @@ public interface MonitorMapper {
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
       @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
       @Param("combinedClassificationFilter")
-          List<CombinedClassificationFilter> combinedClassificationFilter);
+          List<CombinedClassificationFilter> combinedClassificationFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.WORKBASKET_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.WORKBASKET_KEY, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT T.WORKBASKET_KEY, (DAYS(T.PLANNED) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT T.WORKBASKET_KEY, DATEDIFF('DAY', CURRENT_TIMESTAMP, T.PLANNED) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'postgres'\">SELECT T.WORKBASKET_KEY, DATE_PART('DAY', T.PLANNED - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
@@ -117,7 +233,9 @@ public interface MonitorMapper {
           + "AND T.PLANNED IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.WORKBASKET_KEY, B.AGE_IN_DAYS"
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.WORKBASKET_KEY, "
+          + AGE_BUCKET
           + "</script>")
   @Results({
     @Result(column = "WORKBASKET_KEY", property = "key"),
@@ -133,11 +251,14 @@ public interface MonitorMapper {
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
       @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
       @Param("combinedClassificationFilter")
-          List<CombinedClassificationFilter> combinedClassificationFilter);
+          List<CombinedClassificationFilter> combinedClassificationFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.CLASSIFICATION_CATEGORY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.CLASSIFICATION_CATEGORY, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT CLASSIFICATION_CATEGORY, (DAYS(DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT CLASSIFICATION_CATEGORY, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'postgres'\">SELECT CLASSIFICATION_CATEGORY, DATE_PART('DAY', DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
@@ -167,7 +288,9 @@ public interface MonitorMapper {
           + "AND DUE IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.CLASSIFICATION_CATEGORY, B.AGE_IN_DAYS "
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.CLASSIFICATION_CATEGORY, "
+          + AGE_BUCKET
           + "</script>")
   @Results({
     @Result(column = "CLASSIFICATION_CATEGORY", property = "key"),
@@ -181,11 +304,14 @@ public interface MonitorMapper {
       @Param("domains") List<String> domains,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.CLASSIFICATION_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.CLASSIFICATION_KEY, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT CLASSIFICATION_KEY, (DAYS(DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT CLASSIFICATION_KEY, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'postgres'\">SELECT CLASSIFICATION_KEY, DATE_PART('DAY', DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
@@ -215,7 +341,9 @@ public interface MonitorMapper {
           + "AND DUE IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.CLASSIFICATION_KEY, B.AGE_IN_DAYS "
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.CLASSIFICATION_KEY, "
+          + AGE_BUCKET
           + "</script>")
   @Results({
     @Result(column = "CLASSIFICATION_KEY", property = "key"),
@@ -229,42 +357,10 @@ public interface MonitorMapper {
       @Param("domains") List<String> domains,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
-  @Select(
-      "<script>"
-          + "SELECT B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
-          + "<if test=\"_databaseId == 'db2'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, (DAYS(DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'h2'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, DATE_PART('DAY', DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
-          + "FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID "
-          + "<where>"
-          + "<if test=\"workbasketIds != null\">"
-          + "T.WORKBASKET_ID IN (<foreach collection='workbasketIds' item='workbasketId' separator=','>#{workbasketId}</foreach>) "
-          + "</if>"
-          + "<if test=\"states != null\">"
-          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
-          + "</if>"
-          + "<if test=\"categories != null\">"
-          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
-          + "</if>"
-          + "<if test=\"domains != null\">"
-          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
-          + "</if>"
-          + "<if test='classificationIds != null'>"
-          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
-          + "</if>"
-          + "<if test='excludedClassificationIds != null'>"
-          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
-          + "</if>"
-          + "<if test='customAttributeFilter != null'>"
-          + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(${key} = '${customAttributeFilter.get(key)}')</foreach>) "
-          + "</if>"
-          + "AND DUE IS NOT NULL "
-          + "</where>"
-          + ") AS B "
-          + "GROUP BY B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, B.AGE_IN_DAYS "
-          + "</script>")
+  @Select(TASK_COUNT_OF_DETAILED_CLASSIFICATIONS + "</script>")
   @Results({
     @Result(column = "TASK_CLASSIFICATION_KEY", property = "key"),
     @Result(column = "ATTACHMENT_CLASSIFICATION_KEY", property = "attachmentKey"),
@@ -278,42 +374,34 @@ public interface MonitorMapper {
       @Param("domains") List<String> domains,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
+  /**
+   * Streams the same items as {@link #getTaskCountOfDetailedClassifications}, ordered by the task
+   * classification key, so that the items of one row of the report are read one after another.
+   */
   @Select(
-      "<script>"
-          + "SELECT B.CUSTOM_FIELD, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
-          + "<if test=\"_databaseId == 'db2'\">SELECT ${customField} as CUSTOM_FIELD, (DAYS(DUE) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'h2'\">SELECT ${customField} as CUSTOM_FIELD, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT ${customField} as CUSTOM_FIELD, DATE_PART('DAY', DUE - CURRENT_TIMESTAMP) as AGE_IN_DAYS </if> "
-          + "FROM TASK "
-          + "<where>"
-          + "<if test=\"workbasketIds != null\">"
-          + "WORKBASKET_ID IN (<foreach collection='workbasketIds' item='workbasketId' separator=','>#{workbasketId}</foreach>) "
-          + "</if>"
-          + "<if test=\"states != null\">"
-          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
-          + "</if>"
-          + "<if test=\"categories != null\">"
-          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
-          + "</if>"
-          + "<if test=\"domains != null\">"
-          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
-          + "</if>"
-          + "<if test='classificationIds != null'>"
-          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
-          + "</if>"
-          + "<if test='excludedClassificationIds != null'>"
-          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
-          + "</if>"
-          + "<if test='customAttributeFilter != null'>"
-          + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(${key} = '${customAttributeFilter.get(key)}')</foreach>) "
-          + "</if>"
-          + "AND DUE IS NOT NULL "
-          + "</where>"
-          + ") AS B "
-          + "GROUP BY B.CUSTOM_FIELD, B.AGE_IN_DAYS "
-          + "</script>")
+      TASK_COUNT_OF_DETAILED_CLASSIFICATIONS
+          + " ORDER BY B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY</script>")
+  @Options(fetchSize = 1000)
+  @Results({
+    @Result(column = "TASK_CLASSIFICATION_KEY", property = "key"),
+    @Result(column = "ATTACHMENT_CLASSIFICATION_KEY", property = "attachmentKey"),
+    @Result(column = "AGE_IN_DAYS", property = "ageInDays"),
+    @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  })
+  Cursor<DetailedMonitorQueryItem> streamTaskCountOfDetailedClassifications(
+      @Param("workbasketIds") List<String> workbasketIds,
+      @Param("states") List<TaskState> states,
+      @Param("categories") List<String> categories,
+      @Param("domains") List<String> domains,
+      @Param("classificationIds") List<String> classificationIds,
+      @Param("excludedClassificationIds") List<String> excludedClassificationIds,
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
+
+  @Select(TASK_COUNT_OF_CUSTOM_FIELD_VALUES + "</script>")
   @Results({
     @Result(column = "CUSTOM_FIELD", property = "key"),
     @Result(column = "AGE_IN_DAYS", property = "ageInDays"),
@@ -327,7 +415,30 @@ public interface MonitorMapper {
       @Param("domains") List<String> domains,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
+
+  /**
+   * Streams the same items as {@link #getTaskCountOfCustomFieldValues}, ordered by the value of the
+   * custom field, so that the items of one row of the report are read one after another.
+   */
+  @Select(TASK_COUNT_OF_CUSTOM_FIELD_VALUES + " ORDER BY B.CUSTOM_FIELD</script>")
+  @Options(fetchSize = 1000)
+  @Results({
+    @Result(column = "CUSTOM_FIELD", property = "key"),
+    @Result(column = "AGE_IN_DAYS", property = "ageInDays"),
+    @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  })
+  Cursor<MonitorQueryItem> streamTaskCountOfCustomFieldValues(
+      @Param("customField") CustomField customField,
+      @Param("workbasketIds") List<String> workbasketIds,
+      @Param("states") List<TaskState> states,
+      @Param("categories") List<String> categories,
+      @Param("domains") List<String> domains,
+      @Param("classificationIds") List<String> classificationIds,
+      @Param("excludedClassificationIds") List<String> excludedClassificationIds,
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
@@ -453,42 +564,46 @@ public interface MonitorMapper {
 
   @Select(
       "<script>"
-          + "SELECT A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4, "
-          + "'${status}' AS STATUS, COUNT(A.AGE_IN_DAYS) AS COUNT FROM ("
-          // This subquery prevents the repetition of the AGE_IN_DAYS column calculation
-          // (like everywhere else in the Mappers...)in the group by clause.
-          // DB2 is not able to reuse computed columns in the group by statement. Even if this adds
-          // a little
-          // overhead / complexity. It's worth the trade-off of not computing the AGE_IN_DAYS column
-          // twice.
-          + "SELECT W.ORG_LEVEL_1, W.ORG_LEVEL_2, W.ORG_LEVEL_3, W.ORG_LEVEL_4, "
-          + "<if test=\"_databaseId == 'db2'\">(DAYS(T.${status}) - DAYS(CURRENT_TIMESTAMP))</if>"
-          + "<if test=\"_databaseId == 'h2'\">DATEDIFF('DAY', CURRENT_TIMESTAMP, T.${status})</if>"
-          + "<if test=\"_databaseId == 'postgres'\">DATE_PART('DAY', T.${status} - CURRENT_TIMESTAMP)</if>"
+          + "SELECT B.STATUS, "
+          + AGE_BUCKET
+          + " AS AGE_IN_DAYS, B.ORG_LEVEL_1, B.ORG_LEVEL_2, B.ORG_LEVEL_3, B.ORG_LEVEL_4, "
+          + "COUNT(B.AGE_IN_DAYS) AS COUNT FROM ("
+          // Every task is combined with every status, so that the timestamps of all statuses are
+          // counted within one scan of the TASK table.
+          + "SELECT S.STATUS, W.ORG_LEVEL_1, W.ORG_LEVEL_2, W.ORG_LEVEL_3, W.ORG_LEVEL_4, "
+          + "<if test=\"_databaseId == 'db2'\">(DAYS(" + TIMESTAMP_OF_STATUS + ") - DAYS(CURRENT_TIMESTAMP))</if>"
+          + "<if test=\"_databaseId == 'h2'\">DATEDIFF('DAY', CURRENT_TIMESTAMP, " + TIMESTAMP_OF_STATUS + ")</if>"
+          + "<if test=\"_databaseId == 'postgres'\">DATE_PART('DAY', " + TIMESTAMP_OF_STATUS + " - CURRENT_TIMESTAMP)</if>"
           + " as AGE_IN_DAYS "
-          + "FROM TASK AS T INNER JOIN WORKBASKET AS W ON T.WORKBASKET_KEY=W.KEY "
+          + "FROM TASK AS T INNER JOIN WORKBASKET AS W ON T.WORKBASKET_ID = W.ID "
+          + "CROSS JOIN ("
+          + "<foreach collection='statuses' item='status' separator=' UNION ALL '>"
+          + "SELECT CAST('${status}' AS VARCHAR(32)) AS STATUS<if test=\"_databaseId == 'db2'\"> FROM SYSIBM.SYSDUMMY1</if>"
+          + "</foreach>"
+          + ") AS S "
           + "<where>"
-          + "<if test=\"status.name() == 'COMPLETED'\">"
-          + "T.COMPLETED IS NOT NULL"
-          + "</if>"
           + "<if test='categories != null'>"
-          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
+          + "AND T.CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
           + "</if>"
           + "<if test='classificationIds != null'>"
-          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
+          + "AND T.CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
           + "</if>"
           + "<if test='excludedClassificationIds != null'>"
-          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
+          + "AND T.CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
           + "</if>"
           + "<if test='domains != null'>"
-          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
+          + "AND T.DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
           + "</if>"
           + "<if test='customAttributeFilter != null'>"
-          + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(${key} = '${customAttributeFilter.get(key)}')</foreach>) "
+          + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(T.${key} = '${customAttributeFilter.get(key)}')</foreach>) "
           + "</if>"
           + "</where>"
-          + ") AS A "
-          + "GROUP BY A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4 "
+          + ") AS B "
+          + AGE_BUCKET_FILTER
+          + "GROUP BY B.STATUS, B.ORG_LEVEL_1, B.ORG_LEVEL_2, B.ORG_LEVEL_3, B.ORG_LEVEL_4, "
+          + AGE_BUCKET
+          // tasks without the timestamp of a status are not counted
+          + " HAVING COUNT(B.AGE_IN_DAYS) > 0"
           + "</script>")
   @Results({
     @Result(column = "STATUS", property = "status"),
@@ -499,11 +614,12 @@ public interface MonitorMapper {
     @Result(column = "ORG_LEVEL_3", property = "orgLevel3"),
     @Result(column = "ORG_LEVEL_4", property = "orgLevel4")
   })
-  List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(
-      @Param("status") Timestamp status,
+  List<TimestampQueryItem> getTasksCountForStatusesGroupedByOrgLevel(
+      @Param("statuses") List<Timestamp> statuses,
       @Param("categories") List<String> categories,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
       @Param("domains") List<String> domains,
-      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<CustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 }
@@ -1,7 +1,18 @@
 package pro.taskana.monitor.internal;
 
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.StoredReport;
+import pro.taskana.monitor.api.StoredReportRow;
+import pro.taskana.monitor.api.exceptions.StoredReportNotFoundException;
 import pro.taskana.monitor.api.reports.CategoryReport;
 import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.CustomFieldValueReport;
@@ -19,43 +30,169 @@ import pro.taskana.task.api.CustomField;
 /** This is the implementation of MonitorService. */
 public class MonitorServiceImpl implements MonitorService {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(MonitorServiceImpl.class);
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 4000;
+
   private InternalTaskanaEngine taskanaEngine;
   private MonitorMapper monitorMapper;
+  private ReportCache reportCache;
+  private StoredReportMapper storedReportMapper;
 
-  public MonitorServiceImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  public MonitorServiceImpl(
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportCache reportCache,
+      StoredReportMapper storedReportMapper) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
+    this.storedReportMapper = storedReportMapper;
   }
 
   @Override
   public WorkbasketReport.Builder createWorkbasketReportBuilder() {
-    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public CategoryReport.Builder createCategoryReportBuilder() {
-    return new CategoryReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new CategoryReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public ClassificationReport.Builder createClassificationReportBuilder() {
-    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationReportBuilderImpl(
+        taskanaEngine, monitorMapper, reportCache, storedReportMapper);
   }
 
   @Override
   public CustomFieldValueReport.Builder createCustomFieldValueReportBuilder(
       CustomField customField) {
-    return new CustomFieldValueReportBuilderImpl(taskanaEngine, monitorMapper, customField);
+    return new CustomFieldValueReportBuilderImpl(
+        taskanaEngine, monitorMapper, reportCache, storedReportMapper, customField);
   }
 
   @Override
   public TaskStatusReport.Builder createTaskStatusReportBuilder() {
-    return new TaskStatusReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TaskStatusReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public TimestampReport.Builder createTimestampReportBuilder() {
-    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
+  }
+
+  @Override
+  public StoredReport getStoredReport(String storedReportId)
+      throws StoredReportNotFoundException, NotAuthorizedException {
+    LOGGER.debug("entry to getStoredReport(storedReportId = {})", storedReportId);
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    StoredReport storedReport = null;
+    try {
+      taskanaEngine.openConnection();
+      storedReport = findStoredReport(storedReportId);
+      return storedReport;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from getStoredReport(), returning {}", storedReport);
+    }
+  }
+
+  @Override
+  public List<StoredReportRow> getStoredReportRows(
+      String storedReportId, int fromRowIndex, int maxRows)
+      throws StoredReportNotFoundException, InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug(
+        "entry to getStoredReportRows(storedReportId = {}, fromRowIndex = {}, maxRows = {})",
+        storedReportId,
+        fromRowIndex,
+        maxRows);
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    if (maxRows <= 0) {
+      throw new InvalidArgumentException("maxRows must be positive.");
+    }
+    List<StoredReportRow> rows = null;
+    try {
+      taskanaEngine.openConnection();
+      StoredReport storedReport = findStoredReport(storedReportId);
+      if (storedReport.getState() != StoredReport.State.COMPLETED) {
+        throw new InvalidArgumentException(
+            String.format(
+                "Stored report %s is %s and has no rows.",
+                storedReportId, storedReport.getState()));
+      }
+      rows = storedReportMapper.findRows(storedReportId, Math.max(0, fromRowIndex), maxRows);
+      return rows;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from getStoredReportRows(), returning {} rows", rows == null ? 0 : rows.size());
+    }
+  }
+
+  @Override
+  public void deleteStoredReport(String storedReportId)
+      throws StoredReportNotFoundException, InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug("entry to deleteStoredReport(storedReportId = {})", storedReportId);
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    try {
+      taskanaEngine.openConnection();
+      StoredReport storedReport = findStoredReport(storedReportId);
+      if (storedReport.getState() == StoredReport.State.PENDING) {
+        // the ReportComputationJob would insert rows for the deleted report
+        throw new InvalidArgumentException(
+            String.format(
+                "Stored report %s is still being computed and cannot be deleted.",
+                storedReportId));
+      }
+      // the statement deletes only reports which are not PENDING
+      if (storedReportMapper.delete(storedReportId) == 0) {
+        throw new StoredReportNotFoundException(
+            storedReportId, String.format("Stored report %s was not found.", storedReportId));
+      }
+      storedReportMapper.deleteRows(storedReportId);
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from deleteStoredReport()");
+    }
+  }
+
+  /**
+   * Marks a stored report whose computation has failed as FAILED and deletes the rows which have
+   * been stored so far. This method is called by the ReportComputationJob and does not check any
+   * permissions.
+   *
+   * @param storedReportId the id of the stored report
+   * @param errorMessage the reason of the failure
+   */
+  public void markStoredReportAsFailed(String storedReportId, String errorMessage) {
+    LOGGER.debug(
+        "entry to markStoredReportAsFailed(storedReportId = {}, errorMessage = {})",
+        storedReportId,
+        errorMessage);
+    try {
+      taskanaEngine.openConnection();
+      storedReportMapper.deleteRows(storedReportId);
+      storedReportMapper.setFailed(
+          storedReportId,
+          Instant.now(),
+          errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+              ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+              : errorMessage);
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from markStoredReportAsFailed()");
+    }
+  }
+
+  private StoredReport findStoredReport(String storedReportId)
+      throws StoredReportNotFoundException {
+    StoredReport storedReport = storedReportMapper.findById(storedReportId);
+    if (storedReport == null) {
+      throw new StoredReportNotFoundException(
+          storedReportId, String.format("Stored report %s was not found.", storedReportId));
+    }
+    return storedReport;
   }
 }
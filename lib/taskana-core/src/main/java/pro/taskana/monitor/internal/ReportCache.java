@@ -0,0 +1,292 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.header.ColumnHeader;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+
+/**
+ * Cache for the reports of the monitor. Reports are cached by the type of their builder and a
+ * normalized key of all filters and column headers of the builder, so that identical reports which
+ * are requested repeatedly, e.g. by dashboards, are computed only once within the configured time
+ * to live. The cache does not check any permissions, the builders have to authorize the access to
+ * the reports before they query the cache.
+ *
+ * <p>Concurrent requests of the same report share a single computation: the first request computes
+ * the report, all others wait for its result, at most for the configured computation timeout. A
+ * failed computation is not cached. The cache holds at most the configured number of reports and
+ * evicts the least recently used ones. Modifications of tasks are only seen after the time to live
+ * has expired. Therefore every report carries the time of its computation as {@link
+ * Report#getSnapshotTime() snapshot time}. Cached reports are shared between all callers, therefore
+ * the cache makes them {@link Report#makeUnmodifiable() unmodifiable}.
+ */
+public class ReportCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportCache.class);
+
+  private final Map<String, Entry> entries;
+  private final long timeToLiveNanos;
+  private final Duration computationTimeout;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public ReportCache(int maxSize, Duration timeToLive, Duration computationTimeout) {
+    this.entries =
+        new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+          }
+        };
+    this.timeToLiveNanos = timeToLive == null ? -1 : timeToLive.toNanos();
+    this.computationTimeout = computationTimeout;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** Removes all reports. Reports which are computed concurrently are still handed out once. */
+  public synchronized void clear() {
+    LOGGER.debug("Clearing report cache with {} entries", entries.size());
+    entries.clear();
+  }
+
+  /**
+   * Returns the cached report with the given key. If the cache holds no report with this key or it
+   * has expired, the report is computed. If the report is already being computed by another
+   * thread, this method waits for its result instead of computing it again. If the result is not
+   * available within the computation timeout, a {@link SystemException} is thrown.
+   *
+   * @param key the normalized key of the report, see {@link KeyBuilder}
+   * @param computation the computation of the report
+   * @param <R> the type of the report
+   * @return the cached or computed report, which is unmodifiable
+   * @throws InvalidArgumentException if the computation of the report fails with it
+   * @throws NotAuthorizedException if the computation of the report fails with it
+   */
+  public <R extends Report<?, ?>> R getReport(String key, ReportComputation<R> computation)
+      throws InvalidArgumentException, NotAuthorizedException {
+    Entry entry;
+    boolean computing = false;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry == null || entry.isExpired()) {
+        entry = new Entry();
+        entries.put(key, entry);
+        computing = true;
+      }
+    }
+    if (computing) {
+      missCount.incrementAndGet();
+      return compute(key, entry, computation);
+    }
+    hitCount.incrementAndGet();
+    return awaitReport(entry);
+  }
+
+  private <R extends Report<?, ?>> R compute(
+      String key, Entry entry, ReportComputation<R> computation)
+      throws InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug("Computing report for report cache key {}", key);
+    boolean computed = false;
+    try {
+      R report = computation.compute();
+      report.makeUnmodifiable();
+      entry.complete(report, timeToLiveNanos);
+      computed = true;
+      return report;
+    } catch (InvalidArgumentException | NotAuthorizedException | RuntimeException e) {
+      entry.fail(e);
+      throw e;
+    } finally {
+      if (!computed) {
+        remove(key, entry);
+        entry.fail(new SystemException("The computation of the report was aborted."));
+      }
+    }
+  }
+
+  private synchronized void remove(String key, Entry entry) {
+    entries.remove(key, entry);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R extends Report<?, ?>> R awaitReport(Entry entry)
+      throws InvalidArgumentException, NotAuthorizedException {
+    try {
+      // the key contains the type of the builder, so it always maps to the same type of report
+      return (R) entry.report.get(computationTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SystemException("Interrupted while waiting for the computation of the report.", e);
+    } catch (TimeoutException e) {
+      throw new SystemException(
+          String.format(
+              "The computation of the report did not complete within %s.", computationTimeout),
+          e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof InvalidArgumentException) {
+        throw (InvalidArgumentException) cause;
+      } else if (cause instanceof NotAuthorizedException) {
+        throw (NotAuthorizedException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new SystemException("The computation of the report failed.", cause);
+    }
+  }
+
+  /**
+   * The computation of a report which is executed on a cache miss.
+   *
+   * @param <R> the type of the report
+   */
+  @FunctionalInterface
+  public interface ReportComputation<R extends Report<?, ?>> {
+
+    R compute() throws InvalidArgumentException, NotAuthorizedException;
+  }
+
+  /**
+   * Builds the normalized key of a report. Filters are normalized by their sorted values, since the
+   * order of the values does not change the report. The order of the column headers is kept. Every
+   * value is written with its length, so that values which contain separators can not produce the
+   * key of another report.
+   */
+  public static class KeyBuilder {
+
+    private final StringBuilder key = new StringBuilder();
+
+    public KeyBuilder(Class<?> builderType, String reportType) {
+      appendValue(builderType.getName());
+      appendValue(reportType);
+    }
+
+    public KeyBuilder withValue(String name, Object value) {
+      key.append(name).append('=');
+      appendValue(value == null ? null : value.toString());
+      return this;
+    }
+
+    public KeyBuilder withFilter(String name, Collection<?> values) {
+      key.append(name).append('=');
+      if (values == null) {
+        appendValue(null);
+      } else {
+        List<String> normalizedValues = new ArrayList<>();
+        for (Object value : values) {
+          normalizedValues.add(String.valueOf(value));
+        }
+        normalizedValues.sort(null);
+        key.append('[');
+        normalizedValues.forEach(this::appendValue);
+        key.append(']');
+      }
+      return this;
+    }
+
+    public KeyBuilder withFilter(String name, Map<?, ?> values) {
+      List<String> entries = null;
+      if (values != null) {
+        entries = new ArrayList<>();
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+          StringBuilder normalizedEntry = new StringBuilder();
+          String entryKey = String.valueOf(entry.getKey());
+          normalizedEntry.append(entryKey.length()).append(':').append(entryKey);
+          normalizedEntry.append('=').append(entry.getValue());
+          entries.add(normalizedEntry.toString());
+        }
+      }
+      return withFilter(name, entries);
+    }
+
+    public KeyBuilder withColumnHeaders(List<? extends ColumnHeader<?>> columnHeaders) {
+      key.append("columnHeaders=");
+      if (columnHeaders == null) {
+        appendValue(null);
+        return this;
+      }
+      key.append('[');
+      for (ColumnHeader<?> columnHeader : columnHeaders) {
+        StringBuilder normalizedHeader = new StringBuilder(columnHeader.getClass().getName());
+        if (columnHeader instanceof TimeIntervalColumnHeader) {
+          TimeIntervalColumnHeader timeIntervalColumnHeader =
+              (TimeIntervalColumnHeader) columnHeader;
+          normalizedHeader
+              .append('(')
+              .append(timeIntervalColumnHeader.getLowerAgeLimit())
+              .append(',')
+              .append(timeIntervalColumnHeader.getUpperAgeLimit())
+              .append(')');
+        } else {
+          normalizedHeader.append('(').append(columnHeader.getDisplayName()).append(')');
+        }
+        appendValue(normalizedHeader.toString());
+      }
+      key.append(']');
+      return this;
+    }
+
+    public String build() {
+      return key.toString();
+    }
+
+    private void appendValue(String value) {
+      if (value == null) {
+        key.append("-;");
+      } else {
+        key.append(value.length()).append(':').append(value).append(';');
+      }
+    }
+  }
+
+  private static final class Entry {
+
+    private final CompletableFuture<Report<?, ?>> report = new CompletableFuture<>();
+    private volatile long expiresAt = Long.MAX_VALUE;
+
+    private void complete(Report<?, ?> computedReport, long timeToLiveNanos) {
+      if (timeToLiveNanos >= 0) {
+        expiresAt = System.nanoTime() + timeToLiveNanos;
+      }
+      report.complete(computedReport);
+    }
+
+    private void fail(Throwable cause) {
+      report.completeExceptionally(cause);
+    }
+
+    private boolean isExpired() {
+      // reports which are still computed never expire, so that they are computed only once
+      return report.isDone()
+          && expiresAt != Long.MAX_VALUE
+          && System.nanoTime() - expiresAt >= 0;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Instant;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import pro.taskana.common.internal.persistence.IntArrayTypeHandler;
+import pro.taskana.common.internal.persistence.StringListTypeHandler;
+import pro.taskana.monitor.api.StoredReport;
+import pro.taskana.monitor.api.StoredReportRow;
+
+/** This class is the mybatis mapping of the STORED_REPORT and STORED_REPORT_ROW tables. */
+@SuppressWarnings("checkstyle:LineLength")
+public interface StoredReportMapper {
+
+  @Insert(
+      "INSERT INTO STORED_REPORT (ID, NAME, STATE, CREATED, CREATED_BY, COMPLETED, COLUMN_HEADERS, ROW_COUNT, ERROR_MESSAGE) "
+          + "VALUES (#{report.id}, #{report.name}, #{report.state}, #{report.created}, #{report.createdBy}, #{report.completed}, "
+          + "#{report.columnHeaders,typeHandler=pro.taskana.common.internal.persistence.StringListTypeHandler}, #{report.rowCount}, #{report.errorMessage})")
+  void insert(@Param("report") StoredReport report);
+
+  @Select(
+      "<script>SELECT ID, NAME, STATE, CREATED, CREATED_BY, COMPLETED, COLUMN_HEADERS, ROW_COUNT, ERROR_MESSAGE "
+          + "FROM STORED_REPORT "
+          + "WHERE ID = #{id} "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "createdBy", column = "CREATED_BY"),
+        @Result(property = "completed", column = "COMPLETED"),
+        @Result(
+            property = "columnHeaders",
+            column = "COLUMN_HEADERS",
+            typeHandler = StringListTypeHandler.class),
+        @Result(property = "rowCount", column = "ROW_COUNT"),
+        @Result(property = "errorMessage", column = "ERROR_MESSAGE")
+      })
+  StoredReport findById(@Param("id") String id);
+
+  @Update(
+      "UPDATE STORED_REPORT SET STATE = 'COMPLETED', COMPLETED = #{completed}, ROW_COUNT = #{rowCount} "
+          + "WHERE ID = #{id}")
+  void setCompleted(
+      @Param("id") String id,
+      @Param("completed") Instant completed,
+      @Param("rowCount") int rowCount);
+
+  @Update(
+      "UPDATE STORED_REPORT SET STATE = 'FAILED', COMPLETED = #{completed}, ERROR_MESSAGE = #{errorMessage} "
+          + "WHERE ID = #{id}")
+  void setFailed(
+      @Param("id") String id,
+      @Param("completed") Instant completed,
+      @Param("errorMessage") String errorMessage);
+
+  @Delete("DELETE FROM STORED_REPORT WHERE ID = #{id} AND STATE <> 'PENDING'")
+  int delete(@Param("id") String id);
+
+  @Insert(
+      "<script>"
+          + "INSERT INTO STORED_REPORT_ROW (STORED_REPORT_ID, ROW_INDEX, ROW_KEY, SUB_KEY, TOTAL, CELLS) VALUES "
+          + "<foreach collection='rows' item='row' separator=','>"
+          + "(#{storedReportId}, #{row.rowIndex}, #{row.key}, #{row.subKey}, #{row.total}, "
+          + "#{row.cells,typeHandler=pro.taskana.common.internal.persistence.IntArrayTypeHandler})"
+          + "</foreach>"
+          + "</script>")
+  void insertRows(
+      @Param("storedReportId") String storedReportId, @Param("rows") List<StoredReportRow> rows);
+
+  @Select(
+      "<script>SELECT ROW_INDEX, ROW_KEY, SUB_KEY, TOTAL, CELLS "
+          + "FROM STORED_REPORT_ROW "
+          + "WHERE STORED_REPORT_ID = #{storedReportId} AND ROW_INDEX &gt;= #{fromRowIndex} "
+          + "ORDER BY ROW_INDEX "
+          + "FETCH FIRST ${maxRows} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "rowIndex", column = "ROW_INDEX"),
+        @Result(property = "key", column = "ROW_KEY"),
+        @Result(property = "subKey", column = "SUB_KEY"),
+        @Result(property = "total", column = "TOTAL"),
+        @Result(property = "cells", column = "CELLS", typeHandler = IntArrayTypeHandler.class)
+      })
+  List<StoredReportRow> findRows(
+      @Param("storedReportId") String storedReportId,
+      @Param("fromRowIndex") int fromRowIndex,
+      @Param("maxRows") int maxRows);
+
+  @Delete("DELETE FROM STORED_REPORT_ROW WHERE STORED_REPORT_ID = #{storedReportId}")
+  void deleteRows(@Param("storedReportId") String storedReportId);
+}
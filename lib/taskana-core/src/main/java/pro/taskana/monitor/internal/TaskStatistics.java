@@ -0,0 +1,193 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.api.reports.item.TaskQueryItem;
+import pro.taskana.task.api.TaskState;
+
+/**
+ * Pre-aggregated number of tasks per workbasket, classification, category, domain, state and due
+ * day. It is used by the reports instead of aggregating the whole TASK table.
+ *
+ * <p>The statistics are maintained with delta rows. Before tasks are modified or deleted, their
+ * current numbers are inserted negated by {@link #removeTasks(List)}. After tasks are created or
+ * modified, their new numbers are inserted by {@link #addTasks(List)}. Both have to be called
+ * within the same transaction as the modification of the tasks. The delta rows are summed up when
+ * the statistics are read and compacted per workbasket by {@link #rebuild(String)}.
+ *
+ * <p>The statistics are only used after they have been built once, because tasks can be written
+ * without them, e.g. by sample data scripts or while the statistics are disabled.
+ */
+public class TaskStatistics {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatistics.class);
+  private static final int BATCH_SIZE = 100;
+
+  private final InternalTaskanaEngine taskanaEngine;
+  private final TaskStatisticsMapper taskStatisticsMapper;
+
+  public TaskStatistics(
+      InternalTaskanaEngine taskanaEngine, TaskStatisticsMapper taskStatisticsMapper) {
+    this.taskanaEngine = taskanaEngine;
+    this.taskStatisticsMapper = taskStatisticsMapper;
+  }
+
+  /**
+   * Removes the tasks with the given ids in their current state from the statistics. It has to be
+   * called before the tasks are modified or deleted. The tasks are locked first, so that a
+   * concurrent modification cannot change them between the removal and the modification.
+   *
+   * @param taskIds the ids of the tasks
+   */
+  public void removeTasks(List<String> taskIds) {
+    if (taskIds == null || taskIds.isEmpty()) {
+      return;
+    }
+    for (int i = 0; i < taskIds.size(); i += BATCH_SIZE) {
+      List<String> batch = taskIds.subList(i, Math.min(i + BATCH_SIZE, taskIds.size()));
+      taskStatisticsMapper.lockTasks(batch);
+      taskStatisticsMapper.insertTaskCounts(batch, true);
+    }
+  }
+
+  /**
+   * Adds the tasks with the given ids in their current state to the statistics. It has to be called
+   * after the tasks are created or modified.
+   *
+   * @param taskIds the ids of the tasks
+   */
+  public void addTasks(List<String> taskIds) {
+    if (taskIds == null || taskIds.isEmpty()) {
+      return;
+    }
+    for (int i = 0; i < taskIds.size(); i += BATCH_SIZE) {
+      taskStatisticsMapper.insertTaskCounts(
+          taskIds.subList(i, Math.min(i + BATCH_SIZE, taskIds.size())), false);
+    }
+  }
+
+  /**
+   * Checks whether the statistics have been built and can be used by the reports.
+   *
+   * @return true if the statistics have been built at least once
+   */
+  public boolean isInitialized() {
+    try {
+      taskanaEngine.openConnection();
+      return taskStatisticsMapper.getLastRebuilt() != null;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Returns the ids of the workbaskets which have tasks or statistics. Each of them is rebuilt by
+   * {@link #rebuild(String)}.
+   *
+   * @return the ids of the workbaskets
+   */
+  public List<String> getWorkbasketIds() {
+    try {
+      taskanaEngine.openConnection();
+      return taskStatisticsMapper.findWorkbasketIds();
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Rebuilds the statistics of one workbasket from the TASK table. The current rows of the
+   * workbasket are marked, the corrected numbers are inserted and the marked rows are deleted
+   * afterwards. The corrected numbers are the tasks of the workbasket minus the unmarked rows, both
+   * read with one statement. Delta rows which are committed after that statement are therefore
+   * kept and counted. Neither the TASK nor the TASK_STATISTICS table is locked, so that tasks can
+   * be modified while the statistics are rebuilt. The call should be executed within its own
+   * transaction per workbasket.
+   *
+   * @param workbasketId the id of the workbasket
+   */
+  public void rebuild(String workbasketId) {
+    LOGGER.debug("entry to rebuild(workbasketId = {})", workbasketId);
+    try {
+      taskanaEngine.openConnection();
+      taskStatisticsMapper.markRowsForRebuild(workbasketId);
+      taskStatisticsMapper.insertRebuiltTaskCounts(workbasketId);
+      taskStatisticsMapper.deleteRowsMarkedForRebuild(workbasketId);
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from rebuild()");
+    }
+  }
+
+  /**
+   * Records that the statistics of all workbaskets have been rebuilt. From then on they are used by
+   * the reports.
+   */
+  public void setRebuilt() {
+    try {
+      taskanaEngine.openConnection();
+      taskStatisticsMapper.updateLastRebuilt(Instant.now());
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Counts the tasks with a due date grouped by the given column and the days until they are due.
+   *
+   * @param groupedBy the column of the TASK_STATISTICS table the counts are grouped by
+   * @param workbasketIds the ids of the workbaskets or null
+   * @param states the states or null
+   * @param categories the classification categories or null
+   * @param domains the domains or null
+   * @param classificationIds the ids of the classifications or null
+   * @param excludedClassificationIds the ids of the excluded classifications or null
+   * @param ageBuckets the age buckets the tasks are counted into or null to count them per day
+   * @return the number of tasks per key and age in days
+   */
+  public List<MonitorQueryItem> getTaskCounts(
+      String groupedBy,
+      List<String> workbasketIds,
+      List<TaskState> states,
+      List<String> categories,
+      List<String> domains,
+      List<String> classificationIds,
+      List<String> excludedClassificationIds,
+      List<AgeBucket> ageBuckets) {
+    try {
+      taskanaEngine.openConnection();
+      return taskStatisticsMapper.getTaskCounts(
+          groupedBy,
+          workbasketIds,
+          states,
+          categories,
+          domains,
+          classificationIds,
+          excludedClassificationIds,
+          ageBuckets);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Counts the tasks grouped by domain and state.
+   *
+   * @param domains the domains or null
+   * @param states the states or null
+   * @return the number of tasks per domain and state
+   */
+  public List<TaskQueryItem> getTasksCountByState(List<String> domains, List<TaskState> states) {
+    try {
+      taskanaEngine.openConnection();
+      return taskStatisticsMapper.getTasksCountByState(domains, states);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+}
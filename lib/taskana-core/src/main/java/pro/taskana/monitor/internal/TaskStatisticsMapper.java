@@ -0,0 +1,152 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Instant;
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.api.reports.item.TaskQueryItem;
+import pro.taskana.task.api.TaskState;
+
+/** This class is the mybatis mapping of the task statistics. */
+@SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
+public interface TaskStatisticsMapper {
+
+  @Select(
+      "<script>"
+          + "SELECT ID FROM TASK "
+          + "WHERE ID IN (<foreach collection='taskIds' item='taskId' separator=','>#{taskId}</foreach>) "
+          + "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "WITH RS USE AND KEEP UPDATE LOCKS "
+          + "</when>"
+          + "<otherwise>"
+          + "FOR UPDATE "
+          + "</otherwise>"
+          + "</choose>"
+          + "</script>")
+  List<String> lockTasks(@Param("taskIds") List<String> taskIds);
+
+  @Insert(
+      "<script>"
+          + "INSERT INTO TASK_STATISTICS (WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, DUE_DAY, NUMBER_OF_TASKS) "
+          + "SELECT WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, CAST(DUE AS DATE), "
+          + "<if test='removed'>-</if>COUNT(*) "
+          + "FROM TASK "
+          + "WHERE ID IN (<foreach collection='taskIds' item='taskId' separator=','>#{taskId}</foreach>) "
+          + "GROUP BY WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, CAST(DUE AS DATE)"
+          + "</script>")
+  void insertTaskCounts(
+      @Param("taskIds") List<String> taskIds, @Param("removed") boolean removed);
+
+  @Select(
+      "SELECT WORKBASKET_ID FROM TASK "
+          + "UNION SELECT WORKBASKET_ID FROM TASK_STATISTICS WHERE WORKBASKET_ID IS NOT NULL")
+  List<String> findWorkbasketIds();
+
+  @Update("UPDATE TASK_STATISTICS SET REBUILDING = 1 WHERE WORKBASKET_ID = #{workbasketId}")
+  void markRowsForRebuild(@Param("workbasketId") String workbasketId);
+
+  @Insert(
+      "INSERT INTO TASK_STATISTICS (WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, DUE_DAY, NUMBER_OF_TASKS) "
+          + "SELECT WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, DUE_DAY, SUM(NUMBER_OF_TASKS) FROM ("
+          + "SELECT WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, CAST(DUE AS DATE) AS DUE_DAY, COUNT(*) AS NUMBER_OF_TASKS "
+          + "FROM TASK WHERE WORKBASKET_ID = #{workbasketId} "
+          + "GROUP BY WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, CAST(DUE AS DATE) "
+          + "UNION ALL "
+          + "SELECT WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, DUE_DAY, -NUMBER_OF_TASKS "
+          + "FROM TASK_STATISTICS WHERE WORKBASKET_ID = #{workbasketId} AND REBUILDING = 0"
+          + ") AS C "
+          + "GROUP BY WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, DOMAIN, STATE, DUE_DAY "
+          + "HAVING SUM(NUMBER_OF_TASKS) <> 0")
+  void insertRebuiltTaskCounts(@Param("workbasketId") String workbasketId);
+
+  @Delete("DELETE FROM TASK_STATISTICS WHERE WORKBASKET_ID = #{workbasketId} AND REBUILDING = 1")
+  void deleteRowsMarkedForRebuild(@Param("workbasketId") String workbasketId);
+
+  @Select("SELECT LAST_REBUILT FROM TASK_STATISTICS_STATE WHERE ID = 1")
+  Instant getLastRebuilt();
+
+  @Update("UPDATE TASK_STATISTICS_STATE SET LAST_REBUILT = #{lastRebuilt} WHERE ID = 1")
+  void updateLastRebuilt(@Param("lastRebuilt") Instant lastRebuilt);
+
+  @Select(
+      "<script>"
+          + "SELECT B.REPORT_KEY, "
+          + MonitorMapper.AGE_BUCKET
+          + " AS AGE_IN_DAYS, SUM(B.NUMBER_OF_TASKS) AS NUMBER_OF_TASKS FROM ("
+          + "<if test=\"_databaseId == 'db2'\">SELECT ${groupedBy} AS REPORT_KEY, (DAYS(DUE_DAY) - DAYS(CURRENT_TIMESTAMP)) as AGE_IN_DAYS, NUMBER_OF_TASKS </if> "
+          + "<if test=\"_databaseId == 'h2'\">SELECT ${groupedBy} AS REPORT_KEY, DATEDIFF('DAY', CURRENT_TIMESTAMP, DUE_DAY) as AGE_IN_DAYS, NUMBER_OF_TASKS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT ${groupedBy} AS REPORT_KEY, (DUE_DAY - CURRENT_DATE) as AGE_IN_DAYS, NUMBER_OF_TASKS </if> "
+          + "FROM TASK_STATISTICS "
+          + "<where>"
+          + "<if test=\"workbasketIds != null\">"
+          + "WORKBASKET_ID IN (<foreach collection='workbasketIds' item='workbasketId' separator=','>#{workbasketId}</foreach>) "
+          + "</if>"
+          + "<if test=\"states != null\">"
+          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
+          + "</if>"
+          + "<if test=\"categories != null\">"
+          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='categories' item='category' separator=','>#{category}</foreach>) "
+          + "</if>"
+          + "<if test=\"domains != null\">"
+          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
+          + "</if>"
+          + "<if test='classificationIds != null'>"
+          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
+          + "</if>"
+          + "<if test='excludedClassificationIds != null'>"
+          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
+          + "</if>"
+          + "AND DUE_DAY IS NOT NULL "
+          + "</where>"
+          + ") AS B "
+          + MonitorMapper.AGE_BUCKET_FILTER
+          + "GROUP BY B.REPORT_KEY, "
+          + MonitorMapper.AGE_BUCKET
+          + " HAVING SUM(B.NUMBER_OF_TASKS) > 0"
+          + "</script>")
+  @Results({
+    @Result(column = "REPORT_KEY", property = "key"),
+    @Result(column = "AGE_IN_DAYS", property = "ageInDays"),
+    @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  })
+  List<MonitorQueryItem> getTaskCounts(
+      @Param("groupedBy") String groupedBy,
+      @Param("workbasketIds") List<String> workbasketIds,
+      @Param("states") List<TaskState> states,
+      @Param("categories") List<String> categories,
+      @Param("domains") List<String> domains,
+      @Param("classificationIds") List<String> classificationIds,
+      @Param("excludedClassificationIds") List<String> excludedClassificationIds,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
+
+  @Select(
+      "<script>"
+          + "SELECT DOMAIN, STATE, SUM(NUMBER_OF_TASKS) as COUNT "
+          + "FROM TASK_STATISTICS "
+          + "<where>"
+          + "<if test='domains != null'>"
+          + "DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
+          + "</if>"
+          + "<if test='states != null'>"
+          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
+          + "</if>"
+          + "</where>"
+          + "GROUP BY DOMAIN, STATE "
+          + "HAVING SUM(NUMBER_OF_TASKS) > 0"
+          + "</script>")
+  @Results({
+    @Result(column = "DOMAIN", property = "domain"),
+    @Result(column = "STATE", property = "state"),
+    @Result(column = "COUNT", property = "count"),
+  })
+  List<TaskQueryItem> getTasksCountByState(
+      @Param("domains") List<String> domains, @Param("states") List<TaskState> states);
+}
@@ -0,0 +1,168 @@
+package pro.taskana.monitor.internal.jobs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
+import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.reports.ClassificationReportBuilderImpl;
+import pro.taskana.monitor.internal.reports.CustomFieldValueReportBuilderImpl;
+import pro.taskana.task.api.CustomField;
+import pro.taskana.task.api.TaskState;
+
+/**
+ * Job to compute a report which has been scheduled with its builder and to store its rows. The
+ * arguments of the job contain the filters and column headers of the builder, lists are encoded as
+ * JSON arrays. The job is not retried. If the computation fails, the stored report is marked as
+ * FAILED by {@link #onFinalFailure}, so that the failure is reported to the user who scheduled the
+ * report.
+ */
+public class ReportComputationJob extends AbstractTaskanaJob {
+
+  public static final String STORED_REPORT_ID = "storedReportId";
+  public static final String REPORT_TYPE = "reportType";
+  public static final String CUSTOM_FIELD = "customField";
+  public static final String COLUMN_HEADERS = "columnHeaders";
+  public static final String IN_WORKING_DAYS = "inWorkingDays";
+  public static final String WORKBASKET_IDS = "workbasketIds";
+  public static final String STATES = "states";
+  public static final String CATEGORIES = "categories";
+  public static final String DOMAINS = "domains";
+  public static final String CLASSIFICATION_IDS = "classificationIds";
+  public static final String EXCLUDED_CLASSIFICATION_IDS = "excludedClassificationIds";
+  public static final String CUSTOM_ATTRIBUTE_FILTER = "customAttributeFilter";
+  public static final String CUSTOM_FIELD_VALUE_REPORT = "CustomFieldValueReport";
+  public static final String DETAILED_CLASSIFICATION_REPORT = "DetailedClassificationReport";
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportComputationJob.class);
+
+  private final Map<String, String> arguments;
+
+  public ReportComputationJob(
+      TaskanaEngine engine, TaskanaTransactionProvider<Object> txProvider, ScheduledJob job) {
+    super(engine, txProvider, job);
+    arguments = job.getArguments();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    String storedReportId = arguments.get(STORED_REPORT_ID);
+    LOGGER.info("Running ReportComputationJob for stored report {}", storedReportId);
+    MonitorServiceImpl monitorService = (MonitorServiceImpl) taskanaEngineImpl.getMonitorService();
+    try {
+      String reportType = arguments.get(REPORT_TYPE);
+      if (CUSTOM_FIELD_VALUE_REPORT.equals(reportType)) {
+        CustomField customField = CustomField.valueOf(arguments.get(CUSTOM_FIELD));
+        CustomFieldValueReportBuilderImpl builder =
+            (CustomFieldValueReportBuilderImpl)
+                applyArguments(monitorService.createCustomFieldValueReportBuilder(customField));
+        builder.storeReport(storedReportId);
+      } else if (DETAILED_CLASSIFICATION_REPORT.equals(reportType)) {
+        ClassificationReportBuilderImpl builder =
+            (ClassificationReportBuilderImpl)
+                applyArguments(monitorService.createClassificationReportBuilder());
+        builder.storeDetailedReport(storedReportId);
+      } else {
+        throw new InvalidArgumentException("Unknown report type " + reportType);
+      }
+      LOGGER.info("ReportComputationJob ended successfully.");
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing ReportComputationJob.", e);
+    }
+  }
+
+  @Override
+  public boolean isRetryable() {
+    // a failed computation is reported to the user who scheduled the report instead of retried
+    return false;
+  }
+
+  /**
+   * Marks the stored report of the failed job as FAILED with the root cause of the failure. The
+   * transaction of the job has been rolled back and may not be usable anymore, e.g. after a failed
+   * statement on PostgreSQL, therefore the JobRunner calls this method within a new transaction.
+   *
+   * @param failure the failure of the job
+   */
+  @Override
+  public void onFinalFailure(Exception failure) {
+    String storedReportId = arguments == null ? null : arguments.get(STORED_REPORT_ID);
+    if (storedReportId == null) {
+      return;
+    }
+    Throwable cause = failure;
+    while (cause.getCause() != null && cause.getCause() != cause) {
+      cause = cause.getCause();
+    }
+    LOGGER.warn("Computation of stored report {} failed.", storedReportId, failure);
+    ((MonitorServiceImpl) taskanaEngineImpl.getMonitorService())
+        .markStoredReportAsFailed(storedReportId, cause.toString());
+  }
+
+  private <
+          I extends AgeQueryItem,
+          B extends TimeIntervalReportBuilder<B, I, TimeIntervalColumnHeader>>
+      B applyArguments(B builder) {
+    List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
+    JSONArray headers = new JSONArray(arguments.get(COLUMN_HEADERS));
+    for (int i = 0; i < headers.length(); i++) {
+      JSONArray header = headers.getJSONArray(i);
+      columnHeaders.add(new TimeIntervalColumnHeader(header.getInt(0), header.getInt(1)));
+    }
+    builder.withColumnHeaders(columnHeaders);
+    if (Boolean.parseBoolean(arguments.get(IN_WORKING_DAYS))) {
+      builder.inWorkingDays();
+    }
+    if (arguments.containsKey(WORKBASKET_IDS)) {
+      builder.workbasketIdIn(getList(WORKBASKET_IDS));
+    }
+    if (arguments.containsKey(STATES)) {
+      List<TaskState> states = new ArrayList<>();
+      getList(STATES).forEach(state -> states.add(TaskState.valueOf(state)));
+      builder.stateIn(states);
+    }
+    if (arguments.containsKey(CATEGORIES)) {
+      builder.categoryIn(getList(CATEGORIES));
+    }
+    if (arguments.containsKey(DOMAINS)) {
+      builder.domainIn(getList(DOMAINS));
+    }
+    if (arguments.containsKey(CLASSIFICATION_IDS)) {
+      builder.classificationIdIn(getList(CLASSIFICATION_IDS));
+    }
+    if (arguments.containsKey(EXCLUDED_CLASSIFICATION_IDS)) {
+      builder.excludedClassificationIdIn(getList(EXCLUDED_CLASSIFICATION_IDS));
+    }
+    if (arguments.containsKey(CUSTOM_ATTRIBUTE_FILTER)) {
+      JSONObject filter = new JSONObject(arguments.get(CUSTOM_ATTRIBUTE_FILTER));
+      Map<CustomField, String> customAttributeFilter = new HashMap<>();
+      for (String field : filter.keySet()) {
+        customAttributeFilter.put(CustomField.valueOf(field), filter.getString(field));
+      }
+      builder.customAttributeFilterIn(customAttributeFilter);
+    }
+    return builder;
+  }
+
+  private List<String> getList(String name) {
+    JSONArray values = new JSONArray(arguments.get(name));
+    List<String> list = new ArrayList<>();
+    for (int i = 0; i < values.length(); i++) {
+      list.add(values.getString(i));
+    }
+    return list;
+  }
+}
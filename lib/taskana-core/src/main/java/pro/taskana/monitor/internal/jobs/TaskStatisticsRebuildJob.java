@@ -0,0 +1,101 @@
+package pro.taskana.monitor.internal.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.internal.TaskStatistics;
+
+/**
+ * Job to rebuild the task statistics from the TASK table. It compacts the delta rows which are
+ * written with every modification of tasks and corrects deviations, e.g. caused by tasks which
+ * were written while the task statistics were disabled. Each workbasket is rebuilt in its own
+ * transaction.
+ */
+public class TaskStatisticsRebuildJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatisticsRebuildJob.class);
+
+  // Parameter
+  private final Duration rebuildInterval;
+
+  public TaskStatisticsRebuildJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob job) {
+    super(taskanaEngine, txProvider, job);
+    rebuildInterval = taskanaEngine.getConfiguration().getTaskStatisticsRebuildInterval();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    TaskStatistics taskStatistics = taskanaEngineImpl.getTaskStatistics();
+    if (taskStatistics == null) {
+      LOGGER.info("Task statistics are disabled. TaskStatisticsRebuildJob is not rescheduled.");
+      return;
+    }
+    LOGGER.info("Running job to rebuild the task statistics");
+    try {
+      rebuildTransactionally(taskStatistics);
+      LOGGER.info("Job ended successfully. Task statistics rebuilt.");
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing TaskStatisticsRebuildJob.", e);
+    } finally {
+      scheduleNextTaskStatisticsRebuildJob(Instant.now().plus(rebuildInterval));
+    }
+  }
+
+  /**
+   * Initializes the TaskStatisticsRebuildJob schedule. <br>
+   * If the task statistics have not been built yet, a new job is scheduled to run immediately.
+   * Otherwise it is scheduled to run after the configured rebuild interval.
+   *
+   * @param taskanaEngine the taskana engine
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    TaskStatisticsRebuildJob job = new TaskStatisticsRebuildJob(taskanaEngine, null, null);
+    TaskStatistics taskStatistics = job.taskanaEngineImpl.getTaskStatistics();
+    if (taskStatistics == null) {
+      return;
+    }
+    job.scheduleNextTaskStatisticsRebuildJob(
+        taskStatistics.isInitialized() ? Instant.now().plus(job.rebuildInterval) : Instant.now());
+  }
+
+  private void rebuildTransactionally(TaskStatistics taskStatistics) {
+    List<String> workbasketIds = taskStatistics.getWorkbasketIds();
+    for (String workbasketId : workbasketIds) {
+      executeTransactionally(() -> taskStatistics.rebuild(workbasketId));
+    }
+    executeTransactionally(taskStatistics::setRebuilt);
+    LOGGER.debug("Rebuilt the task statistics of {} workbaskets.", workbasketIds.size());
+  }
+
+  private void executeTransactionally(Runnable action) {
+    if (txProvider != null) {
+      txProvider.executeInTransaction(
+          () -> {
+            action.run();
+            return null;
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private void scheduleNextTaskStatisticsRebuildJob(Instant due) {
+    LOGGER.debug("Entry to scheduleNextTaskStatisticsRebuildJob.");
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.TASKSTATISTICSREBUILDJOB);
+    job.setDue(due);
+    taskanaEngineImpl.getJobService().createJob(job);
+    LOGGER.debug("Exit from scheduleNextTaskStatisticsRebuildJob.");
+  }
+}
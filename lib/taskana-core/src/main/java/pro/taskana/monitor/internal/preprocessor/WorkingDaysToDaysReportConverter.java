@@ -91,6 +91,49 @@ public class WorkingDaysToDaysReportConverter {
     return listOfAllMatchingDays;
   }
 
+  /**
+   * Converts the lower limit of a range of working days into the smallest age in days whose age in
+   * working days is not below it. Together with {@link #convertUpperWorkingDaysLimitToDays(int)}
+   * it yields the range of days which {@link #convertDaysToWorkingDays(int)} maps into the range of
+   * working days.
+   *
+   * @param lowerWorkingDaysLimit the lower limit of the range of working days
+   * @return the lower limit of the range of days
+   */
+  public int convertLowerWorkingDaysLimitToDays(int lowerWorkingDaysLimit) {
+    int smallestDay = Collections.min(cacheDaysToWorkingDays.keySet());
+    if (lowerWorkingDaysLimit < smallestDay) {
+      return lowerWorkingDaysLimit;
+    }
+    int largestDay = Collections.max(cacheDaysToWorkingDays.keySet());
+    return cacheDaysToWorkingDays.entrySet().stream()
+        .filter(entry -> entry.getValue() >= lowerWorkingDaysLimit)
+        .mapToInt(Entry::getKey)
+        .min()
+        .orElse(Math.max(lowerWorkingDaysLimit, largestDay + 1));
+  }
+
+  /**
+   * Converts the upper limit of a range of working days into the largest age in days whose age in
+   * working days is not above it.
+   *
+   * @param upperWorkingDaysLimit the upper limit of the range of working days
+   * @return the upper limit of the range of days
+   * @see #convertLowerWorkingDaysLimitToDays(int)
+   */
+  public int convertUpperWorkingDaysLimitToDays(int upperWorkingDaysLimit) {
+    int largestDay = Collections.max(cacheDaysToWorkingDays.keySet());
+    if (upperWorkingDaysLimit > largestDay) {
+      return upperWorkingDaysLimit;
+    }
+    int smallestDay = Collections.min(cacheDaysToWorkingDays.keySet());
+    return cacheDaysToWorkingDays.entrySet().stream()
+        .filter(entry -> entry.getValue() <= upperWorkingDaysLimit)
+        .mapToInt(Entry::getKey)
+        .max()
+        .orElse(Math.min(upperWorkingDaysLimit, smallestDay - 1));
+  }
+
   protected Map<Integer, Integer> generateDaysToWorkingDays(
       List<? extends TimeIntervalColumnHeader> columnHeaders, final Instant referenceDate) {
     HashMap<Integer, Integer> daysToWorkingDaysMap = new HashMap<>();
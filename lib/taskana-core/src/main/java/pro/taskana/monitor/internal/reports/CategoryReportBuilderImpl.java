@@ -12,7 +12,9 @@ import pro.taskana.monitor.api.reports.CategoryReport;
 import pro.taskana.monitor.api.reports.CategoryReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of CategoryReportBuilder. */
@@ -23,33 +25,46 @@ public class CategoryReportBuilderImpl
   private static final Logger LOGGER = LoggerFactory.getLogger(CategoryReport.Builder.class);
 
   public CategoryReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public CategoryReport buildReport() throws InvalidArgumentException, NotAuthorizedException {
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
+    try {
+      return getFromReportCache("buildReport", this::computeReport);
+    } finally {
+      LOGGER.debug("exit from buildReport().");
+    }
+  }
+
+  private CategoryReport computeReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       CategoryReport report = new CategoryReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfCategories(
-              this.workbasketIds,
-              this.states,
-              this.categories,
-              this.domains,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
+      List<MonitorQueryItem> monitorQueryItems = getTaskCountsFromTaskStatistics(ageBuckets);
+      if (monitorQueryItems == null) {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfCategories(
+                this.workbasketIds,
+                this.states,
+                this.categories,
+                this.domains,
+                this.classificationIds,
+                this.excludedClassificationIds,
+                this.customAttributeFilter,
+                ageBuckets);
+      }
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildReport().");
     }
   }
 
@@ -8,13 +8,18 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.monitor.api.StoredReport;
 import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.ClassificationReport.Builder;
 import pro.taskana.monitor.api.reports.ClassificationReport.DetailedClassificationReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.DetailedMonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.monitor.internal.StoredReportMapper;
+import pro.taskana.monitor.internal.jobs.ReportComputationJob;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of ClassificationReportBuilder. */
@@ -24,9 +29,15 @@ public class ClassificationReportBuilderImpl
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationReport.Builder.class);
 
+  private StoredReportMapper storedReportMapper;
+
   public ClassificationReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportCache reportCache,
+      StoredReportMapper storedReportMapper) {
+    super(taskanaEngine, monitorMapper, reportCache);
+    this.storedReportMapper = storedReportMapper;
   }
 
   @Override
@@ -34,25 +45,38 @@ public class ClassificationReportBuilderImpl
       throws InvalidArgumentException, NotAuthorizedException {
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    try {
+      return getFromReportCache("buildReport", this::computeReport);
+    } finally {
+      LOGGER.debug("exit from buildReport().");
+    }
+  }
+
+  private ClassificationReport computeReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       ClassificationReport report = new ClassificationReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfClassifications(
-              this.workbasketIds,
-              this.states,
-              this.categories,
-              this.domains,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
+      List<MonitorQueryItem> monitorQueryItems = getTaskCountsFromTaskStatistics(ageBuckets);
+      if (monitorQueryItems == null) {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfClassifications(
+                this.workbasketIds,
+                this.states,
+                this.categories,
+                this.domains,
+                this.classificationIds,
+                this.excludedClassificationIds,
+                this.customAttributeFilter,
+                ageBuckets);
+      }
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildReport().");
     }
   }
 
@@ -61,9 +85,18 @@ public class ClassificationReportBuilderImpl
       throws InvalidArgumentException, NotAuthorizedException {
     LOGGER.debug("entry to buildDetailedReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    try {
+      return getFromReportCache("buildDetailedReport", this::computeDetailedReport);
+    } finally {
+      LOGGER.debug("exit from buildDetailedReport().");
+    }
+  }
+
+  private DetailedClassificationReport computeDetailedReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       DetailedClassificationReport report = new DetailedClassificationReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<DetailedMonitorQueryItem> detailedMonitorQueryItems =
           this.monitorMapper.getTaskCountOfDetailedClassifications(
               this.workbasketIds,
@@ -72,16 +105,65 @@ public class ClassificationReportBuilderImpl
               this.domains,
               this.classificationIds,
               this.excludedClassificationIds,
-              this.customAttributeFilter);
+              this.customAttributeFilter,
+              ageBuckets);
 
       report.addItems(
           detailedMonitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
 
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildDetailedReport().");
+    }
+  }
+
+  @Override
+  public StoredReport scheduleDetailedReport()
+      throws InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug("entry to scheduleDetailedReport(), this = {}", this);
+    this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    StoredReport storedReport = null;
+    try {
+      storedReport =
+          scheduleStoredReport(
+              this.storedReportMapper, ReportComputationJob.DETAILED_CLASSIFICATION_REPORT);
+      return storedReport;
+    } finally {
+      LOGGER.debug("exit from scheduleDetailedReport(), returning {}", storedReport);
+    }
+  }
+
+  /**
+   * Computes the scheduled detailed report with the given id and stores its rows. The tasks are
+   * counted with a cursor ordered by the classification key, so that the report is never held in
+   * memory as a whole. This method is called by the {@link ReportComputationJob} and does not
+   * check any permissions.
+   *
+   * @param storedReportId the id of the stored report
+   * @throws InvalidArgumentException if the column headers can not be converted to days
+   */
+  public void storeDetailedReport(String storedReportId) throws InvalidArgumentException {
+    LOGGER.debug(
+        "entry to storeDetailedReport(storedReportId = {}), this = {}", storedReportId, this);
+    try {
+      storeReport(
+          this.storedReportMapper,
+          storedReportId,
+          new DetailedClassificationReport(this.columnHeaders),
+          ageBuckets ->
+              this.monitorMapper.streamTaskCountOfDetailedClassifications(
+                  this.workbasketIds,
+                  this.states,
+                  this.categories,
+                  this.domains,
+                  this.classificationIds,
+                  this.excludedClassificationIds,
+                  this.customAttributeFilter,
+                  ageBuckets));
+    } finally {
+      LOGGER.debug("exit from storeDetailedReport().");
     }
   }
 
@@ -1,6 +1,7 @@
 package pro.taskana.monitor.internal.reports;
 
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,11 +9,16 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.monitor.api.StoredReport;
 import pro.taskana.monitor.api.reports.CustomFieldValueReport;
 import pro.taskana.monitor.api.reports.CustomFieldValueReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.monitor.internal.StoredReportMapper;
+import pro.taskana.monitor.internal.jobs.ReportComputationJob;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.task.api.CustomField;
 
@@ -24,11 +30,17 @@ public class CustomFieldValueReportBuilderImpl
   private static final Logger LOGGER =
       LoggerFactory.getLogger(CustomFieldValueReportBuilderImpl.class);
 
+  private StoredReportMapper storedReportMapper;
   private CustomField customField;
 
   public CustomFieldValueReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, CustomField customField) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportCache reportCache,
+      StoredReportMapper storedReportMapper,
+      CustomField customField) {
+    super(taskanaEngine, monitorMapper, reportCache);
+    this.storedReportMapper = storedReportMapper;
     this.customField = customField;
   }
 
@@ -37,9 +49,18 @@ public class CustomFieldValueReportBuilderImpl
       throws InvalidArgumentException, NotAuthorizedException {
     LOGGER.debug("entry to buildReport(customField = {}), this = {}", this.customField, this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
+    try {
+      return getFromReportCache("buildReport", this::computeReport);
+    } finally {
+      LOGGER.debug("exit from buildReport().");
+    }
+  }
+
+  private CustomFieldValueReport computeReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       CustomFieldValueReport report = new CustomFieldValueReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfCustomFieldValues(
               this.customField,
@@ -49,18 +70,76 @@ public class CustomFieldValueReportBuilderImpl
               this.domains,
               this.classificationIds,
               this.excludedClassificationIds,
-              this.customAttributeFilter);
+              this.customAttributeFilter,
+              ageBuckets);
 
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildReport().");
     }
   }
 
+  @Override
+  public StoredReport scheduleReport() throws InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug("entry to scheduleReport(customField = {}), this = {}", this.customField, this);
+    this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR);
+    StoredReport storedReport = null;
+    try {
+      storedReport =
+          scheduleStoredReport(
+              this.storedReportMapper, ReportComputationJob.CUSTOM_FIELD_VALUE_REPORT);
+      return storedReport;
+    } finally {
+      LOGGER.debug("exit from scheduleReport(), returning {}", storedReport);
+    }
+  }
+
+  /**
+   * Computes the scheduled report with the given id and stores its rows. The tasks are counted
+   * with a cursor ordered by the value of the custom field, so that the report is never held in
+   * memory as a whole. This method is called by the {@link ReportComputationJob} and does not
+   * check any permissions.
+   *
+   * @param storedReportId the id of the stored report
+   * @throws InvalidArgumentException if the column headers can not be converted to days
+   */
+  public void storeReport(String storedReportId) throws InvalidArgumentException {
+    LOGGER.debug("entry to storeReport(storedReportId = {}), this = {}", storedReportId, this);
+    try {
+      storeReport(
+          this.storedReportMapper,
+          storedReportId,
+          new CustomFieldValueReport(this.columnHeaders),
+          ageBuckets ->
+              this.monitorMapper.streamTaskCountOfCustomFieldValues(
+                  this.customField,
+                  this.workbasketIds,
+                  this.states,
+                  this.categories,
+                  this.domains,
+                  this.classificationIds,
+                  this.excludedClassificationIds,
+                  this.customAttributeFilter,
+                  ageBuckets));
+    } finally {
+      LOGGER.debug("exit from storeReport().");
+    }
+  }
+
+  @Override
+  protected void addStoredReportArguments(Map<String, String> args) {
+    args.put(ReportComputationJob.CUSTOM_FIELD, this.customField.name());
+  }
+
+  @Override
+  protected void addReportCacheKeyFilters(ReportCache.KeyBuilder key) {
+    key.withValue("customField", this.customField);
+  }
+
   @Override
   protected CustomFieldValueReport.Builder _this() {
     return this;
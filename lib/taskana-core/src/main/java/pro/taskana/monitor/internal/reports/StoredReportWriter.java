@@ -0,0 +1,102 @@
+package pro.taskana.monitor.internal.reports;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import pro.taskana.monitor.api.StoredReportRow;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.item.QueryItem;
+import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
+import pro.taskana.monitor.api.reports.row.FoldableRow;
+import pro.taskana.monitor.api.reports.row.Row;
+import pro.taskana.monitor.internal.StoredReportMapper;
+
+/**
+ * Writes the rows of a report into the STORED_REPORT_ROW table while its items are read. The items
+ * have to be ordered by their key, so that a row is complete as soon as an item with another key
+ * is read. The complete row is then removed from the report and written together with its foldable
+ * rows. Thus the report holds at most one row besides its sum row, no matter how many rows it has.
+ *
+ * @param <I> the type of the items of the report
+ */
+final class StoredReportWriter<I extends QueryItem> {
+
+  private static final int BATCH_SIZE = 100;
+
+  private final StoredReportMapper storedReportMapper;
+  private final String storedReportId;
+  private final Report<I, ?> report;
+  private final List<StoredReportRow> batch = new ArrayList<>(BATCH_SIZE);
+  private int rowCount;
+
+  StoredReportWriter(
+      StoredReportMapper storedReportMapper, String storedReportId, Report<I, ?> report) {
+    this.storedReportMapper = storedReportMapper;
+    this.storedReportId = storedReportId;
+    this.report = report;
+  }
+
+  /**
+   * Adds all items to the report and writes its rows followed by its sum row.
+   *
+   * @param items the items of the report ordered by their key
+   * @param preprocessor the preprocessor which is applied to every item
+   * @return the number of written rows
+   */
+  int write(Iterator<? extends I> items, QueryItemPreprocessor<I> preprocessor) {
+    boolean rowStarted = false;
+    String currentKey = null;
+    while (items.hasNext()) {
+      I item = preprocessor.apply(items.next());
+      if (rowStarted && !Objects.equals(currentKey, item.getKey())) {
+        writeRow(currentKey);
+      }
+      report.addItem(item);
+      currentKey = item.getKey();
+      rowStarted = true;
+    }
+    if (rowStarted) {
+      writeRow(currentKey);
+    }
+    addRow(null, null, report.getSumRow());
+    flush();
+    return rowCount;
+  }
+
+  private void writeRow(String key) {
+    // items which do not fit into any column header do not create a row
+    Row<I> row = report.getRows().remove(key);
+    if (row == null) {
+      return;
+    }
+    addRow(key, null, row);
+    if (row instanceof FoldableRow) {
+      FoldableRow<I> foldableRow = (FoldableRow<I>) row;
+      for (String subKey : foldableRow.getFoldableRowKeySet()) {
+        addRow(key, subKey, foldableRow.getFoldableRow(subKey));
+      }
+    }
+  }
+
+  private void addRow(String key, String subKey, Row<I> row) {
+    StoredReportRow storedReportRow = new StoredReportRow();
+    storedReportRow.setRowIndex(rowCount++);
+    storedReportRow.setKey(key);
+    storedReportRow.setSubKey(subKey);
+    storedReportRow.setTotal(row.getTotalValue());
+    storedReportRow.setCells(row.getCells());
+    batch.add(storedReportRow);
+    if (batch.size() == BATCH_SIZE) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    if (!batch.isEmpty()) {
+      storedReportMapper.insertRows(storedReportId, batch);
+      batch.clear();
+    }
+  }
+}
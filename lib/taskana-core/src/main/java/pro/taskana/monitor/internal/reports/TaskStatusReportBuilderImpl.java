@@ -5,11 +5,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.monitor.api.reports.TaskStatusReport;
 import pro.taskana.monitor.api.reports.item.TaskQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.monitor.internal.TaskStatistics;
 import pro.taskana.task.api.TaskState;
 
 /** The implementation of TaskStatusReportBuilder. */
@@ -18,13 +22,15 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatusReportBuilderImpl.class);
   private InternalTaskanaEngine taskanaEngine;
   private MonitorMapper monitorMapper;
+  private ReportCache reportCache;
   private List<String> domains;
   private List<TaskState> states;
 
   public TaskStatusReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
   }
 
   @Override
@@ -32,14 +38,17 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     try {
-      this.taskanaEngine.openConnection();
-      List<TaskQueryItem> tasks =
-          this.monitorMapper.getTasksCountByState(this.domains, this.states);
-      TaskStatusReport report = new TaskStatusReport(this.states);
-      report.addItems(tasks);
-      return report;
+      if (this.reportCache == null) {
+        return computeReport();
+      }
+      // the states are the column headers of the report, so their order is part of the key
+      String key =
+          new ReportCache.KeyBuilder(getClass(), "buildReport")
+              .withFilter("domains", this.domains)
+              .withValue("states", this.states)
+              .build();
+      return getFromReportCache(key);
     } finally {
-      this.taskanaEngine.returnConnection();
       LOGGER.debug("exit from buildReport().");
     }
   }
@@ -55,4 +64,31 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
     this.domains = domains;
     return this;
   }
+
+  private TaskStatusReport getFromReportCache(String key) throws NotAuthorizedException {
+    try {
+      return this.reportCache.getReport(key, this::computeReport);
+    } catch (InvalidArgumentException e) {
+      // the computation of the report does not throw it
+      throw new SystemException("The computation of the task status report failed.", e);
+    }
+  }
+
+  private TaskStatusReport computeReport() {
+    try {
+      this.taskanaEngine.openConnection();
+      TaskStatistics taskStatistics = this.taskanaEngine.getTaskStatistics();
+      List<TaskQueryItem> tasks;
+      if (taskStatistics != null && taskStatistics.isInitialized()) {
+        tasks = taskStatistics.getTasksCountByState(this.domains, this.states);
+      } else {
+        tasks = this.monitorMapper.getTasksCountByState(this.domains, this.states);
+      }
+      TaskStatusReport report = new TaskStatusReport(this.states);
+      report.addItems(tasks);
+      return report;
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
 }
@@ -1,26 +1,48 @@
 package pro.taskana.monitor.internal.reports;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.ibatis.cursor.Cursor;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.LoggerUtils;
+import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.security.CurrentUserContext;
+import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
 import pro.taskana.monitor.api.SelectedItem;
+import pro.taskana.monitor.api.StoredReport;
 import pro.taskana.monitor.api.reports.ClassificationReport;
+import pro.taskana.monitor.api.reports.Report;
 import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.AgeQueryItem;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.monitor.internal.ReportCache.ReportComputation;
+import pro.taskana.monitor.internal.StoredReportMapper;
+import pro.taskana.monitor.internal.TaskStatistics;
+import pro.taskana.monitor.internal.jobs.ReportComputationJob;
+import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.monitor.internal.preprocessor.WorkingDaysToDaysReportConverter;
 import pro.taskana.task.api.CustomField;
 import pro.taskana.task.api.TaskState;
@@ -39,9 +61,11 @@ abstract class TimeIntervalReportBuilderImpl<
     implements TimeIntervalReportBuilder<B, I, H> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TimeIntervalReportBuilder.class);
+  private static final String ID_PREFIX_STORED_REPORT = "SRP";
 
   protected InternalTaskanaEngine taskanaEngine;
   protected MonitorMapper monitorMapper;
+  protected ReportCache reportCache;
   protected List<H> columnHeaders;
   protected boolean inWorkingDays;
   protected List<String> workbasketIds;
@@ -52,9 +76,11 @@ abstract class TimeIntervalReportBuilderImpl<
   protected List<String> excludedClassificationIds;
   protected Map<CustomField, String> customAttributeFilter;
 
-  TimeIntervalReportBuilderImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  TimeIntervalReportBuilderImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
     this.columnHeaders = Collections.emptyList();
     configureWorkingDaysToDaysConverter();
   }
@@ -181,6 +207,229 @@ abstract class TimeIntervalReportBuilderImpl<
     }
   }
 
+  /**
+   * Counts the tasks of the report in the task statistics. This is only possible if the task
+   * statistics are enabled and have been built and if the report is not filtered by attributes
+   * which the task statistics do not contain.
+   *
+   * @param ageBuckets the age buckets the tasks are counted into or null to count them per day
+   * @return the number of tasks per key and age in days or null if the task statistics can not be
+   *     used
+   */
+  protected List<MonitorQueryItem> getTaskCountsFromTaskStatistics(List<AgeBucket> ageBuckets) {
+    if (!isSupportedByTaskStatistics()) {
+      return null;
+    }
+    TaskStatistics taskStatistics = taskanaEngine.getTaskStatistics();
+    if (taskStatistics == null || !taskStatistics.isInitialized()) {
+      return null;
+    }
+    return taskStatistics.getTaskCounts(
+        determineGroupedBy(),
+        this.workbasketIds,
+        this.states,
+        this.categories,
+        this.domains,
+        this.classificationIds,
+        this.excludedClassificationIds,
+        ageBuckets);
+  }
+
+  /**
+   * Returns the report from the report cache if it is enabled. The report is computed if the cache
+   * is disabled or holds no current snapshot of a report with the same filters and column headers.
+   * The caller has to check the permissions before.
+   *
+   * @param reportType the type of the report which distinguishes the reports of one builder
+   * @param computation the computation of the report
+   * @param <R> the type of the report
+   * @return the cached or computed report
+   * @throws InvalidArgumentException if the report can not be computed
+   * @throws NotAuthorizedException if the report can not be computed
+   */
+  protected <R extends Report<?, ?>> R getFromReportCache(
+      String reportType, ReportComputation<R> computation)
+      throws InvalidArgumentException, NotAuthorizedException {
+    if (this.reportCache == null) {
+      return computation.compute();
+    }
+    ReportCache.KeyBuilder key =
+        new ReportCache.KeyBuilder(getClass(), reportType)
+            .withColumnHeaders(this.columnHeaders)
+            .withValue("inWorkingDays", this.inWorkingDays)
+            .withFilter("workbasketIds", this.workbasketIds)
+            .withFilter("states", this.states)
+            .withFilter("categories", this.categories)
+            .withFilter("domains", this.domains)
+            .withFilter("classificationIds", this.classificationIds)
+            .withFilter("excludedClassificationIds", this.excludedClassificationIds)
+            .withFilter("customAttributeFilter", this.customAttributeFilter);
+    addReportCacheKeyFilters(key);
+    return this.reportCache.getReport(key.build(), computation);
+  }
+
+  /**
+   * Adds the filters of a specific builder to the key of its reports in the report cache.
+   *
+   * @param key the key of the report
+   */
+  protected void addReportCacheKeyFilters(ReportCache.KeyBuilder key) {}
+
+  /**
+   * Creates a pending stored report and schedules the {@link ReportComputationJob} which computes
+   * it with the filters and column headers of this builder. The caller has to check the
+   * permissions before.
+   *
+   * @param storedReportMapper the mapper of the stored reports
+   * @param reportType the type of the report which the job computes
+   * @return the pending stored report
+   * @throws InvalidArgumentException if the column headers are not initialized
+   */
+  protected StoredReport scheduleStoredReport(
+      StoredReportMapper storedReportMapper, String reportType) throws InvalidArgumentException {
+    if (this.columnHeaders == null) {
+      throw new InvalidArgumentException("ColumnHeader must not be null.");
+    }
+    StoredReport storedReport = new StoredReport();
+    storedReport.setId(IdGenerator.generateWithPrefix(ID_PREFIX_STORED_REPORT));
+    storedReport.setName(reportType);
+    storedReport.setState(StoredReport.State.PENDING);
+    storedReport.setCreated(Instant.now());
+    storedReport.setCreatedBy(CurrentUserContext.getUserid());
+    storedReport.setColumnHeaders(
+        this.columnHeaders.stream()
+            .map(TimeIntervalColumnHeader::getDisplayName)
+            .collect(Collectors.toList()));
+
+    Map<String, String> args = new HashMap<>();
+    args.put(ReportComputationJob.STORED_REPORT_ID, storedReport.getId());
+    args.put(ReportComputationJob.REPORT_TYPE, reportType);
+    JSONArray headers = new JSONArray();
+    for (H columnHeader : this.columnHeaders) {
+      headers.put(
+          new JSONArray()
+              .put(columnHeader.getLowerAgeLimit())
+              .put(columnHeader.getUpperAgeLimit()));
+    }
+    args.put(ReportComputationJob.COLUMN_HEADERS, headers.toString());
+    args.put(ReportComputationJob.IN_WORKING_DAYS, String.valueOf(this.inWorkingDays));
+    putStoredReportArgument(args, ReportComputationJob.WORKBASKET_IDS, this.workbasketIds);
+    putStoredReportArgument(args, ReportComputationJob.STATES, this.states);
+    putStoredReportArgument(args, ReportComputationJob.CATEGORIES, this.categories);
+    putStoredReportArgument(args, ReportComputationJob.DOMAINS, this.domains);
+    putStoredReportArgument(args, ReportComputationJob.CLASSIFICATION_IDS, this.classificationIds);
+    putStoredReportArgument(
+        args, ReportComputationJob.EXCLUDED_CLASSIFICATION_IDS, this.excludedClassificationIds);
+    if (this.customAttributeFilter != null) {
+      JSONObject filter = new JSONObject();
+      this.customAttributeFilter.forEach((field, value) -> filter.put(field.name(), value));
+      args.put(ReportComputationJob.CUSTOM_ATTRIBUTE_FILTER, filter.toString());
+    }
+    addStoredReportArguments(args);
+
+    try {
+      this.taskanaEngine.openConnection();
+      storedReportMapper.insert(storedReport);
+      ScheduledJob job = new ScheduledJob();
+      job.setType(ScheduledJob.Type.REPORTCOMPUTATIONJOB);
+      job.setArguments(args);
+      this.taskanaEngine.getEngine().getJobService().createJob(job);
+      return storedReport;
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Adds the filters of a specific builder to the arguments of the {@link ReportComputationJob}.
+   *
+   * @param args the arguments of the job
+   */
+  protected void addStoredReportArguments(Map<String, String> args) {}
+
+  /**
+   * Computes a scheduled report and stores its rows. The items of the report are read with a
+   * cursor, which has to return them ordered by their key, so that only the current row is held in
+   * memory. The report is not computed if it has been deleted or completed in the meantime.
+   *
+   * @param storedReportMapper the mapper of the stored reports
+   * @param storedReportId the id of the stored report
+   * @param report the empty report which aggregates the items
+   * @param itemCursor opens the cursor of the items for the given age buckets
+   * @param <J> the type of the items of the report
+   * @throws InvalidArgumentException if the column headers can not be converted to days
+   */
+  protected <J extends AgeQueryItem> void storeReport(
+      StoredReportMapper storedReportMapper,
+      String storedReportId,
+      Report<J, ?> report,
+      Function<List<AgeBucket>, Cursor<? extends J>> itemCursor)
+      throws InvalidArgumentException {
+    try {
+      this.taskanaEngine.openConnection();
+      StoredReport storedReport = storedReportMapper.findById(storedReportId);
+      if (storedReport == null || storedReport.getState() != StoredReport.State.PENDING) {
+        LOGGER.info("Stored report {} is not pending. It is not computed.", storedReportId);
+        return;
+      }
+      // rows of a previous attempt which has not been rolled back
+      storedReportMapper.deleteRows(storedReportId);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
+      QueryItemPreprocessor<J> preprocessor =
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null);
+      int rowCount;
+      try (Cursor<? extends J> items = itemCursor.apply(ageBuckets)) {
+        rowCount =
+            new StoredReportWriter<>(storedReportMapper, storedReportId, report)
+                .write(items.iterator(), preprocessor);
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the stored report.", e);
+      }
+      storedReportMapper.setCompleted(storedReportId, Instant.now(), rowCount);
+      LOGGER.debug("Stored {} rows of report {}.", rowCount, storedReportId);
+    } finally {
+      this.taskanaEngine.returnConnection();
+    }
+  }
+
+  protected boolean isSupportedByTaskStatistics() {
+    return this.customAttributeFilter == null;
+  }
+
+  /**
+   * Translates the column headers into the ranges of days which the database counts into one
+   * column each, so that it returns at most one row per key and column. Column headers in working
+   * days are translated with the calendar. The tasks of a range are reported with the lower age
+   * limit of its column header, so that they must not be converted by the {@link
+   * DaysToWorkingDaysReportPreProcessor} again.
+   *
+   * @return the age buckets or null if the column headers are empty, unsorted or overlap
+   * @throws InvalidArgumentException if the column headers can not be converted to days
+   */
+  protected List<AgeBucket> determineAgeBuckets() throws InvalidArgumentException {
+    if (this.columnHeaders.isEmpty()
+        || !TimeIntervalColumnHeader.isSortedAndDisjoint(this.columnHeaders)) {
+      return null;
+    }
+    WorkingDaysToDaysReportConverter converter =
+        this.inWorkingDays ? WorkingDaysToDaysReportConverter.initialize(this.columnHeaders) : null;
+    List<AgeBucket> ageBuckets = new ArrayList<>();
+    for (H columnHeader : this.columnHeaders) {
+      int lowerAgeLimit = columnHeader.getLowerAgeLimit();
+      int upperAgeLimit = columnHeader.getUpperAgeLimit();
+      if (converter != null) {
+        lowerAgeLimit = converter.convertLowerWorkingDaysLimitToDays(lowerAgeLimit);
+        upperAgeLimit = converter.convertUpperWorkingDaysLimitToDays(upperAgeLimit);
+      }
+      if (lowerAgeLimit <= upperAgeLimit) {
+        ageBuckets.add(
+            new AgeBucket(lowerAgeLimit, upperAgeLimit, columnHeader.getLowerAgeLimit()));
+      }
+    }
+    return ageBuckets.isEmpty() ? null : ageBuckets;
+  }
+
   @SuppressWarnings("checkstyle:MethodName")
   protected abstract B _this();
 
@@ -207,6 +456,15 @@ abstract class TimeIntervalReportBuilderImpl<
     return selectedItems;
   }
 
+  private static void putStoredReportArgument(
+      Map<String, String> args, String name, List<?> values) {
+    if (values != null) {
+      JSONArray array = new JSONArray();
+      values.forEach(value -> array.put(String.valueOf(value)));
+      args.put(name, array.toString());
+    }
+  }
+
   private boolean subKeyIsSet(List<SelectedItem> selectedItems) {
     for (SelectedItem selectedItem : selectedItems) {
       if (selectedItem.getSubKey() != null && !selectedItem.getSubKey().isEmpty()) {
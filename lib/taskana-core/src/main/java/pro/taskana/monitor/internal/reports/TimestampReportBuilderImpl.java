@@ -2,9 +2,8 @@ package pro.taskana.monitor.internal.reports;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,7 +16,9 @@ import pro.taskana.monitor.api.reports.TimestampReport;
 import pro.taskana.monitor.api.reports.TimestampReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.TimestampQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.Timestamp;
@@ -31,8 +32,8 @@ public class TimestampReportBuilderImpl
   private List<Timestamp> status = Arrays.asList(Timestamp.CREATED, Timestamp.COMPLETED);
 
   public TimestampReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -56,6 +57,12 @@ public class TimestampReportBuilderImpl
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  protected void addReportCacheKeyFilters(ReportCache.KeyBuilder key) {
+    // the rows of the report are ordered like the statuses, so their order is part of the key
+    key.withValue("timestamps", this.status);
+  }
+
   @Override
   public TimestampReport.Builder withTimestamps(List<Timestamp> statuses) {
     this.status = new ArrayList<>(statuses);
@@ -66,36 +73,40 @@ public class TimestampReportBuilderImpl
   public TimestampReport buildReport() throws NotAuthorizedException, InvalidArgumentException {
     LOGGER.debug("entry to buildDetailedReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    try {
+      return getFromReportCache("buildReport", this::computeReport);
+    } finally {
+      LOGGER.debug("exit from buildDetailedReport().");
+    }
+  }
+
+  private TimestampReport computeReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       TimestampReport report = new TimestampReport(this.columnHeaders);
+      if (status.isEmpty()) {
+        return report;
+      }
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<TimestampQueryItem> items =
-          status.stream()
-              // This can also be implemented into a single sql query which combines all statuses
-              // with the union
-              // operator. That would reduce the readability of the sql template. That's why "the
-              // loop" is done
-              // outside of mybatis.
-              .map(this::getTasksCountForStatusGroupedByOrgLevel)
-              .flatMap(Collection::stream)
-              .collect(Collectors.toList());
+          monitorMapper.getTasksCountForStatusesGroupedByOrgLevel(
+              status,
+              categories,
+              classificationIds,
+              excludedClassificationIds,
+              domains,
+              customAttributeFilter,
+              ageBuckets);
+      // the rows of the report are ordered like the requested statuses
+      items.sort(Comparator.comparingInt(item -> status.indexOf(Timestamp.valueOf(item.getKey()))));
 
       report.addItems(
-          items, new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          items,
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildDetailedReport().");
     }
   }
-
-  private List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(Timestamp s) {
-    return monitorMapper.getTasksCountForStatusGroupedByOrgLevel(
-        s,
-        categories,
-        classificationIds,
-        excludedClassificationIds,
-        domains,
-        customAttributeFilter);
-  }
 }
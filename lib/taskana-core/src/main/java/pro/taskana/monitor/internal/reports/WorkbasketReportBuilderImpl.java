@@ -13,7 +13,9 @@ import pro.taskana.monitor.api.reports.WorkbasketReport;
 import pro.taskana.monitor.api.reports.WorkbasketReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of WorkbasketReportBuilder. */
@@ -25,34 +27,47 @@ public class WorkbasketReportBuilderImpl
   private List<CombinedClassificationFilter> combinedClassificationFilter;
 
   public WorkbasketReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public WorkbasketReport buildReport() throws InvalidArgumentException, NotAuthorizedException {
     LOGGER.debug("entry to buildReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    try {
+      return getFromReportCache("buildReport", this::computeReport);
+    } finally {
+      LOGGER.debug("exit from buildReport().");
+    }
+  }
+
+  private WorkbasketReport computeReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
-      List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfWorkbaskets(
-              this.workbasketIds,
-              this.states,
-              this.categories,
-              this.domains,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter,
-              this.combinedClassificationFilter);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
+      List<MonitorQueryItem> monitorQueryItems = getTaskCountsFromTaskStatistics(ageBuckets);
+      if (monitorQueryItems == null) {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfWorkbaskets(
+                this.workbasketIds,
+                this.states,
+                this.categories,
+                this.domains,
+                this.classificationIds,
+                this.excludedClassificationIds,
+                this.customAttributeFilter,
+                this.combinedClassificationFilter,
+                ageBuckets);
+      }
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildReport().");
     }
   }
 
@@ -61,9 +76,18 @@ public class WorkbasketReportBuilderImpl
       throws NotAuthorizedException, InvalidArgumentException {
     LOGGER.debug("entry to buildPlannedDateReport(), this = {}", this);
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    try {
+      return getFromReportCache("buildPlannedDateBasedReport", this::computePlannedDateBasedReport);
+    } finally {
+      LOGGER.debug("exit from buildPlannedDateReport().");
+    }
+  }
+
+  private WorkbasketReport computePlannedDateBasedReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<MonitorQueryItem> monitorQueryItems =
           this.monitorMapper.getTaskCountOfWorkbasketsBasedOnPlannedDate(
               this.workbasketIds,
@@ -73,14 +97,15 @@ public class WorkbasketReportBuilderImpl
               this.classificationIds,
               this.excludedClassificationIds,
               this.customAttributeFilter,
-              this.combinedClassificationFilter);
+              this.combinedClassificationFilter,
+              ageBuckets);
       report.addItems(
           monitorQueryItems,
-          new DaysToWorkingDaysReportPreProcessor<>(this.columnHeaders, this.inWorkingDays));
+          new DaysToWorkingDaysReportPreProcessor<>(
+              this.columnHeaders, this.inWorkingDays && ageBuckets == null));
       return report;
     } finally {
       this.taskanaEngine.returnConnection();
-      LOGGER.debug("exit from buildPlannedDateReport().");
     }
   }
 
@@ -91,6 +116,16 @@ public class WorkbasketReportBuilderImpl
     return this;
   }
 
+  @Override
+  protected void addReportCacheKeyFilters(ReportCache.KeyBuilder key) {
+    key.withFilter("combinedClassificationFilter", this.combinedClassificationFilter);
+  }
+
+  @Override
+  protected boolean isSupportedByTaskStatistics() {
+    return super.isSupportedByTaskStatistics() && this.combinedClassificationFilter == null;
+  }
+
   @Override
   protected WorkbasketReport.Builder _this() {
     return this;
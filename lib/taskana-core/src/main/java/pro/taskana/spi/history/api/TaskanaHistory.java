@@ -1,5 +1,7 @@
 package pro.taskana.spi.history.api;
 
+import java.util.List;
+
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
@@ -20,4 +22,14 @@ public interface TaskanaHistory {
    * @param event {@link TaskanaHistoryEvent} The event to be created.
    */
   void create(TaskanaHistoryEvent event);
+
+  /**
+   * Create several new history events. Providers should override this to store the events with
+   * as few round trips as possible. By default, the events are created one by one.
+   *
+   * @param events the {@link TaskanaHistoryEvent}s to be created.
+   */
+  default void create(List<TaskanaHistoryEvent> events) {
+    events.forEach(this::create);
+  }
 }
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 
 /** Event fired if a task is transferred. */
@@ -19,4 +20,16 @@ public class TransferredEvent extends TaskEvent {
     this.oldValue = oldWorkbasket.getId();
     this.newValue = newWorkbasket.getId();
   }
+
+  public TransferredEvent(
+      TaskSummary task,
+      WorkbasketSummary oldWorkbasket,
+      WorkbasketSummary newWorkbasket,
+      String userId) {
+    super(task, userId, null);
+    eventType = "TASK_TRANSFERRED";
+    created = task.getModified();
+    this.oldValue = oldWorkbasket.getId();
+    this.newValue = newWorkbasket.getId();
+  }
 }
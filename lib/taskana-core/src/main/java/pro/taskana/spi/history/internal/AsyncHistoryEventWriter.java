@@ -0,0 +1,212 @@
+package pro.taskana.spi.history.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/**
+ * Decouples the creation of history events from the threads which produce them. Events are put
+ * into a bounded queue and written by a background thread in batches, either when a batch is full
+ * or when the flush interval has elapsed. When the queue is full, producers are either blocked or
+ * the event is dropped, depending on the configuration.
+ */
+public final class AsyncHistoryEventWriter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryEventWriter.class);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+  private final BlockingQueue<QueuedEvent> queue;
+  private final Consumer<List<TaskanaHistoryEvent>> eventSink;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final boolean blockWhenFull;
+  private final Thread writerThread;
+  private final Thread shutdownHook;
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final AtomicLong failedEvents = new AtomicLong();
+  private final AtomicLong writtenEvents = new AtomicLong();
+  private final AtomicLong totalLatencyNanos = new AtomicLong();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+  private volatile boolean running = true;
+
+  AsyncHistoryEventWriter(
+      Consumer<List<TaskanaHistoryEvent>> eventSink,
+      int queueCapacity,
+      int batchSize,
+      Duration flushInterval,
+      boolean blockWhenFull) {
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.eventSink = eventSink;
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.blockWhenFull = blockWhenFull;
+    this.writerThread = new Thread(this::writeEvents, "taskana-history-writer");
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+    this.shutdownHook = new Thread(this::shutdown, "taskana-history-writer-shutdown");
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
+  }
+
+  public void enqueue(TaskanaHistoryEvent event) {
+    QueuedEvent queuedEvent = new QueuedEvent(event);
+    if (!running) {
+      LOGGER.warn("History event writer was shut down. Dropping event {}", event);
+      droppedEvents.incrementAndGet();
+    } else if (blockWhenFull) {
+      try {
+        queue.put(queuedEvent);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.warn("Interrupted while waiting for space in history queue. Dropping event", e);
+        droppedEvents.incrementAndGet();
+      }
+    } else if (!queue.offer(queuedEvent)) {
+      LOGGER.warn("History queue is full. Dropping event {}", event);
+      droppedEvents.incrementAndGet();
+    }
+  }
+
+  /**
+   * Stops accepting new events and waits until all queued events are written. This is called by a
+   * shutdown hook, too, which is removed when the writer is shut down explicitly.
+   */
+  public void shutdown() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    if (Thread.currentThread() != shutdownHook) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      } catch (IllegalStateException e) {
+        // the JVM is already shutting down and runs the hook anyway
+      }
+    }
+    LOGGER.debug("Shutting down history event writer with {} queued events", queue.size());
+    try {
+      writerThread.join(SHUTDOWN_TIMEOUT.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!queue.isEmpty()) {
+      LOGGER.error("History event writer stopped with {} unwritten events", queue.size());
+    }
+  }
+
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  public long getDroppedEventCount() {
+    return droppedEvents.get();
+  }
+
+  public long getFailedEventCount() {
+    return failedEvents.get();
+  }
+
+  public long getWrittenEventCount() {
+    return writtenEvents.get();
+  }
+
+  /** Returns the average time between queueing and writing of the events written so far. */
+  public Duration getAverageLatency() {
+    long written = writtenEvents.get();
+    return written == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.get() / written);
+  }
+
+  public Duration getMaxLatency() {
+    return Duration.ofNanos(maxLatencyNanos.get());
+  }
+
+  private void writeEvents() {
+    while (running || !queue.isEmpty()) {
+      try {
+        List<QueuedEvent> batch = collectBatch();
+        if (!batch.isEmpty()) {
+          writeBatch(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.warn("History event writer was interrupted", e);
+        return;
+      }
+    }
+  }
+
+  private List<QueuedEvent> collectBatch() throws InterruptedException {
+    List<QueuedEvent> batch = new ArrayList<>(batchSize);
+    QueuedEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return batch;
+    }
+    batch.add(first);
+    long deadline = System.nanoTime() + flushIntervalNanos;
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0 || !running) {
+        break;
+      }
+      QueuedEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  private void writeBatch(List<QueuedEvent> batch) {
+    try {
+      eventSink.accept(batch.stream().map(e -> e.event).collect(Collectors.toList()));
+      recordWrittenEvents(batch);
+      LOGGER.debug("Wrote {} history events, {} are still queued", batch.size(), queue.size());
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not write {} history events, writing them one by one", batch.size(), e);
+      batch.forEach(this::writeSingleEvent);
+    }
+  }
+
+  private void writeSingleEvent(QueuedEvent queuedEvent) {
+    try {
+      eventSink.accept(Collections.singletonList(queuedEvent.event));
+      recordWrittenEvents(Collections.singletonList(queuedEvent));
+    } catch (RuntimeException e) {
+      // the event is logged completely so that it can be recovered from the log
+      LOGGER.error("Could not write history event {}", queuedEvent.event, e);
+      failedEvents.incrementAndGet();
+    }
+  }
+
+  private void recordWrittenEvents(List<QueuedEvent> batch) {
+    long now = System.nanoTime();
+    for (QueuedEvent queuedEvent : batch) {
+      long latency = now - queuedEvent.enqueuedAt;
+      totalLatencyNanos.addAndGet(latency);
+      maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+    writtenEvents.addAndGet(batch.size());
+  }
+
+  private static final class QueuedEvent {
+
+    private final TaskanaHistoryEvent event;
+    private final long enqueuedAt = System.nanoTime();
+
+    private QueuedEvent(TaskanaHistoryEvent event) {
+      this.event = event;
+    }
+  }
+}
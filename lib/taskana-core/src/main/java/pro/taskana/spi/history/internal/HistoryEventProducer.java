@@ -1,5 +1,8 @@
 package pro.taskana.spi.history.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import org.slf4j.Logger;
@@ -9,26 +12,51 @@ import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.spi.history.api.TaskanaHistory;
 import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 
-/** Creates events and emits them to the registered history service providers. */
+/**
+ * Creates events and emits them to the registered history service providers. If the history
+ * outbox is enabled, the events are stored in the outbox and forwarded later. If the asynchronous
+ * history is enabled, the events are queued and written by a background thread instead.
+ */
 public final class HistoryEventProducer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventProducer.class);
   private static HistoryEventProducer singleton;
   private boolean enabled = false;
-  private ServiceLoader<TaskanaHistory> serviceLoader;
+  private final List<TaskanaHistory> historyProviders;
+  private AsyncHistoryEventWriter asyncEventWriter;
+  private final HistoryOutbox outbox;
 
   private HistoryEventProducer(TaskanaEngineConfiguration taskanaEngineConfiguration) {
-    serviceLoader = ServiceLoader.load(TaskanaHistory.class);
+    historyProviders = new ArrayList<>();
+    outbox = null;
+    ServiceLoader<TaskanaHistory> serviceLoader = ServiceLoader.load(TaskanaHistory.class);
     for (TaskanaHistory history : serviceLoader) {
       history.initialize(taskanaEngineConfiguration);
+      historyProviders.add(history);
       LOGGER.info("Registered history provider: {}", history.getClass().getName());
       enabled = true;
     }
     if (!enabled) {
       LOGGER.info("No history provider found. Running without history.");
+    } else if (taskanaEngineConfiguration.isHistoryAsyncEnabled()) {
+      asyncEventWriter =
+          new AsyncHistoryEventWriter(
+              this::emitEvents,
+              taskanaEngineConfiguration.getHistoryAsyncQueueCapacity(),
+              taskanaEngineConfiguration.getHistoryAsyncBatchSize(),
+              taskanaEngineConfiguration.getHistoryAsyncFlushInterval(),
+              taskanaEngineConfiguration.isHistoryAsyncBlockWhenFull());
+      LOGGER.info("History events are written asynchronously.");
     }
   }
 
+  private HistoryEventProducer(HistoryEventProducer producer, HistoryOutbox outbox) {
+    this.enabled = producer.enabled;
+    this.historyProviders = producer.historyProviders;
+    this.asyncEventWriter = producer.asyncEventWriter;
+    this.outbox = outbox;
+  }
+
   public static synchronized HistoryEventProducer getInstance(
       TaskanaEngineConfiguration taskanaEngineConfiguration) {
     if (singleton == null) {
@@ -41,8 +69,61 @@ public final class HistoryEventProducer {
     return Objects.nonNull(singleton) && singleton.enabled;
   }
 
+  /**
+   * Returns the writer which emits the events asynchronously, e.g. to read its metrics.
+   *
+   * @return the asynchronous writer or null if the events are emitted synchronously
+   */
+  public AsyncHistoryEventWriter getAsyncEventWriter() {
+    return asyncEventWriter;
+  }
+
+  /**
+   * Returns a producer which stores the events in the given outbox instead of emitting them to the
+   * providers. The events are forwarded to the providers by the HistoryOutboxJob. The outbox
+   * belongs to one TaskanaEngine, therefore every engine holds its own producer while the providers
+   * and the asynchronous writer are shared with this producer.
+   *
+   * @param outbox the outbox of the engine
+   * @return a producer which stores the events in the given outbox
+   */
+  public HistoryEventProducer withOutbox(HistoryOutbox outbox) {
+    return new HistoryEventProducer(this, outbox);
+  }
+
+  public HistoryOutbox getOutbox() {
+    return outbox;
+  }
+
   public void createEvent(TaskanaHistoryEvent event) {
-    LOGGER.debug("Sending event to history service providers: {}", event);
-    serviceLoader.forEach(historyProvider -> historyProvider.create(event));
+    if (outbox != null) {
+      outbox.store(Collections.singletonList(event));
+    } else if (asyncEventWriter != null) {
+      asyncEventWriter.enqueue(event);
+    } else {
+      LOGGER.debug("Sending event to history service providers: {}", event);
+      historyProviders.forEach(historyProvider -> historyProvider.create(event));
+    }
+  }
+
+  public void createEvents(List<TaskanaHistoryEvent> events) {
+    if (outbox != null) {
+      outbox.store(events);
+    } else if (asyncEventWriter != null) {
+      events.forEach(asyncEventWriter::enqueue);
+    } else {
+      emitEvents(events);
+    }
+  }
+
+  /**
+   * Emits the events to the history service providers directly, bypassing the outbox and the
+   * asynchronous writer.
+   *
+   * @param events the events to emit
+   */
+  public void emitEvents(List<TaskanaHistoryEvent> events) {
+    LOGGER.debug("Sending {} events to history service providers", events.size());
+    historyProviders.forEach(historyProvider -> historyProvider.create(events));
   }
 }
@@ -0,0 +1,93 @@
+package pro.taskana.spi.history.internal;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/**
+ * Stores history events in the HISTORY_OUTBOX table within the transaction of the operation which
+ * produced them. The stored events are forwarded to the history service providers later by the
+ * {@link pro.taskana.spi.history.internal.jobs.HistoryOutboxJob}.
+ */
+public class HistoryOutbox {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryOutbox.class);
+  private static final int INSERT_BATCH_SIZE = 100;
+
+  private final InternalTaskanaEngine taskanaEngine;
+  private final HistoryOutboxMapper historyOutboxMapper;
+
+  public HistoryOutbox(
+      InternalTaskanaEngine taskanaEngine, HistoryOutboxMapper historyOutboxMapper) {
+    this.taskanaEngine = taskanaEngine;
+    this.historyOutboxMapper = historyOutboxMapper;
+  }
+
+  public void store(List<TaskanaHistoryEvent> events) {
+    LOGGER.debug("entry to store(events.size() = {})", events.size());
+    try {
+      taskanaEngine.openConnection();
+      for (int i = 0; i < events.size(); i += INSERT_BATCH_SIZE) {
+        historyOutboxMapper.insertEvents(
+            events.subList(i, Math.min(i + INSERT_BATCH_SIZE, events.size())));
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from store()");
+    }
+  }
+
+  /**
+   * Returns the oldest events of the outbox.
+   *
+   * @param limit the maximum number of events to return
+   * @return the events ordered by the sequence in which they were stored
+   */
+  public List<TaskanaHistoryEvent> findEvents(int limit) {
+    LOGGER.debug("entry to findEvents(limit = {})", limit);
+    List<TaskanaHistoryEvent> events = null;
+    try {
+      taskanaEngine.openConnection();
+      events = historyOutboxMapper.findEvents(limit, false);
+      return events;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from findEvents(). Returning {} events", events == null ? 0 : events.size());
+    }
+  }
+
+  /**
+   * Claims the oldest events of the outbox, passes them to the consumer and deletes them within one
+   * transaction. The claimed rows stay locked until the transaction ends, so concurrent dispatchers
+   * never hand out the same event twice. If the consumer fails, the events are not deleted and are
+   * claimed again by the next dispatch.
+   *
+   * @param limit the maximum number of events to dispatch
+   * @param consumer receives the claimed events ordered by the sequence in which they were stored
+   * @return the number of dispatched events
+   */
+  public int dispatchEvents(int limit, Consumer<List<TaskanaHistoryEvent>> consumer) {
+    LOGGER.debug("entry to dispatchEvents(limit = {})", limit);
+    int numberOfEvents = 0;
+    try {
+      taskanaEngine.openConnection();
+      List<TaskanaHistoryEvent> events = historyOutboxMapper.findEvents(limit, true);
+      if (!events.isEmpty()) {
+        consumer.accept(events);
+        historyOutboxMapper.deleteEvents(
+            events.stream().map(TaskanaHistoryEvent::getId).collect(Collectors.toList()));
+      }
+      numberOfEvents = events.size();
+      return numberOfEvents;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from dispatchEvents(). Dispatched {} events", numberOfEvents);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package pro.taskana.spi.history.internal.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.spi.history.internal.HistoryEventProducer;
+
+/**
+ * Job to forward the history events stored in the history outbox to the history service
+ * providers. The events are claimed, emitted and deleted in batches, each batch within its own
+ * transaction, so jobs running concurrently on several nodes do not emit an event twice. If
+ * emitting a batch fails, its events stay in the outbox and are emitted again by the next run.
+ */
+public class HistoryOutboxJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryOutboxJob.class);
+
+  // Parameter
+  private final Duration dispatchInterval;
+  private final int batchSize;
+
+  public HistoryOutboxJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob job) {
+    super(taskanaEngine, txProvider, job);
+    dispatchInterval = taskanaEngine.getConfiguration().getHistoryOutboxDispatchInterval();
+    batchSize = taskanaEngine.getConfiguration().getHistoryOutboxBatchSize();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    LOGGER.info("Running job to forward the events of the history outbox");
+    try {
+      int totalNumberOfEventsDispatched = 0;
+      int numberOfEventsDispatched;
+      do {
+        numberOfEventsDispatched = dispatchEventsTransactionally();
+        totalNumberOfEventsDispatched += numberOfEventsDispatched;
+      } while (numberOfEventsDispatched == batchSize);
+      LOGGER.info(
+          "Job ended successfully. {} history events forwarded.", totalNumberOfEventsDispatched);
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing HistoryOutboxJob.", e);
+    } finally {
+      scheduleNextHistoryOutboxJob();
+    }
+  }
+
+  /**
+   * Initializes the HistoryOutboxJob schedule. <br>
+   * A new job is scheduled to run after the configured dispatch interval unless a HistoryOutboxJob
+   * is already waiting to be run. Every job schedules its successor, so a job is only missing on
+   * the first start.
+   *
+   * @param taskanaEngine the taskana engine
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    if (jobService.hasReadyJob(ScheduledJob.Type.HISTORYOUTBOXJOB)) {
+      LOGGER.debug("HistoryOutboxJob is already scheduled.");
+      return;
+    }
+    HistoryOutboxJob job = new HistoryOutboxJob(taskanaEngine, null, null);
+    job.scheduleNextHistoryOutboxJob();
+  }
+
+  private int dispatchEventsTransactionally() {
+    if (txProvider != null) {
+      return (Integer) txProvider.executeInTransaction(this::dispatchEvents);
+    } else {
+      return dispatchEvents();
+    }
+  }
+
+  private int dispatchEvents() {
+    HistoryEventProducer historyEventProducer =
+        HistoryEventProducer.getInstance(taskanaEngineImpl.getConfiguration());
+    int numberOfEvents =
+        taskanaEngineImpl
+            .getHistoryOutbox()
+            .dispatchEvents(batchSize, historyEventProducer::emitEvents);
+    LOGGER.debug("{} history events forwarded.", numberOfEvents);
+    return numberOfEvents;
+  }
+
+  private void scheduleNextHistoryOutboxJob() {
+    LOGGER.debug("Entry to scheduleNextHistoryOutboxJob.");
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.HISTORYOUTBOXJOB);
+    job.setDue(Instant.now().plus(dispatchInterval));
+    taskanaEngineImpl.getJobService().createJob(job);
+    LOGGER.debug("Exit from scheduleNextHistoryOutboxJob.");
+  }
+}
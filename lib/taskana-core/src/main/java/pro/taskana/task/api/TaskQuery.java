@@ -1,5 +1,8 @@
 package pro.taskana.task.api;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TimeInterval;
@@ -902,4 +905,59 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    * @return the query
    */
   TaskQuery orderByAttachmentReceived(SortDirection sortDirection);
+
+  /**
+   * Fetches the workbasket summaries, classification summaries and attachment summaries of the
+   * resulting tasks together with the tasks in one single SQL statement instead of querying them
+   * separately after the tasks have been selected. This reduces the number of database round trips
+   * of {@link #list()} and {@link #list(int, int)}. Since each attachment results in an additional
+   * row, this mode is best used for paged queries. It is not supported on DB2, where it has no
+   * effect.
+   *
+   * @return the query
+   */
+  TaskQuery joinedFetch();
+
+  /**
+   * Returns the tasks which follow the task the cursor points to (keyset pagination).
+   * The tasks are ordered by the order criteria of this query and additionally by the task id, so
+   * that the position of each task is unique. In contrast to {@link #list(int, int)} the database
+   * doesn't have to read and skip the preceding tasks, so that the cost of a page is independent
+   * of its position. Keyset pagination is only supported for order criteria which refer to columns
+   * of the task itself or to the classification name, not for attachment criteria.
+   *
+   * @param cursor the cursor returned by {@link #getCursor(TaskSummary)} for the last task of the
+   *     previous page or null to get the first page
+   * @param limit the maximal number of tasks which should be returned
+   * @return the tasks following the cursor
+   * @throws InvalidArgumentException if the cursor is invalid or has been created for a different
+   *     order or if keyset pagination is not supported for the order criteria of this query
+   */
+  List<TaskSummary> listAfter(String cursor, int limit) throws InvalidArgumentException;
+
+  /**
+   * Creates an opaque cursor for {@link #listAfter(String, int)} which points to the given task.
+   * The cursor contains the values of the order criteria of this query and is therefore only valid
+   * for queries with the same order.
+   *
+   * @param taskSummary the last task of the current page
+   * @return the cursor pointing to the given task
+   * @throws InvalidArgumentException if taskSummary is null or if keyset pagination is not
+   *     supported for the order criteria of this query
+   */
+  String getCursor(TaskSummary taskSummary) throws InvalidArgumentException;
+
+  /**
+   * Passes all tasks matching this query to the given consumer without loading them into memory at
+   * once. The tasks are read from a database cursor and augmented in chunks of batchSize tasks, so
+   * that the memory consumption is independent of the number of matching tasks. The rows are
+   * fetched from the database in chunks of 1000, which PostgreSQL only honors if the connection is
+   * not in auto-commit mode. The consumer is called while the cursor is open and must therefore not
+   * close the connection of the engine.
+   *
+   * @param batchSize the number of tasks which are augmented together
+   * @param consumer the consumer which is called for each matching task
+   * @throws InvalidArgumentException if batchSize is not positive or consumer is null
+   */
+  void forEach(int batchSize, Consumer<TaskSummary> consumer) throws InvalidArgumentException;
 }
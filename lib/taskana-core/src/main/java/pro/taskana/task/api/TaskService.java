@@ -136,6 +136,19 @@ public interface TaskService {
       throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
           TaskAlreadyExistException, InvalidArgumentException;
 
+  /**
+   * Persists a list of not persisted Tasks. Workbaskets, permissions and classifications are
+   * resolved only once per distinct key and the tasks are inserted in batches. Tasks without an
+   * external id get a generated one, which is used to report failures.
+   *
+   * @param tasksToCreate the transient task objects to be persisted
+   * @return the result of the operations with external Id and Exception for each failed task
+   *     creation.
+   * @throws InvalidArgumentException if the list of tasks is NULL
+   */
+  BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException;
+
   /**
    * Get the details of a task by Id without checking permissions.
    *
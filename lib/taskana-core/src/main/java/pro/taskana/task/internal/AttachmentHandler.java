@@ -27,6 +27,8 @@ import pro.taskana.task.internal.models.TaskImpl;
 public class AttachmentHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentHandler.class);
   private static final String ID_PREFIX_ATTACHMENT = "TAI";
+  // 14 bind parameters per attachment stay far below the limits of the JDBC drivers
+  private static final int INSERT_ATTACHMENTS_BATCH_SIZE = 500;
   private final AttachmentMapper attachmentMapper;
   private final ClassificationService classificationService;
 
@@ -157,6 +159,41 @@ public class AttachmentHandler {
     }
   }
 
+  List<AttachmentImpl> initializeNewAttachmentsOnTaskCreation(TaskImpl task)
+      throws InvalidArgumentException {
+    List<AttachmentImpl> attachmentImpls = new ArrayList<>();
+    List<Attachment> attachments = task.getAttachments();
+    if (attachments != null) {
+      for (Attachment attachment : attachments) {
+        AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
+        ObjectReference.validate(
+            attachmentImpl.getObjectReference(), "ObjectReference", "Attachment");
+        initAttachment(attachmentImpl, task);
+        attachmentImpls.add(attachmentImpl);
+      }
+    }
+    return attachmentImpls;
+  }
+
+  void insertNewAttachmentsOnTaskCreation(List<AttachmentImpl> attachments)
+      throws AttachmentPersistenceException {
+    if (attachments.isEmpty()) {
+      return;
+    }
+    try {
+      for (int i = 0; i < attachments.size(); i += INSERT_ATTACHMENTS_BATCH_SIZE) {
+        attachmentMapper.insertMultiple(
+            attachments.subList(
+                i, Math.min(i + INSERT_ATTACHMENTS_BATCH_SIZE, attachments.size())));
+      }
+      LOGGER.debug("TaskService.createTasks() INSERTED {} Attachments.", attachments.size());
+    } catch (PersistenceException e) {
+      throw new AttachmentPersistenceException(
+          "Cannot insert the Attachments because at least one of them already exists.",
+          e.getCause());
+    }
+  }
+
   void deleteRemovedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -0,0 +1,41 @@
+package pro.taskana.task.internal;
+
+/**
+ * A single comparison of a keyset pagination predicate. The TaskQueryMapper renders it as
+ * <code>column operator value</code>, the value is omitted for the null checks.
+ */
+public class KeysetCondition {
+
+  private final String column;
+  private final String operator;
+  private final Object value;
+
+  KeysetCondition(String column, String operator, Object value) {
+    this.column = column;
+    this.operator = operator;
+    this.value = value;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public String getOperator() {
+    return operator;
+  }
+
+  public Object getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "KeysetCondition [column="
+        + column
+        + ", operator="
+        + operator
+        + ", value="
+        + value
+        + "]";
+  }
+}
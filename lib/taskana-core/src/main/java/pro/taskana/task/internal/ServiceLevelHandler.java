@@ -22,6 +22,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.util.WorkingDaysToDaysConverter;
+import pro.taskana.monitor.internal.TaskStatistics;
 import pro.taskana.task.api.exceptions.UpdateFailedException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
@@ -367,7 +368,7 @@ class ServiceLevelHandler {
         getFollowingWorkingDays(referenceTask.getPlanned(), durationHolder.getDuration()));
     List<String> taskIdsToUpdate =
         taskDurationList.stream().map(TaskDuration::getTaskId).collect(Collectors.toList());
-    long numTasksUpdated = taskMapper.updateTaskDueDates(taskIdsToUpdate, referenceTask);
+    long numTasksUpdated = updateTaskDueDates(taskIdsToUpdate, referenceTask);
     if (numTasksUpdated != taskIdsToUpdate.size()) {
       BulkLog checkResult =
           checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
@@ -386,7 +387,7 @@ class ServiceLevelHandler {
     for (Map.Entry<Duration, List<String>> entry : durationToTaskIdsMap.entrySet()) {
       List<String> taskIdsToUpdate = entry.getValue();
       referenceTask.setDue(getFollowingWorkingDays(referenceTask.getPlanned(), entry.getKey()));
-      long numTasksUpdated = taskMapper.updateTaskDueDates(taskIdsToUpdate, referenceTask);
+      long numTasksUpdated = updateTaskDueDates(taskIdsToUpdate, referenceTask);
       if (numTasksUpdated != taskIdsToUpdate.size()) {
         BulkLog checkResult =
             checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
@@ -397,6 +398,17 @@ class ServiceLevelHandler {
     return bulkLog;
   }
 
+  private long updateTaskDueDates(List<String> taskIds, TaskImpl referenceTask) {
+    TaskStatistics taskStatistics = taskanaEngine.getTaskStatistics();
+    if (taskStatistics == null) {
+      return taskMapper.updateTaskDueDates(taskIds, referenceTask);
+    }
+    taskStatistics.removeTasks(taskIds);
+    long numTasksUpdated = taskMapper.updateTaskDueDates(taskIds, referenceTask);
+    taskStatistics.addTasks(taskIds);
+    return numTasksUpdated;
+  }
+
   private BulkLog checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
       List<String> taskIdsToUpdate, TaskImpl referenceTask, long numTasksUpdated) {
     BulkLog bulkLog = new BulkLog();
@@ -0,0 +1,211 @@
+package pro.taskana.task.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Creates and parses the opaque cursors of the keyset pagination of task queries. A cursor contains
+ * the order columns of the query and the values of these columns for the last task of a page.
+ */
+final class TaskKeysetCursor {
+
+  private static final String SEPARATOR = ".";
+  private static final String NULL_VALUE = "~";
+  private static final Set<String> TIMESTAMP_COLUMNS =
+      new HashSet<>(Arrays.asList("CREATED", "CLAIMED", "COMPLETED", "MODIFIED", "PLANNED", "DUE"));
+  private static final Map<String, Function<TaskSummary, Object>> VALUE_EXTRACTORS =
+      new HashMap<>();
+
+  static {
+    VALUE_EXTRACTORS.put("ID", TaskSummary::getId);
+    VALUE_EXTRACTORS.put("BUSINESS_PROCESS_ID", TaskSummary::getBusinessProcessId);
+    VALUE_EXTRACTORS.put("PARENT_BUSINESS_PROCESS_ID", TaskSummary::getParentBusinessProcessId);
+    VALUE_EXTRACTORS.put("CREATED", TaskSummary::getCreated);
+    VALUE_EXTRACTORS.put("CLAIMED", TaskSummary::getClaimed);
+    VALUE_EXTRACTORS.put("COMPLETED", TaskSummary::getCompleted);
+    VALUE_EXTRACTORS.put("MODIFIED", TaskSummary::getModified);
+    VALUE_EXTRACTORS.put("PLANNED", TaskSummary::getPlanned);
+    VALUE_EXTRACTORS.put("DUE", TaskSummary::getDue);
+    VALUE_EXTRACTORS.put("NAME", TaskSummary::getName);
+    VALUE_EXTRACTORS.put("CREATOR", TaskSummary::getCreator);
+    VALUE_EXTRACTORS.put("NOTE", TaskSummary::getNote);
+    VALUE_EXTRACTORS.put("OWNER", TaskSummary::getOwner);
+    VALUE_EXTRACTORS.put("DOMAIN", TaskSummary::getDomain);
+    VALUE_EXTRACTORS.put("PRIORITY", TaskSummary::getPriority);
+    VALUE_EXTRACTORS.put(
+        "STATE", task -> task.getState() == null ? null : task.getState().name());
+    VALUE_EXTRACTORS.put(
+        "CLASSIFICATION_KEY", task -> task.getClassificationSummary().getKey());
+    VALUE_EXTRACTORS.put(
+        "CLASSIFICATION_NAME", task -> task.getClassificationSummary().getName());
+    VALUE_EXTRACTORS.put("WORKBASKET_ID", task -> task.getWorkbasketSummary().getId());
+    VALUE_EXTRACTORS.put("WORKBASKET_KEY", task -> task.getWorkbasketSummary().getKey());
+    VALUE_EXTRACTORS.put(
+        "POR_COMPANY",
+        task -> task.getPrimaryObjRef() == null ? null : task.getPrimaryObjRef().getCompany());
+    VALUE_EXTRACTORS.put(
+        "POR_SYSTEM",
+        task -> task.getPrimaryObjRef() == null ? null : task.getPrimaryObjRef().getSystem());
+    VALUE_EXTRACTORS.put(
+        "POR_INSTANCE",
+        task ->
+            task.getPrimaryObjRef() == null
+                ? null
+                : task.getPrimaryObjRef().getSystemInstance());
+    VALUE_EXTRACTORS.put(
+        "POR_TYPE",
+        task -> task.getPrimaryObjRef() == null ? null : task.getPrimaryObjRef().getType());
+    VALUE_EXTRACTORS.put(
+        "POR_VALUE",
+        task -> task.getPrimaryObjRef() == null ? null : task.getPrimaryObjRef().getValue());
+    for (int i = 1; i <= 16; i++) {
+      String number = String.valueOf(i);
+      VALUE_EXTRACTORS.put("CUSTOM_" + number, task -> getCustomAttribute(task, number));
+    }
+  }
+
+  private TaskKeysetCursor() {}
+
+  static void checkOrderColumns(List<String> orderColumns) throws InvalidArgumentException {
+    for (String orderColumn : orderColumns) {
+      if (!VALUE_EXTRACTORS.containsKey(toValueKey(orderColumn))) {
+        throw new InvalidArgumentException(
+            "Keyset pagination is not supported for tasks ordered by " + orderColumn);
+      }
+    }
+  }
+
+  static String create(List<String> orderColumns, TaskSummary taskSummary)
+      throws InvalidArgumentException {
+    checkOrderColumns(orderColumns);
+    List<String> tokens = new ArrayList<>();
+    tokens.add(encode(String.join(",", orderColumns)));
+    for (String orderColumn : orderColumns) {
+      Object value = VALUE_EXTRACTORS.get(toValueKey(orderColumn)).apply(taskSummary);
+      tokens.add(value == null ? NULL_VALUE : encode(value.toString()));
+    }
+    return String.join(SEPARATOR, tokens);
+  }
+
+  static List<Object> parse(String cursor, List<String> orderColumns)
+      throws InvalidArgumentException {
+    checkOrderColumns(orderColumns);
+    String[] tokens = cursor.split("\\" + SEPARATOR, -1);
+    try {
+      if (tokens.length != orderColumns.size() + 1
+          || !String.join(",", orderColumns).equals(decode(tokens[0]))) {
+        throw new InvalidArgumentException(
+            "The cursor '" + cursor + "' does not match the order of the query.");
+      }
+      List<Object> values = new ArrayList<>();
+      for (int i = 0; i < orderColumns.size(); i++) {
+        String token = tokens[i + 1];
+        values.add(
+            NULL_VALUE.equals(token) ? null : toValue(orderColumns.get(i), decode(token)));
+      }
+      return values;
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidArgumentException("The cursor '" + cursor + "' is invalid.", e);
+    }
+  }
+
+  /**
+   * Creates the keyset predicate which selects all rows behind the given values. The predicate is a
+   * disjunction of conjunctions: for each order column it matches the rows which are equal in all
+   * previous columns and behind the value in this column.
+   *
+   * @param columns the qualified order columns
+   * @param orderBy the order by clauses including the sort direction of the columns
+   * @param values the values of the last row of the previous page
+   * @param nullsSortHigh true if the database sorts null values behind all other values
+   * @return the disjunction of conjunctions of the keyset predicate
+   */
+  static List<List<KeysetCondition>> createConditions(
+      List<String> columns, List<String> orderBy, List<Object> values, boolean nullsSortHigh) {
+    List<List<KeysetCondition>> disjunction = new ArrayList<>();
+    List<KeysetCondition> equalPrefix = new ArrayList<>();
+    for (int i = 0; i < columns.size(); i++) {
+      String column = columns.get(i);
+      Object value = values.get(i);
+      boolean descending = orderBy.get(i).endsWith(" " + SortDirection.DESCENDING);
+      boolean nullsLast = nullsSortHigh != descending;
+      if (value == null) {
+        if (!nullsLast) {
+          disjunction.add(append(equalPrefix, new KeysetCondition(column, "IS NOT NULL", null)));
+        }
+        equalPrefix.add(new KeysetCondition(column, "IS NULL", null));
+      } else {
+        disjunction.add(
+            append(equalPrefix, new KeysetCondition(column, descending ? "<" : ">", value)));
+        if (nullsLast) {
+          disjunction.add(append(equalPrefix, new KeysetCondition(column, "IS NULL", null)));
+        }
+        equalPrefix.add(new KeysetCondition(column, "=", value));
+      }
+    }
+    return disjunction;
+  }
+
+  private static List<KeysetCondition> append(
+      List<KeysetCondition> conditions, KeysetCondition condition) {
+    List<KeysetCondition> result = new ArrayList<>(conditions);
+    result.add(condition);
+    return result;
+  }
+
+  private static String toValueKey(String orderColumn) {
+    String column = orderColumn.startsWith("t.") ? orderColumn.substring(2) : orderColumn;
+    switch (column) {
+      case "TCLASSIFICATION_KEY":
+        return "CLASSIFICATION_KEY";
+      case "c.NAME":
+      case "CNAME":
+        return "CLASSIFICATION_NAME";
+      default:
+        return column;
+    }
+  }
+
+  private static Object toValue(String orderColumn, String value) {
+    String column = toValueKey(orderColumn);
+    if (TIMESTAMP_COLUMNS.contains(column)) {
+      return Instant.parse(value);
+    } else if ("PRIORITY".equals(column)) {
+      return Integer.valueOf(value);
+    }
+    return value;
+  }
+
+  private static String getCustomAttribute(TaskSummary taskSummary, String number) {
+    try {
+      return taskSummary.getCustomAttribute(number);
+    } catch (InvalidArgumentException e) {
+      throw new SystemException("Unknown custom attribute " + number, e);
+    }
+  }
+
+  private static String encode(String value) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decode(String value) {
+    return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+  }
+}
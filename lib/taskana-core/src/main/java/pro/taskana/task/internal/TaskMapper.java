@@ -110,6 +110,28 @@ public interface TaskMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(TaskImpl task);
 
+  @Insert(
+      "<script>INSERT INTO TASK(ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE,  CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, "
+          + "POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, "
+          + "CUSTOM_9, CUSTOM_10, CUSTOM_11,  CUSTOM_12,  CUSTOM_13,  CUSTOM_14,  CUSTOM_15,  CUSTOM_16 ) "
+          + "VALUES <foreach item='task' collection='tasks' separator=',' >"
+          + "(#{task.id},#{task.externalId}, #{task.created}, #{task.claimed}, #{task.completed}, #{task.modified}, #{task.planned}, #{task.due}, #{task.name}, #{task.creator}, #{task.description}, #{task.note}, #{task.priority}, #{task.state}, #{task.classificationSummary.category}, "
+          + "#{task.classificationSummary.key}, #{task.classificationSummary.id}, #{task.workbasketSummary.id}, #{task.workbasketSummary.key}, #{task.workbasketSummary.domain}, #{task.businessProcessId}, "
+          + "#{task.parentBusinessProcessId}, #{task.owner}, #{task.primaryObjRef.company}, #{task.primaryObjRef.system}, #{task.primaryObjRef.systemInstance}, #{task.primaryObjRef.type}, #{task.primaryObjRef.value}, "
+          + "#{task.isRead}, #{task.isTransferred}, #{task.callbackInfo,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, #{task.callbackState}, "
+          + "#{task.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, "
+          + "#{task.custom1}, #{task.custom2}, #{task.custom3}, #{task.custom4}, #{task.custom5}, #{task.custom6}, #{task.custom7}, #{task.custom8}, #{task.custom9}, #{task.custom10}, "
+          + "#{task.custom11}, #{task.custom12}, #{task.custom13}, #{task.custom14}, #{task.custom15},  #{task.custom16})"
+          + "</foreach></script>")
+  void insertMultiple(@Param("tasks") List<TaskImpl> tasks);
+
+  @Select(
+      "<script>SELECT EXTERNAL_ID FROM TASK "
+          + "WHERE EXTERNAL_ID IN (<foreach item='externalId' collection='externalIds' separator=',' >#{externalId}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findExistingExternalIds(@Param("externalIds") List<String> externalIds);
+
   @Update(
       "UPDATE TASK SET CLAIMED = #{claimed}, COMPLETED = #{completed}, MODIFIED = #{modified}, PLANNED = #{planned}, DUE = #{due}, NAME = #{name}, DESCRIPTION = #{description}, NOTE = #{note}, "
           + " PRIORITY = #{priority}, STATE = #{state}, CLASSIFICATION_CATEGORY = #{classificationSummary.category}, CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, "
@@ -245,6 +267,37 @@ public interface TaskMapper {
   long updatePriorityOfTasks(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
+  @Update(
+      "<script>"
+          + "UPDATE TASK SET MODIFIED = #{modified}, "
+          + "PRIORITY = (SELECT CASE WHEN MAX(c.PRIORITY) > 0 THEN MAX(c.PRIORITY) ELSE 0 END FROM CLASSIFICATION c "
+          + "WHERE c.ID = TASK.CLASSIFICATION_ID "
+          + "OR c.ID IN (SELECT a.CLASSIFICATION_ID FROM ATTACHMENT a WHERE a.TASK_ID = TASK.ID)) "
+          + "WHERE STATE IN ( 'READY','CLAIMED') "
+          + "AND (CLASSIFICATION_ID = #{classificationId} "
+          + "OR ID IN (SELECT a.TASK_ID FROM ATTACHMENT a WHERE a.CLASSIFICATION_ID = #{classificationId})) "
+          + "</script>")
+  long updatePriorityOfTasksAffectedByClassification(
+      @Param("classificationId") String classificationId, @Param("modified") Instant modified);
+
+  @Select(
+      "<script>SELECT ID, PLANNED FROM TASK "
+          + "WHERE CLASSIFICATION_ID = #{classificationId} "
+          + "AND STATE IN ( 'READY','CLAIMED') "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "left", column = "ID"),
+        @Result(
+            property = "right",
+            column = "PLANNED",
+            javaType = Instant.class,
+            typeHandler = InstantTypeHandler.class)
+      })
+  List<Pair<String, Instant>> findTaskIdsAndPlannedAffectedByClassificationChange(
+      @Param("classificationId") String classificationId);
+
   @Select(
       "<script>SELECT ID, PLANNED, STATE FROM TASK "
           + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
@@ -263,6 +316,36 @@ public interface TaskMapper {
   List<Pair<String, Instant>> filterTaskIdsForReadyAndClaimed(
       @Param("taskIds") List<String> taskIds);
 
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE COMPLETED &lt;= #{completedBefore} "
+          + "<if test='lastId != null'>AND ID &gt; #{lastId} </if>"
+          + "ORDER BY ID FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findIdsOfTasksCompletedBefore(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("lastId") String lastId,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT PARENT_BUSINESS_PROCESS_ID FROM TASK "
+          + "WHERE PARENT_BUSINESS_PROCESS_ID IS NOT NULL "
+          + "GROUP BY PARENT_BUSINESS_PROCESS_ID "
+          + "HAVING COUNT(*) = SUM(CASE WHEN COMPLETED &lt;= #{completedBefore} THEN 1 ELSE 0 END) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findParentBusinessProcessIdsOfTasksCompletedBefore(
+      @Param("completedBefore") Instant completedBefore);
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE PARENT_BUSINESS_PROCESS_ID IN(<foreach item='item' collection='parentBusinessProcessIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findIdsOfTasksWithParentBusinessProcessIds(
+      @Param("parentBusinessProcessIds") List<String> parentBusinessProcessIds);
+
   @Select(
       "<script> "
           + "<choose>"
@@ -1,9 +1,17 @@
 package pro.taskana.task.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -15,6 +23,7 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.configuration.DB;
@@ -26,10 +35,13 @@ import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.WildcardSearchField;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.models.AttachmentSummaryImpl;
+import pro.taskana.task.internal.models.JoinedTaskSummary;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.workbasket.api.WorkbasketPermission;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.internal.WorkbasketAclIndex;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
 
 /** TaskQuery for generating dynamic sql. */
@@ -42,6 +54,8 @@ public class TaskQueryImpl implements TaskQuery {
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskSummaries";
   private static final String LINK_TO_MAPPER_DB2 =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskSummariesDb2";
+  private static final String LINK_TO_JOINED_MAPPER =
+      "pro.taskana.task.internal.TaskQueryMapper.queryJoinedTaskSummaries";
   private static final String LINK_TO_COUNTER =
       "pro.taskana.task.internal.TaskQueryMapper.countQueryTasks";
   private static final String LINK_TO_COUNTER_DB2 =
@@ -139,6 +153,7 @@ public class TaskQueryImpl implements TaskQuery {
   private String[] attachmentReferenceLike;
   private TimeInterval[] attachmentReceivedIn;
   private String[] accessIdIn;
+  private String[] readableWorkbasketIdIn;
   private boolean filterByAccessIdIn;
   private TimeInterval[] createdIn;
   private TimeInterval[] claimedIn;
@@ -150,7 +165,11 @@ public class TaskQueryImpl implements TaskQuery {
   private List<String> orderColumns;
   private WildcardSearchField[] wildcardSearchFieldIn;
   private String wildcardSearchValueLike;
+  private Integer offset;
+  private Integer limit;
+  private List<List<KeysetCondition>> keysetConditions;
 
+  private boolean joinedFetch = false;
   private boolean useDistinctKeyword = false;
   private boolean joinWithAttachments = false;
   private boolean joinWithClassifications = false;
@@ -964,6 +983,12 @@ public class TaskQueryImpl implements TaskQuery {
     return addOrderCriteria("RECEIVED", sortDirection);
   }
 
+  @Override
+  public TaskQuery joinedFetch() {
+    this.joinedFetch = true;
+    return this;
+  }
+
   @Override
   public List<TaskSummary> list() {
     List<TaskSummary> result = new ArrayList<>();
@@ -974,6 +999,10 @@ public class TaskQueryImpl implements TaskQuery {
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupJoinAndOrderParameters();
       setupAccessIds();
+      if (isJoinedFetchApplicable()) {
+        result = queryJoinedTaskSummaries();
+        return result;
+      }
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
       if (LOGGER.isDebugEnabled()) {
@@ -1005,6 +1034,12 @@ public class TaskQueryImpl implements TaskQuery {
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupAccessIds();
       setupJoinAndOrderParameters();
+      if (isJoinedFetchApplicable()) {
+        this.offset = Math.max(offset, 0);
+        this.limit = Math.max(limit, 0);
+        result = queryJoinedTaskSummaries();
+        return result;
+      }
       RowBounds rowBounds = new RowBounds(offset, limit);
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this, rowBounds);
@@ -1020,6 +1055,8 @@ public class TaskQueryImpl implements TaskQuery {
       }
       throw e;
     } finally {
+      this.offset = null;
+      this.limit = null;
       taskanaEngine.returnConnection();
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug(
@@ -1030,6 +1067,102 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public List<TaskSummary> listAfter(String cursor, int limit) throws InvalidArgumentException {
+    LOGGER.debug("entry to listAfter(cursor = {}, limit = {}), this = {}", cursor, limit, this);
+    List<TaskSummary> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      checkForIllegalParamCombinations();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupAccessIds();
+      setupJoinAndOrderParameters();
+      addTaskIdAsKeysetTieBreaker();
+      TaskKeysetCursor.checkOrderColumns(orderColumns);
+      if (cursor != null) {
+        List<Object> values = TaskKeysetCursor.parse(cursor, orderColumns);
+        this.keysetConditions =
+            TaskKeysetCursor.createConditions(
+                getKeysetColumns(),
+                orderBy,
+                values,
+                !DB.H2.dbProductId.equals(getDatabaseId()));
+      }
+      if (limit <= 0) {
+        return result;
+      }
+      this.offset = 0;
+      this.limit = limit;
+      if (isJoinedFetchApplicable()) {
+        result = queryJoinedTaskSummaries();
+        return result;
+      }
+      List<TaskSummaryImpl> tasks =
+          taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
+      result = taskService.augmentTaskSummariesByContainedSummaries(tasks);
+      return result;
+    } finally {
+      this.keysetConditions = null;
+      this.offset = null;
+      this.limit = null;
+      taskanaEngine.returnConnection();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "exit from listAfter(cursor,limit). Returning {} resulting Objects: {} ",
+            result.size(),
+            LoggerUtils.listToString(result));
+      }
+    }
+  }
+
+  @Override
+  public String getCursor(TaskSummary taskSummary) throws InvalidArgumentException {
+    if (taskSummary == null) {
+      throw new InvalidArgumentException("TaskSummary must not be null.");
+    }
+    addTaskIdAsKeysetTieBreaker();
+    return TaskKeysetCursor.create(orderColumns, taskSummary);
+  }
+
+  @Override
+  public void forEach(int batchSize, Consumer<TaskSummary> consumer)
+      throws InvalidArgumentException {
+    LOGGER.debug("entry to forEach(batchSize = {}), this = {}", batchSize, this);
+    if (batchSize <= 0) {
+      throw new InvalidArgumentException("BatchSize must be greater than 0.");
+    }
+    if (consumer == null) {
+      throw new InvalidArgumentException("Consumer must not be null.");
+    }
+    int processed = 0;
+    try {
+      taskanaEngine.openConnection();
+      checkForIllegalParamCombinations();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupJoinAndOrderParameters();
+      setupAccessIds();
+      try (Cursor<TaskSummaryImpl> cursor =
+          taskanaEngine.getSqlSession().selectCursor(getLinkToMapperScript(), this)) {
+        List<TaskSummaryImpl> batch = new ArrayList<>(batchSize);
+        for (TaskSummaryImpl task : cursor) {
+          batch.add(task);
+          if (batch.size() == batchSize) {
+            taskService.augmentTaskSummariesByContainedSummaries(batch).forEach(consumer);
+            processed += batch.size();
+            batch = new ArrayList<>(batchSize);
+          }
+        }
+        taskService.augmentTaskSummariesByContainedSummaries(batch).forEach(consumer);
+        processed += batch.size();
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the task query.", e);
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from forEach(). Processed {} tasks.", processed);
+    }
+  }
+
   @Override
   public List<String> listValues(TaskQueryColumnName columnName, SortDirection sortDirection) {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
@@ -1112,6 +1245,12 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  public List<String> getJoinedOrderBy() {
+    return orderBy.stream()
+        .map(TaskQueryImpl::qualifyOrderByForJoinedFetch)
+        .collect(Collectors.toList());
+  }
+
   public String getLinkToMapperScript() {
     return DB.DB2.dbProductId.equals(getDatabaseId()) ? LINK_TO_MAPPER_DB2 : LINK_TO_MAPPER;
   }
@@ -1606,6 +1745,18 @@ public class TaskQueryImpl implements TaskQuery {
         addAttachmentClassificationNameToSelectClauseForOrdering;
   }
 
+  public List<List<KeysetCondition>> getKeysetConditions() {
+    return keysetConditions;
+  }
+
+  public Integer getOffset() {
+    return offset;
+  }
+
+  public Integer getLimit() {
+    return limit;
+  }
+
   public WildcardSearchField[] getWildcardSearchFieldIn() {
     return wildcardSearchFieldIn;
   }
@@ -1614,6 +1765,80 @@ public class TaskQueryImpl implements TaskQuery {
     return wildcardSearchValueLike;
   }
 
+  private static String qualifyOrderByForJoinedFetch(String orderByItem) {
+    // the joined statement wraps the task query into a sub select named t
+    // whose ordering columns are aliased as CNAME, ACNAME, ACLASSIFICATION_KEY, ...
+    if (orderByItem.startsWith("t.")) {
+      return orderByItem;
+    } else if (orderByItem.startsWith("c.")) {
+      return "t.C" + orderByItem.substring(2);
+    } else if (orderByItem.startsWith("ac.")) {
+      return "t.AC" + orderByItem.substring(3);
+    } else if (orderByItem.startsWith("a.")) {
+      return "t.A" + orderByItem.substring(2);
+    }
+    return "t." + orderByItem;
+  }
+
+  private void addTaskIdAsKeysetTieBreaker() {
+    if (!orderColumns.contains("ID")) {
+      addOrderCriteria("ID", SortDirection.ASCENDING);
+    }
+  }
+
+  private List<String> getKeysetColumns() {
+    if (DB.DB2.dbProductId.equals(getDatabaseId())) {
+      return orderColumns;
+    }
+    return orderColumns.stream()
+        .map(column -> column.contains(".") ? column : "t." + column)
+        .collect(Collectors.toList());
+  }
+
+  private boolean isJoinedFetchApplicable() {
+    return joinedFetch && !DB.DB2.dbProductId.equals(getDatabaseId());
+  }
+
+  private List<TaskSummary> queryJoinedTaskSummaries() {
+    List<JoinedTaskSummary> rows =
+        taskanaEngine.getSqlSession().selectList(LINK_TO_JOINED_MAPPER, this);
+    LOGGER.debug("joined mapper returned {} rows", rows.size());
+
+    Map<String, TaskSummaryImpl> tasksById = new LinkedHashMap<>();
+    Set<String> skippedTaskIds = new HashSet<>();
+    Set<String> attachmentIds = new HashSet<>();
+    for (JoinedTaskSummary row : rows) {
+      TaskSummaryImpl task = row.getTaskSummary();
+      if (skippedTaskIds.contains(task.getId())) {
+        continue;
+      }
+      if (!tasksById.containsKey(task.getId())) {
+        if (row.getWorkbasketId() == null) {
+          LOGGER.warn("Could not find a Workbasket for task {}.", task.getId());
+          skippedTaskIds.add(task.getId());
+          continue;
+        }
+        if (row.getClassificationId() == null) {
+          throw new SystemException(
+              "Did not find a Classification for task (Id="
+                  + task.getId()
+                  + ",classification="
+                  + task.getClassificationSummary().getId()
+                  + ")");
+        }
+        tasksById.put(task.getId(), task);
+      }
+      AttachmentSummaryImpl attachment = row.getAttachmentSummary();
+      if (attachment != null && attachmentIds.add(attachment.getId())) {
+        if (row.getAttachmentClassificationId() == null) {
+          throw new SystemException("Could not find a Classification for attachment " + attachment);
+        }
+        tasksById.get(task.getId()).addAttachmentSummary(attachment);
+      }
+    }
+    return new ArrayList<>(tasksById.values());
+  }
+
   private void checkForIllegalParamCombinations() {
 
     if ((wildcardSearchValueLike != null && wildcardSearchFieldIn == null)
@@ -1658,15 +1883,28 @@ public class TaskQueryImpl implements TaskQuery {
     if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)
         || !filterByAccessIdIn) {
       this.accessIdIn = null;
-    } else if (this.accessIdIn == null) {
+      this.readableWorkbasketIdIn = null;
+    } else {
       String[] accessIds = new String[0];
       List<String> ucAccessIds = CurrentUserContext.getAccessIds();
       if (ucAccessIds != null && !ucAccessIds.isEmpty()) {
         accessIds = new String[ucAccessIds.size()];
         accessIds = ucAccessIds.toArray(accessIds);
       }
-      this.accessIdIn = accessIds;
-      WorkbasketQueryImpl.lowercaseAccessIds(this.accessIdIn);
+      WorkbasketQueryImpl.lowercaseAccessIds(accessIds);
+      // filter by the indexed workbasket ids if possible, otherwise by the access ids
+      String[] readableWorkbasketIds = null;
+      WorkbasketAclIndex aclIndex = taskanaEngine.getWorkbasketAclIndex();
+      if (aclIndex != null && accessIds.length > 0) {
+        readableWorkbasketIds = aclIndex.getReadableWorkbasketIds(accessIds);
+      }
+      if (readableWorkbasketIds != null && readableWorkbasketIds.length > 0) {
+        this.accessIdIn = null;
+        this.readableWorkbasketIdIn = readableWorkbasketIds;
+      } else {
+        this.accessIdIn = accessIds;
+        this.readableWorkbasketIdIn = null;
+      }
     }
   }
 
@@ -1905,6 +2143,8 @@ public class TaskQueryImpl implements TaskQuery {
         + Arrays.toString(attachmentReceivedIn)
         + ", accessIdIn="
         + Arrays.toString(accessIdIn)
+        + ", readableWorkbasketIdIn="
+        + Arrays.toString(readableWorkbasketIdIn)
         + ", filterByAccessIdIn="
         + filterByAccessIdIn
         + ", createdIn="
@@ -1939,6 +2179,8 @@ public class TaskQueryImpl implements TaskQuery {
         + wildcardSearchFieldIn
         + ", wildcardSearchValueLike="
         + wildcardSearchValueLike
+        + ", joinedFetch="
+        + joinedFetch
         + "]";
   }
 }
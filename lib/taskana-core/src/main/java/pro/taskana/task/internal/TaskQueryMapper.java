@@ -1,43 +1,26 @@
 package pro.taskana.task.internal;
 
 import java.util.List;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
 import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.internal.models.JoinedTaskSummary;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
 
 /** This class provides a mapper for all task queries. */
 @SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
 public interface TaskQueryMapper {
 
-  @Select(
-      "<script> "
-          + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
-          + "t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, "
-          + "t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, "
-          + "t.CUSTOM_15, t.CUSTOM_16"
-          + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
-          + ", a.CLASSIFICATION_ID, a.CLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
-          + "</if>"
-          + "<if test=\"addClassificationNameToSelectClauseForOrdering\">"
-          + ", c.NAME "
-          + "</if>"
-          + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
-          + ", ac.NAME "
-          + "</if>"
-          + "FROM TASK t "
-          + "<if test=\"joinWithAttachments\">"
-          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
-          + "</if>"
-          + "<if test=\"joinWithClassifications\">"
-          + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
-          + "</if>"
-          + "<if test=\"joinWithAttachmentClassifications\">"
-          + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
-          + "</if>"
-          + "<where>"
+  /**
+   * The WHERE clause shared by the task summary queries. It refers to the task as t and to the
+   * optional joins as a, c and ac.
+   */
+  String TASK_SUMMARY_WHERE =
+      "<where>"
+          + "<if test='readableWorkbasketIdIn != null'>AND t.WORKBASKET_ID IN(<foreach item='item' collection='readableWorkbasketIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
           + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
@@ -134,9 +117,39 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "<if test='wildcardSearchValueLike != null and wildcardSearchFieldIn != null'>AND (<foreach item='item' collection='wildcardSearchFieldIn' separator=' OR '>t.${item} LIKE #{wildcardSearchValueLike}</foreach>)</if> "
-          + "</where>"
+          + "<if test='keysetConditions != null'>AND (<foreach item='keyset' collection='keysetConditions' separator=' OR '>(<foreach item='condition' collection='keyset' separator=' AND '>${condition.column} ${condition.operator}<if test='condition.value != null'> #{condition.value}</if></foreach>)</foreach>) </if>"
+          + "</where>";
+
+  @Select(
+      "<script> "
+          + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
+          + "t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, "
+          + "t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, "
+          + "t.CUSTOM_15, t.CUSTOM_16"
+          + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
+          + ", a.CLASSIFICATION_ID, a.CLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
+          + "</if>"
+          + "<if test=\"addClassificationNameToSelectClauseForOrdering\">"
+          + ", c.NAME "
+          + "</if>"
+          + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
+          + ", ac.NAME "
+          + "</if>"
+          + "FROM TASK t "
+          + "<if test=\"joinWithAttachments\">"
+          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "</if>"
+          + "<if test=\"joinWithClassifications\">"
+          + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
+          + "</if>"
+          + "<if test=\"joinWithAttachmentClassifications\">"
+          + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
+          + "</if>"
+          + TASK_SUMMARY_WHERE
           + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
+          + "<if test='limit != null'>FETCH FIRST ${limit} ROWS ONLY </if>"
           + "</script>")
+  @Options(fetchSize = 1000)
   @Results(
       value = {
         @Result(property = "id", column = "ID"),
@@ -191,6 +204,249 @@ public interface TaskQueryMapper {
       })
   List<TaskSummaryImpl> queryTaskSummaries(TaskQueryImpl taskQuery);
 
+  @Select(
+      "<script> "
+          + "SELECT t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
+          + "t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, "
+          + "t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, "
+          + "t.CUSTOM_15, t.CUSTOM_16, "
+          + "w.ID AS W_ID, w.NAME AS W_NAME, w.TYPE AS W_TYPE, w.DESCRIPTION AS W_DESCRIPTION, w.OWNER AS W_OWNER, w.CUSTOM_1 AS W_CUSTOM_1, w.CUSTOM_2 AS W_CUSTOM_2, w.CUSTOM_3 AS W_CUSTOM_3, w.CUSTOM_4 AS W_CUSTOM_4, "
+          + "w.ORG_LEVEL_1 AS W_ORG_LEVEL_1, w.ORG_LEVEL_2 AS W_ORG_LEVEL_2, w.ORG_LEVEL_3 AS W_ORG_LEVEL_3, w.ORG_LEVEL_4 AS W_ORG_LEVEL_4, w.MARKED_FOR_DELETION AS W_MARKED_FOR_DELETION, "
+          + "c.ID AS C_ID, c.KEY AS C_KEY, c.CATEGORY AS C_CATEGORY, c.TYPE AS C_TYPE, c.DOMAIN AS C_DOMAIN, c.NAME AS C_NAME, c.PRIORITY AS C_PRIORITY, c.SERVICE_LEVEL AS C_SERVICE_LEVEL, c.PARENT_ID AS C_PARENT_ID, "
+          + "c.PARENT_KEY AS C_PARENT_KEY, c.APPLICATION_ENTRY_POINT AS C_APPLICATION_ENTRY_POINT, c.CUSTOM_1 AS C_CUSTOM_1, c.CUSTOM_2 AS C_CUSTOM_2, c.CUSTOM_3 AS C_CUSTOM_3, c.CUSTOM_4 AS C_CUSTOM_4, "
+          + "c.CUSTOM_5 AS C_CUSTOM_5, c.CUSTOM_6 AS C_CUSTOM_6, c.CUSTOM_7 AS C_CUSTOM_7, c.CUSTOM_8 AS C_CUSTOM_8, "
+          + "a.ID AS A_ID, a.TASK_ID AS A_TASK_ID, a.CREATED AS A_CREATED, a.MODIFIED AS A_MODIFIED, a.REF_COMPANY AS A_REF_COMPANY, a.REF_SYSTEM AS A_REF_SYSTEM, a.REF_INSTANCE AS A_REF_INSTANCE, "
+          + "a.REF_TYPE AS A_REF_TYPE, a.REF_VALUE AS A_REF_VALUE, a.CHANNEL AS A_CHANNEL, a.RECEIVED AS A_RECEIVED, "
+          + "ac.ID AS AC_ID, ac.KEY AS AC_KEY, ac.CATEGORY AS AC_CATEGORY, ac.TYPE AS AC_TYPE, ac.DOMAIN AS AC_DOMAIN, ac.NAME AS AC_NAME, ac.PRIORITY AS AC_PRIORITY, ac.SERVICE_LEVEL AS AC_SERVICE_LEVEL, "
+          + "ac.PARENT_ID AS AC_PARENT_ID, ac.PARENT_KEY AS AC_PARENT_KEY, ac.APPLICATION_ENTRY_POINT AS AC_APPLICATION_ENTRY_POINT, ac.CUSTOM_1 AS AC_CUSTOM_1, ac.CUSTOM_2 AS AC_CUSTOM_2, "
+          + "ac.CUSTOM_3 AS AC_CUSTOM_3, ac.CUSTOM_4 AS AC_CUSTOM_4, ac.CUSTOM_5 AS AC_CUSTOM_5, ac.CUSTOM_6 AS AC_CUSTOM_6, ac.CUSTOM_7 AS AC_CUSTOM_7, ac.CUSTOM_8 AS AC_CUSTOM_8 "
+          + "FROM ( "
+          + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
+          + "t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, "
+          + "t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, "
+          + "t.CUSTOM_15, t.CUSTOM_16"
+          + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
+          + ", a.CLASSIFICATION_ID AS ACLASSIFICATION_ID, a.CLASSIFICATION_KEY AS ACLASSIFICATION_KEY, a.CHANNEL, a.REF_VALUE, a.RECEIVED"
+          + "</if>"
+          + "<if test=\"addClassificationNameToSelectClauseForOrdering\">"
+          + ", c.NAME AS CNAME "
+          + "</if>"
+          + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
+          + ", ac.NAME AS ACNAME "
+          + "</if>"
+          + "FROM TASK t "
+          + "<if test=\"joinWithAttachments\">"
+          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "</if>"
+          + "<if test=\"joinWithClassifications\">"
+          + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
+          + "</if>"
+          + "<if test=\"joinWithAttachmentClassifications\">"
+          + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
+          + "</if>"
+          + TASK_SUMMARY_WHERE
+          + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
+          + "<if test='limit != null'>LIMIT #{limit} OFFSET #{offset} </if>"
+          + ") AS t "
+          + "LEFT JOIN WORKBASKET AS w ON t.WORKBASKET_ID = w.ID "
+          + "LEFT JOIN CLASSIFICATION AS c ON t.CLASSIFICATION_ID = c.ID "
+          + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
+          + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
+          + "<if test='!joinedOrderBy.isEmpty()'>ORDER BY <foreach item='item' collection='joinedOrderBy' separator=',' >${item}</foreach></if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "taskSummary.id", column = "ID"),
+        @Result(property = "taskSummary.externalId", column = "EXTERNAL_ID"),
+        @Result(property = "taskSummary.created", column = "CREATED"),
+        @Result(property = "taskSummary.claimed", column = "CLAIMED"),
+        @Result(property = "taskSummary.completed", column = "COMPLETED"),
+        @Result(property = "taskSummary.modified", column = "MODIFIED"),
+        @Result(property = "taskSummary.planned", column = "PLANNED"),
+        @Result(property = "taskSummary.due", column = "DUE"),
+        @Result(property = "taskSummary.name", column = "NAME"),
+        @Result(property = "taskSummary.creator", column = "CREATOR"),
+        @Result(property = "taskSummary.note", column = "NOTE"),
+        @Result(property = "taskSummary.description", column = "DESCRIPTION"),
+        @Result(property = "taskSummary.priority", column = "PRIORITY"),
+        @Result(property = "taskSummary.state", column = "STATE"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.id", column = "WORKBASKET_ID"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.key", column = "WORKBASKET_KEY"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.domain", column = "DOMAIN"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.name", column = "W_NAME"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.type", column = "W_TYPE"),
+        @Result(
+            property = "taskSummary.workbasketSummaryImpl.description",
+            column = "W_DESCRIPTION"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.owner", column = "W_OWNER"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.custom1", column = "W_CUSTOM_1"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.custom2", column = "W_CUSTOM_2"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.custom3", column = "W_CUSTOM_3"),
+        @Result(property = "taskSummary.workbasketSummaryImpl.custom4", column = "W_CUSTOM_4"),
+        @Result(
+            property = "taskSummary.workbasketSummaryImpl.orgLevel1",
+            column = "W_ORG_LEVEL_1"),
+        @Result(
+            property = "taskSummary.workbasketSummaryImpl.orgLevel2",
+            column = "W_ORG_LEVEL_2"),
+        @Result(
+            property = "taskSummary.workbasketSummaryImpl.orgLevel3",
+            column = "W_ORG_LEVEL_3"),
+        @Result(
+            property = "taskSummary.workbasketSummaryImpl.orgLevel4",
+            column = "W_ORG_LEVEL_4"),
+        @Result(
+            property = "taskSummary.workbasketSummaryImpl.markedForDeletion",
+            column = "W_MARKED_FOR_DELETION"),
+        @Result(property = "workbasketId", column = "W_ID"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.id",
+            column = "CLASSIFICATION_ID"),
+        @Result(property = "taskSummary.classificationSummaryImpl.key", column = "C_KEY"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.category",
+            column = "C_CATEGORY"),
+        @Result(property = "taskSummary.classificationSummaryImpl.type", column = "C_TYPE"),
+        @Result(property = "taskSummary.classificationSummaryImpl.domain", column = "C_DOMAIN"),
+        @Result(property = "taskSummary.classificationSummaryImpl.name", column = "C_NAME"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.priority",
+            column = "C_PRIORITY"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.serviceLevel",
+            column = "C_SERVICE_LEVEL"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.parentId",
+            column = "C_PARENT_ID"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.parentKey",
+            column = "C_PARENT_KEY"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.applicationEntryPoint",
+            column = "C_APPLICATION_ENTRY_POINT"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom1",
+            column = "C_CUSTOM_1"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom2",
+            column = "C_CUSTOM_2"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom3",
+            column = "C_CUSTOM_3"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom4",
+            column = "C_CUSTOM_4"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom5",
+            column = "C_CUSTOM_5"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom6",
+            column = "C_CUSTOM_6"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom7",
+            column = "C_CUSTOM_7"),
+        @Result(
+            property = "taskSummary.classificationSummaryImpl.custom8",
+            column = "C_CUSTOM_8"),
+        @Result(property = "classificationId", column = "C_ID"),
+        @Result(property = "taskSummary.businessProcessId", column = "BUSINESS_PROCESS_ID"),
+        @Result(
+            property = "taskSummary.parentBusinessProcessId",
+            column = "PARENT_BUSINESS_PROCESS_ID"),
+        @Result(property = "taskSummary.owner", column = "OWNER"),
+        @Result(property = "taskSummary.primaryObjRef.company", column = "POR_COMPANY"),
+        @Result(property = "taskSummary.primaryObjRef.system", column = "POR_SYSTEM"),
+        @Result(property = "taskSummary.primaryObjRef.systemInstance", column = "POR_INSTANCE"),
+        @Result(property = "taskSummary.primaryObjRef.type", column = "POR_TYPE"),
+        @Result(property = "taskSummary.primaryObjRef.value", column = "POR_VALUE"),
+        @Result(property = "taskSummary.isRead", column = "IS_READ"),
+        @Result(property = "taskSummary.isTransferred", column = "IS_TRANSFERRED"),
+        @Result(property = "taskSummary.custom1", column = "CUSTOM_1"),
+        @Result(property = "taskSummary.custom2", column = "CUSTOM_2"),
+        @Result(property = "taskSummary.custom3", column = "CUSTOM_3"),
+        @Result(property = "taskSummary.custom4", column = "CUSTOM_4"),
+        @Result(property = "taskSummary.custom5", column = "CUSTOM_5"),
+        @Result(property = "taskSummary.custom6", column = "CUSTOM_6"),
+        @Result(property = "taskSummary.custom7", column = "CUSTOM_7"),
+        @Result(property = "taskSummary.custom8", column = "CUSTOM_8"),
+        @Result(property = "taskSummary.custom9", column = "CUSTOM_9"),
+        @Result(property = "taskSummary.custom10", column = "CUSTOM_10"),
+        @Result(property = "taskSummary.custom11", column = "CUSTOM_11"),
+        @Result(property = "taskSummary.custom12", column = "CUSTOM_12"),
+        @Result(property = "taskSummary.custom13", column = "CUSTOM_13"),
+        @Result(property = "taskSummary.custom14", column = "CUSTOM_14"),
+        @Result(property = "taskSummary.custom15", column = "CUSTOM_15"),
+        @Result(property = "taskSummary.custom16", column = "CUSTOM_16"),
+        @Result(property = "attachmentSummary.id", column = "A_ID"),
+        @Result(property = "attachmentSummary.taskId", column = "A_TASK_ID"),
+        @Result(property = "attachmentSummary.created", column = "A_CREATED"),
+        @Result(property = "attachmentSummary.modified", column = "A_MODIFIED"),
+        @Result(property = "attachmentSummary.objectReference.company", column = "A_REF_COMPANY"),
+        @Result(property = "attachmentSummary.objectReference.system", column = "A_REF_SYSTEM"),
+        @Result(
+            property = "attachmentSummary.objectReference.systemInstance",
+            column = "A_REF_INSTANCE"),
+        @Result(property = "attachmentSummary.objectReference.type", column = "A_REF_TYPE"),
+        @Result(property = "attachmentSummary.objectReference.value", column = "A_REF_VALUE"),
+        @Result(property = "attachmentSummary.channel", column = "A_CHANNEL"),
+        @Result(property = "attachmentSummary.received", column = "A_RECEIVED"),
+        @Result(property = "attachmentSummary.classificationSummaryImpl.id", column = "AC_ID"),
+        @Result(property = "attachmentSummary.classificationSummaryImpl.key", column = "AC_KEY"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.category",
+            column = "AC_CATEGORY"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.type",
+            column = "AC_TYPE"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.domain",
+            column = "AC_DOMAIN"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.name",
+            column = "AC_NAME"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.priority",
+            column = "AC_PRIORITY"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.serviceLevel",
+            column = "AC_SERVICE_LEVEL"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.parentId",
+            column = "AC_PARENT_ID"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.parentKey",
+            column = "AC_PARENT_KEY"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.applicationEntryPoint",
+            column = "AC_APPLICATION_ENTRY_POINT"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom1",
+            column = "AC_CUSTOM_1"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom2",
+            column = "AC_CUSTOM_2"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom3",
+            column = "AC_CUSTOM_3"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom4",
+            column = "AC_CUSTOM_4"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom5",
+            column = "AC_CUSTOM_5"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom6",
+            column = "AC_CUSTOM_6"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom7",
+            column = "AC_CUSTOM_7"),
+        @Result(
+            property = "attachmentSummary.classificationSummaryImpl.custom8",
+            column = "AC_CUSTOM_8"),
+        @Result(property = "attachmentClassificationId", column = "AC_ID")
+      })
+  List<JoinedTaskSummary> queryJoinedTaskSummaries(TaskQueryImpl taskQuery);
+
   @Select(
       "<script> "
           + "WITH X (ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, TCLASSIFICATION_KEY, "
@@ -231,6 +487,7 @@ public interface TaskQueryMapper {
           + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
           + "</if>"
           + "<where> "
+          + "<if test='readableWorkbasketIdIn != null'>AND t.WORKBASKET_ID IN(<foreach item='item' collection='readableWorkbasketIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdLike != null'>AND (<foreach item='item' collection='externalIdLike' separator=' OR '>UPPER(t.EXTERNAL_ID) LIKE #{item}</foreach>)</if> "
@@ -350,14 +607,15 @@ public interface TaskQueryMapper {
           + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">"
           + ", ACNAME "
           + "</if>"
-          + ", (SELECT 1 FROM WORKBASKET_ACCESS_LIST s WHERE "
+          + ", <choose><when test='readableWorkbasketIdIn != null'>1 </when><otherwise>"
+          + "(SELECT 1 FROM WORKBASKET_ACCESS_LIST s WHERE "
           + "<if test='accessIdIn != null'> "
           + "s.ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) and "
           + "</if>"
           + "s.WORKBASKET_ID = X.WORKBASKET_ID AND "
           + "s.perm_read = 1 "
           + "fetch first 1 rows only "
-          + ") FROM X )"
+          + ") </otherwise></choose>FROM X )"
           + "SELECT ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, TCLASSIFICATION_KEY, "
           + " CLASSIFICATION_CATEGORY, CLASSIFICATION_ID, WORKBASKET_ID, DOMAIN, WORKBASKET_KEY, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, "
           + "POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, "
@@ -372,12 +630,15 @@ public interface TaskQueryMapper {
           + ", ACNAME "
           + "</if>"
           + " FROM Y WHERE FLAG = 1 "
+          + "<if test='keysetConditions != null'>AND (<foreach item='keyset' collection='keysetConditions' separator=' OR '>(<foreach item='condition' collection='keyset' separator=' AND '>${condition.column} ${condition.operator}<if test='condition.value != null'> #{condition.value}</if></foreach>)</foreach>) </if>"
           + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >"
           + "${item}"
           + "</foreach>"
           + "</if> "
+          + "<if test='limit != null'>FETCH FIRST ${limit} ROWS ONLY </if>"
           + "with UR "
           + "</script>")
+  @Options(fetchSize = 1000)
   @Results(
       value = {
         @Result(property = "id", column = "ID"),
@@ -467,6 +728,7 @@ public interface TaskQueryMapper {
           + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
           + "</if>"
           + "<where>"
+          + "<if test='readableWorkbasketIdIn != null'>AND t.WORKBASKET_ID IN(<foreach item='item' collection='readableWorkbasketIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
           + "select WID from (select WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
@@ -579,6 +841,7 @@ public interface TaskQueryMapper {
           + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
           + "</if>"
           + "<where> "
+          + "<if test='readableWorkbasketIdIn != null'>AND t.WORKBASKET_ID IN(<foreach item='item' collection='readableWorkbasketIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdLike != null'>AND (<foreach item='item' collection='externalIdLike' separator=' OR '>UPPER(t.EXTERNAL_ID) LIKE #{item}</foreach>)</if> "
@@ -670,14 +933,15 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "</where> "
           + "), Y (ID, FLAG) AS "
-          + "(SELECT ID, (SELECT 1 FROM WORKBASKET_ACCESS_LIST s WHERE "
+          + "(SELECT ID, <choose><when test='readableWorkbasketIdIn != null'>1 </when><otherwise>"
+          + "(SELECT 1 FROM WORKBASKET_ACCESS_LIST s WHERE "
           + "<if test='accessIdIn != null'> "
           + "s.ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) and "
           + "</if>"
           + "s.WORKBASKET_ID = X.WORKBASKET_ID AND "
           + "s.perm_read = 1 "
           + "fetch first 1 rows only "
-          + ") FROM X ) "
+          + ") </otherwise></choose>FROM X ) "
           + "SELECT COUNT(*)  FROM Y WHERE FLAG = 1 "
           + "with UR "
           + "</script>")
@@ -709,6 +973,7 @@ public interface TaskQueryMapper {
           + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
           + "</if>"
           + "<where>"
+          + "<if test='readableWorkbasketIdIn != null'>AND t.WORKBASKET_ID IN(<foreach item='item' collection='readableWorkbasketIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
           + "select WID from (select WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST where "
@@ -1,11 +1,15 @@
 package pro.taskana.task.internal;
 
 import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -13,6 +17,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -25,6 +31,7 @@ import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.TaskanaRole;
@@ -40,6 +47,7 @@ import pro.taskana.common.internal.util.CheckedFunction;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.common.internal.util.Triplet;
+import pro.taskana.monitor.internal.TaskStatistics;
 import pro.taskana.spi.history.api.events.task.ClaimCancelledEvent;
 import pro.taskana.spi.history.api.events.task.ClaimedEvent;
 import pro.taskana.spi.history.api.events.task.CompletedEvent;
@@ -74,6 +82,7 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.WorkbasketSummaryCache;
 import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /** This is the implementation of TaskService. */
@@ -98,6 +107,9 @@ public class TaskServiceImpl implements TaskService {
   private static final String ID_PREFIX_TASK = "TKI";
   private static final String ID_PREFIX_EXT_TASK_ID = "ETI";
   private static final String ID_PREFIX_BUSINESS_PROCESS = "BPI";
+  private static final int CREATE_TASKS_BATCH_SIZE = 100;
+  private static final Map<Class<?>, List<Field>> FIELDS_BY_TASK_CLASS =
+      new ConcurrentHashMap<>();
   private static final Set<String> ALLOWED_KEYS =
       IntStream.rangeClosed(1, 16).mapToObj(String::valueOf).collect(Collectors.toSet());
   private static final String TASK_WITH_ID_IS_ALREADY_IN_END_STATE =
@@ -227,9 +239,16 @@ public class TaskServiceImpl implements TaskService {
       task.setClassificationSummary(classification.asSummary());
       ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", TASK);
       standardSettings(task, classification);
+      try {
+        attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
+      } catch (AttachmentPersistenceException e) {
+        throw new SystemException(
+            "Internal error when trying to insert new Attachments on Task Creation.", e);
+      }
       setCallbackStateOnTaskCreation(task);
       try {
         this.taskMapper.insert(task);
+        addToTaskStatistics(Collections.singletonList(task.getId()));
         LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
         if (HistoryEventProducer.isHistoryEnabled()) {
 
@@ -276,6 +295,35 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("entry to createTasks(tasks = {})", LoggerUtils.listToString(tasksToCreate));
+    }
+    try {
+      taskanaEngine.openConnection();
+      if (tasksToCreate == null) {
+        throw new InvalidArgumentException("List of tasks must not be null.");
+      }
+
+      BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+      TaskCreationContext context = new TaskCreationContext();
+      for (int i = 0; i < tasksToCreate.size(); i += CREATE_TASKS_BATCH_SIZE) {
+        List<TaskImpl> batch =
+            tasksToCreate.subList(i, Math.min(i + CREATE_TASKS_BATCH_SIZE, tasksToCreate.size()))
+                .stream()
+                .map(TaskImpl.class::cast)
+                .collect(Collectors.toList());
+        createTaskBatch(batch, context, bulkLog);
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from createTasks()");
+    }
+  }
+
   @Override
   public Task getTask(String id) throws NotAuthorizedException, TaskNotFoundException {
     LOGGER.debug("entry to getTaskById(id = {})", id);
@@ -285,11 +333,9 @@ public class TaskServiceImpl implements TaskService {
 
       resultTask = taskMapper.findById(id);
       if (resultTask != null) {
-        WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
-        query.setUsedToAugmentTasks(true);
         String workbasketId = resultTask.getWorkbasketSummary().getId();
-        List<WorkbasketSummary> workbaskets = query.idIn(workbasketId).list();
-        if (workbaskets.isEmpty()) {
+        WorkbasketSummary workbasket = getReadableWorkbasketSummary(workbasketId);
+        if (workbasket == null) {
           String currentUser = CurrentUserContext.getUserid();
           throw new NotAuthorizedException(
               "The current user "
@@ -298,7 +344,7 @@ public class TaskServiceImpl implements TaskService {
                   + workbasketId,
               CurrentUserContext.getUserid());
         } else {
-          resultTask.setWorkbasketSummary(workbaskets.get(0));
+          resultTask.setWorkbasketSummary(workbasket);
         }
 
         List<AttachmentImpl> attachmentImpls =
@@ -307,18 +353,15 @@ public class TaskServiceImpl implements TaskService {
           attachmentImpls = new ArrayList<>();
         }
 
-        List<ClassificationSummary> classifications;
-        classifications = findClassificationForTaskImplAndAttachments(resultTask, attachmentImpls);
+        Map<String, ClassificationSummary> classificationsById =
+            mapClassificationsById(
+                findClassificationForTaskImplAndAttachments(resultTask, attachmentImpls));
         List<Attachment> attachments =
-            addClassificationSummariesToAttachments(attachmentImpls, classifications);
+            addClassificationSummariesToAttachments(attachmentImpls, classificationsById);
         resultTask.setAttachments(attachments);
 
-        String classificationId = resultTask.getClassificationSummary().getId();
         ClassificationSummary classification =
-            classifications.stream()
-                .filter(c -> c.getId().equals(classificationId))
-                .findFirst()
-                .orElse(null);
+            classificationsById.get(resultTask.getClassificationSummary().getId());
         if (classification == null) {
           throw new SystemException(
               "Could not find a Classification for task " + resultTask.getId());
@@ -430,7 +473,9 @@ public class TaskServiceImpl implements TaskService {
 
       standardUpdateActions(oldTaskImpl, newTaskImpl);
 
+      removeFromTaskStatistics(Collections.singletonList(newTaskImpl.getId()));
       taskMapper.update(newTaskImpl);
+      addToTaskStatistics(Collections.singletonList(newTaskImpl.getId()));
 
       LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
 
@@ -505,6 +550,7 @@ public class TaskServiceImpl implements TaskService {
         removeSingleTaskForTaskDeletionById(bulkLog, taskSummaries, taskIdIterator);
       }
       if (!taskIds.isEmpty()) {
+        removeFromTaskStatistics(taskIds);
         taskMapper.deleteMultiple(taskIds);
       }
       return bulkLog;
@@ -802,22 +848,70 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  public List<String> findIdsOfTasksCompletedBefore(
+      Instant completedBefore, String lastId, int limit) {
+    LOGGER.debug(
+        "entry to findIdsOfTasksCompletedBefore(completedBefore = {}, lastId = {}, limit = {})",
+        completedBefore,
+        lastId,
+        limit);
+    List<String> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      result = taskMapper.findIdsOfTasksCompletedBefore(completedBefore, lastId, limit);
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from findIdsOfTasksCompletedBefore(), returning {} ids", result.size());
+    }
+  }
+
+  public List<String> findParentBusinessProcessIdsOfTasksCompletedBefore(
+      Instant completedBefore) {
+    LOGGER.debug(
+        "entry to findParentBusinessProcessIdsOfTasksCompletedBefore(completedBefore = {})",
+        completedBefore);
+    List<String> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      result = taskMapper.findParentBusinessProcessIdsOfTasksCompletedBefore(completedBefore);
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from findParentBusinessProcessIdsOfTasksCompletedBefore(), returning {} ids",
+          result.size());
+    }
+  }
+
+  public List<String> findIdsOfTasksWithParentBusinessProcessIds(
+      List<String> parentBusinessProcessIds) {
+    LOGGER.debug(
+        "entry to findIdsOfTasksWithParentBusinessProcessIds(parentBusinessProcessIds = {})",
+        parentBusinessProcessIds);
+    List<String> result = new ArrayList<>();
+    if (parentBusinessProcessIds == null || parentBusinessProcessIds.isEmpty()) {
+      return result;
+    }
+    try {
+      taskanaEngine.openConnection();
+      result = taskMapper.findIdsOfTasksWithParentBusinessProcessIds(parentBusinessProcessIds);
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from findIdsOfTasksWithParentBusinessProcessIds(), returning {} ids",
+          result.size());
+    }
+  }
+
   public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
     LOGGER.debug(
         "entry to findTasksIdsAffectedByClassificationChange(classificationId = {})",
         classificationId);
     // tasks directly affected
-    List<TaskSummary> tasksAffectedDirectly =
-        createTaskQuery()
-            .classificationIdIn(classificationId)
-            .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
-
-    // tasks indirectly affected via attachments
     List<Pair<String, Instant>> affectedPairs =
-        tasksAffectedDirectly.stream()
-            .map(t -> new Pair<String, Instant>(t.getId(), t.getPlanned()))
-            .collect(Collectors.toList());
+        taskMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
     // tasks indirectly affected via attachments
     List<Pair<String, Instant>> taskIdsAndPlannedFromAttachments =
         attachmentMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
@@ -847,6 +941,34 @@ public class TaskServiceImpl implements TaskService {
     return affectedTaskIds;
   }
 
+  /**
+   * Recalculates the priority of all ready and claimed tasks which reference the given
+   * classification directly or via an attachment in a single statement. The priority of a task is
+   * the maximum priority of all classifications it references, but at least 0, as in {@link
+   * ServiceLevelHandler}.
+   *
+   * @param classificationId the id of the changed classification
+   * @return the number of updated tasks
+   */
+  public long refreshPriorityOfTasksOnClassificationUpdate(String classificationId) {
+    LOGGER.debug(
+        "entry to refreshPriorityOfTasksOnClassificationUpdate(classificationId = {})",
+        classificationId);
+    long updatedTasks = 0;
+    try {
+      taskanaEngine.openConnection();
+      updatedTasks =
+          taskMapper.updatePriorityOfTasksAffectedByClassification(
+              classificationId, Instant.now());
+      return updatedTasks;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from refreshPriorityOfTasksOnClassificationUpdate(), updated {} tasks",
+          updatedTasks);
+    }
+  }
+
   public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
       List<String> taskIds, boolean serviceLevelChanged, boolean priorityChanged) {
     if (LOGGER.isDebugEnabled()) {
@@ -884,13 +1006,9 @@ public class TaskServiceImpl implements TaskService {
         oldTaskImpl,
         newTaskImpl);
 
-    List<Field> fields = new ArrayList<>();
-
-    Class<?> currentClass = oldTaskImpl.getClass();
-    while (currentClass.getSuperclass() != null) {
-      fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
-      currentClass = currentClass.getSuperclass();
-    }
+    List<Field> fields =
+        FIELDS_BY_TASK_CLASS.computeIfAbsent(
+            oldTaskImpl.getClass(), TaskServiceImpl::getAccessibleFields);
 
     Predicate<Triplet<Field, Object, Object>> areFieldsNotEqual =
         fieldAndValuePairTriplet ->
@@ -902,7 +1020,6 @@ public class TaskServiceImpl implements TaskService {
 
     List<JSONObject> changedAttributes =
         fields.stream()
-            .peek(field -> field.setAccessible(true))
             .map(
                 CheckedFunction.wrap(
                     field -> new Triplet<>(field, field.get(oldTaskImpl), field.get(newTaskImpl))))
@@ -929,6 +1046,17 @@ public class TaskServiceImpl implements TaskService {
     return changes.toString();
   }
 
+  private static List<Field> getAccessibleFields(Class<?> taskClass) {
+    List<Field> fields = new ArrayList<>();
+    Class<?> currentClass = taskClass;
+    while (currentClass.getSuperclass() != null) {
+      fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
+      currentClass = currentClass.getSuperclass();
+    }
+    fields.forEach(field -> field.setAccessible(true));
+    return fields;
+  }
+
   Pair<List<MinimalTaskSummary>, BulkLog> getMinimalTaskSummaries(List<String> argTaskIds) {
     BulkLog bulkLog = new BulkLog();
     // remove duplicates
@@ -1029,12 +1157,13 @@ public class TaskServiceImpl implements TaskService {
     List<AttachmentSummaryImpl> attachmentSummaries =
         attachmentMapper.findAttachmentSummariesByTaskIds(taskIds);
 
-    List<ClassificationSummary> classifications =
-        findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries);
+    Map<String, ClassificationSummary> classificationsById =
+        mapClassificationsById(
+            findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries));
 
-    addClassificationSummariesToTaskSummaries(taskSummaries, classifications);
+    addClassificationSummariesToTaskSummaries(taskSummaries, classificationsById);
     addWorkbasketSummariesToTaskSummaries(taskSummaries);
-    addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classifications);
+    addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classificationsById);
     result.addAll(taskSummaries);
     LOGGER.debug("exit from to augmentTaskSummariesByContainedSummaries()");
     return result;
@@ -1071,7 +1200,9 @@ public class TaskServiceImpl implements TaskService {
     task.setModified(now);
     task.setCompleted(now);
     task.setState(targetState);
+    removeFromTaskStatistics(Collections.singletonList(taskId));
     taskMapper.update(task);
+    addToTaskStatistics(Collections.singletonList(taskId));
     LOGGER.debug("Task '{}' cancelled by user '{}'.", taskId, CurrentUserContext.getUserid());
     return task;
   }
@@ -1126,7 +1257,9 @@ public class TaskServiceImpl implements TaskService {
       task.setClaimed(now);
       task.setRead(true);
       task.setState(TaskState.CLAIMED);
+      removeFromTaskStatistics(Collections.singletonList(taskId));
       taskMapper.update(task);
+      addToTaskStatistics(Collections.singletonList(taskId));
       LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(new ClaimedEvent(task, CurrentUserContext.getUserid()));
@@ -1166,7 +1299,9 @@ public class TaskServiceImpl implements TaskService {
       task.setClaimed(null);
       task.setRead(true);
       task.setState(TaskState.READY);
+      removeFromTaskStatistics(Collections.singletonList(taskId));
       taskMapper.update(task);
+      addToTaskStatistics(Collections.singletonList(taskId));
       LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(
@@ -1222,7 +1357,9 @@ public class TaskServiceImpl implements TaskService {
       task.setModified(now);
       task.setState(TaskState.COMPLETED);
       task.setOwner(userId);
+      removeFromTaskStatistics(Collections.singletonList(taskId));
       taskMapper.update(task);
+      addToTaskStatistics(Collections.singletonList(taskId));
       LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
       if (HistoryEventProducer.isHistoryEnabled()) {
         historyEventProducer.createEvent(new CompletedEvent(task, CurrentUserContext.getUserid()));
@@ -1252,6 +1389,7 @@ public class TaskServiceImpl implements TaskService {
         throw new InvalidStateException(String.format(TASK_WITH_ID_CALLBACK_NOT_PROCESSED, taskId));
       }
 
+      removeFromTaskStatistics(Collections.singletonList(taskId));
       taskMapper.delete(taskId);
       LOGGER.debug("Task {} deleted.", taskId);
     } finally {
@@ -1397,13 +1535,178 @@ public class TaskServiceImpl implements TaskService {
     if (task1.getDescription() == null && classification != null) {
       task1.setDescription(classification.getDescription());
     }
+    LOGGER.debug("exit from standardSettings()");
+  }
+
+  private void createTaskBatch(
+      List<TaskImpl> batch,
+      TaskCreationContext context,
+      BulkOperationResults<String, TaskanaException> bulkLog) {
+    batch.stream()
+        .filter(task -> task.getExternalId() == null)
+        .forEach(task -> task.setExternalId(IdGenerator.generateWithPrefix(ID_PREFIX_EXT_TASK_ID)));
+    Set<String> existingExternalIds =
+        new HashSet<>(
+            taskMapper.findExistingExternalIds(
+                batch.stream().map(TaskImpl::getExternalId).collect(Collectors.toList())));
+
+    List<TaskImpl> tasks = new ArrayList<>();
+    List<AttachmentImpl> attachments = new ArrayList<>();
+    for (TaskImpl task : batch) {
+      try {
+        if (existingExternalIds.contains(task.getExternalId())
+            || context.externalIds.contains(task.getExternalId())) {
+          throw new TaskAlreadyExistException(
+              "Task with external id " + task.getExternalId() + " already exists");
+        }
+        attachments.addAll(prepareTaskForCreation(task, context));
+        context.externalIds.add(task.getExternalId());
+        tasks.add(task);
+      } catch (TaskanaException e) {
+        bulkLog.addError(task.getExternalId(), e);
+      }
+    }
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    List<TaskImpl> createdTasks = insertTaskBatch(tasks, attachments, context, bulkLog);
+    LOGGER.debug("Method createTasks() created {} Tasks.", createdTasks.size());
+
+    if (HistoryEventProducer.isHistoryEnabled() && !createdTasks.isEmpty()) {
+      String userId = CurrentUserContext.getUserid();
+      TaskImpl emptyTask = (TaskImpl) newTask();
+      historyEventProducer.createEvents(
+          createdTasks.stream()
+              .map(
+                  task ->
+                      new CreatedEvent(
+                          task, userId, determineChangesInTaskAttributes(emptyTask, task)))
+              .collect(Collectors.toList()));
+    }
+  }
+
+  /**
+   * Inserts the tasks of a batch together with their attachments. If the multi-row insert fails,
+   * the batch is rolled back to a savepoint and the tasks are inserted one by one, so that only the
+   * failing tasks are reported in the bulkLog and the other tasks are still created within the same
+   * transaction. Without a transaction, i.e. in auto-commit mode, the failure is rethrown. Returns
+   * the tasks which were inserted.
+   */
+  private List<TaskImpl> insertTaskBatch(
+      List<TaskImpl> tasks,
+      List<AttachmentImpl> attachments,
+      TaskCreationContext context,
+      BulkOperationResults<String, TaskanaException> bulkLog) {
+    Connection connection = taskanaEngine.getSqlSession().getConnection();
+    Savepoint batchSavepoint = setSavepoint(connection);
+    try {
+      insertTasksWithAttachments(tasks, attachments);
+      return tasks;
+    } catch (PersistenceException | AttachmentPersistenceException e) {
+      if (batchSavepoint == null) {
+        throw new SystemException("Could not insert a batch of tasks.", e);
+      }
+      LOGGER.debug(
+          "Could not insert a batch of {} tasks, inserting them one by one.", tasks.size());
+      rollbackToSavepoint(connection, batchSavepoint);
+    }
+
+    Map<String, List<AttachmentImpl>> attachmentsByTaskId =
+        attachments.stream().collect(Collectors.groupingBy(AttachmentImpl::getTaskId));
+    List<TaskImpl> insertedTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      Savepoint taskSavepoint = setSavepoint(connection);
+      try {
+        insertTasksWithAttachments(
+            Collections.singletonList(task),
+            attachmentsByTaskId.getOrDefault(task.getId(), Collections.emptyList()));
+        insertedTasks.add(task);
+      } catch (PersistenceException e) {
+        rollbackToSavepoint(connection, taskSavepoint);
+        context.externalIds.remove(task.getExternalId());
+        bulkLog.addError(task.getExternalId(), convertTaskInsertFailure(task, e));
+      } catch (AttachmentPersistenceException e) {
+        rollbackToSavepoint(connection, taskSavepoint);
+        context.externalIds.remove(task.getExternalId());
+        bulkLog.addError(task.getExternalId(), e);
+      }
+    }
+    return insertedTasks;
+  }
+
+  private void insertTasksWithAttachments(List<TaskImpl> tasks, List<AttachmentImpl> attachments)
+      throws AttachmentPersistenceException {
+    taskMapper.insertMultiple(tasks);
+    addToTaskStatistics(tasks.stream().map(TaskImpl::getId).collect(Collectors.toList()));
+    attachmentHandler.insertNewAttachmentsOnTaskCreation(attachments);
+  }
+
+  private TaskanaException convertTaskInsertFailure(TaskImpl task, PersistenceException e) {
+    String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
+    if (msg != null
+        && (msg.contains("violation") || msg.contains("violates") || msg.contains("verletzt"))
+        && msg.contains("external_id")) {
+      return new TaskAlreadyExistException(
+          "Task with external id " + task.getExternalId() + " already exists");
+    }
+    return new InvalidArgumentException(
+        "Could not insert the task with external id " + task.getExternalId(), e.getCause());
+  }
+
+  private Savepoint setSavepoint(Connection connection) {
     try {
-      attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
-    } catch (AttachmentPersistenceException e) {
-      throw new SystemException(
-          "Internal error when trying to insert new Attachments on Task Creation.", e);
+      return connection.getAutoCommit() ? null : connection.setSavepoint();
+    } catch (SQLException e) {
+      throw new SystemException("Could not set a savepoint for the task creation.", e);
+    }
+  }
+
+  private void rollbackToSavepoint(Connection connection, Savepoint savepoint) {
+    try {
+      connection.rollback(savepoint);
+    } catch (SQLException e) {
+      throw new SystemException("Could not roll back the task creation to a savepoint.", e);
+    }
+  }
+
+  private List<AttachmentImpl> prepareTaskForCreation(TaskImpl task, TaskCreationContext context)
+      throws TaskanaException {
+    if (task.getId() != null && !task.getId().equals("")) {
+      throw new TaskAlreadyExistException(task.getId());
+    }
+
+    Workbasket workbasket = context.getWorkbasket(task);
+    task.setWorkbasketSummary(workbasket.asSummary());
+    task.setDomain(workbasket.getDomain());
+
+    String classificationKey = task.getClassificationKey();
+    if (classificationKey == null || classificationKey.length() == 0) {
+      throw new InvalidArgumentException("classificationKey of task must not be empty");
+    }
+    Classification classification =
+        context.getClassification(classificationKey, workbasket.getDomain());
+    task.setClassificationSummary(classification.asSummary());
+    ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", TASK);
+    standardSettings(task, classification);
+    List<AttachmentImpl> attachments =
+        attachmentHandler.initializeNewAttachmentsOnTaskCreation(task);
+    setCallbackStateOnTaskCreation(task);
+    return attachments;
+  }
+
+  void removeFromTaskStatistics(List<String> taskIds) {
+    TaskStatistics taskStatistics = taskanaEngine.getTaskStatistics();
+    if (taskStatistics != null) {
+      taskStatistics.removeTasks(taskIds);
+    }
+  }
+
+  void addToTaskStatistics(List<String> taskIds) {
+    TaskStatistics taskStatistics = taskanaEngine.getTaskStatistics();
+    if (taskStatistics != null) {
+      taskStatistics.addTasks(taskIds);
     }
-    LOGGER.debug("exit from standardSettings()");
   }
 
   private void setCallbackStateOnTaskCreation(TaskImpl task) throws InvalidArgumentException {
@@ -1482,7 +1785,9 @@ public class TaskServiceImpl implements TaskService {
     }
 
     if (!taskIds.isEmpty() && !taskSummaries.isEmpty()) {
+      removeFromTaskStatistics(taskIds);
       taskMapper.updateCompleted(taskIds, (TaskSummaryImpl) taskSummaries.get(0));
+      addToTaskStatistics(taskIds);
       if (HistoryEventProducer.isHistoryEnabled()) {
         createTasksCompletedEvents(taskSummaries);
       }
@@ -1491,12 +1796,12 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private void addClassificationSummariesToTaskSummaries(
-      List<TaskSummaryImpl> tasks, List<ClassificationSummary> classifications) {
+      List<TaskSummaryImpl> tasks, Map<String, ClassificationSummary> classificationsById) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to addClassificationSummariesToTaskSummaries(tasks = {}, classifications = {})",
           LoggerUtils.listToString(tasks),
-          LoggerUtils.listToString(classifications));
+          LoggerUtils.mapToString(classificationsById));
     }
 
     if (tasks == null || tasks.isEmpty()) {
@@ -1505,12 +1810,8 @@ public class TaskServiceImpl implements TaskService {
     }
     // assign query results to appropriate tasks.
     for (TaskSummaryImpl task : tasks) {
-      String classificationId = task.getClassificationSummary().getId();
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(c -> c.getId().equals(classificationId))
-              .findFirst()
-              .orElse(null);
+          classificationsById.get(task.getClassificationSummary().getId());
       if (classificationSummary == null) {
         throw new SystemException(
             "Did not find a Classification for task (Id="
@@ -1562,18 +1863,36 @@ public class TaskServiceImpl implements TaskService {
 
   private List<ClassificationSummary> queryClassificationsForTasksAndAttachments(
       Set<String> classificationIdSet) {
+    ClassificationCache classificationCache = taskanaEngine.getClassificationCache();
+    if (classificationCache != null) {
+      LOGGER.debug(
+          "getClassificationsForTasksAndAttachments() about to read classifications from cache");
+      return classificationCache.getClassificationSummaries(
+          classificationIdSet, this::queryClassificationsById);
+    }
 
     String[] classificationIdArray = classificationIdSet.toArray(new String[0]);
 
     LOGGER.debug(
         "getClassificationsForTasksAndAttachments() about to query classifications and exit");
+    return queryClassificationsById(classificationIdArray);
+  }
+
+  private List<ClassificationSummary> queryClassificationsById(String[] classificationIds) {
     // perform classification query
     return this.classificationService
         .createClassificationQuery()
-        .idIn(classificationIdArray)
+        .idIn(classificationIds)
         .list();
   }
 
+  private Map<String, ClassificationSummary> mapClassificationsById(
+      List<ClassificationSummary> classifications) {
+    return classifications.stream()
+        .collect(
+            Collectors.toMap(ClassificationSummary::getId, Function.identity(), (a, b) -> a));
+  }
+
   private void addWorkbasketSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
     LOGGER.debug("entry to addWorkbasketSummariesToTaskSummaries()");
     if (taskSummaries == null || taskSummaries.isEmpty()) {
@@ -1586,20 +1905,28 @@ public class TaskServiceImpl implements TaskService {
             .distinct()
             .toArray(String[]::new);
     LOGGER.debug("addWorkbasketSummariesToTaskSummaries() about to query workbaskets");
-    WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
-    query.setUsedToAugmentTasks(true);
+    // the task query has already checked the read permission for the workbaskets of the tasks
+    WorkbasketSummaryCache workbasketSummaryCache = taskanaEngine.getWorkbasketSummaryCache();
+    List<WorkbasketSummary> workbaskets;
+    if (workbasketSummaryCache == null) {
+      WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+      query.setUsedToAugmentTasks(true);
+      workbaskets = query.idIn(workbasketIdArray).list();
+    } else {
+      workbaskets = workbasketSummaryCache.getWorkbasketSummaries(Arrays.asList(workbasketIdArray));
+    }
 
-    List<WorkbasketSummary> workbaskets = query.idIn(workbasketIdArray).list();
+    Map<String, WorkbasketSummary> workbasketsById =
+        workbaskets.stream()
+            .collect(
+                Collectors.toMap(WorkbasketSummary::getId, Function.identity(), (a, b) -> a));
     Iterator<TaskSummaryImpl> taskIterator = taskSummaries.iterator();
     while (taskIterator.hasNext()) {
       TaskSummaryImpl task = taskIterator.next();
       String workbasketId = task.getWorkbasketSummaryImpl().getId();
 
       WorkbasketSummary workbasketSummary =
-          workbaskets.stream()
-              .filter(x -> workbasketId != null && workbasketId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
+          workbasketId == null ? null : workbasketsById.get(workbasketId);
       if (workbasketSummary == null) {
         LOGGER.warn("Could not find a Workbasket for task {}.", task.getId());
         taskIterator.remove();
@@ -1611,17 +1938,38 @@ public class TaskServiceImpl implements TaskService {
     LOGGER.debug("exit from addWorkbasketSummariesToTaskSummaries()");
   }
 
+  private WorkbasketSummary getReadableWorkbasketSummary(String workbasketId) {
+    WorkbasketSummaryCache workbasketSummaryCache = taskanaEngine.getWorkbasketSummaryCache();
+    if (workbasketSummaryCache == null) {
+      WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+      query.setUsedToAugmentTasks(true);
+      List<WorkbasketSummary> workbaskets = query.idIn(workbasketId).list();
+      return workbaskets.isEmpty() ? null : workbaskets.get(0);
+    }
+
+    if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)) {
+      try {
+        workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.READ);
+      } catch (NotAuthorizedException | WorkbasketNotFoundException e) {
+        return null;
+      }
+    }
+    List<WorkbasketSummary> workbaskets =
+        workbasketSummaryCache.getWorkbasketSummaries(Collections.singletonList(workbasketId));
+    return workbaskets.isEmpty() ? null : workbaskets.get(0);
+  }
+
   private void addAttachmentSummariesToTaskSummaries(
       List<TaskSummaryImpl> taskSummaries,
       List<AttachmentSummaryImpl> attachmentSummaries,
-      List<ClassificationSummary> classifications) {
+      Map<String, ClassificationSummary> classificationsById) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to addAttachmentSummariesToTaskSummaries(taskSummaries = {}, "
               + "attachmentSummaries = {}, classifications = {})",
           LoggerUtils.listToString(taskSummaries),
           LoggerUtils.listToString(attachmentSummaries),
-          LoggerUtils.listToString(classifications));
+          LoggerUtils.mapToString(classificationsById));
     }
 
     if (taskSummaries == null || taskSummaries.isEmpty()) {
@@ -1633,14 +1981,16 @@ public class TaskServiceImpl implements TaskService {
     // the mapper sets for each Attachment summary the property classificationSummary.key from the
     // CLASSIFICATION_KEY property in the DB
     addClassificationSummariesToAttachmentSummaries(
-        attachmentSummaries, taskSummaries, classifications);
+        attachmentSummaries, taskSummaries, classificationsById);
     // assign attachment summaries to task summaries
+    Map<String, List<AttachmentSummaryImpl>> attachmentSummariesByTaskId =
+        attachmentSummaries.stream()
+            .filter(attachment -> attachment.getTaskId() != null)
+            .collect(Collectors.groupingBy(AttachmentSummaryImpl::getTaskId));
     for (TaskSummaryImpl task : taskSummaries) {
-      for (AttachmentSummaryImpl attachment : attachmentSummaries) {
-        if (attachment.getTaskId() != null && attachment.getTaskId().equals(task.getId())) {
-          task.addAttachmentSummary(attachment);
-        }
-      }
+      attachmentSummariesByTaskId
+          .getOrDefault(task.getId(), Collections.emptyList())
+          .forEach(task::addAttachmentSummary);
     }
 
     LOGGER.debug("exit from addAttachmentSummariesToTaskSummaries()");
@@ -1649,7 +1999,7 @@ public class TaskServiceImpl implements TaskService {
   private void addClassificationSummariesToAttachmentSummaries(
       List<AttachmentSummaryImpl> attachmentSummaries,
       List<TaskSummaryImpl> taskSummaries,
-      List<ClassificationSummary> classifications) {
+      Map<String, ClassificationSummary> classificationsById) {
     LOGGER.debug("entry to addClassificationSummariesToAttachmentSummaries()");
     // prereq: in each attachmentSummary, the classificationSummary.key property is set.
     if (attachmentSummaries == null
@@ -1663,10 +2013,7 @@ public class TaskServiceImpl implements TaskService {
     for (AttachmentSummaryImpl att : attachmentSummaries) {
       String classificationId = att.getClassificationSummary().getId();
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(x -> classificationId != null && classificationId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
+          classificationId == null ? null : classificationsById.get(classificationId);
       if (classificationSummary == null) {
         throw new SystemException("Could not find a Classification for attachment " + att);
       }
@@ -1676,12 +2023,13 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private List<Attachment> addClassificationSummariesToAttachments(
-      List<AttachmentImpl> attachmentImpls, List<ClassificationSummary> classifications) {
+      List<AttachmentImpl> attachmentImpls,
+      Map<String, ClassificationSummary> classificationsById) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to addClassificationSummariesToAttachments(targetWbId = {}, taskIds = {})",
           LoggerUtils.listToString(attachmentImpls),
-          LoggerUtils.listToString(classifications));
+          LoggerUtils.mapToString(classificationsById));
     }
 
     if (attachmentImpls == null || attachmentImpls.isEmpty()) {
@@ -1693,10 +2041,7 @@ public class TaskServiceImpl implements TaskService {
     for (AttachmentImpl att : attachmentImpls) {
       // find the associated task to use the correct domain
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(c -> c != null && c.getId().equals(att.getClassificationSummary().getId()))
-              .findFirst()
-              .orElse(null);
+          classificationsById.get(att.getClassificationSummary().getId());
 
       if (classificationSummary == null) {
         throw new SystemException("Could not find a Classification for attachment " + att);
@@ -1828,9 +2173,78 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private void createTasksCompletedEvents(List<TaskSummary> taskSummaries) {
-    taskSummaries.forEach(
-        task ->
-            historyEventProducer.createEvent(
-                new CompletedEvent(task, CurrentUserContext.getUserid())));
+    String userId = CurrentUserContext.getUserid();
+    historyEventProducer.createEvents(
+        taskSummaries.stream()
+            .map(task -> new CompletedEvent(task, userId))
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Caches the workbaskets and classifications which were resolved during one createTasks call, so
+   * that they are read and authorized only once per distinct key.
+   */
+  private class TaskCreationContext {
+
+    private final Map<String, Workbasket> workbasketsById = new HashMap<>();
+    private final Map<Pair<String, String>, Workbasket> workbasketsByKey = new HashMap<>();
+    private final Map<Pair<String, String>, Classification> classificationsByKey =
+        new HashMap<>();
+    private final Set<String> externalIds = new HashSet<>();
+
+    private Workbasket getWorkbasket(TaskImpl task)
+        throws InvalidArgumentException, NotAuthorizedException, WorkbasketNotFoundException {
+      Workbasket workbasket;
+      if (task.getWorkbasketSummary().getId() != null) {
+        workbasket = getWorkbasketById(task.getWorkbasketSummary().getId());
+      } else if (task.getWorkbasketKey() != null) {
+        Pair<String, String> key = Pair.of(task.getWorkbasketKey(), task.getDomain());
+        workbasket = workbasketsByKey.get(key);
+        if (workbasket == null) {
+          workbasket = workbasketService.getWorkbasket(key.getLeft(), key.getRight());
+          checkWorkbasketForTaskCreation(workbasket);
+          workbasketsByKey.put(key, workbasket);
+          workbasketsById.put(workbasket.getId(), workbasket);
+        }
+      } else {
+        String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
+        if (workbasketId == null) {
+          throw new InvalidArgumentException("Cannot create a task outside a workbasket");
+        }
+        workbasket = getWorkbasketById(workbasketId);
+      }
+      return workbasket;
+    }
+
+    private Workbasket getWorkbasketById(String workbasketId)
+        throws NotAuthorizedException, WorkbasketNotFoundException {
+      Workbasket workbasket = workbasketsById.get(workbasketId);
+      if (workbasket == null) {
+        workbasket = workbasketService.getWorkbasket(workbasketId);
+        checkWorkbasketForTaskCreation(workbasket);
+        workbasketsById.put(workbasketId, workbasket);
+      }
+      return workbasket;
+    }
+
+    private void checkWorkbasketForTaskCreation(Workbasket workbasket)
+        throws NotAuthorizedException, WorkbasketNotFoundException {
+      if (workbasket.isMarkedForDeletion()) {
+        throw new WorkbasketNotFoundException(
+            workbasket.getId(), THE_WORKBASKET + workbasket.getId() + WAS_MARKED_FOR_DELETION);
+      }
+      workbasketService.checkAuthorization(workbasket.getId(), WorkbasketPermission.APPEND);
+    }
+
+    private Classification getClassification(String classificationKey, String domain)
+        throws ClassificationNotFoundException {
+      Pair<String, String> key = Pair.of(classificationKey, domain);
+      Classification classification = classificationsByKey.get(key);
+      if (classification == null) {
+        classification = classificationService.getClassification(classificationKey, domain);
+        classificationsByKey.put(key, classification);
+      }
+      return classification;
+    }
   }
 }
@@ -2,6 +2,7 @@ package pro.taskana.task.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -17,6 +18,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TransferredEvent;
 import pro.taskana.spi.history.internal.HistoryEventProducer;
 import pro.taskana.task.api.TaskState;
@@ -32,6 +34,7 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /** This class is responsible for the transfer of tasks. */
 public class TaskTransferrer {
@@ -106,7 +109,9 @@ public class TaskTransferrer {
       task.setModified(Instant.now());
       task.setState(TaskState.READY);
       task.setOwner(null);
+      taskService.removeFromTaskStatistics(Collections.singletonList(task.getId()));
       taskMapper.update(task);
+      taskService.addToTaskStatistics(Collections.singletonList(task.getId()));
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -163,7 +168,9 @@ public class TaskTransferrer {
       task.setModified(Instant.now());
       task.setState(TaskState.READY);
       task.setOwner(null);
+      taskService.removeFromTaskStatistics(Collections.singletonList(task.getId()));
       taskMapper.update(task);
+      taskService.addToTaskStatistics(Collections.singletonList(task.getId()));
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -397,7 +404,9 @@ public class TaskTransferrer {
       updateObject.setModified(now);
       updateObject.setState(TaskState.READY);
       updateObject.setOwner(null);
+      taskService.removeFromTaskStatistics(taskIds);
       taskMapper.updateTransfered(taskIds, updateObject);
+      taskService.addToTaskStatistics(taskIds);
       if (HistoryEventProducer.isHistoryEnabled()) {
         createTasksTransferredEvents(taskSummaries, updateObject);
       }
@@ -407,20 +416,20 @@ public class TaskTransferrer {
 
   private void createTasksTransferredEvents(
       List<MinimalTaskSummary> taskSummaries, TaskSummaryImpl updateObject) {
-    taskSummaries.stream()
-        .forEach(
-            task -> {
-              TaskImpl newTask = (TaskImpl) taskService.newTask(task.getWorkbasketId());
-              newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-              newTask.setRead(updateObject.isRead());
-              newTask.setTransferred(updateObject.isTransferred());
-              newTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-              newTask.setDomain(updateObject.getDomain());
-              newTask.setModified(updateObject.getModified());
-              newTask.setState(updateObject.getState());
-              newTask.setOwner(updateObject.getOwner());
-              createTaskTransferredEvent(
-                  newTask, newTask.getWorkbasketSummary(), updateObject.getWorkbasketSummary());
-            });
+    String userId = CurrentUserContext.getUserid();
+    List<TaskanaHistoryEvent> events = new ArrayList<>(taskSummaries.size());
+    for (MinimalTaskSummary taskSummary : taskSummaries) {
+      TaskSummaryImpl transferredTask = new TaskSummaryImpl();
+      transferredTask.setId(taskSummary.getTaskId());
+      transferredTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
+      transferredTask.setDomain(updateObject.getDomain());
+      transferredTask.setModified(updateObject.getModified());
+      WorkbasketSummaryImpl oldWorkbasketSummary = new WorkbasketSummaryImpl();
+      oldWorkbasketSummary.setId(taskSummary.getWorkbasketId());
+      events.add(
+          new TransferredEvent(
+              transferredTask, oldWorkbasketSummary, updateObject.getWorkbasketSummary(), userId));
+    }
+    historyEventProducer.createEvents(events);
   }
 }
@@ -3,34 +3,27 @@ package pro.taskana.task.internal.jobs;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
-import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.common.internal.util.LogSanitizer;
-import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 /** Job to cleanup completed tasks after a period of time. */
 public class TaskCleanupJob extends AbstractTaskanaJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskCleanupJob.class);
 
-  private static final SortDirection ASCENDING = SortDirection.ASCENDING;
-
   // Parameter
   private final Instant firstRun;
   private final Duration runEvery;
@@ -56,18 +49,15 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     Instant completedBefore = Instant.now().minus(minimumAge);
     LOGGER.info("Running job to delete all tasks completed before ({})", completedBefore);
     try {
-      List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
-      int totalNumberOfTasksCompleted = 0;
-      while (tasksCompletedBefore.size() > 0) {
-        int upperLimit = batchSize;
-        if (upperLimit > tasksCompletedBefore.size()) {
-          upperLimit = tasksCompletedBefore.size();
-        }
-        totalNumberOfTasksCompleted +=
-            deleteTasksTransactionally(tasksCompletedBefore.subList(0, upperLimit));
-        tasksCompletedBefore.subList(0, upperLimit).clear();
+      TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+      int totalNumberOfTasksDeleted;
+      if (allCompletedSameParentBusiness) {
+        totalNumberOfTasksDeleted =
+            deleteTasksWithAllCompletedSameParentBusiness(taskService, completedBefore);
+      } else {
+        totalNumberOfTasksDeleted = deleteTasksCompletedBefore(taskService, completedBefore);
       }
-      LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksCompleted);
+      LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksDeleted);
     } catch (Exception e) {
       throw new TaskanaException("Error while processing TaskCleanupJob.", e);
     } finally {
@@ -86,66 +76,67 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     job.scheduleNextCleanupJob();
   }
 
-  private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
-    LOGGER.debug("entry to getTasksCompletedBefore(untilDate = {})", untilDate);
-    List<TaskSummary> taskList =
-        taskanaEngineImpl
-            .getTaskService()
-            .createTaskQuery()
-            .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(ASCENDING)
-            .list();
-
-    if (allCompletedSameParentBusiness) {
-      Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
-      Map<String, Long> countParentTask = new HashMap<>();
-      for (TaskSummary task : taskList) {
-        numberParentTasksShouldHave.put(
-            task.getParentBusinessProcessId(),
-            taskanaEngineImpl
-                .getTaskService()
-                .createTaskQuery()
-                .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
-                .count());
-        countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
+  private int deleteTasksCompletedBefore(TaskServiceImpl taskService, Instant completedBefore) {
+    LOGGER.debug("entry to deleteTasksCompletedBefore(completedBefore = {})", completedBefore);
+    int totalNumberOfTasksDeleted = 0;
+    int batchNumber = 0;
+    String lastId = null;
+    List<String> taskIds;
+    do {
+      taskIds = taskService.findIdsOfTasksCompletedBefore(completedBefore, lastId, batchSize);
+      if (!taskIds.isEmpty()) {
+        lastId = taskIds.get(taskIds.size() - 1);
+        int deleted = deleteTasksTransactionally(taskIds);
+        totalNumberOfTasksDeleted += deleted;
+        logBatchProgress(++batchNumber, taskIds.size(), deleted, totalNumberOfTasksDeleted);
       }
+    } while (!taskIds.isEmpty() && taskIds.size() == batchSize);
+    LOGGER.debug("exit from deleteTasksCompletedBefore(), returning {}", totalNumberOfTasksDeleted);
+    return totalNumberOfTasksDeleted;
+  }
 
-      List<String> idsList = new ArrayList<>();
-      numberParentTasksShouldHave.forEach(
-          (k, v) -> {
-            if (v.compareTo(countParentTask.get(k)) == 0) {
-              idsList.add(k);
-            }
-          });
-
-      if (idsList.isEmpty()) {
-        LOGGER.debug("exit from getTasksCompletedBefore(), returning {}", new ArrayList<>());
-        return new ArrayList<>();
+  private int deleteTasksWithAllCompletedSameParentBusiness(
+      TaskServiceImpl taskService, Instant completedBefore) {
+    LOGGER.debug(
+        "entry to deleteTasksWithAllCompletedSameParentBusiness(completedBefore = {})",
+        completedBefore);
+    List<String> parentBusinessProcessIds =
+        taskService.findParentBusinessProcessIdsOfTasksCompletedBefore(completedBefore);
+    LOGGER.info(
+        "Found {} parent business processes whose tasks are all completed.",
+        parentBusinessProcessIds.size());
+    int totalNumberOfTasksDeleted = 0;
+    int batchNumber = 0;
+    for (List<String> parentIds : partition(parentBusinessProcessIds, batchSize)) {
+      List<String> taskIdsOfParents =
+          taskService.findIdsOfTasksWithParentBusinessProcessIds(parentIds);
+      for (List<String> taskIds : partition(taskIdsOfParents, batchSize)) {
+        int deleted = deleteTasksTransactionally(taskIds);
+        totalNumberOfTasksDeleted += deleted;
+        logBatchProgress(++batchNumber, taskIds.size(), deleted, totalNumberOfTasksDeleted);
       }
-
-      String[] ids = new String[idsList.size()];
-      ids = idsList.toArray(ids);
-      taskList =
-          taskanaEngineImpl
-              .getTaskService()
-              .createTaskQuery()
-              .parentBusinessProcessIdIn(ids)
-              .list();
-    }
-
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "exit from getTasksCompletedBefore(), returning {}", LoggerUtils.listToString(taskList));
     }
+    LOGGER.debug(
+        "exit from deleteTasksWithAllCompletedSameParentBusiness(), returning {}",
+        totalNumberOfTasksDeleted);
+    return totalNumberOfTasksDeleted;
+  }
 
-    return taskList;
+  private void logBatchProgress(
+      int batchNumber, int numberOfTasksInBatch, int deleted, int totalNumberOfTasksDeleted) {
+    LOGGER.info(
+        "TaskCleanupJob batch {}: {} of {} tasks deleted, {} tasks deleted in total.",
+        batchNumber,
+        deleted,
+        numberOfTasksInBatch,
+        totalNumberOfTasksDeleted);
   }
 
-  private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+  private int deleteTasksTransactionally(List<String> taskIdsToBeDeleted) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "entry to deleteTasksTransactionally(tasksToBeDeleted = {})",
-          LoggerUtils.listToString(tasksToBeDeleted));
+          "entry to deleteTasksTransactionally(taskIdsToBeDeleted = {})",
+          LoggerUtils.listToString(taskIdsToBeDeleted));
     }
 
     int deletedTaskCount = 0;
@@ -155,7 +146,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
               txProvider.executeInTransaction(
                   () -> {
                     try {
-                      return deleteTasks(tasksToBeDeleted);
+                      return deleteTasks(taskIdsToBeDeleted);
                     } catch (Exception e) {
                       LOGGER.warn("Could not delete tasks.", e);
                       return 0;
@@ -165,7 +156,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
       return count;
     } else {
       try {
-        deletedTaskCount = deleteTasks(tasksToBeDeleted);
+        deletedTaskCount = deleteTasks(taskIdsToBeDeleted);
       } catch (Exception e) {
         LOGGER.warn("Could not delete tasks.", e);
       }
@@ -174,17 +165,18 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return deletedTaskCount;
   }
 
-  private int deleteTasks(List<TaskSummary> tasksToBeDeleted)
+  private int deleteTasks(List<String> taskIdsToBeDeleted)
       throws InvalidArgumentException, NotAuthorizedException {
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("entry to deleteTasks(tasksToBeDeleted = {})", tasksToBeDeleted);
+      LOGGER.debug("entry to deleteTasks(taskIdsToBeDeleted = {})", taskIdsToBeDeleted);
     }
 
-    List<String> tasksIdsToBeDeleted =
-        tasksToBeDeleted.stream().map(TaskSummary::getId).collect(Collectors.toList());
+    // deleteTasks removes the failed ids from the passed list
+    List<String> tasksIdsToBeDeleted = new ArrayList<>(taskIdsToBeDeleted);
     BulkOperationResults<String, TaskanaException> results =
         taskanaEngineImpl.getTaskService().deleteTasks(tasksIdsToBeDeleted);
-    LOGGER.debug("{} tasks deleted.", tasksIdsToBeDeleted.size() - results.getFailedIds().size());
+    int deletedTaskCount = taskIdsToBeDeleted.size() - results.getFailedIds().size();
+    LOGGER.debug("{} tasks deleted.", deletedTaskCount);
     for (String failedId : results.getFailedIds()) {
       if (LOGGER.isWarnEnabled()) {
         LOGGER.warn(
@@ -193,10 +185,8 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
             LogSanitizer.stripLineBreakingChars(results.getErrorForId(failedId)));
       }
     }
-    LOGGER.debug(
-        "exit from deleteTasks(), returning {}",
-        tasksIdsToBeDeleted.size() - results.getFailedIds().size());
-    return tasksIdsToBeDeleted.size() - results.getFailedIds().size();
+    LOGGER.debug("exit from deleteTasks(), returning {}", deletedTaskCount);
+    return deletedTaskCount;
   }
 
   private void scheduleNextCleanupJob() {
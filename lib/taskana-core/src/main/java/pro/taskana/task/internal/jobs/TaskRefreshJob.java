@@ -1,6 +1,8 @@
 package pro.taskana.task.internal.jobs;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -52,6 +54,38 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
     }
   }
 
+  /**
+   * Splits a failed job into two jobs which refresh one half of its tasks each. Bisecting failed
+   * jobs isolates the tasks which cause the failure, so that the other tasks are still refreshed.
+   *
+   * @param scheduledJob the failed job of type UPDATETASKSJOB
+   * @return the two new jobs or an empty list if the job refreshes less than two tasks
+   */
+  public static List<ScheduledJob> bisect(ScheduledJob scheduledJob) {
+    String taskIdsString =
+        scheduledJob.getArguments() == null ? null : scheduledJob.getArguments().get(TASK_IDS);
+    if (taskIdsString == null) {
+      return Collections.emptyList();
+    }
+    List<String> taskIds = Arrays.asList(taskIdsString.split(","));
+    if (taskIds.size() < 2) {
+      return Collections.emptyList();
+    }
+    int middle = taskIds.size() / 2;
+    return Arrays.asList(
+        copyWithTaskIds(scheduledJob, taskIds.subList(0, middle)),
+        copyWithTaskIds(scheduledJob, taskIds.subList(middle, taskIds.size())));
+  }
+
+  private static ScheduledJob copyWithTaskIds(ScheduledJob scheduledJob, List<String> taskIds) {
+    Map<String, String> args = new HashMap<>(scheduledJob.getArguments());
+    args.put(TASK_IDS, String.join(",", taskIds));
+    ScheduledJob job = new ScheduledJob();
+    job.setType(scheduledJob.getType());
+    job.setArguments(args);
+    return job;
+  }
+
   @Override
   public String toString() {
     return "TaskRefreshJob [affectedTaskIds= " + LoggerUtils.listToString(affectedTaskIds) + "]";
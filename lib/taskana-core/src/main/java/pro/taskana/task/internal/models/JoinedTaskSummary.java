@@ -0,0 +1,72 @@
+package pro.taskana.task.internal.models;
+
+/**
+ * A convenience class to represent one row of a joined task summary query. Each row contains a
+ * task summary together with its workbasket and classification summary and at most one of its
+ * attachment summaries.
+ */
+public class JoinedTaskSummary {
+
+  private TaskSummaryImpl taskSummary;
+  private String workbasketId;
+  private String classificationId;
+  private AttachmentSummaryImpl attachmentSummary;
+  private String attachmentClassificationId;
+
+  JoinedTaskSummary() {}
+
+  public TaskSummaryImpl getTaskSummary() {
+    return taskSummary;
+  }
+
+  public void setTaskSummary(TaskSummaryImpl taskSummary) {
+    this.taskSummary = taskSummary;
+  }
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public void setWorkbasketId(String workbasketId) {
+    this.workbasketId = workbasketId;
+  }
+
+  public String getClassificationId() {
+    return classificationId;
+  }
+
+  public void setClassificationId(String classificationId) {
+    this.classificationId = classificationId;
+  }
+
+  public AttachmentSummaryImpl getAttachmentSummary() {
+    return attachmentSummary;
+  }
+
+  public void setAttachmentSummary(AttachmentSummaryImpl attachmentSummary) {
+    this.attachmentSummary = attachmentSummary;
+  }
+
+  public String getAttachmentClassificationId() {
+    return attachmentClassificationId;
+  }
+
+  public void setAttachmentClassificationId(String attachmentClassificationId) {
+    this.attachmentClassificationId = attachmentClassificationId;
+  }
+
+  @Override
+  public String toString() {
+    return "JoinedTaskSummary [taskSummary="
+        + taskSummary
+        + ", workbasketId="
+        + workbasketId
+        + ", classificationId="
+        + classificationId
+        + ", attachmentSummary="
+        + attachmentSummary
+        + ", attachmentClassificationId="
+        + attachmentClassificationId
+        + "]";
+  }
+}
@@ -1,5 +1,6 @@
 package pro.taskana.workbasket.api;
 
+import java.util.Iterator;
 import java.util.List;
 
 import pro.taskana.common.api.BulkOperationResults;
@@ -15,6 +16,7 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketInUseException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 
 /** This service manages Workbaskets. */
@@ -314,6 +316,39 @@ public interface WorkbasketService {
   BulkOperationResults<String, TaskanaException> deleteWorkbaskets(List<String> workbasketsIds)
       throws NotAuthorizedException, InvalidArgumentException;
 
+  /**
+   * Imports workbasket definitions. A workbasket whose key and domain already exist is updated,
+   * otherwise it is created. The access items of an existing workbasket are replaced by the
+   * imported ones and so are its distribution targets. The definitions are consumed one after
+   * another, so that the caller can stream them.
+   *
+   * <p>All changes are made within the current transaction. A definition which cannot be imported
+   * is reported in the result and skipped. If only its distribution targets are invalid, the
+   * workbasket and its access items are imported but its distribution targets are left unchanged.
+   *
+   * @param definitions the workbasket definitions to import
+   * @return the result of the operations with the 'key|domain' identifier and the Exception for
+   *     each workbasket definition which could not be imported
+   * @throws NotAuthorizedException if the current user is not member of role BUSINESS_ADMIN or
+   *     ADMIN
+   */
+  BulkOperationResults<String, TaskanaException> importWorkbasketDefinitions(
+      Iterator<WorkbasketDefinition> definitions) throws NotAuthorizedException;
+
+  /**
+   * Returns the definitions of the workbaskets with the given ids, i.e. the workbaskets together
+   * with their access items and the ids of their distribution targets. The workbaskets, access
+   * items and distribution targets are each loaded with a single query, so that large exports can
+   * be done in chunks of ids. Ids of non existing workbaskets are ignored.
+   *
+   * @param workbasketIds the ids of the workbaskets
+   * @return the definitions of the existing workbaskets in the order of the given ids
+   * @throws NotAuthorizedException if the current user is not member of role BUSINESS_ADMIN or
+   *     ADMIN
+   */
+  List<WorkbasketDefinition> getWorkbasketDefinitions(List<String> workbasketIds)
+      throws NotAuthorizedException;
+
   /**
    * Returns the distribution sources for a given workbasket.
    *
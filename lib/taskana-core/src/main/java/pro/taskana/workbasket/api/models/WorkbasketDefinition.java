@@ -0,0 +1,33 @@
+package pro.taskana.workbasket.api.models;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Interface for WorkbasketDefinition. A workbasket definition contains a workbasket together with
+ * its access items and distribution targets. It is used to import workbaskets from another system.
+ */
+public interface WorkbasketDefinition {
+
+  /**
+   * Returns the workbasket. Its id is the id of the workbasket in the system it was exported from.
+   *
+   * @return the workbasket
+   */
+  Workbasket getWorkbasket();
+
+  /**
+   * Returns the access items of the workbasket.
+   *
+   * @return the access items
+   */
+  List<WorkbasketAccessItem> getAuthorizations();
+
+  /**
+   * Returns the ids of the distribution targets of the workbasket. The ids are either ids of
+   * workbaskets in the system the workbasket was exported from or ids of existing workbaskets.
+   *
+   * @return the ids of the distribution targets
+   */
+  Set<String> getDistributionTargets();
+}
@@ -4,8 +4,12 @@ import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
+import pro.taskana.common.internal.util.Pair;
+
 /** This class is the mybatis mapping of distribution targets. */
 @SuppressWarnings("checkstyle:LineLength")
 public interface DistributionTargetMapper {
@@ -14,6 +18,14 @@ public interface DistributionTargetMapper {
       "INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) VALUES (#{sourceId}, #{targetId})")
   void insert(@Param("sourceId") String sourceId, @Param("targetId") String targetId);
 
+  @Insert(
+      "<script>INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) "
+          + "VALUES <foreach item='item' collection='distributionTargets' separator=',' >"
+          + "(#{item.left}, #{item.right})"
+          + "</foreach>"
+          + "</script>")
+  void insertAll(@Param("distributionTargets") List<Pair<String, String>> distributionTargets);
+
   @Delete(
       "DELETE FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID = #{targetId}")
   void delete(@Param("sourceId") String sourceId, @Param("targetId") String targetId);
@@ -24,6 +36,17 @@ public interface DistributionTargetMapper {
           + "</script>")
   List<String> findBySourceId(@Param("sourceId") String sourceId);
 
+  @Select(
+      "<script>SELECT SOURCE_ID, TARGET_ID FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID IN(<foreach item='item' collection='sourceIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "left", column = "SOURCE_ID"),
+        @Result(property = "right", column = "TARGET_ID")
+      })
+  List<Pair<String, String>> findBySourceIds(@Param("sourceIds") List<String> sourceIds);
+
   @Select(
       "<script>SELECT count(*) FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID = #{targetId}"
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -39,6 +62,10 @@ public interface DistributionTargetMapper {
   @Delete("DELETE FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId}")
   void deleteAllDistributionTargetsBySourceId(@Param("sourceId") String sourceId);
 
+  @Delete(
+      "<script>DELETE FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID IN(<foreach item='item' collection='sourceIds' separator=',' >#{item}</foreach>)</script>")
+  void deleteAllDistributionTargetsBySourceIds(@Param("sourceIds") List<String> sourceIds);
+
   @Delete("DELETE FROM DISTRIBUTION_TARGETS WHERE TARGET_ID = #{targetId}")
   void deleteAllDistributionTargetsByTargetId(@Param("targetId") String targetId);
 }
@@ -79,12 +79,54 @@ public interface WorkbasketAccessMapper {
       })
   List<WorkbasketAccessItemImpl> findByWorkbasketId(@Param("id") String id);
 
+  @Select(
+      "<script>SELECT WBA.ID, WORKBASKET_ID, WB.KEY, ACCESS_ID, ACCESS_NAME, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE, PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12 "
+          + "FROM WORKBASKET_ACCESS_LIST AS WBA LEFT JOIN WORKBASKET AS WB ON WORKBASKET_ID = WB.ID WHERE WORKBASKET_ID IN(<foreach item='item' collection='workbasketIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Results(
+      value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "workbasketId", column = "WORKBASKET_ID"),
+        @Result(property = "workbasketKey", column = "KEY"),
+        @Result(property = "accessId", column = "ACCESS_ID"),
+        @Result(property = "accessName", column = "ACCESS_NAME"),
+        @Result(property = "permRead", column = "PERM_READ"),
+        @Result(property = "permOpen", column = "PERM_OPEN"),
+        @Result(property = "permAppend", column = "PERM_APPEND"),
+        @Result(property = "permTransfer", column = "PERM_TRANSFER"),
+        @Result(property = "permDistribute", column = "PERM_DISTRIBUTE"),
+        @Result(property = "permCustom1", column = "PERM_CUSTOM_1"),
+        @Result(property = "permCustom2", column = "PERM_CUSTOM_2"),
+        @Result(property = "permCustom3", column = "PERM_CUSTOM_3"),
+        @Result(property = "permCustom4", column = "PERM_CUSTOM_4"),
+        @Result(property = "permCustom5", column = "PERM_CUSTOM_5"),
+        @Result(property = "permCustom6", column = "PERM_CUSTOM_6"),
+        @Result(property = "permCustom7", column = "PERM_CUSTOM_7"),
+        @Result(property = "permCustom8", column = "PERM_CUSTOM_8"),
+        @Result(property = "permCustom9", column = "PERM_CUSTOM_9"),
+        @Result(property = "permCustom10", column = "PERM_CUSTOM_10"),
+        @Result(property = "permCustom11", column = "PERM_CUSTOM_11"),
+        @Result(property = "permCustom12", column = "PERM_CUSTOM_12")
+      })
+  List<WorkbasketAccessItemImpl> findByWorkbasketIds(
+      @Param("workbasketIds") List<String> workbasketIds);
+
   @Insert(
       "INSERT INTO WORKBASKET_ACCESS_LIST (ID, WORKBASKET_ID, ACCESS_ID, ACCESS_NAME, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE,  PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12) "
           + "VALUES (#{workbasketAccessItem.id}, #{workbasketAccessItem.workbasketId}, #{workbasketAccessItem.accessId}, #{workbasketAccessItem.accessName}, #{workbasketAccessItem.permRead}, #{workbasketAccessItem.permOpen}, #{workbasketAccessItem.permAppend}, #{workbasketAccessItem.permTransfer}, #{workbasketAccessItem.permDistribute}, #{workbasketAccessItem.permCustom1}, #{workbasketAccessItem.permCustom2}, #{workbasketAccessItem.permCustom3}, #{workbasketAccessItem.permCustom4}, #{workbasketAccessItem.permCustom5}, #{workbasketAccessItem.permCustom6}, #{workbasketAccessItem.permCustom7}, #{workbasketAccessItem.permCustom8}, #{workbasketAccessItem.permCustom9}, #{workbasketAccessItem.permCustom10}, #{workbasketAccessItem.permCustom11}, #{workbasketAccessItem.permCustom12})")
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(@Param("workbasketAccessItem") WorkbasketAccessItemImpl workbasketAccessItem);
 
+  @Insert(
+      "<script>INSERT INTO WORKBASKET_ACCESS_LIST (ID, WORKBASKET_ID, ACCESS_ID, ACCESS_NAME, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE,  PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12) "
+          + "VALUES <foreach item='item' collection='workbasketAccessItems' separator=',' >"
+          + "(#{item.id}, #{item.workbasketId}, #{item.accessId}, #{item.accessName}, #{item.permRead}, #{item.permOpen}, #{item.permAppend}, #{item.permTransfer}, #{item.permDistribute}, #{item.permCustom1}, #{item.permCustom2}, #{item.permCustom3}, #{item.permCustom4}, #{item.permCustom5}, #{item.permCustom6}, #{item.permCustom7}, #{item.permCustom8}, #{item.permCustom9}, #{item.permCustom10}, #{item.permCustom11}, #{item.permCustom12})"
+          + "</foreach>"
+          + "</script>")
+  void insertAll(
+      @Param("workbasketAccessItems") List<WorkbasketAccessItemImpl> workbasketAccessItems);
+
   @Update(
       "UPDATE WORKBASKET_ACCESS_LIST SET WORKBASKET_ID = #{workbasketAccessItem.workbasketId}, ACCESS_ID = #{workbasketAccessItem.accessId}, ACCESS_NAME = #{workbasketAccessItem.accessName}, PERM_READ = #{workbasketAccessItem.permRead}, PERM_OPEN = #{workbasketAccessItem.permOpen}, PERM_APPEND = #{workbasketAccessItem.permAppend}, PERM_TRANSFER = #{workbasketAccessItem.permTransfer}, PERM_DISTRIBUTE = #{workbasketAccessItem.permDistribute}, PERM_CUSTOM_1 = #{workbasketAccessItem.permCustom1}, PERM_CUSTOM_2 = #{workbasketAccessItem.permCustom2}, PERM_CUSTOM_3 = #{workbasketAccessItem.permCustom3}, PERM_CUSTOM_4 = #{workbasketAccessItem.permCustom4}, PERM_CUSTOM_5 = #{workbasketAccessItem.permCustom5}, PERM_CUSTOM_6 = #{workbasketAccessItem.permCustom6}, PERM_CUSTOM_7 = #{workbasketAccessItem.permCustom7}, PERM_CUSTOM_8 = #{workbasketAccessItem.permCustom8}, PERM_CUSTOM_9 = #{workbasketAccessItem.permCustom9}, PERM_CUSTOM_10 = #{workbasketAccessItem.permCustom10}, PERM_CUSTOM_11 = #{workbasketAccessItem.permCustom11}, PERM_CUSTOM_12 = #{workbasketAccessItem.permCustom12} "
           + "WHERE id = #{workbasketAccessItem.id}")
@@ -93,12 +135,33 @@ public interface WorkbasketAccessMapper {
   @Delete("DELETE FROM WORKBASKET_ACCESS_LIST WHERE ID = #{id}")
   void delete(@Param("id") String id);
 
+  @Delete(
+      "<script>DELETE FROM WORKBASKET_ACCESS_LIST WHERE ID IN(<foreach item='item' collection='ids' separator=',' >#{item}</foreach>)</script>")
+  void deleteByIds(@Param("ids") List<String> ids);
+
   @Delete("DELETE FROM WORKBASKET_ACCESS_LIST WHERE WORKBASKET_ID = #{workbasketId}")
   void deleteAllAccessItemsForWorkbasketId(@Param("workbasketId") String workbasketId);
 
   @Delete("DELETE FROM WORKBASKET_ACCESS_LIST where ACCESS_ID = #{accessId}")
   void deleteAccessItemsForAccessId(@Param("accessId") String accessId);
 
+  @Select(
+      "<script>SELECT WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST "
+          + "WHERE ACCESS_ID IN(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "GROUP BY WORKBASKET_ID "
+          + "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">HAVING MAX(PERM_READ) = 1 </when>"
+          + "<otherwise>HAVING MAX(PERM_READ::int) = 1 </otherwise>"
+          + "</choose>"
+          + "</script>")
+  List<String> findReadableWorkbasketIds(@Param("accessIds") List<String> accessIds);
+
+  @Select("SELECT VERSION FROM WORKBASKET_ACL_VERSION WHERE ID = 1")
+  long getAclVersion();
+
+  @Update("UPDATE WORKBASKET_ACL_VERSION SET VERSION = #{version} WHERE ID = 1")
+  void updateAclVersion(@Param("version") long version);
+
   @Select(
       "<script>"
           + "<choose>"
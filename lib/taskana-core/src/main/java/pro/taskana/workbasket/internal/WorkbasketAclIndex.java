@@ -0,0 +1,110 @@
+package pro.taskana.workbasket.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+
+/**
+ * Index of the workbaskets which can be read with a given set of access ids. It is used to filter
+ * task queries by a list of workbasket ids instead of aggregating the WORKBASKET_ACCESS_LIST in
+ * every query.
+ *
+ * <p>Every modification of the WORKBASKET_ACCESS_LIST writes a new ACL version into the database
+ * within the same transaction. An indexed entry is only used as long as the ACL version in the
+ * database is the same as the one the entry was loaded with. Therefore all TASKANA instances which
+ * share a database see ACL modifications as soon as they are committed. The ACL version is a
+ * random value rather than a counter, so that the version written by a rolled back transaction is
+ * not written again by a later one.
+ */
+public class WorkbasketAclIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketAclIndex.class);
+  private static final int MAX_NUMBER_OF_ENTRIES = 1000;
+
+  private final InternalTaskanaEngine taskanaEngine;
+  private final WorkbasketAccessMapper workbasketAccessMapper;
+  private final int maxNumberOfWorkbaskets;
+  private final Map<List<String>, Entry> entries =
+      Collections.synchronizedMap(
+          new LinkedHashMap<List<String>, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, Entry> eldest) {
+              return size() > MAX_NUMBER_OF_ENTRIES;
+            }
+          });
+
+  public WorkbasketAclIndex(
+      InternalTaskanaEngine taskanaEngine,
+      WorkbasketAccessMapper workbasketAccessMapper,
+      int maxNumberOfWorkbaskets) {
+    this.taskanaEngine = taskanaEngine;
+    this.workbasketAccessMapper = workbasketAccessMapper;
+    this.maxNumberOfWorkbaskets = maxNumberOfWorkbaskets;
+  }
+
+  /**
+   * Returns the ids of all workbaskets which can be read with at least one of the given access ids.
+   * The returned array is shared and must not be modified.
+   *
+   * @param accessIds the lower case access ids of the current user. Must not be empty.
+   * @return the ids of the readable workbaskets or null if there are more readable workbaskets
+   *     than configured by {@link
+   *     pro.taskana.TaskanaEngineConfiguration#getWorkbasketAclIndexMaxWorkbaskets()}
+   */
+  public String[] getReadableWorkbasketIds(String[] accessIds) {
+    LOGGER.debug("entry to getReadableWorkbasketIds(accessIds = {})", Arrays.toString(accessIds));
+    Entry entry = null;
+    try {
+      taskanaEngine.openConnection();
+      long aclVersion = workbasketAccessMapper.getAclVersion();
+      List<String> key =
+          Arrays.stream(accessIds).distinct().sorted().collect(Collectors.toList());
+      entry = entries.get(key);
+      if (entry == null || entry.aclVersion != aclVersion) {
+        List<String> workbasketIds = workbasketAccessMapper.findReadableWorkbasketIds(key);
+        entry =
+            new Entry(
+                aclVersion,
+                workbasketIds.size() > maxNumberOfWorkbaskets
+                    ? null
+                    : workbasketIds.toArray(new String[0]));
+        entries.put(key, entry);
+      }
+      return entry.workbasketIds;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from getReadableWorkbasketIds(). Returning {} workbasket ids.",
+          entry == null || entry.workbasketIds == null ? null : entry.workbasketIds.length);
+    }
+  }
+
+  /**
+   * Creates a new ACL version. It has to be written with {@link
+   * WorkbasketAccessMapper#updateAclVersion(long)} whenever the WORKBASKET_ACCESS_LIST is modified.
+   *
+   * @return the new ACL version
+   */
+  static long newAclVersion() {
+    return ThreadLocalRandom.current().nextLong();
+  }
+
+  private static final class Entry {
+
+    private final long aclVersion;
+    private final String[] workbasketIds;
+
+    private Entry(long aclVersion, String[] workbasketIds) {
+      this.aclVersion = aclVersion;
+      this.workbasketIds = workbasketIds;
+    }
+  }
+}
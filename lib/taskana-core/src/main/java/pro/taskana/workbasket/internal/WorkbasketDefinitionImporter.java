@@ -0,0 +1,465 @@
+package pro.taskana.workbasket.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.DomainNotFoundException;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.api.exceptions.InvalidWorkbasketException;
+import pro.taskana.workbasket.api.exceptions.WorkbasketAccessItemAlreadyExistException;
+import pro.taskana.workbasket.api.exceptions.WorkbasketAlreadyExistException;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+
+/**
+ * This class is responsible for the import of workbasket definitions. The definitions are read in
+ * batches. Each batch is compared with the existing workbaskets and access items and written with
+ * multi-row inserts and batched updates, so that the number of round trips does not grow with the
+ * number of definitions. If a chunk fails, its items are written one by one and only the failing
+ * definitions are reported. The distribution targets are written after all workbaskets are known.
+ */
+class WorkbasketDefinitionImporter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketDefinitionImporter.class);
+  private static final String ID_PREFIX_WORKBASKET = "WBI";
+  private static final String ID_PREFIX_WORKBASKET_AUTHORIZATION = "WAI";
+  private static final int DEFINITIONS_BATCH_SIZE = 100;
+  private static final int STATEMENT_BATCH_SIZE = 100;
+
+  private final InternalTaskanaEngine taskanaEngine;
+  private final WorkbasketMapper workbasketMapper;
+  private final WorkbasketAccessMapper workbasketAccessMapper;
+  private final DistributionTargetMapper distributionTargetMapper;
+  private final WorkbasketServiceImpl workbasketService;
+
+  WorkbasketDefinitionImporter(
+      InternalTaskanaEngine taskanaEngine,
+      WorkbasketMapper workbasketMapper,
+      WorkbasketAccessMapper workbasketAccessMapper,
+      DistributionTargetMapper distributionTargetMapper,
+      WorkbasketServiceImpl workbasketService) {
+    this.taskanaEngine = taskanaEngine;
+    this.workbasketMapper = workbasketMapper;
+    this.workbasketAccessMapper = workbasketAccessMapper;
+    this.distributionTargetMapper = distributionTargetMapper;
+    this.workbasketService = workbasketService;
+  }
+
+  BulkOperationResults<String, TaskanaException> importWorkbasketDefinitions(
+      Iterator<WorkbasketDefinition> definitions) throws NotAuthorizedException {
+    LOGGER.debug("entry to importWorkbasketDefinitions()");
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    ImportContext context = new ImportContext();
+    try {
+      taskanaEngine.openConnection();
+      for (WorkbasketSummary workbasket : workbasketMapper.findAll()) {
+        context.existingIds.put(
+            logicalId(workbasket.getKey(), workbasket.getDomain()), workbasket.getId());
+        context.existingIdSet.add(workbasket.getId());
+      }
+
+      List<WorkbasketDefinition> batch = new ArrayList<>();
+      while (definitions.hasNext()) {
+        batch.add(definitions.next());
+        if (batch.size() == DEFINITIONS_BATCH_SIZE) {
+          importBatch(batch, context);
+          batch.clear();
+        }
+      }
+      importBatch(batch, context);
+      importDistributionTargets(context);
+
+      if (context.accessItemsChanged) {
+        workbasketService.accessItemsChanged();
+      }
+      return context.bulkLog;
+    } finally {
+      workbasketService.clearWorkbasketSummaryCache();
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from importWorkbasketDefinitions(). Imported {} workbaskets with {} errors.",
+          context.distributionTargets.size(),
+          context.bulkLog.getErrorMap().size());
+    }
+  }
+
+  private void importBatch(List<WorkbasketDefinition> batch, ImportContext context) {
+    Instant now = Instant.now();
+    List<ImportedWorkbasket> workbasketsToInsert = new ArrayList<>();
+    List<ImportedWorkbasket> workbasketsToUpdate = new ArrayList<>();
+
+    for (WorkbasketDefinition definition : batch) {
+      WorkbasketImpl importedWorkbasket = (WorkbasketImpl) definition.getWorkbasket();
+      String logicalId = logicalId(importedWorkbasket.getKey(), importedWorkbasket.getDomain());
+      try {
+        if (!context.importedLogicalIds.add(logicalId)) {
+          throw new WorkbasketAlreadyExistException(importedWorkbasket);
+        }
+        String existingId = context.existingIds.get(logicalId);
+        WorkbasketImpl workbasket = importedWorkbasket.copy(importedWorkbasket.getKey());
+        workbasket.setId(
+            existingId != null ? existingId : IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET));
+        workbasket.setModified(now);
+        if (existingId == null) {
+          workbasket.setCreated(now);
+        }
+        workbasketService.validateWorkbasket(workbasket);
+        ImportedWorkbasket imported =
+            new ImportedWorkbasket(
+                logicalId, definition, workbasket, getValidatedAccessItems(definition, workbasket));
+        if (existingId == null) {
+          workbasketsToInsert.add(imported);
+        } else {
+          workbasketsToUpdate.add(imported);
+        }
+      } catch (InvalidWorkbasketException
+          | InvalidArgumentException
+          | DomainNotFoundException
+          | WorkbasketAlreadyExistException
+          | WorkbasketAccessItemAlreadyExistException e) {
+        context.bulkLog.addError(logicalId, e);
+      }
+    }
+
+    List<ImportedWorkbasket> insertedWorkbaskets =
+        writeInChunks(
+            workbasketsToInsert,
+            chunk -> workbasketMapper.insertAll(workbasketsOf(chunk)),
+            imported -> imported.logicalId,
+            context);
+    List<ImportedWorkbasket> updatedWorkbaskets =
+        writeInChunks(
+            workbasketsToUpdate,
+            chunk -> updateWorkbaskets(workbasketsOf(chunk)),
+            imported -> imported.logicalId,
+            context);
+
+    Map<String, List<WorkbasketAccessItemImpl>> accessItemsByWorkbasketId = new HashMap<>();
+    List<ImportedWorkbasket> importedWorkbaskets = new ArrayList<>(insertedWorkbaskets);
+    importedWorkbaskets.addAll(updatedWorkbaskets);
+    for (ImportedWorkbasket imported : importedWorkbaskets) {
+      String workbasketId = imported.workbasket.getId();
+      String importedId = imported.definition.getWorkbasket().getId();
+      accessItemsByWorkbasketId.put(workbasketId, imported.accessItems);
+      context.logicalIds.put(workbasketId, imported.logicalId);
+      if (importedId != null) {
+        context.idConversion.put(importedId, workbasketId);
+      }
+      context.distributionTargets.put(
+          workbasketId, Pair.of(imported.logicalId, imported.definition.getDistributionTargets()));
+    }
+    importAccessItems(
+        accessItemsByWorkbasketId,
+        updatedWorkbaskets.stream()
+            .map(imported -> imported.workbasket.getId())
+            .collect(Collectors.toList()),
+        context);
+  }
+
+  /**
+   * Updates the workbaskets with a batch executor on the connection of the current session, so
+   * that all updates are sent to the database in one round trip within the current transaction.
+   * The connection is not closed with the batch session.
+   */
+  private void updateWorkbaskets(List<WorkbasketImpl> workbaskets) {
+    SqlSession session = taskanaEngine.getSqlSession();
+    Configuration configuration = session.getConfiguration();
+    Executor executor =
+        configuration.newExecutor(
+            new ManagedTransaction(session.getConnection(), false), ExecutorType.BATCH);
+    try (SqlSession batchSession = new DefaultSqlSession(configuration, executor, false)) {
+      WorkbasketMapper batchMapper = batchSession.getMapper(WorkbasketMapper.class);
+      workbaskets.forEach(batchMapper::updateByKeyAndDomain);
+      batchSession.flushStatements();
+    }
+  }
+
+  private List<WorkbasketAccessItemImpl> getValidatedAccessItems(
+      WorkbasketDefinition definition, WorkbasketImpl workbasket)
+      throws InvalidWorkbasketException, InvalidArgumentException,
+          WorkbasketAccessItemAlreadyExistException {
+    List<WorkbasketAccessItem> authorizations = definition.getAuthorizations();
+    WorkbasketImpl importedWorkbasket = (WorkbasketImpl) definition.getWorkbasket();
+    boolean consistent =
+        authorizations.stream()
+            .anyMatch(
+                accessItem ->
+                    Objects.equals(accessItem.getWorkbasketId(), importedWorkbasket.getId())
+                        && Objects.equals(
+                            accessItem.getWorkbasketKey(), importedWorkbasket.getKey()));
+    if (!consistent && !authorizations.isEmpty()) {
+      throw new InvalidWorkbasketException(
+          "The given Authentications for Workbasket "
+              + importedWorkbasket.getId()
+              + " don't match in WorkbasketId and WorkbasketKey. "
+              + "Please provide consistent WorkbasketDefinitions");
+    }
+
+    Set<String> accessIds = new HashSet<>();
+    List<WorkbasketAccessItemImpl> accessItems = new ArrayList<>();
+    for (WorkbasketAccessItem authorization : authorizations) {
+      if (authorization.getAccessId() == null) {
+        throw new InvalidArgumentException(
+            String.format(
+                "Checking the preconditions of the current "
+                    + "WorkbasketAccessItem failed. WorkbasketAccessItem=%s",
+                authorization));
+      }
+      if (!accessIds.add(authorization.getAccessId())) {
+        throw new WorkbasketAccessItemAlreadyExistException(authorization);
+      }
+      WorkbasketAccessItemImpl accessItem = ((WorkbasketAccessItemImpl) authorization).copy();
+      accessItem.setWorkbasketId(workbasket.getId());
+      accessItems.add(accessItem);
+    }
+    return accessItems;
+  }
+
+  private void importAccessItems(
+      Map<String, List<WorkbasketAccessItemImpl>> accessItemsByWorkbasketId,
+      List<String> updatedWorkbasketIds,
+      ImportContext context) {
+    Map<String, Map<String, WorkbasketAccessItemImpl>> existingAccessItems = new HashMap<>();
+    if (!updatedWorkbasketIds.isEmpty()) {
+      for (WorkbasketAccessItemImpl accessItem :
+          workbasketAccessMapper.findByWorkbasketIds(updatedWorkbasketIds)) {
+        existingAccessItems
+            .computeIfAbsent(accessItem.getWorkbasketId(), id -> new HashMap<>())
+            .put(accessItem.getAccessId(), accessItem);
+      }
+    }
+
+    List<WorkbasketAccessItemImpl> accessItemsToInsert = new ArrayList<>();
+    List<String> accessItemIdsToDelete = new ArrayList<>();
+    for (Map.Entry<String, List<WorkbasketAccessItemImpl>> entry :
+        accessItemsByWorkbasketId.entrySet()) {
+      Map<String, WorkbasketAccessItemImpl> existingByAccessId =
+          existingAccessItems.getOrDefault(entry.getKey(), new HashMap<>());
+      for (WorkbasketAccessItemImpl accessItem : entry.getValue()) {
+        WorkbasketAccessItemImpl existingAccessItem =
+            existingByAccessId.remove(accessItem.getAccessId());
+        if (existingAccessItem == null) {
+          accessItem.setId(IdGenerator.generateWithPrefix(ID_PREFIX_WORKBASKET_AUTHORIZATION));
+          accessItemsToInsert.add(accessItem);
+        } else {
+          accessItem.setId(existingAccessItem.getId());
+          accessItem.setWorkbasketKey(existingAccessItem.getWorkbasketKey());
+          if (!accessItem.equals(existingAccessItem)) {
+            // changed access items are replaced, so that they are written with multi-row statements
+            accessItemIdsToDelete.add(accessItem.getId());
+            accessItemsToInsert.add(accessItem);
+          }
+        }
+      }
+      existingByAccessId.values().forEach(item -> accessItemIdsToDelete.add(item.getId()));
+    }
+
+    if (!accessItemsToInsert.isEmpty() || !accessItemIdsToDelete.isEmpty()) {
+      context.accessItemsChanged = true;
+    }
+    inBatches(accessItemIdsToDelete, workbasketAccessMapper::deleteByIds);
+    writeInChunks(
+        accessItemsToInsert,
+        workbasketAccessMapper::insertAll,
+        accessItem -> context.logicalIds.get(accessItem.getWorkbasketId()),
+        context);
+  }
+
+  private void importDistributionTargets(ImportContext context) {
+    List<String> sourceIds = new ArrayList<>();
+    List<Pair<String, String>> distributionTargets = new ArrayList<>();
+    for (Map.Entry<String, Pair<String, Set<String>>> entry :
+        context.distributionTargets.entrySet()) {
+      String sourceId = entry.getKey();
+      try {
+        Set<String> targetIds = new LinkedHashSet<>();
+        for (String importedTargetId : entry.getValue().getRight()) {
+          targetIds.add(getTargetId(importedTargetId, context));
+        }
+        sourceIds.add(sourceId);
+        targetIds.forEach(targetId -> distributionTargets.add(Pair.of(sourceId, targetId)));
+      } catch (InvalidWorkbasketException e) {
+        context.bulkLog.addError(entry.getValue().getLeft(), e);
+      }
+    }
+
+    inBatches(sourceIds, distributionTargetMapper::deleteAllDistributionTargetsBySourceIds);
+    inBatches(distributionTargets, distributionTargetMapper::insertAll);
+  }
+
+  private String getTargetId(String importedTargetId, ImportContext context)
+      throws InvalidWorkbasketException {
+    String targetId = context.idConversion.get(importedTargetId);
+    if (targetId != null) {
+      return targetId;
+    } else if (context.existingIdSet.contains(importedTargetId)) {
+      return importedTargetId;
+    }
+    throw new InvalidWorkbasketException(
+        String.format(
+            "invalid import state: Workbasket '%s' does not exist in the given import list",
+            importedTargetId));
+  }
+
+  /**
+   * Writes the items in chunks. If a chunk fails, it is rolled back to a savepoint and its items
+   * are written one by one, so that only the failing items are reported in the bulkLog with the
+   * 'key|domain' identifier of their workbasket. Without a transaction, i.e. in auto-commit mode,
+   * the failure is rethrown. Returns the items which were written.
+   */
+  private <T> List<T> writeInChunks(
+      List<T> items,
+      Consumer<List<T>> statement,
+      Function<T, String> logicalIdOf,
+      ImportContext context) {
+    Connection connection = taskanaEngine.getSqlSession().getConnection();
+    List<T> writtenItems = new ArrayList<>();
+    for (int i = 0; i < items.size(); i += STATEMENT_BATCH_SIZE) {
+      List<T> chunk = items.subList(i, Math.min(i + STATEMENT_BATCH_SIZE, items.size()));
+      Savepoint chunkSavepoint = setSavepoint(connection);
+      try {
+        statement.accept(chunk);
+        writtenItems.addAll(chunk);
+      } catch (PersistenceException e) {
+        if (chunkSavepoint == null) {
+          throw new SystemException("Could not import a chunk of workbasket definitions.", e);
+        }
+        LOGGER.debug("Could not write a chunk of {} items, writing them one by one.", chunk.size());
+        rollbackToSavepoint(connection, chunkSavepoint);
+        for (T item : chunk) {
+          if (writeItem(connection, item, statement, logicalIdOf, context)) {
+            writtenItems.add(item);
+          }
+        }
+      }
+    }
+    return writtenItems;
+  }
+
+  private <T> boolean writeItem(
+      Connection connection,
+      T item,
+      Consumer<List<T>> statement,
+      Function<T, String> logicalIdOf,
+      ImportContext context) {
+    Savepoint itemSavepoint = setSavepoint(connection);
+    try {
+      statement.accept(Collections.singletonList(item));
+      return true;
+    } catch (PersistenceException e) {
+      rollbackToSavepoint(connection, itemSavepoint);
+      String logicalId = logicalIdOf.apply(item);
+      context.bulkLog.addError(
+          logicalId,
+          new InvalidArgumentException(
+              String.format("Could not import the workbasket definition %s.", logicalId),
+              e.getCause()));
+      return false;
+    }
+  }
+
+  private Savepoint setSavepoint(Connection connection) {
+    try {
+      return connection.getAutoCommit() ? null : connection.setSavepoint();
+    } catch (SQLException e) {
+      throw new SystemException("Could not set a savepoint for the workbasket import.", e);
+    }
+  }
+
+  private void rollbackToSavepoint(Connection connection, Savepoint savepoint) {
+    try {
+      connection.rollback(savepoint);
+    } catch (SQLException e) {
+      throw new SystemException("Could not roll back the workbasket import to a savepoint.", e);
+    }
+  }
+
+  private static List<WorkbasketImpl> workbasketsOf(List<ImportedWorkbasket> importedWorkbaskets) {
+    return importedWorkbaskets.stream()
+        .map(imported -> imported.workbasket)
+        .collect(Collectors.toList());
+  }
+
+  private static <T> void inBatches(List<T> list, Consumer<List<T>> consumer) {
+    for (int i = 0; i < list.size(); i += STATEMENT_BATCH_SIZE) {
+      consumer.accept(list.subList(i, Math.min(i + STATEMENT_BATCH_SIZE, list.size())));
+    }
+  }
+
+  private static String logicalId(String key, String domain) {
+    return key + "|" + domain;
+  }
+
+  private static final class ImportContext {
+
+    // key: 'key|domain', value: id of the existing workbasket
+    private final Map<String, String> existingIds = new HashMap<>();
+    private final Set<String> existingIdSet = new HashSet<>();
+    private final Set<String> importedLogicalIds = new HashSet<>();
+    // key: id of an imported workbasket in this system, value: its 'key|domain'
+    private final Map<String, String> logicalIds = new HashMap<>();
+    // key: id in the import, value: id in this system
+    private final Map<String, String> idConversion = new HashMap<>();
+    // key: id of the imported workbasket, value: 'key|domain' and the imported target ids
+    private final Map<String, Pair<String, Set<String>>> distributionTargets =
+        new LinkedHashMap<>();
+    private final BulkOperationResults<String, TaskanaException> bulkLog =
+        new BulkOperationResults<>();
+    private boolean accessItemsChanged;
+  }
+
+  private static final class ImportedWorkbasket {
+
+    private final String logicalId;
+    private final WorkbasketDefinition definition;
+    private final WorkbasketImpl workbasket;
+    private final List<WorkbasketAccessItemImpl> accessItems;
+
+    private ImportedWorkbasket(
+        String logicalId,
+        WorkbasketDefinition definition,
+        WorkbasketImpl workbasket,
+        List<WorkbasketAccessItemImpl> accessItems) {
+      this.logicalId = logicalId;
+      this.definition = definition;
+      this.workbasket = workbasket;
+      this.accessItems = accessItems;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package pro.taskana.workbasket.internal;
+
+import java.security.AccessController;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import javax.security.auth.Subject;
+
+import pro.taskana.common.internal.security.CurrentUserContext;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/**
+ * Caches the access ids of the current user and the workbasket permissions resolved for them while
+ * one call to the TASKANA API is processed. The cache is bound to the current thread. It is created
+ * by the outermost openConnection and discarded by the matching returnConnection, so that it never
+ * outlives a request or a transaction. Outside of such a scope nothing is cached.
+ *
+ * <p>Modifications of workbaskets and their access items through the {@link
+ * WorkbasketServiceImpl} invalidate the cache.
+ */
+public final class WorkbasketPermissionCache {
+
+  private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+  private WorkbasketPermissionCache() {}
+
+  /** Opens a (possibly nested) scope for the current thread. */
+  public static void enterScope() {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope == null) {
+      scope = new Scope();
+      CURRENT_SCOPE.set(scope);
+    }
+    scope.depth++;
+  }
+
+  /** Closes the innermost scope and discards the cache when the outermost scope is closed. */
+  public static void leaveScope() {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope != null && --scope.depth <= 0) {
+      CURRENT_SCOPE.remove();
+    }
+  }
+
+  /**
+   * Returns the access ids of the current user. They are resolved once per scope and JAAS subject,
+   * so that e.g. {@link pro.taskana.common.internal.InternalTaskanaEngine#runAsAdmin} gets its own
+   * access ids.
+   *
+   * @return the access ids of the current user
+   */
+  static List<String> getAccessIds() {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope == null) {
+      return CurrentUserContext.getAccessIds();
+    }
+    Subject subject = Subject.getSubject(AccessController.getContext());
+    if (scope.accessIds == null || scope.subject != subject) {
+      scope.accessIds = Collections.unmodifiableList(CurrentUserContext.getAccessIds());
+      scope.subject = subject;
+    }
+    return scope.accessIds;
+  }
+
+  static boolean workbasketExists(String workbasketId, BooleanSupplier loader) {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope == null) {
+      return loader.getAsBoolean();
+    }
+    if (scope.existingWorkbasketIds.contains(workbasketId)) {
+      return true;
+    }
+    boolean exists = loader.getAsBoolean();
+    if (exists) {
+      scope.existingWorkbasketIds.add(workbasketId);
+    }
+    return exists;
+  }
+
+  static boolean workbasketExists(String workbasketKey, String domain, BooleanSupplier loader) {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope == null) {
+      return loader.getAsBoolean();
+    }
+    Pair<String, String> key = Pair.of(workbasketKey, domain);
+    if (scope.existingWorkbasketKeys.contains(key)) {
+      return true;
+    }
+    boolean exists = loader.getAsBoolean();
+    if (exists) {
+      scope.existingWorkbasketKeys.add(key);
+    }
+    return exists;
+  }
+
+  static WorkbasketAccessItem getAccessItem(
+      List<String> accessIds, String workbasketId, Supplier<WorkbasketAccessItem> loader) {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope == null) {
+      return loader.get();
+    }
+    return scope
+        .accessItemsById
+        .computeIfAbsent(Pair.of(accessIds, workbasketId), k -> Optional.ofNullable(loader.get()))
+        .orElse(null);
+  }
+
+  static WorkbasketAccessItem getAccessItem(
+      List<String> accessIds,
+      String workbasketKey,
+      String domain,
+      Supplier<WorkbasketAccessItem> loader) {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope == null) {
+      return loader.get();
+    }
+    return scope
+        .accessItemsByKey
+        .computeIfAbsent(
+            Pair.of(accessIds, Pair.of(workbasketKey, domain)),
+            k -> Optional.ofNullable(loader.get()))
+        .orElse(null);
+  }
+
+  /** Discards all cached workbaskets and permissions of the current scope. */
+  static void invalidate() {
+    Scope scope = CURRENT_SCOPE.get();
+    if (scope != null) {
+      scope.existingWorkbasketIds.clear();
+      scope.existingWorkbasketKeys.clear();
+      scope.accessItemsById.clear();
+      scope.accessItemsByKey.clear();
+    }
+  }
+
+  private static final class Scope {
+
+    private final Set<String> existingWorkbasketIds = new HashSet<>();
+    private final Set<Pair<String, String>> existingWorkbasketKeys = new HashSet<>();
+    private final Map<Pair<List<String>, String>, Optional<WorkbasketAccessItem>>
+        accessItemsById = new HashMap<>();
+    private final Map<Pair<List<String>, Pair<String, String>>, Optional<WorkbasketAccessItem>>
+        accessItemsByKey = new HashMap<>();
+    private int depth;
+    private Subject subject;
+    private List<String> accessIds;
+  }
+}
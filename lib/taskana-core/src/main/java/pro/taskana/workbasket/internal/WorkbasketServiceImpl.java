@@ -3,10 +3,14 @@ package pro.taskana.workbasket.internal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
@@ -24,6 +28,7 @@ import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.security.CurrentUserContext;
 import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.workbasket.api.WorkbasketAccessItemQuery;
 import pro.taskana.workbasket.api.WorkbasketPermission;
@@ -36,8 +41,10 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketInUseException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketDefinitionImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
@@ -51,6 +58,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
   private WorkbasketMapper workbasketMapper;
   private DistributionTargetMapper distributionTargetMapper;
   private WorkbasketAccessMapper workbasketAccessMapper;
+  private WorkbasketDefinitionImporter workbasketDefinitionImporter;
 
   public WorkbasketServiceImpl(
       InternalTaskanaEngine taskanaEngine,
@@ -61,6 +69,13 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     this.workbasketMapper = workbasketMapper;
     this.distributionTargetMapper = distributionTargetMapper;
     this.workbasketAccessMapper = workbasketAccessMapper;
+    this.workbasketDefinitionImporter =
+        new WorkbasketDefinitionImporter(
+            taskanaEngine,
+            workbasketMapper,
+            workbasketAccessMapper,
+            distributionTargetMapper,
+            this);
   }
 
   @Override
@@ -184,6 +199,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     } finally {
 
+      clearWorkbasketSummaryCache();
       taskanaEngine.returnConnection();
 
       LOGGER.debug("exit from updateWorkbasket(). Returning result {} ", workbasketImplToUpdate);
@@ -232,6 +248,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       try {
         workbasketAccessMapper.insert(accessItem);
+        accessItemsChanged();
         LOGGER.debug(
             "Method createWorkbasketAccessItem() created workbaskteAccessItem {}", accessItem);
       } catch (PersistenceException e) {
@@ -277,6 +294,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      accessItemsChanged();
       LOGGER.debug(
           "Method updateWorkbasketAccessItem() updated workbasketAccessItem {}", accessItem);
       return accessItem;
@@ -294,6 +312,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       workbasketAccessMapper.delete(accessItemId);
+      accessItemsChanged();
       LOGGER.debug(
           "Method deleteWorkbasketAccessItem() deleted workbasketAccessItem wit Id {}",
           accessItemId);
@@ -310,7 +329,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
+      if (!WorkbasketPermissionCache.workbasketExists(
+          workbasketId, () -> workbasketMapper.findById(workbasketId) != null)) {
         throw new WorkbasketNotFoundException(
             workbasketId, "Workbasket with id " + workbasketId + " was not found.");
       }
@@ -319,9 +339,12 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         return;
       }
 
-      List<String> accessIds = CurrentUserContext.getAccessIds();
+      List<String> accessIds = WorkbasketPermissionCache.getAccessIds();
       WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
+          WorkbasketPermissionCache.getAccessItem(
+              accessIds,
+              workbasketId,
+              () -> workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds));
       if (wbAcc == null) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
@@ -361,7 +384,10 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
+      if (!WorkbasketPermissionCache.workbasketExists(
+          workbasketKey,
+          domain,
+          () -> workbasketMapper.findByKeyAndDomain(workbasketKey, domain) != null)) {
         throw new WorkbasketNotFoundException(
             workbasketKey,
             domain,
@@ -370,10 +396,15 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (skipAuthorizationCheck(requestedPermissions)) {
         return;
       }
-      List<String> accessIds = CurrentUserContext.getAccessIds();
+      List<String> accessIds = WorkbasketPermissionCache.getAccessIds();
       WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
-              workbasketKey, domain, accessIds);
+          WorkbasketPermissionCache.getAccessItem(
+              accessIds,
+              workbasketKey,
+              domain,
+              () ->
+                  workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
+                      workbasketKey, domain, accessIds));
       if (wbAcc == null) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
@@ -472,6 +503,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
       accessItems.forEach(workbasketAccessMapper::insert);
+      accessItemsChanged();
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from setWorkbasketAccessItems(workbasketAccessItems = {})", wbAccessItems);
@@ -499,9 +531,12 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
   @Override
   public List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId) {
+    List<String> accessIds = WorkbasketPermissionCache.getAccessIds();
     WorkbasketAccessItem wbAcc =
-        workbasketAccessMapper.findByWorkbasketAndAccessId(
-            workbasketId, CurrentUserContext.getAccessIds());
+        WorkbasketPermissionCache.getAccessItem(
+            accessIds,
+            workbasketId,
+            () -> workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds));
     return this.getPermissionsFromWorkbasketAccessItem(wbAcc);
   }
 
@@ -734,6 +769,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       return canBeDeletedNow;
     } finally {
+      clearWorkbasketSummaryCache();
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from deleteWorkbasket(workbasketId = {})", workbasketId);
     }
@@ -792,6 +828,59 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> importWorkbasketDefinitions(
+      Iterator<WorkbasketDefinition> definitions) throws NotAuthorizedException {
+    return workbasketDefinitionImporter.importWorkbasketDefinitions(definitions);
+  }
+
+  @Override
+  public List<WorkbasketDefinition> getWorkbasketDefinitions(List<String> workbasketIds)
+      throws NotAuthorizedException {
+    LOGGER.debug("entry to getWorkbasketDefinitions(workbasketIds = {})", workbasketIds);
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    List<WorkbasketDefinition> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      if (workbasketIds == null || workbasketIds.isEmpty()) {
+        return result;
+      }
+      Map<String, List<WorkbasketAccessItem>> accessItems = new HashMap<>();
+      for (WorkbasketAccessItemImpl accessItem :
+          workbasketAccessMapper.findByWorkbasketIds(workbasketIds)) {
+        accessItems
+            .computeIfAbsent(accessItem.getWorkbasketId(), id -> new ArrayList<>())
+            .add(accessItem);
+      }
+      Map<String, Set<String>> distributionTargets = new HashMap<>();
+      for (Pair<String, String> distributionTarget :
+          distributionTargetMapper.findBySourceIds(workbasketIds)) {
+        distributionTargets
+            .computeIfAbsent(distributionTarget.getLeft(), id -> new HashSet<>())
+            .add(distributionTarget.getRight());
+      }
+      Map<String, WorkbasketImpl> workbaskets =
+          workbasketMapper.findByIds(workbasketIds).stream()
+              .collect(Collectors.toMap(WorkbasketImpl::getId, Function.identity()));
+      for (String workbasketId : workbasketIds) {
+        WorkbasketImpl workbasket = workbaskets.get(workbasketId);
+        if (workbasket != null) {
+          result.add(
+              new WorkbasketDefinitionImpl(
+                  workbasket,
+                  accessItems.get(workbasketId),
+                  distributionTargets.get(workbasketId)));
+        }
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from getWorkbasketDefinitions(). Returning {} workbasket definitions.",
+          result.size());
+    }
+  }
+
   @Override
   public List<WorkbasketSummary> getDistributionSources(String workbasketId)
       throws NotAuthorizedException, WorkbasketNotFoundException {
@@ -857,6 +946,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      accessItemsChanged();
     } finally {
       taskanaEngine.returnConnection();
       LOGGER.debug("exit from deleteWorkbasketAccessItemsForAccessId(accessId={}).", accessId);
@@ -934,7 +1024,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     return false;
   }
 
-  private void validateWorkbasket(Workbasket workbasket)
+  void validateWorkbasket(Workbasket workbasket)
       throws InvalidWorkbasketException, DomainNotFoundException {
     // check that required properties (database not null) are set
     if (workbasket.getId() == null || workbasket.getId().length() == 0) {
@@ -1039,5 +1129,24 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     distributionTargetMapper.deleteAllDistributionTargetsBySourceId(workbasketId);
     distributionTargetMapper.deleteAllDistributionTargetsByTargetId(workbasketId);
     workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
+    accessItemsChanged();
+  }
+
+  void accessItemsChanged() {
+    WorkbasketPermissionCache.invalidate();
+    workbasketAccessMapper.updateAclVersion(WorkbasketAclIndex.newAclVersion());
+  }
+
+  /**
+   * Clears the workbasket summary cache now and again after the transaction has completed.
+   * Otherwise a concurrent reader could cache the old summary before the modification is
+   * committed.
+   */
+  void clearWorkbasketSummaryCache() {
+    WorkbasketSummaryCache workbasketSummaryCache = taskanaEngine.getWorkbasketSummaryCache();
+    if (workbasketSummaryCache != null) {
+      workbasketSummaryCache.clear();
+      taskanaEngine.runAfterCompletion(workbasketSummaryCache::clear);
+    }
   }
 }
@@ -0,0 +1,98 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.LruCache;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+/**
+ * Read-through cache for workbasket summaries by id. It is used to augment tasks with the summary
+ * of their workbasket. The cache does not check any permissions, the callers have to authorize the
+ * access to the workbaskets themselves.
+ *
+ * <p>The cache holds at most the configured number of entries and evicts the least recently used
+ * ones. It is cleared completely whenever a workbasket is updated or deleted through this TASKANA
+ * instance. Modifications by other instances are only seen after the configured time to live.
+ * Callers always get copies of the cached summaries.
+ */
+public class WorkbasketSummaryCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketSummaryCache.class);
+
+  private final InternalTaskanaEngine taskanaEngine;
+  private final WorkbasketMapper workbasketMapper;
+  private final LruCache<String, WorkbasketSummaryImpl> cache;
+
+  public WorkbasketSummaryCache(
+      InternalTaskanaEngine taskanaEngine,
+      WorkbasketMapper workbasketMapper,
+      int maxSize,
+      Duration timeToLive) {
+    this.taskanaEngine = taskanaEngine;
+    this.workbasketMapper = workbasketMapper;
+    this.cache = new LruCache<>(maxSize, timeToLive);
+  }
+
+  public long getHitCount() {
+    return cache.getHitCount();
+  }
+
+  public long getMissCount() {
+    return cache.getMissCount();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  /** Removes all entries. Entries which are loaded concurrently are not added afterwards. */
+  public void clear() {
+    LOGGER.debug("Clearing workbasket summary cache with {} entries", cache.size());
+    cache.clear();
+  }
+
+  /**
+   * Returns the summaries of the workbaskets with the given ids. Only the summaries which are not
+   * cached are loaded from the database.
+   *
+   * @param ids the ids of the workbaskets
+   * @return the summaries of the existing workbaskets
+   */
+  public List<WorkbasketSummary> getWorkbasketSummaries(Collection<String> ids) {
+    LOGGER.debug("entry to getWorkbasketSummaries(ids = {})", ids);
+    List<WorkbasketSummary> result = new ArrayList<>();
+    try {
+      for (WorkbasketSummaryImpl summary :
+          cache.getAll(ids, this::loadSummaries, WorkbasketSummaryImpl::getId)) {
+        result.add(copyOf(summary));
+      }
+      return result;
+    } finally {
+      LOGGER.debug(
+          "exit from getWorkbasketSummaries(). Returning {} workbasket summaries.", result.size());
+    }
+  }
+
+  private List<WorkbasketSummaryImpl> loadSummaries(List<String> ids) {
+    try {
+      taskanaEngine.openConnection();
+      return workbasketMapper.findSummariesByIds(ids);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  private static WorkbasketSummary copyOf(WorkbasketSummaryImpl summary) {
+    WorkbasketSummaryImpl copy = summary.copy();
+    copy.setId(summary.getId());
+    copy.setKey(summary.getKey());
+    return copy;
+  }
+}
@@ -0,0 +1,55 @@
+package pro.taskana.workbasket.internal.models;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import pro.taskana.common.api.LoggerUtils;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
+
+/** WorkbasketDefinition entity. */
+public class WorkbasketDefinitionImpl implements WorkbasketDefinition {
+
+  private final Workbasket workbasket;
+  private final List<WorkbasketAccessItem> authorizations;
+  private final Set<String> distributionTargets;
+
+  public WorkbasketDefinitionImpl(
+      Workbasket workbasket,
+      List<WorkbasketAccessItem> authorizations,
+      Set<String> distributionTargets) {
+    this.workbasket = workbasket;
+    this.authorizations = authorizations == null ? Collections.emptyList() : authorizations;
+    this.distributionTargets =
+        distributionTargets == null ? Collections.emptySet() : distributionTargets;
+  }
+
+  @Override
+  public Workbasket getWorkbasket() {
+    return workbasket;
+  }
+
+  @Override
+  public List<WorkbasketAccessItem> getAuthorizations() {
+    return authorizations;
+  }
+
+  @Override
+  public Set<String> getDistributionTargets() {
+    return distributionTargets;
+  }
+
+  @Override
+  public String toString() {
+    return "WorkbasketDefinitionImpl ["
+        + "workbasket="
+        + workbasket
+        + ", authorizations="
+        + LoggerUtils.listToString(authorizations)
+        + ", distributionTargets="
+        + LoggerUtils.setToString(distributionTargets)
+        + "]";
+  }
+}
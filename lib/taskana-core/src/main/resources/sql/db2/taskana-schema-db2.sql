@@ -7,7 +7,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.0.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('3.0.1', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -149,6 +149,14 @@ CREATE TABLE WORKBASKET_ACCESS_LIST(
         CONSTRAINT ACCESS_LIST_WB FOREIGN KEY  (WORKBASKET_ID) REFERENCES WORKBASKET ON DELETE CASCADE
 );
 
+CREATE TABLE WORKBASKET_ACL_VERSION(
+        ID INT NOT NULL,
+        VERSION BIGINT NOT NULL,
+        PRIMARY KEY (ID)
+);
+-- VERSION is changed with every modification of WORKBASKET_ACCESS_LIST
+INSERT INTO WORKBASKET_ACL_VERSION (ID, VERSION) VALUES (1, 0);
+
 CREATE TABLE OBJECT_REFERENCE(
         ID VARCHAR(40) NOT NULL,
         COMPANY VARCHAR(32) NOT NULL,
@@ -235,9 +243,91 @@ CREATE TABLE HISTORY_EVENTS
     PRIMARY KEY (ID)
 );
 
+CREATE TABLE HISTORY_OUTBOX
+(
+    ID                            INT      NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1 INCREMENT BY 1),
+    BUSINESS_PROCESS_ID           VARCHAR(128) NULL,
+    PARENT_BUSINESS_PROCESS_ID    VARCHAR(128) NULL,
+    TASK_ID                       VARCHAR(40)  NULL,
+    EVENT_TYPE                    VARCHAR(32)  NULL,
+    CREATED                       TIMESTAMP    NULL,
+    USER_ID                       VARCHAR(32)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    WORKBASKET_KEY                VARCHAR(64)  NULL,
+    POR_COMPANY                   VARCHAR(32)  NULL,
+    POR_SYSTEM                    VARCHAR(32)  NULL,
+    POR_INSTANCE                  VARCHAR(32)  NULL,
+    POR_TYPE                      VARCHAR(32)  NULL,
+    POR_VALUE                     VARCHAR(128) NULL,
+    TASK_CLASSIFICATION_KEY       VARCHAR(32)  NULL,
+    TASK_CLASSIFICATION_CATEGORY  VARCHAR(32)  NULL,
+    ATTACHMENT_CLASSIFICATION_KEY VARCHAR(32)  NULL,
+    OLD_VALUE                     VARCHAR(255) NULL,
+    NEW_VALUE                     VARCHAR(255) NULL,
+    CUSTOM_1                      VARCHAR(128) NULL,
+    CUSTOM_2                      VARCHAR(128) NULL,
+    CUSTOM_3                      VARCHAR(128) NULL,
+    CUSTOM_4                      VARCHAR(128) NULL,
+    DETAILS                       CLOB         NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE TABLE TASK_STATISTICS(
+        WORKBASKET_ID VARCHAR(40) NULL,
+        WORKBASKET_KEY VARCHAR(64) NULL,
+        CLASSIFICATION_ID VARCHAR(40) NULL,
+        CLASSIFICATION_KEY VARCHAR(32) NULL,
+        CLASSIFICATION_CATEGORY VARCHAR(32) NULL,
+        DOMAIN VARCHAR(32) NULL,
+        STATE VARCHAR(20) NULL,
+        DUE_DAY DATE NULL,
+        NUMBER_OF_TASKS BIGINT NOT NULL,
+        REBUILDING SMALLINT DEFAULT 0 NOT NULL
+);
+-- rows with REBUILDING = 1 are replaced by the running rebuild of their workbasket.
+CREATE INDEX IDX_TASK_STATISTICS_WB ON TASK_STATISTICS (WORKBASKET_ID);
+
+CREATE TABLE TASK_STATISTICS_STATE(
+        ID INT NOT NULL,
+        LAST_REBUILT TIMESTAMP NULL,
+        PRIMARY KEY (ID)
+);
+-- LAST_REBUILT is set by the TaskStatisticsRebuildJob. TASK_STATISTICS is not used by the reports before.
+INSERT INTO TASK_STATISTICS_STATE (ID, LAST_REBUILT) VALUES (1, NULL);
+
+CREATE TABLE STORED_REPORT(
+        ID VARCHAR(40) NOT NULL,
+        NAME VARCHAR(64) NOT NULL,
+        STATE VARCHAR(20) NOT NULL,
+        CREATED TIMESTAMP NOT NULL,
+        CREATED_BY VARCHAR(32) NULL,
+        COMPLETED TIMESTAMP NULL,
+        COLUMN_HEADERS CLOB NULL,
+        ROW_COUNT INT NULL,
+        ERROR_MESSAGE VARCHAR(4000) NULL,
+        PRIMARY KEY (ID)
+);
+
+-- the rows of a STORED_REPORT. ROW_INDEX is the position of the row, sub rows have the SUB_KEY of their parent row.
+CREATE TABLE STORED_REPORT_ROW(
+        STORED_REPORT_ID VARCHAR(40) NOT NULL,
+        ROW_INDEX INT NOT NULL,
+        ROW_KEY VARCHAR(255) NULL,
+        SUB_KEY VARCHAR(255) NULL,
+        TOTAL INT NOT NULL,
+        CELLS CLOB NOT NULL,
+        PRIMARY KEY (STORED_REPORT_ID, ROW_INDEX)
+);
+
 CREATE SEQUENCE SCHEDULED_JOB_SEQ
   MINVALUE 1
   START WITH 1
   INCREMENT BY 1
   CACHE 10;
 
+-- expression indexes for the case-insensitive filters of the query mappers, e.g. UPPER(w.KEY) IN (...)
+CREATE INDEX IDX_WORKBASKET_UPPER_KEY ON WORKBASKET (UPPER(KEY));
+CREATE INDEX IDX_WORKBASKET_UPPER_NAME ON WORKBASKET (UPPER(NAME));
+CREATE INDEX IDX_CLASSIFICATION_UPPER_NAME ON CLASSIFICATION (UPPER(NAME));
+CREATE INDEX IDX_TASK_UPPER_NAME ON TASK (UPPER(NAME));
+CREATE INDEX IDX_TASK_UPPER_OWNER ON TASK (UPPER(OWNER));
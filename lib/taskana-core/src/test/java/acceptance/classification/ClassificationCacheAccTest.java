@@ -0,0 +1,78 @@
+package acceptance.classification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.internal.ClassificationCache;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.TaskanaEngineProxyForTest;
+import pro.taskana.common.internal.TaskanaEngineTestConfiguration;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+
+/** Acceptance test for the invalidation of the classification cache. */
+@ExtendWith(JaasExtension.class)
+class ClassificationCacheAccTest extends AbstractAccTest {
+
+  private static TaskanaEngine cachingEngine;
+  private static ClassificationCache classificationCache;
+
+  @BeforeAll
+  static void setupCachingEngine() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            false,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setClassificationCacheEnabled(true);
+    cachingEngine = configuration.buildTaskanaEngine();
+    cachingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    classificationCache = ((TaskanaEngineImpl) cachingEngine).getClassificationCache();
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_ReturnUpdatedClassification_When_ItWasCachedBeforeTheUpdate() throws Exception {
+    ClassificationService classificationService = cachingEngine.getClassificationService();
+    Classification classification = classificationService.getClassification("T2100", "DOMAIN_A");
+
+    classification.setName("cached and updated");
+    classificationService.updateClassification(classification);
+
+    Classification updatedClassification =
+        classificationService.getClassification("T2100", "DOMAIN_A");
+    assertThat(updatedClassification.getName()).isEqualTo("cached and updated");
+  }
+
+  @WithAccessId(user = "dummy", groups = "businessadmin")
+  @Test
+  void should_ClearCacheAfterCommit_When_ClassificationIsUpdatedInNestedConnection()
+      throws Exception {
+    ClassificationService classificationService = cachingEngine.getClassificationService();
+    TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest(cachingEngine);
+    engineProxy.openConnection();
+    try {
+      Classification classification =
+          classificationService.getClassification("L10000", "DOMAIN_A");
+      classification.setName("updated in nested connection");
+      classificationService.updateClassification(classification);
+
+      // a read within the transaction caches the classification again before the commit
+      classificationService.getClassification("L10000", "DOMAIN_A");
+      assertThat(classificationCache.size()).isPositive();
+    } finally {
+      engineProxy.returnConnection();
+    }
+
+    assertThat(classificationCache.size()).isZero();
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
+import java.util.Arrays;
 import java.util.List;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
@@ -78,6 +79,25 @@ class GetClassificationAccTest extends AbstractAccTest {
     assertThat(classification.getCustom8()).isEqualTo("custom8");
   }
 
+  @Test
+  void should_ReturnClassificationsInOrderOfIds_When_GettingClassificationsByIds()
+      throws ClassificationNotFoundException {
+    List<Classification> classifications =
+        classificationService.getClassifications(
+            Arrays.asList(
+                "CLI:100000000000000000000000000000000011",
+                "NOT EXISTING ID",
+                "CLI:100000000000000000000000000000000001"));
+
+    assertThat(classifications)
+        .extracting(Classification::getId)
+        .containsExactly(
+            "CLI:100000000000000000000000000000000011", "CLI:100000000000000000000000000000000001");
+    assertThat(classifications.get(0))
+        .isEqualTo(
+            classificationService.getClassification("CLI:100000000000000000000000000000000011"));
+  }
+
   @Test
   void testGetClassificationWithSpecialCharacter() throws ClassificationNotFoundException {
     Classification classification =
@@ -462,6 +462,36 @@ public class UpdateClassificationAccTest extends AbstractAccTest {
         before, tasksWithPrio101, taskService, converter, 1, 101);
   }
 
+  @WithAccessId(user = "dummy", groups = "admin")
+  @Test
+  void should_RefreshPriorityOfAffectedTasks_When_OnlyPriorityChanged() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    final Instant dueBefore =
+        taskService.getTask("TKI:000000000000000000000000000000000003").getDue();
+    Classification classification =
+        classificationService.getClassification("CLI:100000000000000000000000000000000003");
+
+    classification.setPriority(42);
+    updateClassificationAndRunAssociatedJobs(classification);
+
+    Task directlyAffectedTask = taskService.getTask("TKI:000000000000000000000000000000000003");
+    assertThat(directlyAffectedTask.getPriority()).isEqualTo(42);
+    assertThat(directlyAffectedTask.getDue()).isEqualTo(dueBefore);
+    // the attachment of this task references a classification with a higher priority
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000011").getPriority())
+        .isEqualTo(101);
+
+    classification =
+        classificationService.getClassification("CLI:100000000000000000000000000000000003");
+    classification.setPriority(-5);
+    updateClassificationAndRunAssociatedJobs(classification);
+
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000003").getPriority())
+        .isZero();
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000011").getPriority())
+        .isEqualTo(101);
+  }
+
   @WithAccessId(user = "dummy", groups = "admin")
   @Test
   public void testUpdateClassificationChangeServiceLevel()
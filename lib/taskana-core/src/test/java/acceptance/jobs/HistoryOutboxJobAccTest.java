@@ -0,0 +1,146 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+import pro.taskana.spi.history.internal.HistoryOutbox;
+import pro.taskana.spi.history.internal.jobs.HistoryOutboxJob;
+
+/** Acceptance test for the history outbox and the job which forwards its events. */
+@ExtendWith(JaasExtension.class)
+class HistoryOutboxJobAccTest extends AbstractAccTest {
+
+  private HistoryOutbox outbox;
+
+  @BeforeEach
+  void before() {
+    outbox = ((TaskanaEngineImpl) taskanaEngine).getHistoryOutbox();
+  }
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(true);
+  }
+
+  @Test
+  void should_ReturnStoredEventsInOrder_When_ReadingOutbox() {
+    outbox.store(createEvents(150));
+
+    List<TaskanaHistoryEvent> events = outbox.findEvents(120);
+
+    assertThat(events).hasSize(120);
+    assertThat(events).extracting(TaskanaHistoryEvent::getDetails).startsWith("event 0");
+    assertThat(events).extracting(TaskanaHistoryEvent::getId).isSorted();
+    assertThat(events.get(0).getTaskId()).isEqualTo("TKI:000000000000000000000000000000000000");
+    assertThat(events.get(0).getEventType()).isEqualTo("TASK_COMPLETED");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_EmptyOutbox_When_RunningHistoryOutboxJob() throws Exception {
+    taskanaEngine.getConfiguration().setHistoryOutboxBatchSize(100);
+    outbox.store(createEvents(250));
+
+    HistoryOutboxJob job = new HistoryOutboxJob(taskanaEngine, null, null);
+    job.run();
+
+    assertThat(outbox.findEvents(10)).isEmpty();
+  }
+
+  @Test
+  void should_DeliverEveryEventOnce_When_TwoDispatchersRunConcurrently() throws Exception {
+    outbox.store(createEvents(500));
+    List<Long> deliveredIds = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch start = new CountDownLatch(1);
+    Callable<Void> dispatcher =
+        () -> {
+          start.await();
+          int dispatched;
+          do {
+            dispatched =
+                outbox.dispatchEvents(
+                    20, events -> events.forEach(event -> deliveredIds.add(event.getId())));
+          } while (dispatched > 0);
+          return null;
+        };
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<Future<Void>> dispatchers =
+          Arrays.asList(executor.submit(dispatcher), executor.submit(dispatcher));
+      start.countDown();
+      for (Future<Void> future : dispatchers) {
+        future.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(deliveredIds).hasSize(500).doesNotHaveDuplicates();
+    assertThat(outbox.findEvents(10)).isEmpty();
+  }
+
+  @Test
+  void should_KeepEvents_When_DispatchFails() {
+    outbox.store(createEvents(10));
+
+    ThrowingCallable call =
+        () ->
+            outbox.dispatchEvents(
+                5,
+                events -> {
+                  throw new IllegalStateException("history provider not available");
+                });
+
+    assertThatThrownBy(call).isInstanceOf(IllegalStateException.class);
+    assertThat(outbox.findEvents(20)).hasSize(10);
+  }
+
+  @Test
+  void should_ScheduleOneJob_When_ScheduleIsInitializedTwice() {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    taskanaEngine.getConfiguration().setHistoryOutboxDispatchInterval(Duration.ofSeconds(-1));
+
+    HistoryOutboxJob.initializeSchedule(taskanaEngine);
+    HistoryOutboxJob.initializeSchedule(taskanaEngine);
+
+    assertThat(jobService.claimJobs("owner_1", 10))
+        .extracting(ScheduledJob::getType)
+        .containsExactly(ScheduledJob.Type.HISTORYOUTBOXJOB);
+  }
+
+  private List<TaskanaHistoryEvent> createEvents(int count) {
+    List<TaskanaHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      TaskanaHistoryEvent event = new TaskanaHistoryEvent("user_1_1", "event " + i);
+      event.setTaskId("TKI:000000000000000000000000000000000000");
+      event.setEventType("TASK_COMPLETED");
+      events.add(event);
+    }
+    return events;
+  }
+}
@@ -0,0 +1,125 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
+
+/** Acceptance test for all "job runner" scenarios. */
+@ExtendWith(JaasExtension.class)
+class JobRunnerAccTest extends AbstractAccTest {
+
+  private JobServiceImpl jobService;
+
+  @BeforeEach
+  void before() throws SQLException {
+    resetDb(false);
+    jobService = (JobServiceImpl) taskanaEngine.getJobService();
+  }
+
+  @Test
+  void should_NotClaimJobTwice_When_ClaimingWithDifferentOwners() {
+    for (int i = 0; i < 5; i++) {
+      createTaskCleanupJobDueNow();
+    }
+
+    List<ScheduledJob> firstClaim = jobService.claimJobs("owner_1", 3);
+    List<ScheduledJob> secondClaim = jobService.claimJobs("owner_2", 10);
+
+    assertThat(firstClaim).hasSize(3).allMatch(job -> "owner_1".equals(job.getLockedBy()));
+    assertThat(secondClaim).hasSize(2).allMatch(job -> "owner_2".equals(job.getLockedBy()));
+    assertThat(jobIds(secondClaim)).doesNotContainAnyElementsOf(jobIds(firstClaim));
+    assertThat(jobService.claimJobs("owner_3", 10)).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RunAllJobs_When_UsingSeveralWorkers() {
+    taskanaEngineConfiguration.setJobRunnerWorkerPoolSize(3);
+    taskanaEngineConfiguration.setJobRunnerClaimSize(2);
+    for (int i = 0; i < 7; i++) {
+      createTaskCleanupJobDueNow();
+    }
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    assertThat(jobService.findJobsToRun()).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RescheduleJobWithBackoff_When_JobFails() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.UPDATETASKSJOB);
+    job.setArguments(new HashMap<>());
+    job.setDue(Instant.now().minusSeconds(1));
+    jobService.createJob(job);
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    // the job has retries left and is due again after the backoff
+    assertThat(jobService.findFailedJobs()).isEmpty();
+    assertThat(jobService.findJobsToRun()).isEmpty();
+    assertThat(jobService.claimJobs("owner_1", 10)).isEmpty();
+  }
+
+  @Test
+  void should_MarkJobAsFailed_When_NoRetriesAreLeft() {
+    createTaskCleanupJobDueNow();
+    ScheduledJob job = jobService.claimJobs("owner_1", 1).get(0);
+    job.setRetryCount(0);
+
+    jobService.handleFailedJob(job);
+
+    assertThat(jobService.findFailedJobs())
+        .extracting(ScheduledJob::getJobId)
+        .containsExactly(job.getJobId());
+    assertThat(jobService.findJobsToRun()).isEmpty();
+  }
+
+  @Test
+  void should_SplitTaskIdsIntoTwoJobs_When_BisectingTaskRefreshJob() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.UPDATETASKSJOB);
+    Map<String, String> args = new HashMap<>();
+    args.put(TaskRefreshJob.TASK_IDS, "TKI:1,TKI:2,TKI:3");
+    args.put(TaskRefreshJob.PRIORITY_CHANGED, "true");
+    job.setArguments(args);
+
+    List<ScheduledJob> splitJobs = TaskRefreshJob.bisect(job);
+
+    assertThat(splitJobs)
+        .extracting(splitJob -> splitJob.getArguments().get(TaskRefreshJob.TASK_IDS))
+        .containsExactly("TKI:1", "TKI:2,TKI:3");
+    assertThat(splitJobs)
+        .extracting(splitJob -> splitJob.getArguments().get(TaskRefreshJob.PRIORITY_CHANGED))
+        .containsOnly("true");
+    assertThat(TaskRefreshJob.bisect(splitJobs.get(0))).isEmpty();
+  }
+
+  private void createTaskCleanupJobDueNow() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.TASKCLEANUPJOB);
+    job.setDue(Instant.now().minusSeconds(1));
+    jobService.createJob(job);
+  }
+
+  private List<Integer> jobIds(List<ScheduledJob> jobs) {
+    return jobs.stream().map(ScheduledJob::getJobId).collect(Collectors.toList());
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import acceptance.AbstractAccTest;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.security.JaasExtension;
 import pro.taskana.common.internal.security.WithAccessId;
 import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.InvalidOwnerException;
 import pro.taskana.task.api.exceptions.InvalidStateException;
 import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
@@ -82,6 +84,90 @@ class TaskCleanupJobAccTest extends AbstractAccTest {
     assertThat(totalTasksCount).isEqualTo(67);
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_DeleteAllCompletedTasks_When_TheyExceedTheBatchSize() throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    // 17 tasks were completed before the minimum age, they are deleted in four batches
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(5);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    // TKI:000000000000000000000000000000000006 has a completed timestamp but is still READY
+    long totalTasksCount = taskService.createTaskQuery().count();
+    assertThat(totalTasksCount).isEqualTo(68);
+    List<TaskSummary> remainingTasks =
+        taskService
+            .createTaskQuery()
+            .stateIn(TaskState.COMPLETED, TaskState.CANCELLED, TaskState.TERMINATED)
+            .list();
+    assertThat(remainingTasks)
+        .extracting(TaskSummary::getId)
+        .containsExactly("TKI:200000000000000000000000000000000006");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_KeepTasksOfParentBusinessProcess_When_NotAllOfItsTasksAreCompleted()
+      throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    Task newTask = taskService.newTask("USER_1_1", "DOMAIN_A");
+    newTask.setClassificationKey("T2100");
+    newTask.setParentBusinessProcessId("DOC_0000000000000000036");
+    newTask.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    taskService.createTask(newTask);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    List<TaskSummary> tasksOfParent =
+        taskService.createTaskQuery().parentBusinessProcessIdIn("DOC_0000000000000000036").list();
+    assertThat(tasksOfParent)
+        .extracting(TaskSummary::getId)
+        .contains(
+            "TKI:000000000000000000000000000000000036",
+            "TKI:300000000000000000000000000000000000",
+            "TKI:300000000000000000000000000000000010")
+        .hasSize(4);
+    long totalTasksCount = taskService.createTaskQuery().count();
+    assertThat(totalTasksCount).isEqualTo(72);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_DeleteAllTasksWithSameCompletedTimestamp_When_BatchesEndBetweenThem()
+      throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(2);
+    // all of these tasks were completed at 2018-01-30 16:55:24
+    List<String> taskIdsWithSameCompletedTimestamp =
+        Arrays.asList(
+            "TKI:000000000000000000000000000000000036",
+            "TKI:000000000000000000000000000000000037",
+            "TKI:000000000000000000000000000000000038",
+            "TKI:000000000000000000000000000000000039",
+            "TKI:000000000000000000000000000000000040",
+            "TKI:300000000000000000000000000000000000",
+            "TKI:300000000000000000000000000000000001",
+            "TKI:300000000000000000000000000000000002",
+            "TKI:300000000000000000000000000000000003",
+            "TKI:300000000000000000000000000000000004",
+            "TKI:300000000000000000000000000000000010",
+            "TKI:300000000000000000000000000000000011",
+            "TKI:300000000000000000000000000000000012",
+            "TKI:300000000000000000000000000000000013",
+            "TKI:300000000000000000000000000000000014");
+    String[] taskIds = taskIdsWithSameCompletedTimestamp.toArray(new String[0]);
+    assertThat(taskService.createTaskQuery().idIn(taskIds).count()).isEqualTo(15);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    assertThat(taskService.createTaskQuery().idIn(taskIds).count()).isZero();
+  }
+
   @WithAccessId(user = "admin")
   @Test
   void shouldNotCleanCompleteTasksAfterDefinedDay() throws Exception {
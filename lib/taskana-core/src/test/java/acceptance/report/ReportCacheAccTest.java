@@ -0,0 +1,72 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.ClassificationReport;
+import pro.taskana.monitor.internal.ReportCache;
+
+/** Acceptance test for the reports which are served from the report cache. */
+@ExtendWith(JaasExtension.class)
+class ReportCacheAccTest extends AbstractReportAccTest {
+
+  private MonitorService monitorService;
+  private ReportCache reportCache;
+
+  @BeforeEach
+  void setupCachingEngine() throws Exception {
+    taskanaEngineConfiguration.setReportCacheEnabled(true);
+    TaskanaEngine cachingEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+    cachingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    monitorService = cachingEngine.getMonitorService();
+    reportCache = ((TaskanaEngineImpl) cachingEngine).getReportCache();
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ReturnCachedReport_When_IdenticalReportIsRequestedAgain() throws Exception {
+    ClassificationReport first =
+        monitorService
+            .createClassificationReportBuilder()
+            .domainIn(Collections.singletonList("DOMAIN_A"))
+            .buildReport();
+    ClassificationReport second =
+        monitorService
+            .createClassificationReportBuilder()
+            .domainIn(Collections.singletonList("DOMAIN_A"))
+            .buildReport();
+
+    assertThat(second).isSameAs(first);
+    assertThat(reportCache.getMissCount()).isEqualTo(1);
+    assertThat(reportCache.getHitCount()).isEqualTo(1);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ComputeReportAgain_When_FiltersDiffer() throws Exception {
+    ClassificationReport reportOfDomainA =
+        monitorService
+            .createClassificationReportBuilder()
+            .domainIn(Collections.singletonList("DOMAIN_A"))
+            .buildReport();
+    ClassificationReport reportOfDomainB =
+        monitorService
+            .createClassificationReportBuilder()
+            .domainIn(Collections.singletonList("DOMAIN_B"))
+            .buildReport();
+
+    assertThat(reportOfDomainB).isNotSameAs(reportOfDomainA);
+    assertThat(reportCache.getMissCount()).isEqualTo(2);
+    assertThat(reportCache.getHitCount()).isZero();
+  }
+}
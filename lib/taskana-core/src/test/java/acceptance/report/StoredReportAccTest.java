@@ -0,0 +1,259 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.StoredReport;
+import pro.taskana.monitor.api.StoredReportRow;
+import pro.taskana.monitor.api.exceptions.StoredReportNotFoundException;
+import pro.taskana.monitor.api.reports.ClassificationReport.DetailedClassificationReport;
+import pro.taskana.monitor.api.reports.CustomFieldValueReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.row.Row;
+import pro.taskana.monitor.internal.jobs.ReportComputationJob;
+import pro.taskana.task.api.CustomField;
+import pro.taskana.task.api.TaskState;
+
+/** Acceptance test for the reports which are computed in the background and stored. */
+@ExtendWith(JaasExtension.class)
+class StoredReportAccTest extends AbstractReportAccTest {
+
+  private MonitorService monitorService;
+
+  @BeforeEach
+  void setupMonitorService() {
+    monitorService = taskanaEngine.getMonitorService();
+  }
+
+  @Test
+  void should_ThrowNotAuthorizedException_When_UserIsNoMonitor() {
+    ThrowingCallable call =
+        () ->
+            monitorService
+                .createCustomFieldValueReportBuilder(CustomField.CUSTOM_1)
+                .scheduleReport();
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_StoreRowsOfBuiltReport_When_CustomFieldValueReportIsComputed() throws Exception {
+    List<TimeIntervalColumnHeader> columnHeaders = getListOfColumnHeaders();
+
+    StoredReport storedReport =
+        monitorService
+            .createCustomFieldValueReportBuilder(CustomField.CUSTOM_1)
+            .withColumnHeaders(columnHeaders)
+            .inWorkingDays()
+            .stateIn(Collections.singletonList(TaskState.READY))
+            .scheduleReport();
+
+    assertThat(storedReport.getState()).isEqualTo(StoredReport.State.PENDING);
+    assertThat(storedReport.getCreatedBy()).isEqualTo("monitor");
+    assertThat(storedReport.getColumnHeaders()).hasSize(columnHeaders.size());
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    storedReport = monitorService.getStoredReport(storedReport.getId());
+    assertThat(storedReport.getState()).isEqualTo(StoredReport.State.COMPLETED);
+    assertThat(storedReport.getCompleted()).isNotNull();
+
+    CustomFieldValueReport report =
+        monitorService
+            .createCustomFieldValueReportBuilder(CustomField.CUSTOM_1)
+            .withColumnHeaders(columnHeaders)
+            .inWorkingDays()
+            .stateIn(Collections.singletonList(TaskState.READY))
+            .buildReport();
+    List<StoredReportRow> rows =
+        monitorService.getStoredReportRows(storedReport.getId(), 0, Integer.MAX_VALUE);
+
+    assertThat(rows).hasSize(report.rowSize() + 1);
+    assertThat(storedReport.getRowCount()).isEqualTo(rows.size());
+    for (StoredReportRow row : rows.subList(0, rows.size() - 1)) {
+      assertThat(row.getSubKey()).isNull();
+      assertThatRowsAreEqual(row, report.getRow(row.getKey()));
+    }
+    assertThatRowsAreEqual(rows.get(rows.size() - 1), report.getSumRow());
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_StoreRowsAndSubRowsOfBuiltReport_When_DetailedClassificationReportIsComputed()
+      throws Exception {
+    List<TimeIntervalColumnHeader> columnHeaders = getListOfColumnHeaders();
+
+    StoredReport storedReport =
+        monitorService
+            .createClassificationReportBuilder()
+            .withColumnHeaders(columnHeaders)
+            .scheduleDetailedReport();
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    DetailedClassificationReport report =
+        monitorService
+            .createClassificationReportBuilder()
+            .withColumnHeaders(columnHeaders)
+            .buildDetailedReport();
+    List<StoredReportRow> rows =
+        monitorService.getStoredReportRows(storedReport.getId(), 0, Integer.MAX_VALUE);
+
+    int expectedRowCount = report.rowSize() + 1;
+    for (String key : report.rowTitles()) {
+      expectedRowCount += report.getRow(key).getFoldableRowCount();
+    }
+    assertThat(rows).hasSize(expectedRowCount);
+    for (StoredReportRow row : rows.subList(0, rows.size() - 1)) {
+      if (row.getSubKey() == null) {
+        assertThatRowsAreEqual(row, report.getRow(row.getKey()));
+      } else {
+        assertThatRowsAreEqual(
+            row, report.getRow(row.getKey()).getFoldableRow(row.getSubKey()));
+      }
+    }
+    assertThatRowsAreEqual(rows.get(rows.size() - 1), report.getSumRow());
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ReturnRowsInChunks_When_RowsAreRequestedFromRowIndex() throws Exception {
+    StoredReport storedReport =
+        monitorService
+            .createCustomFieldValueReportBuilder(CustomField.CUSTOM_1)
+            .withColumnHeaders(getListOfColumnHeaders())
+            .scheduleReport();
+    new JobRunner(taskanaEngine).runJobs();
+
+    List<StoredReportRow> rows = monitorService.getStoredReportRows(storedReport.getId(), 1, 2);
+
+    assertThat(rows).extracting(StoredReportRow::getRowIndex).containsExactly(1, 2);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_StoreAllCells_When_ReportHasManyColumnHeaders() throws Exception {
+    List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
+    for (int day = -1500; day < 1500; day++) {
+      columnHeaders.add(new TimeIntervalColumnHeader(day));
+    }
+
+    StoredReport storedReport =
+        monitorService
+            .createCustomFieldValueReportBuilder(CustomField.CUSTOM_1)
+            .withColumnHeaders(columnHeaders)
+            .scheduleReport();
+    new JobRunner(taskanaEngine).runJobs();
+
+    storedReport = monitorService.getStoredReport(storedReport.getId());
+    assertThat(storedReport.getState()).isEqualTo(StoredReport.State.COMPLETED);
+    assertThat(storedReport.getColumnHeaders()).hasSize(columnHeaders.size());
+    List<StoredReportRow> rows =
+        monitorService.getStoredReportRows(storedReport.getId(), 0, Integer.MAX_VALUE);
+    assertThat(rows)
+        .isNotEmpty()
+        .allSatisfy(row -> assertThat(row.getCells()).hasSize(columnHeaders.size()));
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ThrowInvalidArgumentException_When_RowsOfPendingReportAreRequested()
+      throws Exception {
+    StoredReport storedReport =
+        monitorService.createCustomFieldValueReportBuilder(CustomField.CUSTOM_1).scheduleReport();
+
+    ThrowingCallable call =
+        () -> monitorService.getStoredReportRows(storedReport.getId(), 0, 100);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_DeleteStoredReport_When_ItIsNotNeededAnymore() throws Exception {
+    StoredReport storedReport =
+        monitorService.createCustomFieldValueReportBuilder(CustomField.CUSTOM_1).scheduleReport();
+    new JobRunner(taskanaEngine).runJobs();
+
+    monitorService.deleteStoredReport(storedReport.getId());
+
+    ThrowingCallable call = () -> monitorService.getStoredReport(storedReport.getId());
+    assertThatThrownBy(call).isInstanceOf(StoredReportNotFoundException.class);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ThrowInvalidArgumentException_When_PendingReportIsDeleted() throws Exception {
+    StoredReport storedReport =
+        monitorService.createCustomFieldValueReportBuilder(CustomField.CUSTOM_1).scheduleReport();
+
+    ThrowingCallable call = () -> monitorService.deleteStoredReport(storedReport.getId());
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+
+    new JobRunner(taskanaEngine).runJobs();
+    StoredReport completedReport = monitorService.getStoredReport(storedReport.getId());
+    assertThat(completedReport.getState()).isEqualTo(StoredReport.State.COMPLETED);
+    assertThat(monitorService.getStoredReportRows(storedReport.getId(), 0, Integer.MAX_VALUE))
+        .hasSize(completedReport.getRowCount());
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_MarkStoredReportAsFailed_When_ComputationFails() throws Exception {
+    StoredReport storedReport =
+        monitorService.createCustomFieldValueReportBuilder(CustomField.CUSTOM_1).scheduleReport();
+    new JobRunner(taskanaEngine).runJobs();
+    Map<String, String> arguments = new HashMap<>();
+    arguments.put(ReportComputationJob.STORED_REPORT_ID, storedReport.getId());
+    arguments.put(ReportComputationJob.REPORT_TYPE, "UnknownReport");
+    ScheduledJob failingJob = new ScheduledJob();
+    failingJob.setType(ScheduledJob.Type.REPORTCOMPUTATIONJOB);
+    failingJob.setDue(Instant.now().minusSeconds(1));
+    failingJob.setArguments(arguments);
+    taskanaEngine.getJobService().createJob(failingJob);
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    StoredReport failedReport = monitorService.getStoredReport(storedReport.getId());
+    assertThat(failedReport.getState()).isEqualTo(StoredReport.State.FAILED);
+    assertThat(failedReport.getErrorMessage()).contains("Unknown report type UnknownReport");
+    assertThat(taskanaEngine.getJobService().findFailedJobs()).isEmpty();
+  }
+
+  private static void assertThatRowsAreEqual(StoredReportRow storedRow, Row<?> row) {
+    assertThat(row).isNotNull();
+    assertThat(storedRow.getTotal()).isEqualTo(row.getTotalValue());
+    assertThat(storedRow.getCells()).isEqualTo(row.getCells());
+  }
+
+  private static List<TimeIntervalColumnHeader> getListOfColumnHeaders() {
+    List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
+    columnHeaders.add(new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11));
+    columnHeaders.add(new TimeIntervalColumnHeader(-10, -6));
+    columnHeaders.add(new TimeIntervalColumnHeader(-5, -2));
+    columnHeaders.add(new TimeIntervalColumnHeader(-1));
+    columnHeaders.add(new TimeIntervalColumnHeader(0));
+    columnHeaders.add(new TimeIntervalColumnHeader(1));
+    columnHeaders.add(new TimeIntervalColumnHeader(2, 5));
+    columnHeaders.add(new TimeIntervalColumnHeader(6, 10));
+    columnHeaders.add(new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+    return columnHeaders;
+  }
+}
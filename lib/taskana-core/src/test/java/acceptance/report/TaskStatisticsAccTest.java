@@ -0,0 +1,125 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.monitor.api.reports.ClassificationReport;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.TaskStatusReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.internal.TaskStatistics;
+import pro.taskana.monitor.internal.jobs.TaskStatisticsRebuildJob;
+import pro.taskana.task.api.TaskService;
+
+/** Acceptance test for the reports which are answered from the task statistics. */
+@ExtendWith(JaasExtension.class)
+class TaskStatisticsAccTest extends AbstractReportAccTest {
+
+  private TaskanaEngine statisticsEngine;
+  private TaskStatistics taskStatistics;
+
+  @BeforeEach
+  void setupStatisticsEngine() throws Exception {
+    resetDb();
+    taskanaEngineConfiguration.setTaskStatisticsEnabled(true);
+    statisticsEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+    statisticsEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    taskStatistics = ((TaskanaEngineImpl) statisticsEngine).getTaskStatistics();
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_BuildTaskStatistics_When_RunningTaskStatisticsRebuildJob() throws Exception {
+    assertThat(taskStatistics.isInitialized()).isFalse();
+
+    new TaskStatisticsRebuildJob(statisticsEngine, null, null).run();
+
+    assertThat(taskStatistics.isInitialized()).isTrue();
+    ClassificationReport report = buildClassificationReport(statisticsEngine);
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(50);
+    assertThat(report.getSumRow().getCells()).isEqualTo(new int[] {30, 0, 4, 0, 16});
+    assertThatReportsAreEqual(report, buildClassificationReport(taskanaEngine));
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_KeepTaskStatisticsUpToDate_When_TasksAreClaimedAndDeleted() throws Exception {
+    new TaskStatisticsRebuildJob(statisticsEngine, null, null).run();
+    TaskService taskService = statisticsEngine.getTaskService();
+
+    taskService.forceClaim("TKI:000000000000000000000000000000000002");
+    taskService.forceDeleteTask("TKI:000000000000000000000000000000000001");
+
+    ClassificationReport report = buildClassificationReport(statisticsEngine);
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(49);
+    assertThatReportsAreEqual(report, buildClassificationReport(taskanaEngine));
+    assertThatReportsAreEqual(
+        statisticsEngine.getMonitorService().createTaskStatusReportBuilder().buildReport(),
+        taskanaEngine.getMonitorService().createTaskStatusReportBuilder().buildReport());
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_CorrectTaskStatistics_When_TasksWereModifiedWithoutThemBeforeTheRebuild()
+      throws Exception {
+    new TaskStatisticsRebuildJob(statisticsEngine, null, null).run();
+    statisticsEngine.getTaskService().forceClaim("TKI:000000000000000000000000000000000002");
+    // the task statistics are not maintained by the engine without them
+    taskanaEngine.getTaskService().forceDeleteTask("TKI:000000000000000000000000000000000001");
+
+    new TaskStatisticsRebuildJob(statisticsEngine, null, null).run();
+
+    ClassificationReport report = buildClassificationReport(statisticsEngine);
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(49);
+    assertThatReportsAreEqual(report, buildClassificationReport(taskanaEngine));
+    assertThatReportsAreEqual(
+        statisticsEngine.getMonitorService().createTaskStatusReportBuilder().buildReport(),
+        taskanaEngine.getMonitorService().createTaskStatusReportBuilder().buildReport());
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_UseTaskTable_When_TaskStatisticsHaveNotBeenBuilt() throws Exception {
+    TaskStatusReport report =
+        statisticsEngine.getMonitorService().createTaskStatusReportBuilder().buildReport();
+
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(50);
+  }
+
+  private ClassificationReport buildClassificationReport(TaskanaEngine engine) throws Exception {
+    return engine
+        .getMonitorService()
+        .createClassificationReportBuilder()
+        .withColumnHeaders(getShortListOfColumnHeaders())
+        .buildReport();
+  }
+
+  private void assertThatReportsAreEqual(Report<?, ?> actual, Report<?, ?> expected) {
+    assertThat(actual.rowTitles()).isEqualTo(expected.rowTitles());
+    for (String rowTitle : expected.rowTitles()) {
+      assertThat(actual.getRow(rowTitle).getCells())
+          .isEqualTo(expected.getRow(rowTitle).getCells());
+    }
+    assertThat(actual.getSumRow().getCells()).isEqualTo(expected.getSumRow().getCells());
+  }
+
+  private List<TimeIntervalColumnHeader> getShortListOfColumnHeaders() {
+    List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
+    columnHeaders.add(new TimeIntervalColumnHeader(Integer.MIN_VALUE, -6));
+    columnHeaders.add(new TimeIntervalColumnHeader(-5, -1));
+    columnHeaders.add(new TimeIntervalColumnHeader(0));
+    columnHeaders.add(new TimeIntervalColumnHeader(1, 5));
+    columnHeaders.add(new TimeIntervalColumnHeader(6, Integer.MAX_VALUE));
+    return columnHeaders;
+  }
+}
@@ -0,0 +1,158 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for all "create tasks in bulk" scenarios. */
+@ExtendWith(JaasExtension.class)
+class CreateTasksAccTest extends AbstractAccTest {
+
+  private TaskService taskService;
+
+  @BeforeEach
+  void setup() {
+    taskService = taskanaEngine.getTaskService();
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_CreateAllTasks_When_TasksSpanSeveralBatches() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      Task task = makeNewTask("T2100");
+      task.setExternalId("ETI:BULK" + i);
+      task.addAttachment(
+          createAttachment(
+              "DOCTYPE_DEFAULT",
+              createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "1"),
+              "E-MAIL",
+              "2018-01-15",
+              null));
+      tasks.add(task);
+    }
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.containsErrors()).isFalse();
+    assertThat(taskService.createTaskQuery().externalIdLike("ETI:BULK%").count()).isEqualTo(150);
+    Task createdTask = taskService.getTask(tasks.get(149).getId());
+    assertThat(createdTask.getState()).isEqualTo(TaskState.READY);
+    assertThat(createdTask.getWorkbasketKey()).isEqualTo("USER_1_1");
+    assertThat(createdTask.getName()).isEqualTo("T-Vertragstermin VERA");
+    assertThat(createdTask.getAttachments()).hasSize(1);
+    assertThat(createdTask.getAttachments().get(0).getTaskId()).isEqualTo(createdTask.getId());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ReportFailedTasks_When_SomeTasksCannotBeCreated() throws Exception {
+    Task validTask = makeNewTask("T2100");
+    Task existingExternalId = makeNewTask("T2100");
+    existingExternalId.setExternalId("ETI:000000000000000000000000000000000000");
+    Task unknownClassification = makeNewTask("UNKNOWN");
+    Task notAuthorized = taskService.newTask("TEAMLEAD_2", "DOMAIN_A");
+    notAuthorized.setClassificationKey("T2100");
+    notAuthorized.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+
+    List<Task> tasks = new ArrayList<>();
+    tasks.add(validTask);
+    tasks.add(existingExternalId);
+    tasks.add(unknownClassification);
+    tasks.add(notAuthorized);
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.getErrorMap()).hasSize(3);
+    assertThat(results.getErrorForId(existingExternalId.getExternalId()))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(results.getErrorForId(unknownClassification.getExternalId()))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    assertThat(results.getErrorForId(notAuthorized.getExternalId()))
+        .isInstanceOf(NotAuthorizedException.class);
+    assertThat(taskService.getTask(validTask.getId()).getExternalId())
+        .isEqualTo(validTask.getExternalId());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ReportOnlyFailingTask_When_InsertOfBatchFails() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Task task = makeNewTask("T2100");
+      task.setExternalId("ETI:INSERT_FAILURE" + i);
+      tasks.add(task);
+    }
+    Task tooLongName = tasks.get(2);
+    tooLongName.setName(String.join("", Collections.nCopies(300, "x")));
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.getErrorMap()).containsOnlyKeys("ETI:INSERT_FAILURE2");
+    assertThat(results.getErrorForId("ETI:INSERT_FAILURE2"))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(taskService.createTaskQuery().externalIdLike("ETI:INSERT_FAILURE%").list())
+        .extracting(TaskSummary::getExternalId)
+        .containsExactlyInAnyOrder(
+            "ETI:INSERT_FAILURE0",
+            "ETI:INSERT_FAILURE1",
+            "ETI:INSERT_FAILURE3",
+            "ETI:INSERT_FAILURE4");
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_CreateOnlyFirstTask_When_ExternalIdIsUsedTwiceInList() throws Exception {
+    Task firstTask = makeNewTask("T2100");
+    firstTask.setExternalId("ETI:DUPLICATE");
+    Task secondTask = makeNewTask("T2100");
+    secondTask.setExternalId("ETI:DUPLICATE");
+    List<Task> tasks = new ArrayList<>();
+    tasks.add(firstTask);
+    tasks.add(secondTask);
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.getErrorForId("ETI:DUPLICATE"))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(taskService.createTaskQuery().externalIdIn("ETI:DUPLICATE").list())
+        .extracting(TaskSummary::getId)
+        .containsExactly(firstTask.getId());
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ThrowException_When_TaskListIsNull() {
+    ThrowingCallable call = () -> taskService.createTasks(null);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  private Task makeNewTask(String classificationKey) {
+    Task task = taskService.newTask("USER_1_1", "DOMAIN_A");
+    task.setClassificationKey(classificationKey);
+    task.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    return task;
+  }
+}
@@ -0,0 +1,43 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.common.api.BaseQuery.SortDirection.ASCENDING;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for all "query tasks with forEach" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithForEachAccTest extends AbstractAccTest {
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassSameTasksAsList_When_IteratingInBatches() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected = taskService.createTaskQuery().orderByTaskId(ASCENDING).list();
+
+    List<TaskSummary> result = new ArrayList<>();
+    taskService.createTaskQuery().orderByTaskId(ASCENDING).forEach(7, result::add);
+
+    assertThat(result).containsExactlyElementsOf(expected);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_BatchSizeIsNotPositive() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    ThrowingCallable call = () -> taskService.createTaskQuery().forEach(0, task -> {});
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+}
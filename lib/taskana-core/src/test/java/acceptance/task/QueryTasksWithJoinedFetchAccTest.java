@@ -0,0 +1,172 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.common.api.BaseQuery.SortDirection.ASCENDING;
+import static pro.taskana.common.api.BaseQuery.SortDirection.DESCENDING;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for task queries which fetch their contained summaries in one statement. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithJoinedFetchAccTest extends AbstractAccTest {
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameTaskSummaries_When_ListingAllTasksWithJoinedFetch() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected = taskService.createTaskQuery().orderByTaskId(ASCENDING).list();
+
+    List<TaskSummary> result =
+        taskService.createTaskQuery().orderByTaskId(ASCENDING).joinedFetch().list();
+
+    assertThat(result).isEqualTo(expected);
+    assertThat(result)
+        .extracting(TaskSummary::getAttachmentSummaries)
+        .containsExactlyElementsOf(
+            expected.stream()
+                .map(TaskSummary::getAttachmentSummaries)
+                .collect(Collectors.toList()));
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_FetchWorkbasketClassificationAndAttachmentSummaries_When_UsingJoinedFetch() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService.createTaskQuery().classificationKeyIn("L110102").list();
+
+    List<TaskSummary> result =
+        taskService.createTaskQuery().classificationKeyIn("L110102").joinedFetch().list();
+
+    assertThat(result).hasSize(1);
+    TaskSummary task = result.get(0);
+    assertThat(task).isEqualTo(expected.get(0));
+    assertThat(task.getWorkbasketSummary()).isEqualTo(expected.get(0).getWorkbasketSummary());
+    assertThat(task.getClassificationSummary())
+        .isEqualTo(expected.get(0).getClassificationSummary());
+    assertThat(task.getAttachmentSummaries())
+        .hasSize(2)
+        .containsExactlyInAnyOrderElementsOf(expected.get(0).getAttachmentSummaries());
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void should_ReturnSamePages_When_ListingWithOffsetAndLimitUsingJoinedFetch() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    KeyDomain keyDomain = new KeyDomain("GPK_KSC", "DOMAIN_A");
+    for (int offset = 0; offset < 30; offset += 10) {
+      List<TaskSummary> expected =
+          taskService
+              .createTaskQuery()
+              .workbasketKeyDomainIn(keyDomain)
+              .orderByTaskId(DESCENDING)
+              .list(offset, 10);
+
+      List<TaskSummary> result =
+          taskService
+              .createTaskQuery()
+              .workbasketKeyDomainIn(keyDomain)
+              .orderByTaskId(DESCENDING)
+              .joinedFetch()
+              .list(offset, 10);
+
+      assertThat(result).isEqualTo(expected);
+    }
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void should_TreatNegativeOffsetAndLimitAsZero_When_UsingJoinedFetch() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    KeyDomain keyDomain = new KeyDomain("GPK_KSC", "DOMAIN_A");
+
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(keyDomain)
+                .joinedFetch()
+                .list(-1, -3))
+        .isEmpty();
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(keyDomain)
+                .joinedFetch()
+                .list(-1, 3))
+        .hasSize(3);
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void should_ReturnAllTasks_When_ReusingQueryAfterListingPageUsingJoinedFetch()
+      throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    KeyDomain keyDomain = new KeyDomain("GPK_KSC", "DOMAIN_A");
+    TaskQuery query = taskService.createTaskQuery().workbasketKeyDomainIn(keyDomain).joinedFetch();
+    long expectedCount = taskService.createTaskQuery().workbasketKeyDomainIn(keyDomain).count();
+
+    assertThat(query.list(0, 1)).hasSize(1);
+    List<TaskSummary> result = new ArrayList<>();
+    query.forEach(5, result::add);
+
+    assertThat(expectedCount).isGreaterThan(1);
+    assertThat(result).hasSize((int) expectedCount);
+    assertThat(query.list()).hasSize((int) expectedCount);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_KeepOrder_When_OrderingByClassificationNameUsingJoinedFetch() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService
+            .createTaskQuery()
+            .orderByClassificationName(DESCENDING)
+            .orderByTaskId(ASCENDING)
+            .list();
+
+    List<TaskSummary> result =
+        taskService
+            .createTaskQuery()
+            .orderByClassificationName(DESCENDING)
+            .orderByTaskId(ASCENDING)
+            .joinedFetch()
+            .list();
+
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameTasks_When_FilteringByAttachmentUsingJoinedFetch() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService
+            .createTaskQuery()
+            .attachmentClassificationKeyIn("L110102")
+            .orderByTaskId(ASCENDING)
+            .list();
+
+    List<TaskSummary> result =
+        taskService
+            .createTaskQuery()
+            .attachmentClassificationKeyIn("L110102")
+            .orderByTaskId(ASCENDING)
+            .joinedFetch()
+            .list();
+
+    assertThat(result).isNotEmpty().isEqualTo(expected);
+  }
+}
@@ -0,0 +1,168 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.common.api.BaseQuery.SortDirection.ASCENDING;
+import static pro.taskana.common.api.BaseQuery.SortDirection.DESCENDING;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for all "query tasks with keyset pagination" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithKeysetPaginationAccTest extends AbstractAccTest {
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnAllTasksOrderedById_When_PagingWithoutOrderCriteria() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected = taskService.createTaskQuery().orderByTaskId(ASCENDING).list();
+
+    List<TaskSummary> result = listAllPages(taskService.createTaskQuery(), 7);
+
+    assertThat(result)
+        .extracting(TaskSummary::getId)
+        .containsExactlyElementsOf(ids(expected))
+        .doesNotHaveDuplicates();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameOrderAsList_When_PagingByDescendingDueAndPriority() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService
+            .createTaskQuery()
+            .orderByDue(DESCENDING)
+            .orderByPriority(ASCENDING)
+            .orderByTaskId(ASCENDING)
+            .list();
+
+    List<TaskSummary> result =
+        listAllPages(
+            taskService.createTaskQuery().orderByDue(DESCENDING).orderByPriority(ASCENDING), 5);
+
+    assertThat(result).extracting(TaskSummary::getId).containsExactlyElementsOf(ids(expected));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameOrderAsList_When_PagingByColumnsContainingNullValues() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService
+            .createTaskQuery()
+            .orderByOwner(ASCENDING)
+            .orderByNote(DESCENDING)
+            .orderByCompleted(DESCENDING)
+            .orderByTaskId(ASCENDING)
+            .list();
+
+    List<TaskSummary> result =
+        listAllPages(
+            taskService
+                .createTaskQuery()
+                .orderByOwner(ASCENDING)
+                .orderByNote(DESCENDING)
+                .orderByCompleted(DESCENDING),
+            4);
+
+    assertThat(result).extracting(TaskSummary::getId).containsExactlyElementsOf(ids(expected));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameOrderAsList_When_PagingByClassificationNameWithJoinedFetch()
+      throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService
+            .createTaskQuery()
+            .orderByClassificationName(ASCENDING)
+            .orderByTaskId(ASCENDING)
+            .list();
+
+    List<TaskSummary> result =
+        listAllPages(
+            taskService.createTaskQuery().orderByClassificationName(ASCENDING).joinedFetch(), 6);
+
+    assertThat(result).extracting(TaskSummary::getId).containsExactlyElementsOf(ids(expected));
+  }
+
+  @WithAccessId(user = "teamlead_1", groups = "group_1")
+  @Test
+  void should_ReturnFirstPage_When_CursorIsNull() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery query =
+        taskService
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+            .orderByTaskId(DESCENDING);
+
+    List<TaskSummary> firstPage = query.listAfter(null, 10);
+    List<TaskSummary> secondPage = query.listAfter(query.getCursor(firstPage.get(9)), 10);
+    List<TaskSummary> thirdPage = query.listAfter(query.getCursor(secondPage.get(9)), 10);
+
+    assertThat(ids(firstPage)).containsExactlyElementsOf(ids(query.list(0, 10)));
+    assertThat(ids(secondPage)).containsExactlyElementsOf(ids(query.list(10, 10)));
+    assertThat(thirdPage).hasSize(2);
+    assertThat(query.listAfter(null, 0)).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_CursorDoesNotMatchOrderOfQuery() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery dueQuery = taskService.createTaskQuery().orderByDue(ASCENDING);
+    String cursor = dueQuery.getCursor(dueQuery.listAfter(null, 1).get(0));
+
+    ThrowingCallable call =
+        () -> taskService.createTaskQuery().orderByPlanned(ASCENDING).listAfter(cursor, 10);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+
+    call = () -> dueQuery.listAfter("invalid", 10);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_OrderingByAttachmentColumn() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    ThrowingCallable call =
+        () -> taskService.createTaskQuery().orderByAttachmentChannel(ASCENDING).listAfter(null, 5);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  private List<TaskSummary> listAllPages(TaskQuery query, int pageSize)
+      throws InvalidArgumentException {
+    List<TaskSummary> result = new ArrayList<>();
+    String cursor = null;
+    List<TaskSummary> page;
+    do {
+      page = query.listAfter(cursor, pageSize);
+      result.addAll(page);
+      if (!page.isEmpty()) {
+        cursor = query.getCursor(page.get(page.size() - 1));
+      }
+    } while (page.size() == pageSize);
+    return result;
+  }
+
+  private List<String> ids(List<TaskSummary> tasks) {
+    List<String> ids = new ArrayList<>();
+    tasks.forEach(task -> ids.add(task.getId()));
+    return ids;
+  }
+}
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
@@ -18,6 +21,7 @@ import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.WorkbasketType;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 
 /** Acceptance test for all "get workbasket" scenarios. */
@@ -176,6 +180,49 @@ class GetWorkbasketAccTest extends AbstractAccTest {
     assertThatThrownBy(call).isInstanceOf(WorkbasketNotFoundException.class);
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnWorkbasketDefinitionsInOrderOfIds_When_GettingDefinitionsByIds()
+      throws NotAuthorizedException, WorkbasketNotFoundException {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+    List<WorkbasketDefinition> definitions =
+        workbasketService.getWorkbasketDefinitions(
+            Arrays.asList(
+                "WBI:100000000000000000000000000000000007",
+                "NOT EXISTING ID",
+                "WBI:100000000000000000000000000000000001"));
+
+    assertThat(definitions)
+        .extracting(definition -> definition.getWorkbasket().getId())
+        .containsExactly(
+            "WBI:100000000000000000000000000000000007", "WBI:100000000000000000000000000000000001");
+    for (WorkbasketDefinition definition : definitions) {
+      String workbasketId = definition.getWorkbasket().getId();
+      assertThat(definition.getWorkbasket())
+          .isEqualTo(workbasketService.getWorkbasket(workbasketId));
+      assertThat(definition.getAuthorizations())
+          .containsExactlyInAnyOrderElementsOf(
+              workbasketService.getWorkbasketAccessItems(workbasketId));
+      assertThat(definition.getDistributionTargets())
+          .containsExactlyInAnyOrderElementsOf(
+              workbasketService.getDistributionTargets(workbasketId).stream()
+                  .map(WorkbasketSummary::getId)
+                  .collect(Collectors.toList()));
+    }
+  }
+
+  @WithAccessId(user = "user_1_1", groups = "group_1")
+  @Test
+  void should_ThrowException_When_GettingDefinitionsWithoutAdministrativeRole() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    ThrowingCallable call =
+        () ->
+            workbasketService.getWorkbasketDefinitions(
+                Collections.singletonList("WBI:100000000000000000000000000000000007"));
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
   @Test
   void testGetByIdNotAuthorized() {
     WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
@@ -0,0 +1,154 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.security.JaasExtension;
+import pro.taskana.common.internal.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketDefinitionImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+
+/** Acceptance test for the import of workbasket definitions. */
+@ExtendWith(JaasExtension.class)
+class ImportWorkbasketDefinitionsAccTest extends AbstractAccTest {
+
+  private static final String EXISTING_WORKBASKET_ID = "WBI:100000000000000000000000000000000001";
+
+  private final WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+  @WithAccessId(user = "user_1_2", groups = "businessadmin")
+  @Test
+  void should_CreateWorkbasketWithAccessItemsAndDistributionTargets_When_DefinitionIsNew()
+      throws Exception {
+    WorkbasketDefinition definition =
+        createDefinition(
+            "WBI:EXPORTED-1",
+            "IMPORT-1",
+            Collections.singleton(EXISTING_WORKBASKET_ID),
+            "user_1_1");
+
+    BulkOperationResults<String, TaskanaException> result =
+        workbasketService.importWorkbasketDefinitions(
+            Collections.singletonList(definition).iterator());
+
+    assertThat(result.containsErrors()).isFalse();
+    Workbasket workbasket = workbasketService.getWorkbasket("IMPORT-1", "DOMAIN_A");
+    assertThat(workbasket.getId()).startsWith("WBI").isNotEqualTo("WBI:EXPORTED-1");
+    assertThat(workbasket.getName()).isEqualTo("Name of IMPORT-1");
+    assertThat(workbasketService.getWorkbasketAccessItems(workbasket.getId()))
+        .extracting(WorkbasketAccessItem::getAccessId)
+        .containsExactly("user_1_1");
+    assertThat(workbasketService.getDistributionTargets(workbasket.getId()))
+        .extracting(WorkbasketSummary::getId)
+        .containsExactly(EXISTING_WORKBASKET_ID);
+  }
+
+  @WithAccessId(user = "user_1_2", groups = "businessadmin")
+  @Test
+  void should_UpdateWorkbasketAndReplaceAccessItems_When_DefinitionExists() throws Exception {
+    WorkbasketDefinition definition =
+        createDefinition(
+            EXISTING_WORKBASKET_ID, "GPK_KSC", Collections.emptySet(), "teamlead_1", "user_1_1");
+
+    BulkOperationResults<String, TaskanaException> result =
+        workbasketService.importWorkbasketDefinitions(
+            Collections.singletonList(definition).iterator());
+
+    assertThat(result.containsErrors()).isFalse();
+    Workbasket workbasket = workbasketService.getWorkbasket(EXISTING_WORKBASKET_ID);
+    assertThat(workbasket.getName()).isEqualTo("Name of GPK_KSC");
+    List<WorkbasketAccessItem> accessItems =
+        workbasketService.getWorkbasketAccessItems(EXISTING_WORKBASKET_ID);
+    assertThat(accessItems)
+        .extracting(WorkbasketAccessItem::getAccessId)
+        .containsExactlyInAnyOrder("teamlead_1", "user_1_1");
+    WorkbasketAccessItem changedAccessItem =
+        accessItems.stream()
+            .filter(accessItem -> "teamlead_1".equals(accessItem.getAccessId()))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+    assertThat(changedAccessItem.getId()).isEqualTo("WAI:100000000000000000000000000000000021");
+    assertThat(changedAccessItem.isPermRead()).isTrue();
+    assertThat(changedAccessItem.isPermOpen()).isFalse();
+    assertThat(workbasketService.getDistributionTargets(EXISTING_WORKBASKET_ID)).isEmpty();
+  }
+
+  @WithAccessId(user = "user_1_2", groups = "businessadmin")
+  @Test
+  void should_ReportOnlyFailingDefinitions_When_SomeDefinitionsCannotBeImported()
+      throws Exception {
+    String tooLongKey = String.join("", Collections.nCopies(70, "K"));
+    List<WorkbasketDefinition> definitions =
+        Arrays.asList(
+            createDefinition("WBI:EXPORTED-2", "IMPORT-2", Collections.emptySet(), "user_1_1"),
+            createDefinition("WBI:EXPORTED-3", "IMPORT-3", Collections.emptySet(), (String) null),
+            createDefinition("WBI:EXPORTED-4", tooLongKey, Collections.emptySet(), "user_1_1"),
+            createDefinition("WBI:EXPORTED-5", "IMPORT-5", Collections.emptySet(), "user_1_1"));
+
+    BulkOperationResults<String, TaskanaException> result =
+        workbasketService.importWorkbasketDefinitions(definitions.iterator());
+
+    assertThat(result.getErrorMap())
+        .containsOnlyKeys("IMPORT-3|DOMAIN_A", tooLongKey + "|DOMAIN_A");
+    assertThat(result.getErrorForId("IMPORT-3|DOMAIN_A"))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(result.getErrorForId(tooLongKey + "|DOMAIN_A"))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(
+            workbasketService
+                .createWorkbasketQuery()
+                .keyIn("IMPORT-2", "IMPORT-3", "IMPORT-5")
+                .domainIn("DOMAIN_A")
+                .list())
+        .extracting(WorkbasketSummary::getKey)
+        .containsExactlyInAnyOrder("IMPORT-2", "IMPORT-5");
+  }
+
+  @WithAccessId(user = "user_1_1")
+  @Test
+  void should_ThrowNotAuthorizedException_When_UserIsNotBusinessAdmin() {
+    ThrowingCallable call =
+        () ->
+            workbasketService.importWorkbasketDefinitions(
+                Collections.<WorkbasketDefinition>emptyList().iterator());
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
+  private WorkbasketDefinition createDefinition(
+      String importedId, String key, Set<String> distributionTargets, String... accessIds) {
+    WorkbasketImpl workbasket = (WorkbasketImpl) workbasketService.newWorkbasket(key, "DOMAIN_A");
+    workbasket.setId(importedId);
+    workbasket.setName("Name of " + key);
+    workbasket.setType(WorkbasketType.PERSONAL);
+    List<WorkbasketAccessItem> accessItems = new ArrayList<>();
+    for (String accessId : accessIds) {
+      WorkbasketAccessItemImpl accessItem =
+          (WorkbasketAccessItemImpl) workbasketService.newWorkbasketAccessItem(importedId, accessId);
+      accessItem.setWorkbasketKey(key);
+      accessItem.setPermRead(true);
+      accessItems.add(accessItem);
+    }
+    return new WorkbasketDefinitionImpl(workbasket, accessItems, distributionTargets);
+  }
+}
@@ -0,0 +1,125 @@
+package pro.taskana.classification.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.models.ClassificationImpl;
+
+/** Unit Test for {@link ClassificationCache}. */
+class ClassificationCacheTest {
+
+  @Test
+  void should_LoadClassificationOnlyOnce_When_ReadingTwice() {
+    ClassificationCache cache = new ClassificationCache(10, null);
+    AtomicInteger loads = new AtomicInteger();
+
+    Classification first = cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+    Classification second = cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+
+    assertThat(loads).hasValue(1);
+    assertThat(second).isEqualTo(first).isNotSameAs(first);
+    assertThat(second.getId()).isEqualTo("CLI:1");
+    assertThat(second.getKey()).isEqualTo("L1");
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_CacheMissingClassification_When_ReadingByKeyAndDomain() {
+    ClassificationCache cache = new ClassificationCache(10, null);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getClassification(
+        "L1",
+        "DOMAIN_A",
+        () -> {
+          loads.incrementAndGet();
+          return null;
+        });
+    Classification classification =
+        cache.getClassification("L1", "DOMAIN_A", () -> load(loads, "CLI:1", "L1"));
+
+    assertThat(classification).isNull();
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void should_LoadClassificationAgain_When_CacheWasCleared() {
+    ClassificationCache cache = new ClassificationCache(10, null);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+    cache.clear();
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void should_LoadClassificationAgain_When_EntryHasExpired() {
+    ClassificationCache cache = new ClassificationCache(10, Duration.ZERO);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void should_EvictLeastRecentlyUsedEntry_When_CacheIsFull() {
+    ClassificationCache cache = new ClassificationCache(2, null);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+    cache.getClassification("CLI:2", () -> load(loads, "CLI:2", "L2"));
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+    cache.getClassification("CLI:3", () -> load(loads, "CLI:3", "L3"));
+    cache.getClassification("CLI:1", () -> load(loads, "CLI:1", "L1"));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void should_LoadOnlyMissingSummaries_When_ReadingSummaries() {
+    ClassificationCache cache = new ClassificationCache(10, null);
+    cache.getClassificationSummaries(
+        Collections.singletonList("CLI:1"),
+        ids -> Collections.singletonList(load(new AtomicInteger(), "CLI:1", "L1").asSummary()));
+
+    List<ClassificationSummary> summaries =
+        cache.getClassificationSummaries(
+            Arrays.asList("CLI:1", "CLI:2"),
+            ids -> {
+              assertThat(ids).containsExactly("CLI:2");
+              return Collections.singletonList(
+                  load(new AtomicInteger(), "CLI:2", "L2").asSummary());
+            });
+
+    assertThat(summaries)
+        .extracting(ClassificationSummary::getId)
+        .containsExactlyInAnyOrder("CLI:1", "CLI:2");
+    assertThat(summaries)
+        .extracting(ClassificationSummary::getKey)
+        .containsExactlyInAnyOrder("L1", "L2");
+  }
+
+  private ClassificationImpl load(AtomicInteger loads, String id, String key) {
+    loads.incrementAndGet();
+    ClassificationImpl classification = new ClassificationImpl();
+    classification.setId(id);
+    classification.setKey(key);
+    classification.setDomain("DOMAIN_A");
+    classification.setName("Name of " + key);
+    return classification;
+  }
+}
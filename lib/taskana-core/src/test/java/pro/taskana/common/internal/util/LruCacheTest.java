@@ -0,0 +1,48 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/** Unit Test for {@link LruCache}. */
+class LruCacheTest {
+
+  @Test
+  void should_NotCacheValue_When_CacheIsClearedWhileLoading() {
+    LruCache<String, String> cache = new LruCache<>(10, null);
+
+    cache.get(
+        "key",
+        () -> {
+          cache.clear();
+          return "outdated";
+        });
+    String value = cache.get("key", () -> "current");
+
+    assertThat(value).isEqualTo("current");
+  }
+
+  @Test
+  void should_LoadOnlyMissingKeysWithOneCall_When_ReadingSeveralValues() {
+    LruCache<String, String> cache = new LruCache<>(10, null);
+    cache.get("a", () -> "a");
+
+    List<String> values =
+        cache.getAll(
+            Arrays.asList("a", "b", "c"),
+            keys -> {
+              assertThat(keys).containsExactly("b", "c");
+              return Collections.singletonList("b");
+            },
+            Function.identity());
+
+    assertThat(values).containsExactly("a", "b");
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(3);
+  }
+}
@@ -215,6 +215,23 @@ class WorkingDaysToDaysConverterTest {
     assertThat(days).isEqualTo(5); // 2.5.
   }
 
+  @Test
+  void should_SkipHolidaysOfBothYears_When_ConvertingAcrossTurnOfTheYear()
+      throws InvalidArgumentException {
+    Instant friday1221 = Instant.parse("2018-12-21T12:00:00.000Z");
+    WorkingDaysToDaysConverter converter = WorkingDaysToDaysConverter.initialize(friday1221);
+
+    assertThat(converter.convertWorkingDaysToDays(friday1221, 1)).isEqualTo(3); // 24.12.
+    assertThat(converter.convertWorkingDaysToDays(friday1221, 2)).isEqualTo(6); // 27.12.
+    assertThat(converter.convertWorkingDaysToDays(friday1221, 4)).isEqualTo(10); // 31.12.
+    assertThat(converter.convertWorkingDaysToDays(friday1221, 5)).isEqualTo(12); // 2.1.
+
+    Instant wednesday0102 = Instant.parse("2019-01-02T12:00:00.000Z");
+    assertThat(converter.convertWorkingDaysToDays(wednesday0102, -1)).isEqualTo(-2); // 31.12.
+    assertThat(converter.convertWorkingDaysToDays(wednesday0102, -2)).isEqualTo(-5); // 28.12.
+    assertThat(converter.convertWorkingDaysToDays(wednesday0102, -3)).isEqualTo(-6); // 27.12.
+  }
+
   @Test
   void testGetEasterSunday() {
     assertThat(getEasterSunday(2018)).isEqualTo(LocalDate.of(2018, 4, 1));
@@ -80,7 +80,8 @@ class CategoryReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            null))
         .thenReturn(expectedResult);
 
     final CategoryReport actualResult =
@@ -102,7 +103,7 @@ class CategoryReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -143,7 +144,8 @@ class CategoryReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            Collections.singletonList(new AgeBucket(0, 0, 0))))
         .thenReturn(expectedResult);
 
     final CategoryReport actualResult =
@@ -166,7 +168,7 @@ class CategoryReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -83,7 +83,8 @@ class ClassificationReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            null))
         .thenReturn(expectedResult);
 
     final ClassificationReport actualResult =
@@ -106,7 +107,7 @@ class ClassificationReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfClassifications(any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfClassifications(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -149,7 +150,8 @@ class ClassificationReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            Collections.singletonList(new AgeBucket(0, 0, 0))))
         .thenReturn(expectedResult);
 
     final ClassificationReport actualResult =
@@ -173,7 +175,7 @@ class ClassificationReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfClassifications(any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfClassifications(any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -215,7 +217,8 @@ class ClassificationReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            null))
         .thenReturn(expectedResult);
 
     final DetailedClassificationReport actualResult =
@@ -238,7 +241,8 @@ class ClassificationReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfDetailedClassifications(any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfDetailedClassifications(
+            any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -284,7 +288,8 @@ class ClassificationReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            Collections.singletonList(new AgeBucket(0, 0, 0))))
         .thenReturn(expectedResult);
 
     final DetailedClassificationReport actualResult =
@@ -308,7 +313,8 @@ class ClassificationReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfDetailedClassifications(any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfDetailedClassifications(
+            any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -80,7 +80,8 @@ class CustomFieldValueReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            null))
         .thenReturn(expectedResult);
 
     final CustomFieldValueReport actualResult =
@@ -102,7 +103,8 @@ class CustomFieldValueReportBuilderImplTest {
     verify(taskanaEngineConfigurationMock).isCorpusChristiEnabled();
     verify(taskanaEngineConfigurationMock).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfCustomFieldValues(any(), any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfCustomFieldValues(
+            any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -144,7 +146,8 @@ class CustomFieldValueReportBuilderImplTest {
             domains,
             classificationIds,
             excludedClassificationIds,
-            customAttributeFilter))
+            customAttributeFilter,
+            Collections.singletonList(new AgeBucket(0, 0, 0))))
         .thenReturn(expectedResult);
 
     final CustomFieldValueReport actualResult =
@@ -167,7 +170,8 @@ class CustomFieldValueReportBuilderImplTest {
     verify(taskanaEngineConfigurationMock).isCorpusChristiEnabled();
     verify(taskanaEngineConfigurationMock).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfCustomFieldValues(any(), any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfCustomFieldValues(
+            any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -0,0 +1,250 @@
+package pro.taskana.monitor.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.monitor.api.reports.CategoryReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.reports.CategoryReportBuilderImpl;
+import pro.taskana.monitor.internal.reports.ClassificationReportBuilderImpl;
+
+/** Unit Test for {@link ReportCache}. */
+class ReportCacheTest {
+
+  private static final Duration COMPUTATION_TIMEOUT = Duration.ofMinutes(1);
+
+  @Test
+  void should_ComputeReportOnlyOnce_When_ReportIsRequestedRepeatedly() throws Exception {
+    ReportCache cache = new ReportCache(10, null, COMPUTATION_TIMEOUT);
+    AtomicInteger computations = new AtomicInteger();
+
+    CategoryReport first = cache.getReport("key", () -> createReport(computations));
+    CategoryReport second = cache.getReport("key", () -> createReport(computations));
+
+    assertThat(second).isSameAs(first);
+    assertThat(computations).hasValue(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_ComputeReportAgain_When_ReportHasExpired() throws Exception {
+    ReportCache cache = new ReportCache(10, Duration.ZERO, COMPUTATION_TIMEOUT);
+    AtomicInteger computations = new AtomicInteger();
+
+    CategoryReport first = cache.getReport("key", () -> createReport(computations));
+    CategoryReport second = cache.getReport("key", () -> createReport(computations));
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getSnapshotTime()).isAfterOrEqualTo(first.getSnapshotTime());
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void should_ShareComputation_When_IdenticalReportsAreRequestedConcurrently() throws Exception {
+    ReportCache cache = new ReportCache(10, null, COMPUTATION_TIMEOUT);
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch computationStarted = new CountDownLatch(1);
+    CountDownLatch releaseComputation = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<CategoryReport> computing =
+          executor.submit(
+              () ->
+                  cache.getReport(
+                      "key",
+                      () -> {
+                        computationStarted.countDown();
+                        awaitUninterruptibly(releaseComputation);
+                        return createReport(computations);
+                      }));
+      computationStarted.await();
+      Future<CategoryReport> waiting =
+          executor.submit(() -> cache.getReport("key", () -> createReport(computations)));
+      while (cache.getHitCount() == 0) {
+        Thread.sleep(10);
+      }
+      releaseComputation.countDown();
+
+      assertThat(waiting.get()).isSameAs(computing.get());
+      assertThat(computations).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_ThrowSystemException_When_ConcurrentComputationTakesLongerThanTimeout()
+      throws Exception {
+    ReportCache cache = new ReportCache(10, null, Duration.ofMillis(50));
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch computationStarted = new CountDownLatch(1);
+    CountDownLatch releaseComputation = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<CategoryReport> computing =
+          executor.submit(
+              () ->
+                  cache.getReport(
+                      "key",
+                      () -> {
+                        computationStarted.countDown();
+                        awaitUninterruptibly(releaseComputation);
+                        return createReport(computations);
+                      }));
+      computationStarted.await();
+
+      assertThatThrownBy(() -> cache.getReport("key", () -> createReport(computations)))
+          .isInstanceOf(SystemException.class);
+      releaseComputation.countDown();
+      assertThat(computing.get()).isNotNull();
+      assertThat(computations).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_NotCacheReport_When_ComputationFails() throws Exception {
+    ReportCache cache = new ReportCache(10, null, COMPUTATION_TIMEOUT);
+    AtomicInteger computations = new AtomicInteger();
+
+    assertThatThrownBy(
+            () ->
+                cache.getReport(
+                    "key",
+                    () -> {
+                      throw new InvalidArgumentException("invalid column headers");
+                    }))
+        .isInstanceOf(InvalidArgumentException.class);
+    cache.getReport("key", () -> createReport(computations));
+
+    assertThat(computations).hasValue(1);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void should_ReturnUnmodifiableReport_When_ReportIsCached() throws Exception {
+    ReportCache cache = new ReportCache(10, null, COMPUTATION_TIMEOUT);
+    MonitorQueryItem item = new MonitorQueryItem();
+    item.setKey("EXTERN");
+    item.setNumberOfTasks(3);
+
+    CategoryReport report =
+        cache.getReport(
+            "key",
+            () -> {
+              CategoryReport computedReport = new CategoryReport(Collections.emptyList());
+              computedReport.addItem(item);
+              return computedReport;
+            });
+
+    assertThat(report.isModifiable()).isFalse();
+    assertThatThrownBy(() -> report.addItem(item))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> report.getRow("EXTERN").updateTotalValue(item))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> report.getSumRow().updateTotalValue(item))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> report.getRows().clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThat(report.getRow("EXTERN").getTotalValue()).isEqualTo(3);
+    assertThat(report.getSumRow().getTotalValue()).isEqualTo(3);
+  }
+
+  @Test
+  void should_EvictLeastRecentlyUsedReport_When_CacheIsFull() throws Exception {
+    ReportCache cache = new ReportCache(2, null, COMPUTATION_TIMEOUT);
+    AtomicInteger computations = new AtomicInteger();
+
+    cache.getReport("key1", () -> createReport(computations));
+    cache.getReport("key2", () -> createReport(computations));
+    cache.getReport("key1", () -> createReport(computations));
+    cache.getReport("key3", () -> createReport(computations));
+    cache.getReport("key1", () -> createReport(computations));
+    cache.getReport("key2", () -> createReport(computations));
+
+    assertThat(computations).hasValue(4);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void should_IgnoreOrderOfFilterValues_When_BuildingKey() {
+    String key =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withFilter("domains", Arrays.asList("DOMAIN_A", "DOMAIN_B"))
+            .build();
+    String keyWithOtherOrder =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withFilter("domains", Arrays.asList("DOMAIN_B", "DOMAIN_A"))
+            .build();
+    String keyWithoutFilter =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withFilter("domains", (Collection<?>) null)
+            .build();
+    String keyWithEmptyFilter =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withFilter("domains", Collections.emptyList())
+            .build();
+    String keyOfOtherBuilder =
+        new ReportCache.KeyBuilder(ClassificationReportBuilderImpl.class, "buildReport")
+            .withFilter("domains", Arrays.asList("DOMAIN_A", "DOMAIN_B"))
+            .build();
+
+    assertThat(keyWithOtherOrder).isEqualTo(key);
+    assertThat(keyWithoutFilter).isNotEqualTo(keyWithEmptyFilter);
+    assertThat(keyOfOtherBuilder).isNotEqualTo(key);
+  }
+
+  @Test
+  void should_KeepOrderOfColumnHeaders_When_BuildingKey() {
+    TimeIntervalColumnHeader past = new TimeIntervalColumnHeader(Integer.MIN_VALUE, -1);
+    TimeIntervalColumnHeader future = new TimeIntervalColumnHeader(0, Integer.MAX_VALUE);
+
+    String key =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withColumnHeaders(Arrays.asList(past, future))
+            .build();
+    String keyWithEqualHeaders =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withColumnHeaders(
+                Arrays.asList(
+                    new TimeIntervalColumnHeader(Integer.MIN_VALUE, -1),
+                    new TimeIntervalColumnHeader(0, Integer.MAX_VALUE)))
+            .build();
+    String keyWithOtherOrder =
+        new ReportCache.KeyBuilder(CategoryReportBuilderImpl.class, "buildReport")
+            .withColumnHeaders(Arrays.asList(future, past))
+            .build();
+
+    assertThat(keyWithEqualHeaders).isEqualTo(key);
+    assertThat(keyWithOtherOrder).isNotEqualTo(key);
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static CategoryReport createReport(AtomicInteger computations) {
+    computations.incrementAndGet();
+    return new CategoryReport(Collections.emptyList());
+  }
+}
@@ -137,6 +137,33 @@ class ReportTest {
     assertThat(sumRow.getTotalValue()).isEqualTo(0);
   }
 
+  @Test
+  void testInsertItemsIntoOpenEndedHeaderScopes() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        Arrays.asList(
+            new TimeIntervalColumnHeader(Integer.MIN_VALUE, -1),
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(2, Integer.MAX_VALUE));
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+    MonitorQueryItem itemInGap = new MonitorQueryItem();
+    itemInGap.setKey("key");
+    itemInGap.setAgeInDays(1);
+    itemInGap.setNumberOfTasks(1);
+    MonitorQueryItem itemInFuture = new MonitorQueryItem();
+    itemInFuture.setKey("key");
+    itemInFuture.setAgeInDays(Integer.MAX_VALUE);
+    itemInFuture.setNumberOfTasks(2);
+
+    // when
+    report.addItems(Arrays.asList(item, itemInGap, itemInFuture));
+
+    // then
+    Row<MonitorQueryItem> row = report.getRow("key");
+    assertThat(row.getCells()).isEqualTo(new int[] {0, item.getValue(), 2});
+    assertThat(row.getTotalValue()).isEqualTo(item.getValue() + 2);
+  }
+
   @Test
   void testInsertItemWhichIsInMultipleHeaderScopes() {
     // given
@@ -66,6 +66,7 @@ class TaskStatusReportBuilderImplTest {
     inOrder.verify(internalTaskanaEngineMock).getEngine();
     inOrder.verify(taskanaEngineMock).checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     inOrder.verify(internalTaskanaEngineMock).openConnection();
+    inOrder.verify(internalTaskanaEngineMock).getTaskStatistics();
     inOrder.verify(monitorMapperMock).getTasksCountByState(eq(null), eq(null));
     inOrder.verify(internalTaskanaEngineMock).returnConnection();
     inOrder.verifyNoMoreInteractions();
@@ -104,6 +105,7 @@ class TaskStatusReportBuilderImplTest {
     inOrder.verify(internalTaskanaEngineMock).getEngine();
     inOrder.verify(taskanaEngineMock).checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
     inOrder.verify(internalTaskanaEngineMock).openConnection();
+    inOrder.verify(internalTaskanaEngineMock).getTaskStatistics();
     inOrder.verify(monitorMapperMock).getTasksCountByState(eq(null), eq(Collections.emptyList()));
     inOrder.verify(internalTaskanaEngineMock).returnConnection();
     inOrder.verifyNoMoreInteractions();
@@ -90,7 +90,8 @@ class WorkbasketReportBuilderImplTest {
             classificationIds,
             excludedClassificationIds,
             customAttributeFilter,
-            combinedClassificationFilter))
+            combinedClassificationFilter,
+            null))
         .thenReturn(expectedResult);
 
     final WorkbasketReport actualResult =
@@ -113,7 +114,7 @@ class WorkbasketReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfWorkbaskets(any(), any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfWorkbaskets(any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -161,7 +162,8 @@ class WorkbasketReportBuilderImplTest {
             classificationIds,
             excludedClassificationIds,
             customAttributeFilter,
-            combinedClassificationFilter))
+            combinedClassificationFilter,
+            Collections.singletonList(new AgeBucket(0, 0, 0))))
         .thenReturn(expectedResult);
 
     final WorkbasketReport actualResult =
@@ -185,7 +187,7 @@ class WorkbasketReportBuilderImplTest {
     verify(taskanaEngineConfiguration).isCorpusChristiEnabled();
     verify(taskanaEngineConfiguration).getCustomHolidays();
     verify(monitorMapperMock)
-        .getTaskCountOfWorkbaskets(any(), any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfWorkbaskets(any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -388,7 +390,8 @@ class WorkbasketReportBuilderImplTest {
             classificationIds,
             excludedClassificationIds,
             customAttributeFilter,
-            combinedClassificationFilter))
+            combinedClassificationFilter,
+            null))
         .thenReturn(expectedResult);
 
     final WorkbasketReport actualResult =
@@ -419,7 +422,8 @@ class WorkbasketReportBuilderImplTest {
             classificationIds,
             excludedClassificationIds,
             customAttributeFilter,
-            combinedClassificationFilter);
+            combinedClassificationFilter,
+            null);
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
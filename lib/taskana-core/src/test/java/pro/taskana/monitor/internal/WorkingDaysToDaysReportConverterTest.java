@@ -315,6 +315,29 @@ class WorkingDaysToDaysReportConverterTest {
     assertThat(instance.convertDaysToWorkingDays(7)).isEqualTo(3);
   }
 
+  @Test
+  void should_ReturnRangeOfDays_When_ConvertingLimitsOfWorkingDaysToDays()
+      throws InvalidArgumentException {
+    WorkingDaysToDaysReportConverter instance =
+        WorkingDaysToDaysReportConverter.initialize(
+            getLargeListOfColumnHeaders(), Instant.parse("2018-02-06T00:00:00.000Z"));
+
+    assertThat(instance.convertLowerWorkingDaysLimitToDays(Integer.MIN_VALUE))
+        .isEqualTo(Integer.MIN_VALUE);
+    assertThat(instance.convertUpperWorkingDaysLimitToDays(Integer.MAX_VALUE))
+        .isEqualTo(Integer.MAX_VALUE);
+    assertThat(instance.convertLowerWorkingDaysLimitToDays(-2)).isEqualTo(-4);
+    assertThat(instance.convertUpperWorkingDaysLimitToDays(-2)).isEqualTo(-4);
+    assertThat(instance.convertLowerWorkingDaysLimitToDays(-1)).isEqualTo(-3);
+    assertThat(instance.convertUpperWorkingDaysLimitToDays(-1)).isEqualTo(-1);
+    assertThat(instance.convertLowerWorkingDaysLimitToDays(3)).isEqualTo(3);
+    assertThat(instance.convertUpperWorkingDaysLimitToDays(3)).isEqualTo(5);
+    assertThat(instance.convertLowerWorkingDaysLimitToDays(4)).isEqualTo(6);
+    assertThat(instance.convertUpperWorkingDaysLimitToDays(11)).isEqualTo(15);
+    assertThat(instance.convertLowerWorkingDaysLimitToDays(16)).isEqualTo(16);
+    assertThat(instance.convertUpperWorkingDaysLimitToDays(16)).isEqualTo(16);
+  }
+
   private List<TimeIntervalColumnHeader> getShortListOfColumnHeaders() {
     List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
     columnHeaders.add(new TimeIntervalColumnHeader(Integer.MIN_VALUE, -3));
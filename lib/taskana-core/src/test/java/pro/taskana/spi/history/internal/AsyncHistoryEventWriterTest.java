@@ -0,0 +1,91 @@
+package pro.taskana.spi.history.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.spi.history.api.events.TaskanaHistoryEvent;
+
+/** Unit test for the {@link AsyncHistoryEventWriter}. */
+class AsyncHistoryEventWriterTest {
+
+  @Test
+  void should_WriteAllEventsInBatches_When_ShuttingDown() {
+    List<List<TaskanaHistoryEvent>> batches = Collections.synchronizedList(new ArrayList<>());
+    AsyncHistoryEventWriter writer =
+        new AsyncHistoryEventWriter(batches::add, 1000, 100, Duration.ofMillis(50), true);
+
+    for (int i = 0; i < 250; i++) {
+      writer.enqueue(new TaskanaHistoryEvent("user_1_1", "event " + i));
+    }
+    writer.shutdown();
+
+    assertThat(batches).allMatch(batch -> batch.size() <= 100);
+    assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(250);
+    assertThat(writer.getWrittenEventCount()).isEqualTo(250);
+    assertThat(writer.getQueueDepth()).isZero();
+    assertThat(writer.getMaxLatency()).isGreaterThanOrEqualTo(writer.getAverageLatency());
+  }
+
+  @Test
+  void should_DropEvents_When_QueueIsFullAndProducersMustNotBlock() throws Exception {
+    CountDownLatch writerBlocked = new CountDownLatch(1);
+    CountDownLatch releaseWriter = new CountDownLatch(1);
+    AsyncHistoryEventWriter writer =
+        new AsyncHistoryEventWriter(
+            events -> {
+              writerBlocked.countDown();
+              try {
+                releaseWriter.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            },
+            2,
+            1,
+            Duration.ofMillis(50),
+            false);
+
+    writer.enqueue(new TaskanaHistoryEvent());
+    writerBlocked.await();
+    for (int i = 0; i < 5; i++) {
+      writer.enqueue(new TaskanaHistoryEvent());
+    }
+    releaseWriter.countDown();
+    writer.shutdown();
+
+    assertThat(writer.getDroppedEventCount()).isEqualTo(3);
+    assertThat(writer.getWrittenEventCount()).isEqualTo(3);
+  }
+
+  @Test
+  void should_WriteEventsOneByOne_When_WritingTheBatchFails() {
+    List<TaskanaHistoryEvent> writtenEvents = Collections.synchronizedList(new ArrayList<>());
+    AsyncHistoryEventWriter writer =
+        new AsyncHistoryEventWriter(
+            events -> {
+              if (events.stream().anyMatch(event -> "broken".equals(event.getDetails()))) {
+                throw new IllegalStateException("cannot write event");
+              }
+              writtenEvents.addAll(events);
+            },
+            1000,
+            100,
+            Duration.ofMillis(50),
+            true);
+
+    writer.enqueue(new TaskanaHistoryEvent("user_1_1", "valid"));
+    writer.enqueue(new TaskanaHistoryEvent("user_1_1", "broken"));
+    writer.enqueue(new TaskanaHistoryEvent("user_1_1", "valid"));
+    writer.shutdown();
+
+    assertThat(writtenEvents).extracting(TaskanaHistoryEvent::getDetails).containsOnly("valid");
+    assertThat(writer.getWrittenEventCount()).isEqualTo(2);
+    assertThat(writer.getFailedEventCount()).isEqualTo(1);
+  }
+}
@@ -1,10 +1,13 @@
 package pro.taskana.task.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.session.SqlSession;
 import org.json.JSONArray;
@@ -19,14 +22,20 @@ import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.internal.ClassificationQueryImpl;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
+import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.models.AttachmentImpl;
+import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /**
  * Unit Test for TaskServiceImpl.
@@ -58,6 +67,8 @@ class TaskServiceImplTest {
 
   @Mock private ClassificationQueryImpl classificationQueryImplMock;
 
+  @Mock private WorkbasketQueryImpl workbasketQueryImplMock;
+
   @Mock private SqlSession sqlSessionMock;
 
   @BeforeEach
@@ -183,4 +194,73 @@ class TaskServiceImplTest {
     assertThat(summaryAfter).isEqualTo(summaryBefore);
     assertThat(summaryAfter.hashCode()).isEqualTo(summaryBefore.hashCode());
   }
+
+  @Test
+  void should_AssignMatchingSummaries_When_AugmentingTaskSummaries() {
+    ClassificationSummaryImpl classification1 = createClassificationSummary("CLI:1");
+    ClassificationSummaryImpl classification2 = createClassificationSummary("CLI:2");
+    WorkbasketSummaryImpl workbasket1 = createWorkbasketSummary("WBI:1");
+    WorkbasketSummaryImpl workbasket2 = createWorkbasketSummary("WBI:2");
+    TaskSummaryImpl task1 = createTaskSummary("TKI:1", "WBI:1", "CLI:1");
+    TaskSummaryImpl task2 = createTaskSummary("TKI:2", "WBI:2", "CLI:2");
+    TaskSummaryImpl task3 = createTaskSummary("TKI:3", "WBI:1", "CLI:2");
+    AttachmentSummaryImpl attachment1 = createAttachmentSummary("TAI:1", "TKI:1", "CLI:2");
+    AttachmentSummaryImpl attachment2 = createAttachmentSummary("TAI:2", "TKI:1", "CLI:1");
+    AttachmentSummaryImpl attachment3 = createAttachmentSummary("TAI:3", "TKI:3", "CLI:1");
+
+    when(attachmentMapperMock.findAttachmentSummariesByTaskIds(any()))
+        .thenReturn(Arrays.asList(attachment1, attachment2, attachment3));
+    when(classificationServiceImplMock.createClassificationQuery())
+        .thenReturn(classificationQueryImplMock);
+    when(classificationQueryImplMock.idIn(any())).thenReturn(classificationQueryImplMock);
+    when(classificationQueryImplMock.list())
+        .thenReturn(Arrays.asList(classification1, classification2));
+    when(workbasketServiceMock.createWorkbasketQuery()).thenReturn(workbasketQueryImplMock);
+    when(workbasketQueryImplMock.idIn(any())).thenReturn(workbasketQueryImplMock);
+    when(workbasketQueryImplMock.list()).thenReturn(Arrays.asList(workbasket1, workbasket2));
+
+    List<TaskSummary> result =
+        cut.augmentTaskSummariesByContainedSummaries(Arrays.asList(task1, task2, task3));
+
+    assertThat(result).containsExactly(task1, task2, task3);
+    assertThat(task1.getWorkbasketSummary()).isSameAs(workbasket1);
+    assertThat(task2.getWorkbasketSummary()).isSameAs(workbasket2);
+    assertThat(task3.getWorkbasketSummary()).isSameAs(workbasket1);
+    assertThat(task1.getClassificationSummary()).isSameAs(classification1);
+    assertThat(task2.getClassificationSummary()).isSameAs(classification2);
+    assertThat(task3.getClassificationSummary()).isSameAs(classification2);
+    assertThat(task1.getAttachmentSummaries()).containsExactly(attachment1, attachment2);
+    assertThat(task2.getAttachmentSummaries()).isEmpty();
+    assertThat(task3.getAttachmentSummaries()).containsExactly(attachment3);
+    assertThat(attachment1.getClassificationSummary()).isSameAs(classification2);
+    assertThat(attachment3.getClassificationSummary()).isSameAs(classification1);
+  }
+
+  private ClassificationSummaryImpl createClassificationSummary(String id) {
+    ClassificationSummaryImpl classificationSummary = new ClassificationSummaryImpl();
+    classificationSummary.setId(id);
+    return classificationSummary;
+  }
+
+  private WorkbasketSummaryImpl createWorkbasketSummary(String id) {
+    WorkbasketSummaryImpl workbasketSummary = new WorkbasketSummaryImpl();
+    workbasketSummary.setId(id);
+    return workbasketSummary;
+  }
+
+  private TaskSummaryImpl createTaskSummary(
+      String id, String workbasketId, String classificationId) {
+    TaskSummaryImpl taskSummary = new TaskSummaryImpl();
+    taskSummary.setId(id);
+    taskSummary.setWorkbasketSummary(createWorkbasketSummary(workbasketId));
+    taskSummary.setClassificationSummary(createClassificationSummary(classificationId));
+    return taskSummary;
+  }
+
+  private AttachmentSummaryImpl createAttachmentSummary(
+      String id, String taskId, String classificationId) {
+    AttachmentImpl attachment = CreateTaskModelHelper.createAttachment(id, taskId);
+    attachment.setClassificationSummary(createClassificationSummary(classificationId));
+    return (AttachmentSummaryImpl) attachment.asSummary();
+  }
 }
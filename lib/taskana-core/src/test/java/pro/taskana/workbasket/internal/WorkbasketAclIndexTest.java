@@ -0,0 +1,72 @@
+package pro.taskana.workbasket.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+
+/** Unit Test for {@link WorkbasketAclIndex}. */
+@ExtendWith(MockitoExtension.class)
+class WorkbasketAclIndexTest {
+
+  private static final List<String> ACCESS_IDS = Arrays.asList("group_1", "user_1_1");
+
+  @Mock private InternalTaskanaEngine internalTaskanaEngineMock;
+
+  @Mock private WorkbasketAccessMapper workbasketAccessMapperMock;
+
+  private WorkbasketAclIndex aclIndex;
+
+  @BeforeEach
+  void setup() {
+    aclIndex = new WorkbasketAclIndex(internalTaskanaEngineMock, workbasketAccessMapperMock, 2);
+  }
+
+  @Test
+  void should_ReuseReadableWorkbasketIds_When_AclVersionIsUnchanged() {
+    when(workbasketAccessMapperMock.getAclVersion()).thenReturn(42L);
+    when(workbasketAccessMapperMock.findReadableWorkbasketIds(ACCESS_IDS))
+        .thenReturn(Arrays.asList("WBI:1", "WBI:2"));
+
+    String[] first = aclIndex.getReadableWorkbasketIds(new String[] {"user_1_1", "group_1"});
+    String[] second = aclIndex.getReadableWorkbasketIds(new String[] {"group_1", "user_1_1"});
+
+    assertThat(first).containsExactly("WBI:1", "WBI:2");
+    assertThat(second).isSameAs(first);
+    verify(workbasketAccessMapperMock, times(1)).findReadableWorkbasketIds(ACCESS_IDS);
+    verify(internalTaskanaEngineMock, times(2)).returnConnection();
+  }
+
+  @Test
+  void should_ReloadReadableWorkbasketIds_When_AclVersionHasChanged() {
+    when(workbasketAccessMapperMock.getAclVersion()).thenReturn(42L, 43L);
+    when(workbasketAccessMapperMock.findReadableWorkbasketIds(ACCESS_IDS))
+        .thenReturn(Arrays.asList("WBI:1", "WBI:2"), Arrays.asList("WBI:1"));
+
+    aclIndex.getReadableWorkbasketIds(new String[] {"user_1_1", "group_1"});
+    String[] readableWorkbasketIds =
+        aclIndex.getReadableWorkbasketIds(new String[] {"user_1_1", "group_1"});
+
+    assertThat(readableWorkbasketIds).containsExactly("WBI:1");
+    verify(workbasketAccessMapperMock, times(2)).findReadableWorkbasketIds(ACCESS_IDS);
+  }
+
+  @Test
+  void should_ReturnNull_When_TooManyWorkbasketsAreReadable() {
+    when(workbasketAccessMapperMock.getAclVersion()).thenReturn(42L);
+    when(workbasketAccessMapperMock.findReadableWorkbasketIds(ACCESS_IDS))
+        .thenReturn(Arrays.asList("WBI:1", "WBI:2", "WBI:3"));
+
+    assertThat(aclIndex.getReadableWorkbasketIds(new String[] {"user_1_1", "group_1"})).isNull();
+  }
+}
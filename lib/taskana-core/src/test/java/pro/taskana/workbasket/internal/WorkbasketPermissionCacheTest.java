@@ -0,0 +1,93 @@
+package pro.taskana.workbasket.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
+
+/** Unit test for the {@link WorkbasketPermissionCache}. */
+class WorkbasketPermissionCacheTest {
+
+  private static final List<String> ACCESS_IDS = Arrays.asList("user_1_1", "group_1");
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Supplier<WorkbasketAccessItem> loader =
+      () -> {
+        loads.incrementAndGet();
+        return new WorkbasketAccessItemImpl();
+      };
+
+  @AfterEach
+  void leaveAllScopes() {
+    WorkbasketPermissionCache.leaveScope();
+    WorkbasketPermissionCache.leaveScope();
+  }
+
+  @Test
+  void should_LoadPermissionsOnce_When_CheckedRepeatedlyWithinNestedScopes() {
+    WorkbasketPermissionCache.enterScope();
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+    WorkbasketPermissionCache.enterScope();
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+    WorkbasketPermissionCache.leaveScope();
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void should_CacheMissingPermissions_When_NoAccessItemExists() {
+    WorkbasketPermissionCache.enterScope();
+    Supplier<WorkbasketAccessItem> noAccessItem =
+        () -> {
+          loads.incrementAndGet();
+          return null;
+        };
+
+    assertThat(WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", noAccessItem))
+        .isNull();
+    assertThat(WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", noAccessItem))
+        .isNull();
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void should_LoadPermissionsAgain_When_CacheIsInvalidatedOrScopeIsLeft() {
+    WorkbasketPermissionCache.enterScope();
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+    WorkbasketPermissionCache.invalidate();
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+    WorkbasketPermissionCache.leaveScope();
+    WorkbasketPermissionCache.enterScope();
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void should_NotCache_When_NoScopeIsOpen() {
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+    WorkbasketPermissionCache.getAccessItem(ACCESS_IDS, "WBI:1", loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void should_CacheOnlyExistingWorkbaskets_When_CheckingExistence() {
+    WorkbasketPermissionCache.enterScope();
+
+    WorkbasketPermissionCache.workbasketExists("WBI:1", () -> loads.incrementAndGet() > 0);
+    WorkbasketPermissionCache.workbasketExists("WBI:1", () -> loads.incrementAndGet() > 0);
+    WorkbasketPermissionCache.workbasketExists("WBI:2", () -> loads.incrementAndGet() < 0);
+    WorkbasketPermissionCache.workbasketExists("WBI:2", () -> loads.incrementAndGet() < 0);
+
+    assertThat(loads).hasValue(3);
+  }
+}
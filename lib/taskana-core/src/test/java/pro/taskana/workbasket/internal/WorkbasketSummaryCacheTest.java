@@ -0,0 +1,105 @@
+package pro.taskana.workbasket.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+/** Unit Test for {@link WorkbasketSummaryCache}. */
+@ExtendWith(MockitoExtension.class)
+class WorkbasketSummaryCacheTest {
+
+  @Mock private InternalTaskanaEngine internalTaskanaEngineMock;
+
+  @Mock private WorkbasketMapper workbasketMapperMock;
+
+  @Test
+  void should_LoadOnlyMissingSummaries_When_ReadingSummaries() {
+    WorkbasketSummaryCache cache = createCache(10, null);
+    when(workbasketMapperMock.findSummariesByIds(Collections.singletonList("WBI:1")))
+        .thenReturn(Collections.singletonList(createSummary("WBI:1", "KEY_1")));
+    when(workbasketMapperMock.findSummariesByIds(Collections.singletonList("WBI:2")))
+        .thenReturn(Collections.singletonList(createSummary("WBI:2", "KEY_2")));
+
+    WorkbasketSummary first =
+        cache.getWorkbasketSummaries(Collections.singletonList("WBI:1")).get(0);
+    List<WorkbasketSummary> summaries =
+        cache.getWorkbasketSummaries(Arrays.asList("WBI:1", "WBI:2"));
+
+    assertThat(summaries)
+        .extracting(WorkbasketSummary::getKey)
+        .containsExactlyInAnyOrder("KEY_1", "KEY_2");
+    assertThat(summaries.get(0)).isEqualTo(first).isNotSameAs(first);
+    assertThat(summaries.get(0).getId()).isEqualTo("WBI:1");
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    verify(internalTaskanaEngineMock, times(2)).returnConnection();
+  }
+
+  @Test
+  void should_LoadSummaryAgain_When_CacheWasCleared() {
+    WorkbasketSummaryCache cache = createCache(10, null);
+    when(workbasketMapperMock.findSummariesByIds(Collections.singletonList("WBI:1")))
+        .thenReturn(Collections.singletonList(createSummary("WBI:1", "KEY_1")));
+
+    cache.getWorkbasketSummaries(Collections.singletonList("WBI:1"));
+    cache.clear();
+    cache.getWorkbasketSummaries(Collections.singletonList("WBI:1"));
+
+    verify(workbasketMapperMock, times(2)).findSummariesByIds(Collections.singletonList("WBI:1"));
+  }
+
+  @Test
+  void should_LoadSummaryAgain_When_EntryHasExpired() {
+    WorkbasketSummaryCache cache = createCache(10, Duration.ZERO);
+    when(workbasketMapperMock.findSummariesByIds(Collections.singletonList("WBI:1")))
+        .thenReturn(Collections.singletonList(createSummary("WBI:1", "KEY_1")));
+
+    cache.getWorkbasketSummaries(Collections.singletonList("WBI:1"));
+    cache.getWorkbasketSummaries(Collections.singletonList("WBI:1"));
+
+    verify(workbasketMapperMock, times(2)).findSummariesByIds(Collections.singletonList("WBI:1"));
+  }
+
+  @Test
+  void should_EvictLeastRecentlyUsedEntry_When_CacheIsFull() {
+    WorkbasketSummaryCache cache = createCache(2, null);
+    when(workbasketMapperMock.findSummariesByIds(Arrays.asList("WBI:1", "WBI:2", "WBI:3")))
+        .thenReturn(
+            Arrays.asList(
+                createSummary("WBI:1", "KEY_1"),
+                createSummary("WBI:2", "KEY_2"),
+                createSummary("WBI:3", "KEY_3")));
+
+    cache.getWorkbasketSummaries(Arrays.asList("WBI:1", "WBI:2", "WBI:3"));
+
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  private WorkbasketSummaryCache createCache(int maxSize, Duration timeToLive) {
+    return new WorkbasketSummaryCache(
+        internalTaskanaEngineMock, workbasketMapperMock, maxSize, timeToLive);
+  }
+
+  private WorkbasketSummaryImpl createSummary(String id, String key) {
+    WorkbasketSummaryImpl summary = new WorkbasketSummaryImpl();
+    summary.setId(id);
+    summary.setKey(key);
+    summary.setName("Name of " + key);
+    summary.setDomain("DOMAIN_A");
+    return summary;
+  }
+}
@@ -8,6 +8,12 @@ DELETE FROM WORKBASKET;
 DELETE FROM DISTRIBUTION_TARGETS;
 DELETE FROM CLASSIFICATION;
 DELETE FROM OBJECT_REFERENCE;
+DELETE FROM HISTORY_OUTBOX;
+UPDATE WORKBASKET_ACL_VERSION SET VERSION = VERSION + 1;
+DELETE FROM TASK_STATISTICS;
+UPDATE TASK_STATISTICS_STATE SET LAST_REBUILT = NULL;
+DELETE FROM STORED_REPORT_ROW;
+DELETE FROM STORED_REPORT;
 -- do not clean JOB table
 -- DELETE FROM SCHEDULED_JOB;
 COMMIT;
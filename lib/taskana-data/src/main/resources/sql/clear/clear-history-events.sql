@@ -1,2 +1,3 @@
 DELETE FROM HISTORY_EVENTS;
+DELETE FROM HISTORY_OUTBOX;
 COMMIT;
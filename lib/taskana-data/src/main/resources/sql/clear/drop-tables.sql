@@ -4,6 +4,11 @@ DROP TABLE CONFIGURATION;
 DROP TABLE ATTACHMENT;
 DROP TABLE TASK;
 DROP TABLE WORKBASKET_ACCESS_LIST;
+DROP TABLE WORKBASKET_ACL_VERSION;
+DROP TABLE TASK_STATISTICS;
+DROP TABLE TASK_STATISTICS_STATE;
+DROP TABLE STORED_REPORT_ROW;
+DROP TABLE STORED_REPORT;
 DROP TABLE WORKBASKET;
 DROP TABLE DISTRIBUTION_TARGETS;
 DROP TABLE CLASSIFICATION;
@@ -12,4 +17,5 @@ DROP TABLE SCHEDULED_JOB;
 DROP SEQUENCE SCHEDULED_JOB_SEQ;
 COMMIT;
 DROP TABLE HISTORY_EVENTS;
+DROP TABLE HISTORY_OUTBOX;
 COMMIT;
@@ -2,6 +2,8 @@ package pro.taskana.common.internal;
 
 import javax.annotation.PostConstruct;
 import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import pro.taskana.SpringTaskanaEngineConfiguration;
 
@@ -17,4 +19,25 @@ public class SpringTaskanaEngineImpl extends TaskanaEngineImpl {
     this.transactionFactory = new SpringManagedTransactionFactory();
     this.sessionManager = createSqlSessionManager();
   }
+
+  /**
+   * Executes the action after the spring managed transaction has completed. Without an active
+   * transaction synchronization the default behaviour of the TaskanaEngineImpl applies.
+   *
+   * @param action the action to execute
+   */
+  @Override
+  protected void registerAfterCompletion(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+              action.run();
+            }
+          });
+    } else {
+      super.registerAfterCompletion(action);
+    }
+  }
 }
@@ -18,6 +18,8 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.internal.jobs.JobRunner;
 import pro.taskana.common.internal.security.UserPrincipal;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.internal.jobs.TaskStatisticsRebuildJob;
+import pro.taskana.spi.history.internal.jobs.HistoryOutboxJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
 
@@ -34,6 +36,12 @@ public class JobScheduler {
     LOGGER.debug("Entry to scheduleCleanupJob.");
     TaskCleanupJob.initializeSchedule(taskanaEngine);
     WorkbasketCleanupJob.initializeSchedule(taskanaEngine);
+    if (taskanaEngine.getConfiguration().isHistoryOutboxEnabled()) {
+      HistoryOutboxJob.initializeSchedule(taskanaEngine);
+    }
+    if (taskanaEngine.getConfiguration().isTaskStatisticsEnabled()) {
+      TaskStatisticsRebuildJob.initializeSchedule(taskanaEngine);
+    }
     LOGGER.debug("Exit from scheduleCleanupJob.");
   }
 
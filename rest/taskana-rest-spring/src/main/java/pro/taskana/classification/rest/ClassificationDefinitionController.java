@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,8 +23,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import pro.taskana.classification.api.ClassificationQuery;
+import pro.taskana.classification.api.ClassificationQueryColumnName;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
@@ -31,11 +34,13 @@ import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.rest.assembler.ClassificationRepresentationModelAssembler;
 import pro.taskana.classification.rest.models.ClassificationRepresentationModel;
+import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.LoggerUtils;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.rest.JsonArrayStreamingResponseBody;
 import pro.taskana.common.rest.Mapping;
 
 /** Controller for Importing / Exporting classifications. */
@@ -85,6 +90,39 @@ public class ClassificationDefinitionController {
     return response;
   }
 
+  /**
+   * This method exports the same classifications as {@link #exportClassifications}, but writes
+   * them incrementally and without links. Only the ids of the classifications are loaded up front.
+   * The classifications are then loaded in chunks while the response is written.
+   *
+   * @param domain the domain of the exported classifications, all classifications if not set
+   * @return the streamed list of {@link ClassificationRepresentationModel}s
+   */
+  @GetMapping(path = Mapping.URL_CLASSIFICATIONDEFINITION_STREAM)
+  public ResponseEntity<StreamingResponseBody> streamClassifications(
+      @RequestParam(required = false) String domain) {
+    LOGGER.debug("Entry to streamClassifications(domain= {})", domain);
+    ClassificationQuery query = classificationService.createClassificationQuery();
+    if (domain != null) {
+      query.domainIn(domain);
+    }
+    List<String> classificationIds =
+        query.listValues(ClassificationQueryColumnName.ID, SortDirection.ASCENDING);
+    StreamingResponseBody body =
+        new JsonArrayStreamingResponseBody<>(
+            classificationIds,
+            ids ->
+                classificationService.getClassifications(ids).stream()
+                    .map(ClassificationRepresentationModel::new)
+                    .collect(Collectors.toList()));
+    ResponseEntity<StreamingResponseBody> response =
+        ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    LOGGER.debug(
+        "Exit from streamClassifications(), streaming {} classifications",
+        classificationIds.size());
+    return response;
+  }
+
   @PostMapping(path = Mapping.URL_CLASSIFICATIONDEFINITION)
   @Transactional(rollbackFor = Exception.class)
   public ResponseEntity<Void> importClassifications(@RequestParam("file") MultipartFile file)
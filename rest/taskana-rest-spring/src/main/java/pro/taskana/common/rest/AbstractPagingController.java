@@ -3,8 +3,11 @@ package pro.taskana.common.rest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -14,6 +17,7 @@ public abstract class AbstractPagingController {
 
   private static final String PAGING_PAGE = "page";
   private static final String PAGING_PAGE_SIZE = "page-size";
+  private static final String PAGING_CURSOR = "cursor";
 
   protected String[] extractCommaSeparatedFields(List<String> list) {
     List<String> values = new ArrayList<>();
@@ -55,6 +59,37 @@ public abstract class AbstractPagingController {
     return resultList;
   }
 
+  /**
+   * Checks whether the client requested keyset pagination. In this case the client passes the
+   * cursor of the previous page or an empty cursor for the first page and no total count is
+   * computed.
+   *
+   * @param params the request parameters
+   * @return true if the parameters contain a cursor
+   */
+  protected boolean hasCursorInParams(MultiValueMap<String, String> params) {
+    return params.containsKey(PAGING_CURSOR);
+  }
+
+  protected String extractCursor(MultiValueMap<String, String> params) {
+    String cursor = params.getFirst(PAGING_CURSOR);
+    params.remove(PAGING_CURSOR);
+    return cursor == null || cursor.isEmpty() ? null : cursor;
+  }
+
+  protected int extractCursorPageSize(MultiValueMap<String, String> params)
+      throws InvalidArgumentException {
+    return (int) Math.min(getPageSize(params), Integer.MAX_VALUE);
+  }
+
+  protected Link createNextCursorLink(String nextCursor) {
+    return Link.of(
+            ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam(PAGING_CURSOR, nextCursor)
+                .toUriString())
+        .withRel(IanaLinkRelations.NEXT);
+  }
+
   protected PageMetadata initPageMetadata(MultiValueMap<String, String> param, long totalElements)
       throws InvalidArgumentException {
     long pageSize = getPageSize(param);
@@ -0,0 +1,79 @@
+package pro.taskana.common.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+
+/**
+ * Writes the elements with the given ids as a JSON array. The elements are loaded in chunks of ids
+ * while the response is written, so that only one chunk has to be held in memory.
+ *
+ * <p>The response is written by another thread than the one of the request. Therefore the JAAS
+ * subject of the request is captured on creation and used while loading the elements.
+ *
+ * @param <T> the type of the written elements
+ */
+public class JsonArrayStreamingResponseBody<T> extends SubjectAwareStreamingResponseBody {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(JsonArrayStreamingResponseBody.class);
+
+  private static final int CHUNK_SIZE = 100;
+
+  private final List<String> ids;
+  private final ChunkLoader<T> chunkLoader;
+  private final ObjectMapper mapper;
+
+  public JsonArrayStreamingResponseBody(List<String> ids, ChunkLoader<T> chunkLoader) {
+    this.ids = ids;
+    this.chunkLoader = chunkLoader;
+    this.mapper = new ObjectMapper().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @Override
+  protected void write(OutputStream outputStream) throws IOException {
+    LOGGER.debug("Entry to write(), writing {} elements", ids.size());
+    JsonGenerator generator = mapper.getFactory().createGenerator(outputStream);
+    generator.writeStartArray();
+    for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+      List<String> chunk = ids.subList(i, Math.min(i + CHUNK_SIZE, ids.size()));
+      List<T> elements;
+      try {
+        elements = chunkLoader.load(chunk);
+      } catch (TaskanaException e) {
+        throw new SystemException("Could not load the elements with ids " + chunk, e);
+      }
+      for (T element : elements) {
+        mapper.writeValue(generator, element);
+      }
+      generator.flush();
+    }
+    generator.writeEndArray();
+    generator.flush();
+    LOGGER.debug("Exit from write()");
+  }
+
+  @Override
+  protected String getErrorMessage() {
+    return "Could not write the JSON array";
+  }
+
+  /**
+   * Loads the elements with the given ids.
+   *
+   * @param <T> the type of the loaded elements
+   */
+  @FunctionalInterface
+  public interface ChunkLoader<T> {
+
+    List<T> load(List<String> ids) throws TaskanaException;
+  }
+}
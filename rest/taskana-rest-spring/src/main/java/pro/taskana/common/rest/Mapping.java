@@ -9,6 +9,8 @@ public final class Mapping {
   public static final String URL_CLASSIFICATIONS = PRE + "classifications";
   public static final String URL_CLASSIFICATIONS_ID = URL_CLASSIFICATIONS + "/{classificationId}";
   public static final String URL_CLASSIFICATIONDEFINITION = PRE + "classification-definitions";
+  public static final String URL_CLASSIFICATIONDEFINITION_STREAM =
+      URL_CLASSIFICATIONDEFINITION + "/stream";
   public static final String URL_MONITOR = PRE + "monitor";
   public static final String URL_MONITOR_TASKSSTATUS = URL_MONITOR + "/tasks-status-report";
   public static final String URL_MONITOR_TASKSWORKBASKET = URL_MONITOR + "/tasks-workbasket-report";
@@ -17,6 +19,15 @@ public final class Mapping {
   public static final String URL_MONITOR_TASKSCLASSIFICATION =
       URL_MONITOR + "/tasks-classification-report";
   public static final String URL_MONITOR_TIMESTAMP = URL_MONITOR + "/timestamp-report";
+  public static final String URL_MONITOR_STORED_REPORTS = URL_MONITOR + "/stored-reports";
+  public static final String URL_MONITOR_STORED_REPORTS_ID =
+      URL_MONITOR_STORED_REPORTS + "/{storedReportId}";
+  public static final String URL_MONITOR_STORED_REPORTS_ID_ROWS =
+      URL_MONITOR_STORED_REPORTS_ID + "/rows";
+  public static final String URL_MONITOR_STORED_REPORTS_CUSTOMFIELDVALUE =
+      URL_MONITOR_STORED_REPORTS + "/tasks-custom-field-value-report";
+  public static final String URL_MONITOR_STORED_REPORTS_DETAILEDCLASSIFICATION =
+      URL_MONITOR_STORED_REPORTS + "/tasks-detailed-classification-report";
   public static final String URL_DOMAIN = PRE + "domains";
   public static final String URL_CLASSIFICATION_CATEGORIES = PRE + "classification-categories";
   public static final String URL_CLASSIFICATION_TYPES = PRE + "classification-types";
@@ -44,6 +55,7 @@ public final class Mapping {
   public static final String URL_WORKBASKET_ID_DISTRIBUTION =
       URL_WORKBASKET_ID + "/distribution-targets";
   public static final String URL_WORKBASKETDEFIITIONS = PRE + "workbasket-definitions";
+  public static final String URL_WORKBASKETDEFIITIONS_STREAM = URL_WORKBASKETDEFIITIONS + "/stream";
 
   private Mapping() {}
 }
@@ -0,0 +1,65 @@
+package pro.taskana.common.rest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import javax.security.auth.Subject;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Base class for response bodies which load data while the response is written.
+ *
+ * <p>The response is written by another thread than the one of the request. Therefore the JAAS
+ * subject of the request is captured on creation and {@link #write(OutputStream)} is executed as
+ * this subject.
+ */
+public abstract class SubjectAwareStreamingResponseBody implements StreamingResponseBody {
+
+  private final Subject subject;
+
+  protected SubjectAwareStreamingResponseBody() {
+    this.subject = Subject.getSubject(AccessController.getContext());
+  }
+
+  @Override
+  public void writeTo(OutputStream outputStream) throws IOException {
+    if (subject == null) {
+      write(outputStream);
+      return;
+    }
+    try {
+      Subject.doAs(
+          subject,
+          (PrivilegedExceptionAction<Void>)
+              () -> {
+                write(outputStream);
+                return null;
+              });
+    } catch (PrivilegedActionException e) {
+      if (e.getException() instanceof IOException) {
+        throw (IOException) e.getException();
+      }
+      throw new SystemException(getErrorMessage(), e.getException());
+    }
+  }
+
+  /**
+   * Writes the response as the subject of the request.
+   *
+   * @param outputStream the stream of the response
+   * @throws IOException if writing to the stream fails
+   */
+  protected abstract void write(OutputStream outputStream) throws IOException;
+
+  /**
+   * Returns the message of the {@link SystemException} which is thrown if writing fails with a
+   * checked exception other than an {@link IOException}.
+   *
+   * @return the error message
+   */
+  protected abstract String getErrorMessage();
+}
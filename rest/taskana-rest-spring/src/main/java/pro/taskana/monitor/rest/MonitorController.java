@@ -12,17 +12,29 @@ import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.Mapping;
 import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.StoredReport;
+import pro.taskana.monitor.api.exceptions.StoredReportNotFoundException;
+import pro.taskana.monitor.api.reports.ClassificationReport;
+import pro.taskana.monitor.api.reports.CustomFieldValueReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.rest.StoredReportRowsStreamingResponseBody.Format;
 import pro.taskana.monitor.rest.assembler.ReportRepresentationModelAssembler;
+import pro.taskana.monitor.rest.assembler.StoredReportRepresentationModelAssembler;
 import pro.taskana.monitor.rest.models.ReportRepresentationModel;
+import pro.taskana.monitor.rest.models.StoredReportRepresentationModel;
+import pro.taskana.task.api.CustomField;
 import pro.taskana.task.api.TaskState;
 
 /** Controller for all monitoring endpoints. */
@@ -36,12 +48,16 @@ public class MonitorController {
 
   private final ReportRepresentationModelAssembler reportRepresentationModelAssembler;
 
+  private final StoredReportRepresentationModelAssembler storedReportRepresentationModelAssembler;
+
   @Autowired
   MonitorController(
       MonitorService monitorService,
-      ReportRepresentationModelAssembler reportRepresentationModelAssembler) {
+      ReportRepresentationModelAssembler reportRepresentationModelAssembler,
+      StoredReportRepresentationModelAssembler storedReportRepresentationModelAssembler) {
     this.monitorService = monitorService;
     this.reportRepresentationModelAssembler = reportRepresentationModelAssembler;
+    this.storedReportRepresentationModelAssembler = storedReportRepresentationModelAssembler;
   }
 
   @GetMapping(path = Mapping.URL_MONITOR_TASKSSTATUS)
@@ -151,6 +167,138 @@ public class MonitorController {
                     .buildReport()));
   }
 
+  /**
+   * Schedules the computation of a custom field value report in the background. The rows of the
+   * report can be downloaded as soon as the returned stored report is COMPLETED.
+   *
+   * @param customField the custom field whose values are the rows of the report
+   * @param domains the domains of the counted tasks, all domains if not set
+   * @param states the states of the counted tasks, all states if not set
+   * @return the scheduled stored report
+   */
+  @PostMapping(path = Mapping.URL_MONITOR_STORED_REPORTS_CUSTOMFIELDVALUE)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<StoredReportRepresentationModel> scheduleCustomFieldValueReport(
+      @RequestParam(value = "customField") CustomField customField,
+      @RequestParam(required = false) List<String> domains,
+      @RequestParam(required = false) List<TaskState> states)
+      throws NotAuthorizedException, InvalidArgumentException {
+    LOGGER.debug("Entry to scheduleCustomFieldValueReport(customField= {})", customField);
+    CustomFieldValueReport.Builder builder =
+        monitorService
+            .createCustomFieldValueReportBuilder(customField)
+            .withColumnHeaders(getRangeTimeInterval());
+    if (domains != null) {
+      builder.domainIn(domains);
+    }
+    if (states != null) {
+      builder.stateIn(states);
+    }
+    StoredReportRepresentationModel storedReport =
+        storedReportRepresentationModelAssembler.toModel(builder.scheduleReport());
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from scheduleCustomFieldValueReport(), returning {}", storedReport);
+    }
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(storedReport);
+  }
+
+  /**
+   * Schedules the computation of a detailed classification report in the background. The rows of
+   * the report can be downloaded as soon as the returned stored report is COMPLETED.
+   *
+   * @param domains the domains of the counted tasks, all domains if not set
+   * @param states the states of the counted tasks, all states if not set
+   * @return the scheduled stored report
+   */
+  @PostMapping(path = Mapping.URL_MONITOR_STORED_REPORTS_DETAILEDCLASSIFICATION)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<StoredReportRepresentationModel> scheduleDetailedClassificationReport(
+      @RequestParam(required = false) List<String> domains,
+      @RequestParam(required = false) List<TaskState> states)
+      throws NotAuthorizedException, InvalidArgumentException {
+    LOGGER.debug("Entry to scheduleDetailedClassificationReport()");
+    ClassificationReport.Builder builder =
+        monitorService
+            .createClassificationReportBuilder()
+            .withColumnHeaders(getRangeTimeInterval());
+    if (domains != null) {
+      builder.domainIn(domains);
+    }
+    if (states != null) {
+      builder.stateIn(states);
+    }
+    StoredReportRepresentationModel storedReport =
+        storedReportRepresentationModelAssembler.toModel(builder.scheduleDetailedReport());
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from scheduleDetailedClassificationReport(), returning {}", storedReport);
+    }
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(storedReport);
+  }
+
+  @GetMapping(path = Mapping.URL_MONITOR_STORED_REPORTS_ID)
+  @Transactional(readOnly = true, rollbackFor = Exception.class)
+  public ResponseEntity<StoredReportRepresentationModel> getStoredReport(
+      @PathVariable String storedReportId)
+      throws StoredReportNotFoundException, NotAuthorizedException {
+    LOGGER.debug("Entry to getStoredReport(storedReportId= {})", storedReportId);
+    StoredReportRepresentationModel storedReport =
+        storedReportRepresentationModelAssembler.toModel(
+            monitorService.getStoredReport(storedReportId));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from getStoredReport(), returning {}", storedReport);
+    }
+
+    return ResponseEntity.ok(storedReport);
+  }
+
+  /**
+   * Streams the rows of a completed stored report. The rows are loaded in chunks while the response
+   * is written, the last row is the sum row of the report.
+   *
+   * @param storedReportId the id of the stored report
+   * @param format either json-lines (one JSON object per row) or csv, json-lines if not set
+   * @return the streamed rows of the stored report
+   * @throws StoredReportNotFoundException if the stored report does not exist
+   * @throws InvalidArgumentException if the format is unknown or the report is not COMPLETED
+   * @throws NotAuthorizedException if the current user is no member of the role MONITOR or ADMIN
+   */
+  @GetMapping(path = Mapping.URL_MONITOR_STORED_REPORTS_ID_ROWS)
+  public ResponseEntity<StreamingResponseBody> streamStoredReportRows(
+      @PathVariable String storedReportId,
+      @RequestParam(value = "format", required = false) String format)
+      throws StoredReportNotFoundException, InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug(
+        "Entry to streamStoredReportRows(storedReportId= {}, format= {})", storedReportId, format);
+    Format rowFormat = Format.fromName(format);
+    StoredReport storedReport = monitorService.getStoredReport(storedReportId);
+    if (storedReport.getState() != StoredReport.State.COMPLETED) {
+      throw new InvalidArgumentException(
+          "The stored report " + storedReportId + " is not completed yet.");
+    }
+    ResponseEntity<StreamingResponseBody> response =
+        ResponseEntity.ok()
+            .contentType(rowFormat.getMediaType())
+            .body(
+                new StoredReportRowsStreamingResponseBody(
+                    monitorService, storedReport, rowFormat));
+    LOGGER.debug(
+        "Exit from streamStoredReportRows(), streaming {} rows", storedReport.getRowCount());
+    return response;
+  }
+
+  @DeleteMapping(path = Mapping.URL_MONITOR_STORED_REPORTS_ID)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<Void> deleteStoredReport(@PathVariable String storedReportId)
+      throws StoredReportNotFoundException, InvalidArgumentException, NotAuthorizedException {
+    LOGGER.debug("Entry to deleteStoredReport(storedReportId= {})", storedReportId);
+    monitorService.deleteStoredReport(storedReportId);
+    ResponseEntity<Void> response = ResponseEntity.noContent().build();
+    LOGGER.debug("Exit from deleteStoredReport(), returning {}", response);
+    return response;
+  }
+
   private List<TimeIntervalColumnHeader> getRangeTimeInterval() {
     return Stream.concat(
             Stream.concat(
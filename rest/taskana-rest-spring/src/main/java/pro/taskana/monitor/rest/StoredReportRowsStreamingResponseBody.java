@@ -0,0 +1,173 @@
+package pro.taskana.monitor.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.rest.SubjectAwareStreamingResponseBody;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.StoredReport;
+import pro.taskana.monitor.api.StoredReportRow;
+
+/**
+ * Writes the rows of a completed {@link StoredReport} as JSON lines or as CSV. The rows are loaded
+ * in chunks while the response is written, so that neither the report nor a database connection is
+ * held while a slow client downloads a large report.
+ *
+ * <p>The response is written by another thread than the one of the request. Therefore the JAAS
+ * subject of the request is captured on creation and used while loading the rows.
+ */
+public class StoredReportRowsStreamingResponseBody extends SubjectAwareStreamingResponseBody {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(StoredReportRowsStreamingResponseBody.class);
+
+  private static final int CHUNK_SIZE = 1000;
+  private static final String TOTAL_DESC = "Total";
+
+  private final MonitorService monitorService;
+  private final StoredReport storedReport;
+  private final Format format;
+  private final ObjectMapper mapper;
+
+  public StoredReportRowsStreamingResponseBody(
+      MonitorService monitorService, StoredReport storedReport, Format format) {
+    this.monitorService = monitorService;
+    this.storedReport = storedReport;
+    this.format = format;
+    this.mapper = new ObjectMapper();
+  }
+
+  @Override
+  protected void write(OutputStream outputStream) throws IOException {
+    LOGGER.debug("Entry to write(), writing {} rows as {}", storedReport.getRowCount(), format);
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    if (format == Format.CSV) {
+      writeCsvHeader(writer);
+    }
+    int lastRowIndex = storedReport.getRowCount() - 1;
+    int fromRowIndex = 0;
+    List<StoredReportRow> rows;
+    do {
+      try {
+        rows =
+            monitorService.getStoredReportRows(storedReport.getId(), fromRowIndex, CHUNK_SIZE);
+      } catch (TaskanaException e) {
+        throw new SystemException(
+            "Could not load the rows of the stored report " + storedReport.getId(), e);
+      }
+      for (StoredReportRow row : rows) {
+        boolean sumRow = row.getRowIndex() == lastRowIndex;
+        if (format == Format.CSV) {
+          writeCsvRow(writer, row, sumRow);
+        } else {
+          writeJsonLine(writer, row, sumRow);
+        }
+        fromRowIndex = row.getRowIndex() + 1;
+      }
+      writer.flush();
+    } while (rows.size() == CHUNK_SIZE);
+    LOGGER.debug("Exit from write()");
+  }
+
+  @Override
+  protected String getErrorMessage() {
+    return "Could not write the rows of the stored report";
+  }
+
+  private void writeJsonLine(Writer writer, StoredReportRow row, boolean sumRow)
+      throws IOException {
+    ObjectNode line = mapper.createObjectNode();
+    line.put("rowIndex", row.getRowIndex());
+    line.put("key", row.getKey());
+    line.put("subKey", row.getSubKey());
+    line.put("sumRow", sumRow);
+    line.put("total", row.getTotal());
+    ArrayNode cells = line.putArray("cells");
+    for (int cell : row.getCells()) {
+      cells.add(cell);
+    }
+    writer.write(mapper.writeValueAsString(line));
+    writer.write('\n');
+  }
+
+  private void writeCsvHeader(Writer writer) throws IOException {
+    writer.write("key,subKey");
+    for (String columnHeader : storedReport.getColumnHeaders()) {
+      writer.write(',');
+      writer.write(escapeCsv(columnHeader));
+    }
+    writer.write(",total\r\n");
+  }
+
+  private void writeCsvRow(Writer writer, StoredReportRow row, boolean sumRow)
+      throws IOException {
+    writer.write(escapeCsv(sumRow ? TOTAL_DESC : row.getKey()));
+    writer.write(',');
+    writer.write(escapeCsv(row.getSubKey()));
+    for (int cell : row.getCells()) {
+      writer.write(',');
+      writer.write(String.valueOf(cell));
+    }
+    writer.write(',');
+    writer.write(String.valueOf(row.getTotal()));
+    writer.write("\r\n");
+  }
+
+  private static String escapeCsv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  /** The formats in which the rows of a stored report can be downloaded. */
+  public enum Format {
+    JSON_LINES("json-lines", MediaType.valueOf("application/x-ndjson")),
+    CSV("csv", MediaType.valueOf("text/csv"));
+
+    private final String name;
+    private final MediaType mediaType;
+
+    Format(String name, MediaType mediaType) {
+      this.name = name;
+      this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+      return mediaType;
+    }
+
+    public static Format fromName(String name) throws InvalidArgumentException {
+      if (name == null) {
+        return JSON_LINES;
+      }
+      for (Format format : values()) {
+        if (format.name.equalsIgnoreCase(name)) {
+          return format;
+        }
+      }
+      throw new InvalidArgumentException("Unknown format " + name + " of the stored report rows.");
+    }
+  }
+}
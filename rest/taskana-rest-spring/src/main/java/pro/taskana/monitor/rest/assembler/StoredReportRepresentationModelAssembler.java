@@ -0,0 +1,41 @@
+package pro.taskana.monitor.rest.assembler;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.monitor.api.StoredReport;
+import pro.taskana.monitor.rest.MonitorController;
+import pro.taskana.monitor.rest.models.StoredReportRepresentationModel;
+
+/** EntityModel assembler for {@link StoredReportRepresentationModel}. */
+@Component
+public class StoredReportRepresentationModelAssembler
+    implements RepresentationModelAssembler<StoredReport, StoredReportRepresentationModel> {
+
+  @NonNull
+  @Override
+  public StoredReportRepresentationModel toModel(@NonNull StoredReport storedReport) {
+    StoredReportRepresentationModel storedReportRepresentationModel =
+        new StoredReportRepresentationModel(storedReport);
+    try {
+      storedReportRepresentationModel.add(
+          linkTo(methodOn(MonitorController.class).getStoredReport(storedReport.getId()))
+              .withSelfRel());
+      if (storedReport.getState() == StoredReport.State.COMPLETED) {
+        storedReportRepresentationModel.add(
+            linkTo(
+                    methodOn(MonitorController.class)
+                        .streamStoredReportRows(storedReport.getId(), null))
+                .withRel("rows"));
+      }
+    } catch (Exception e) {
+      throw new SystemException("caught unexpected Exception.", e.getCause());
+    }
+    return storedReportRepresentationModel;
+  }
+}
@@ -96,12 +96,15 @@ public class ReportRepresentationModel extends RepresentationModel<ReportReprese
 
     private final String name;
     private final String date;
+    private final String snapshotTime;
     private final String[] header;
     private final String[] rowDesc;
 
-    public MetaInformation(String name, String date, String[] header, String[] rowDesc) {
+    public MetaInformation(
+        String name, String date, String snapshotTime, String[] header, String[] rowDesc) {
       this.name = name;
       this.date = date;
+      this.snapshotTime = snapshotTime;
       this.header = header;
       this.rowDesc = rowDesc;
     }
@@ -118,6 +121,10 @@ public class ReportRepresentationModel extends RepresentationModel<ReportReprese
       return date;
     }
 
+    public String getSnapshotTime() {
+      return snapshotTime;
+    }
+
     public String[] getHeader() {
       return header;
     }
@@ -129,8 +136,8 @@ public class ReportRepresentationModel extends RepresentationModel<ReportReprese
     @Override
     public String toString() {
       return String.format(
-          "MetaInformation [name= %s, date= %s, header= %s, rowDesc= %s]",
-          name, date, Arrays.toString(header), Arrays.toString(rowDesc));
+          "MetaInformation [name= %s, date= %s, snapshotTime= %s, header= %s, rowDesc= %s]",
+          name, date, snapshotTime, Arrays.toString(header), Arrays.toString(rowDesc));
     }
   }
 }
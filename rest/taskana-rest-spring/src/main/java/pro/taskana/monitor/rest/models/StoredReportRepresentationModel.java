@@ -0,0 +1,131 @@
+package pro.taskana.monitor.rest.models;
+
+import java.util.List;
+import org.springframework.hateoas.RepresentationModel;
+
+import pro.taskana.monitor.api.StoredReport;
+
+/** EntityModel class for {@link StoredReport}. */
+public class StoredReportRepresentationModel
+    extends RepresentationModel<StoredReportRepresentationModel> {
+
+  private String storedReportId;
+  private String name;
+  private String state;
+  private String created;
+  private String createdBy;
+  private String completed;
+  private List<String> columnHeaders;
+  private Integer rowCount;
+  private String errorMessage;
+
+  public StoredReportRepresentationModel() {}
+
+  public StoredReportRepresentationModel(StoredReport storedReport) {
+    this.storedReportId = storedReport.getId();
+    this.name = storedReport.getName();
+    this.state = storedReport.getState().name();
+    this.created = storedReport.getCreated().toString();
+    this.createdBy = storedReport.getCreatedBy();
+    this.completed =
+        storedReport.getCompleted() != null ? storedReport.getCompleted().toString() : null;
+    this.columnHeaders = storedReport.getColumnHeaders();
+    this.rowCount = storedReport.getRowCount();
+    this.errorMessage = storedReport.getErrorMessage();
+  }
+
+  public String getStoredReportId() {
+    return storedReportId;
+  }
+
+  public void setStoredReportId(String storedReportId) {
+    this.storedReportId = storedReportId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getState() {
+    return state;
+  }
+
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  public String getCreated() {
+    return created;
+  }
+
+  public void setCreated(String created) {
+    this.created = created;
+  }
+
+  public String getCreatedBy() {
+    return createdBy;
+  }
+
+  public void setCreatedBy(String createdBy) {
+    this.createdBy = createdBy;
+  }
+
+  public String getCompleted() {
+    return completed;
+  }
+
+  public void setCompleted(String completed) {
+    this.completed = completed;
+  }
+
+  public List<String> getColumnHeaders() {
+    return columnHeaders;
+  }
+
+  public void setColumnHeaders(List<String> columnHeaders) {
+    this.columnHeaders = columnHeaders;
+  }
+
+  public Integer getRowCount() {
+    return rowCount;
+  }
+
+  public void setRowCount(Integer rowCount) {
+    this.rowCount = rowCount;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  @Override
+  public String toString() {
+    return "StoredReportRepresentationModel [storedReportId="
+        + storedReportId
+        + ", name="
+        + name
+        + ", state="
+        + state
+        + ", created="
+        + created
+        + ", createdBy="
+        + createdBy
+        + ", completed="
+        + completed
+        + ", columnHeaders="
+        + columnHeaders
+        + ", rowCount="
+        + rowCount
+        + ", errorMessage="
+        + errorMessage
+        + "]";
+  }
+}
@@ -118,11 +118,15 @@ public class TaskController extends AbstractPagingController {
     query = applyFilterParams(query, params);
     query = applySortingParams(query, params);
 
-    PageMetadata pageMetadata = getPageMetadata(params, query);
-    List<TaskSummary> taskSummaries = getQueryList(query, pageMetadata);
-
-    TaskanaPagedModel<TaskSummaryRepresentationModel> pagedModels =
-        taskSummaryRepresentationModelAssembler.toPageModel(taskSummaries, pageMetadata);
+    TaskanaPagedModel<TaskSummaryRepresentationModel> pagedModels;
+    if (hasCursorInParams(params)) {
+      pagedModels = getTasksAfterCursor(query, params);
+    } else {
+      PageMetadata pageMetadata = getPageMetadata(params, query);
+      List<TaskSummary> taskSummaries = getQueryList(query, pageMetadata);
+      pagedModels =
+          taskSummaryRepresentationModelAssembler.toPageModel(taskSummaries, pageMetadata);
+    }
     ResponseEntity<TaskanaPagedModel<TaskSummaryRepresentationModel>> response =
         ResponseEntity.ok(pagedModels);
     if (LOGGER.isDebugEnabled()) {
@@ -638,6 +642,22 @@ public class TaskController extends AbstractPagingController {
     return taskQuery;
   }
 
+  private TaskanaPagedModel<TaskSummaryRepresentationModel> getTasksAfterCursor(
+      TaskQuery query, MultiValueMap<String, String> params) throws InvalidArgumentException {
+    String cursor = extractCursor(params);
+    int pageSize = extractCursorPageSize(params);
+    validateNoInvalidParameterIsLeft(params);
+
+    List<TaskSummary> taskSummaries = query.listAfter(cursor, pageSize);
+    TaskanaPagedModel<TaskSummaryRepresentationModel> pagedModels =
+        taskSummaryRepresentationModelAssembler.toPageModel(taskSummaries, null);
+    if (!taskSummaries.isEmpty() && taskSummaries.size() == pageSize) {
+      String nextCursor = query.getCursor(taskSummaries.get(taskSummaries.size() - 1));
+      pagedModels.add(createNextCursorLink(nextCursor));
+    }
+    return pagedModels;
+  }
+
   private int[] extractPriorities(String[] prioritiesInString) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -15,6 +15,7 @@ import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.api.models.WorkbasketDefinition;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketImpl;
@@ -65,6 +66,26 @@ public class WorkbasketDefinitionRepresentationModelAssembler {
     return new WorkbasketDefinitionRepresentationModel(basket, distroTargets, authorizations);
   }
 
+  /**
+   * Converts a {@link WorkbasketDefinition} which already contains the authorizations and
+   * distribution targets of its workbasket.
+   *
+   * @param definition {@link WorkbasketDefinition} which will be converted
+   * @return a {@link WorkbasketDefinitionRepresentationModel}, containing the workbasket, its
+   *     distribution targets and its authorizations
+   */
+  @NonNull
+  public WorkbasketDefinitionRepresentationModel toModel(WorkbasketDefinition definition) {
+    List<WorkbasketAccessItemImpl> authorizations = new ArrayList<>();
+    for (WorkbasketAccessItem accessItem : definition.getAuthorizations()) {
+      authorizations.add((WorkbasketAccessItemImpl) accessItem);
+    }
+    return new WorkbasketDefinitionRepresentationModel(
+        new WorkbasketRepresentationModelWithoutLinks(definition.getWorkbasket()),
+        definition.getDistributionTargets(),
+        authorizations);
+  }
+
   public Workbasket toEntityModel(WorkbasketRepresentationModel wbResource) {
     WorkbasketImpl workbasket =
         (WorkbasketImpl)
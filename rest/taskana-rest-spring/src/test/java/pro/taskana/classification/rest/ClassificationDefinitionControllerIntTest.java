@@ -10,7 +10,9 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -69,6 +71,31 @@ class ClassificationDefinitionControllerIntTest {
     assertThat(response.getBody()[0]).isInstanceOf(ClassificationRepresentationModel.class);
   }
 
+  @Test
+  void should_StreamSameClassificationsAsExport_When_StreamingClassificationsOfDomain() {
+    ResponseEntity<ClassificationRepresentationModel[]> exported =
+        template.exchange(
+            restHelper.toUrl(Mapping.URL_CLASSIFICATIONDEFINITION) + "?domain=DOMAIN_B",
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(ClassificationRepresentationModel[].class));
+
+    ResponseEntity<ClassificationRepresentationModel[]> streamed =
+        template.exchange(
+            restHelper.toUrl(Mapping.URL_CLASSIFICATIONDEFINITION_STREAM) + "?domain=DOMAIN_B",
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(ClassificationRepresentationModel[].class));
+
+    assertThat(streamed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(streamed.getBody())
+        .extracting(ClassificationRepresentationModel::getClassificationId)
+        .containsExactlyInAnyOrderElementsOf(
+            Arrays.stream(exported.getBody())
+                .map(ClassificationRepresentationModel::getClassificationId)
+                .collect(Collectors.toList()));
+  }
+
   @Test
   void testExportClassificationsFromWrongDomain() {
     ResponseEntity<ClassificationRepresentationModel[]> response =
@@ -0,0 +1,230 @@
+package pro.taskana.monitor.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.rest.Mapping;
+import pro.taskana.common.rest.RestHelper;
+import pro.taskana.common.rest.TaskanaSpringBootTest;
+import pro.taskana.monitor.rest.models.StoredReportRepresentationModel;
+import pro.taskana.sampledata.SampleDataGenerator;
+
+/** Integration tests for the stored reports of the MonitorController. */
+@TaskanaSpringBootTest
+class MonitorControllerIntTest {
+
+  private static RestTemplate template;
+
+  @Value("${taskana.schemaName:TASKANA}")
+  String schemaName;
+
+  ObjectMapper objMapper = new ObjectMapper();
+
+  @Autowired RestHelper restHelper;
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TaskanaEngine taskanaEngine;
+
+  @BeforeAll
+  static void init() {
+    template = RestHelper.TEMPLATE;
+  }
+
+  @BeforeEach
+  void resetDb() {
+    SampleDataGenerator sampleDataGenerator = new SampleDataGenerator(dataSource, schemaName);
+    sampleDataGenerator.generateSampleData();
+  }
+
+  @Test
+  void should_ReturnPendingStoredReport_When_CustomFieldValueReportIsScheduled() {
+    ResponseEntity<StoredReportRepresentationModel> response =
+        template.exchange(
+            restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_CUSTOMFIELDVALUE)
+                + "?customField=CUSTOM_1&domains=DOMAIN_A&states=READY",
+            HttpMethod.POST,
+            new HttpEntity<>(restHelper.getHeadersMonitor()),
+            StoredReportRepresentationModel.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    StoredReportRepresentationModel storedReport = response.getBody();
+    assertThat(storedReport).isNotNull();
+    assertThat(storedReport.getState()).isEqualTo("PENDING");
+    assertThat(storedReport.getCreatedBy()).isEqualTo("teamlead_2");
+    assertThat(storedReport.getLink("rows")).isEmpty();
+
+    StoredReportRepresentationModel readReport = getStoredReport(storedReport.getStoredReportId());
+    assertThat(readReport.getState()).isEqualTo("PENDING");
+  }
+
+  @Test
+  void should_StreamRowsAsJsonLines_When_StoredReportIsCompleted() throws Exception {
+    String storedReportId = scheduleDetailedClassificationReport();
+    new JobRunner(taskanaEngine).runJobs();
+
+    StoredReportRepresentationModel storedReport = getStoredReport(storedReportId);
+    assertThat(storedReport.getState()).isEqualTo("COMPLETED");
+    assertThat(storedReport.getLink("rows")).isPresent();
+
+    ResponseEntity<String> response = getRows(storedReportId, "json-lines");
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.valueOf("application/x-ndjson"));
+    List<String> lines = Arrays.asList(response.getBody().split("\n"));
+    assertThat(lines).hasSize(storedReport.getRowCount());
+    for (int i = 0; i < lines.size(); i++) {
+      JsonNode row = objMapper.readTree(lines.get(i));
+      assertThat(row.get("rowIndex").asInt()).isEqualTo(i);
+      assertThat(row.get("cells").size()).isEqualTo(storedReport.getColumnHeaders().size());
+      assertThat(row.get("sumRow").asBoolean()).isEqualTo(i == lines.size() - 1);
+    }
+  }
+
+  @Test
+  void should_StreamRowsAsCsv_When_StoredReportIsCompleted() {
+    String storedReportId = scheduleDetailedClassificationReport();
+    new JobRunner(taskanaEngine).runJobs();
+    StoredReportRepresentationModel storedReport = getStoredReport(storedReportId);
+
+    ResponseEntity<String> response = getRows(storedReportId, "csv");
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.valueOf("text/csv"));
+    List<String> lines = Arrays.asList(response.getBody().split("\r\n"));
+    assertThat(lines).hasSize(storedReport.getRowCount() + 1);
+    assertThat(lines.get(0))
+        .isEqualTo(
+            "key,subKey," + String.join(",", storedReport.getColumnHeaders()) + ",total");
+    assertThat(lines.get(lines.size() - 1)).startsWith("Total,");
+  }
+
+  @Test
+  void should_ReturnBadRequest_When_RowsOfPendingStoredReportAreRequested() {
+    String storedReportId = scheduleDetailedClassificationReport();
+
+    ThrowingCallable httpCall = () -> getRows(storedReportId, null);
+
+    assertThatThrownBy(httpCall)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void should_ReturnNotFound_When_StoredReportWasDeleted() {
+    String storedReportId = scheduleDetailedClassificationReport();
+    new JobRunner(taskanaEngine).runJobs();
+
+    ResponseEntity<Void> response = deleteStoredReport(storedReportId);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+    ThrowingCallable httpCall = () -> getStoredReport(storedReportId);
+    assertThatThrownBy(httpCall)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void should_ReturnBadRequest_When_PendingStoredReportIsDeleted() {
+    String storedReportId = scheduleDetailedClassificationReport();
+
+    ThrowingCallable httpCall = () -> deleteStoredReport(storedReportId);
+
+    assertThatThrownBy(httpCall)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(getStoredReport(storedReportId).getState()).isEqualTo("PENDING");
+  }
+
+  @Test
+  void should_ReturnForbidden_When_UserIsNoMonitorAndSchedulesReport() {
+    ThrowingCallable httpCall =
+        () ->
+            template.exchange(
+                restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_DETAILEDCLASSIFICATION),
+                HttpMethod.POST,
+                restHelper.defaultRequest(),
+                StoredReportRepresentationModel.class);
+
+    assertThatThrownBy(httpCall)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  @Test
+  void should_ReturnForbidden_When_UserIsNoMonitorAndReadsStoredReport() {
+    String storedReportId = scheduleDetailedClassificationReport();
+
+    ThrowingCallable httpCall =
+        () ->
+            template.exchange(
+                restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_ID, storedReportId),
+                HttpMethod.GET,
+                restHelper.defaultRequest(),
+                StoredReportRepresentationModel.class);
+
+    assertThatThrownBy(httpCall)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  private String scheduleDetailedClassificationReport() {
+    ResponseEntity<StoredReportRepresentationModel> response =
+        template.exchange(
+            restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_DETAILEDCLASSIFICATION),
+            HttpMethod.POST,
+            new HttpEntity<>(restHelper.getHeadersMonitor()),
+            StoredReportRepresentationModel.class);
+    assertThat(response.getBody()).isNotNull();
+    return response.getBody().getStoredReportId();
+  }
+
+  private StoredReportRepresentationModel getStoredReport(String storedReportId) {
+    return template
+        .exchange(
+            restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_ID, storedReportId),
+            HttpMethod.GET,
+            new HttpEntity<>(restHelper.getHeadersMonitor()),
+            StoredReportRepresentationModel.class)
+        .getBody();
+  }
+
+  private ResponseEntity<Void> deleteStoredReport(String storedReportId) {
+    return template.exchange(
+        restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_ID, storedReportId),
+        HttpMethod.DELETE,
+        new HttpEntity<>(restHelper.getHeadersMonitor()),
+        Void.class);
+  }
+
+  private ResponseEntity<String> getRows(String storedReportId, String format) {
+    String url = restHelper.toUrl(Mapping.URL_MONITOR_STORED_REPORTS_ID_ROWS, storedReportId);
+    return template.exchange(
+        format == null ? url : url + "?format=" + format,
+        HttpMethod.GET,
+        new HttpEntity<>(restHelper.getHeadersMonitor()),
+        String.class);
+  }
+}
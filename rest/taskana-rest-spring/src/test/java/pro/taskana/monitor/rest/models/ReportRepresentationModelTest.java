@@ -64,6 +64,7 @@ class ReportRepresentationModelTest {
     ReportRepresentationModel.MetaInformation meta = resource.getMeta();
     assertEquals("WorkbasketReport", meta.getName());
     assertEquals("2019-01-02T00:00:00Z", meta.getDate());
+    assertEquals(report.getSnapshotTime().toString(), meta.getSnapshotTime());
     assertArrayEquals(new String[] {"WORKBASKET KEYS"}, meta.getRowDesc());
     assertArrayEquals(
         headers.stream().map(TimeIntervalColumnHeader::getDisplayName).toArray(), meta.getHeader());
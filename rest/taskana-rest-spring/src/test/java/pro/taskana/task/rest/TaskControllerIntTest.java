@@ -16,6 +16,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
@@ -475,6 +476,33 @@ class TaskControllerIntTest {
     assertThat(response.getBody().getLink(IanaLinkRelations.PREV)).isNotNull();
   }
 
+  @Test
+  void should_ReturnNextCursorLinkWithoutPageMetadata_When_PagingWithCursor() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersAdmin());
+    ResponseEntity<TaskanaPagedModel<TaskSummaryRepresentationModel>> response =
+        template.exchange(
+            restHelper.toUrl(Mapping.URL_TASKS) + "?sort-by=due&order=desc&page-size=5&cursor=",
+            HttpMethod.GET,
+            request,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getMetadata()).isNull();
+    assertThat(response.getBody().getContent()).hasSize(5);
+    assertThat(response.getBody().getLink(IanaLinkRelations.SELF)).isNotNull();
+
+    String nextHref = response.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref();
+    ResponseEntity<TaskanaPagedModel<TaskSummaryRepresentationModel>> nextResponse =
+        template.exchange(nextHref, HttpMethod.GET, request, TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(nextResponse.getBody()).isNotNull();
+    assertThat(nextResponse.getBody().getContent())
+        .hasSize(5)
+        .extracting(TaskSummaryRepresentationModel::getTaskId)
+        .doesNotContainAnyElementsOf(
+            response.getBody().getContent().stream()
+                .map(TaskSummaryRepresentationModel::getTaskId)
+                .collect(Collectors.toList()));
+  }
+
   @Test
   void testGetLastPageSortedByDueWithHiddenTasksRemovedFromResult() {
     resetDb();
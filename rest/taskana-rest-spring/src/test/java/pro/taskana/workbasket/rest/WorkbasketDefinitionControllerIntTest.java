@@ -103,6 +103,59 @@ class WorkbasketDefinitionControllerIntTest {
     assertThat(response.getBody()).isEmpty();
   }
 
+  @Test
+  void should_StreamSameDefinitionsAsExport_When_UserIsBusinessAdmin() {
+    List<WorkbasketDefinitionRepresentationModel> exported =
+        executeExportRequestForDomain("DOMAIN_A").getBody();
+
+    ResponseEntity<List<WorkbasketDefinitionRepresentationModel>> response =
+        template.exchange(
+            restHelper.toUrl(Mapping.URL_WORKBASKETDEFIITIONS_STREAM) + "?domain=DOMAIN_A",
+            HttpMethod.GET,
+            new HttpEntity<>(restHelper.getHeadersBusinessAdmin()),
+            new ParameterizedTypeReference<List<WorkbasketDefinitionRepresentationModel>>() {});
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody())
+        .extracting(definition -> definition.getWorkbasket().getWorkbasketId())
+        .containsExactlyInAnyOrderElementsOf(
+            exported.stream()
+                .map(definition -> definition.getWorkbasket().getWorkbasketId())
+                .collect(Collectors.toList()));
+    WorkbasketDefinitionRepresentationModel exportedDefinition = exported.get(0);
+    WorkbasketDefinitionRepresentationModel streamedDefinition =
+        response.getBody().stream()
+            .filter(
+                definition ->
+                    definition
+                        .getWorkbasket()
+                        .getWorkbasketId()
+                        .equals(exportedDefinition.getWorkbasket().getWorkbasketId()))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+    assertThat(streamedDefinition.getDistributionTargets())
+        .isEqualTo(exportedDefinition.getDistributionTargets());
+    assertThat(streamedDefinition.getAuthorizations())
+        .hasSameSizeAs(exportedDefinition.getAuthorizations());
+  }
+
+  @Test
+  void should_ReturnForbidden_When_UserIsNotBusinessAdminAndStreamsDefinitions() {
+    ThrowingCallable httpCall =
+        () ->
+            template.exchange(
+                restHelper.toUrl(Mapping.URL_WORKBASKETDEFIITIONS_STREAM),
+                HttpMethod.GET,
+                restHelper.defaultRequest(),
+                new ParameterizedTypeReference<
+                    List<WorkbasketDefinitionRepresentationModel>>() {});
+
+    assertThatThrownBy(httpCall)
+        .isInstanceOf(HttpClientErrorException.class)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
   @Test
   void testImportEveryWorkbasketFromDomainA() throws IOException {
     List<WorkbasketDefinitionRepresentationModel> wbList =
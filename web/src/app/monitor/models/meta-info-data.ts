@@ -1,6 +1,7 @@
 export class MetaInfoData {
   name: string;
   date: string;
+  snapshotTime: string;
   header: Array<string>;
   rowDesc: Array<string>;
   totalDesc: string;